@@ -22,6 +22,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-security")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
 
     // JWT
     implementation("io.jsonwebtoken:jjwt-api:0.12.3")
@@ -51,6 +52,98 @@ dependencies {
     testImplementation("com.squareup.okhttp3:mockwebserver:4.12.0")
 }
 
+// Compile cmudict.txt into the compact binary index read by PhonemeService.
+// Layout (big-endian): magic "PHIX", version, symbol alphabet, then the sorted
+// words and their phoneme sequences as two offset-indexed byte blobs.
+val generatePhonemeIndex by tasks.registering {
+    description = "Generates phoneme-index.bin from the CMU Pronouncing Dictionary."
+    val dictionary = file("src/main/resources/cmudict.txt")
+    val outputDir = layout.buildDirectory.dir("generated/resources/phonemes")
+    inputs.file(dictionary)
+    outputs.dir(outputDir)
+    doLast {
+        val wordPattern = Regex("[a-z']+")
+        val symbolPattern = Regex("[A-Z]+[012]?")
+        val entries = sortedMapOf<String, List<String>>()
+        dictionary.forEachLine(Charsets.UTF_8) { line ->
+            if (line.isBlank() || line.startsWith(";;;")) return@forEachLine
+            val space = line.indexOf(' ')
+            if (space < 0) return@forEachLine
+            val word = line.substring(0, space).lowercase()
+            // Alternate pronunciations ("a(2)") and words lookup can never match are dropped
+            if (!wordPattern.matches(word)) return@forEachLine
+            val symbols = line.substring(space).substringBefore('#').trim().split(Regex("\\s+"))
+                .filter { symbolPattern.matches(it) }
+                // AH0 (schwa) keeps its stress digit; every other symbol is stored unstressed
+                .map { if (it == "AH0") it else it.trimEnd('0', '1', '2') }
+                .distinct()
+            if (symbols.isNotEmpty()) entries[word] = symbols
+        }
+
+        val alphabet = entries.values.flatten().distinct().sorted()
+        check(alphabet.size <= 127) { "Phoneme alphabet too large: ${alphabet.size}" }
+        val symbolIds = alphabet.withIndex().associate { it.value to it.index }
+
+        val words = java.io.ByteArrayOutputStream()
+        val phonemes = java.io.ByteArrayOutputStream()
+        val wordOffsets = IntArray(entries.size + 1)
+        val phonemeOffsets = IntArray(entries.size + 1)
+        entries.entries.forEachIndexed { i, (word, symbols) ->
+            words.write(word.toByteArray(Charsets.US_ASCII))
+            symbols.forEach { phonemes.write(symbolIds.getValue(it)) }
+            wordOffsets[i + 1] = words.size()
+            phonemeOffsets[i + 1] = phonemes.size()
+        }
+
+        val target = outputDir.get().file("phoneme-index.bin").asFile
+        target.parentFile.mkdirs()
+        java.io.DataOutputStream(java.io.BufferedOutputStream(target.outputStream())).use { out ->
+            out.writeInt(0x50484958) // "PHIX"
+            out.writeByte(1)
+            out.writeByte(alphabet.size)
+            alphabet.forEach { out.writeUTF(it) }
+            out.writeInt(entries.size)
+            wordOffsets.forEach { out.writeInt(it) }
+            phonemeOffsets.forEach { out.writeInt(it) }
+            out.write(words.toByteArray())
+            out.write(phonemes.toByteArray())
+        }
+    }
+}
+
+sourceSets.main {
+    resources.srcDir(generatePhonemeIndex)
+}
+
+tasks.processResources {
+    // Only the generated index is needed at runtime
+    exclude("cmudict.txt")
+}
+
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+// Latency/throughput benchmarks: ./gradlew benchmark [-Dbenchmark.<option>=...]
+tasks.register<Test>("benchmark") {
+    description = "Runs tests tagged 'benchmark' and prints their measurements."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    systemProperties(System.getProperties()
+        .filterKeys { it.toString().startsWith("benchmark.") }
+        .mapKeys { it.key.toString() })
+    testLogging {
+        showStandardStreams = true
+    }
+    outputs.upToDateWhen { false }
+}
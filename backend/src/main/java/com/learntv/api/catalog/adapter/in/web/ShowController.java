@@ -1,10 +1,10 @@
 package com.learntv.api.catalog.adapter.in.web;
 
+import com.learntv.api.catalog.application.port.CatalogQueryPort.CatalogPage;
 import com.learntv.api.catalog.application.usecase.BrowseCatalogUseCase;
 import com.learntv.api.catalog.application.usecase.ViewShowDetailsUseCase;
 import com.learntv.api.catalog.domain.model.DifficultyLevel;
 import com.learntv.api.catalog.domain.model.Genre;
-import com.learntv.api.catalog.domain.model.Show;
 import com.learntv.api.shared.config.security.AuthenticatedUser;
 import com.learntv.api.shared.config.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,6 +19,8 @@ import java.util.List;
 @Tag(name = "Shows", description = "TV Show catalog operations")
 public class ShowController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final BrowseCatalogUseCase browseCatalogUseCase;
     private final ViewShowDetailsUseCase viewShowDetailsUseCase;
 
@@ -29,12 +31,17 @@ public class ShowController {
     }
 
     @GetMapping
-    @Operation(summary = "Browse catalog", description = "Returns all available TV shows, optionally filtered")
+    @Operation(summary = "Browse catalog",
+               description = "Returns available TV shows sorted by title, optionally filtered. "
+                       + "Results are paged; when more shows exist the " + NEXT_CURSOR_HEADER
+                       + " response header holds the cursor for the next page")
     public ResponseEntity<List<ShowResponse>> browseShows(
             @CurrentUser AuthenticatedUser authUser,
             @RequestParam(required = false) String genre,
             @RequestParam(required = false) String difficulty,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + BrowseCatalogUseCase.DEFAULT_PAGE_SIZE) int limit) {
 
         BrowseCatalogUseCase.CatalogFilter filter = new BrowseCatalogUseCase.CatalogFilter(
                 genre != null ? Genre.valueOf(genre.toUpperCase()) : null,
@@ -42,14 +49,22 @@ public class ShowController {
                 search
         );
 
-        List<Show> shows = authUser != null
-                ? browseCatalogUseCase.execute(filter, authUser.id())
-                : browseCatalogUseCase.executePublicPreview(filter);
+        if (authUser == null) {
+            List<ShowResponse> preview = browseCatalogUseCase.executePublicPreview(filter).stream()
+                    .map(ShowResponse::fromDomain)
+                    .toList();
+            return ResponseEntity.ok(preview);
+        }
 
-        List<ShowResponse> response = shows.stream()
+        CatalogPage page = browseCatalogUseCase.execute(filter, authUser.id(), cursor, limit);
+        List<ShowResponse> response = page.shows().stream()
                 .map(ShowResponse::fromDomain)
                 .toList();
-        return ResponseEntity.ok(response);
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            ok.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return ok.body(response);
     }
 
     @GetMapping("/{slug}")
@@ -0,0 +1,130 @@
+package com.learntv.api.catalog.adapter.out.persistence;
+
+import com.learntv.api.catalog.application.port.CatalogQueryPort;
+import com.learntv.api.catalog.domain.exception.InvalidCatalogCursorException;
+import com.learntv.api.catalog.domain.model.AccentType;
+import com.learntv.api.catalog.domain.model.DifficultyLevel;
+import com.learntv.api.catalog.domain.model.Genre;
+import com.learntv.api.catalog.domain.model.Show;
+import com.learntv.api.catalog.domain.model.ShowId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of {@link CatalogQueryPort}.
+ *
+ * Pages are keyset-paginated on (LOWER(title), id), which is what
+ * idx_shows_title_order indexes, so reading page N never scans pages 1..N-1.
+ * Search is a case-insensitive substring match on title/description served by
+ * the pg_trgm indexes from V20. The cursor is the last row's sort key, base64-encoded.
+ */
+@Component
+public class CatalogQueryAdapter implements CatalogQueryPort {
+
+    private static final String SELECT_SHOWS = """
+            SELECT s.id, s.title, s.slug, s.description, s.genre, s.accent, s.difficulty,
+                   s.image_url, s.total_seasons, s.total_episodes, s.tmdb_id,
+                   LOWER(s.title) AS sort_title
+            FROM shows s
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CatalogQueryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public CatalogPage findShows(CatalogCriteria criteria, String after, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_SHOWS);
+        List<Object> params = new ArrayList<>();
+
+        if (criteria.userId() != null) {
+            sql.append("JOIN user_shows us ON us.show_id = s.id AND us.user_id = ?\n");
+            params.add(criteria.userId());
+        }
+        sql.append("WHERE 1 = 1\n");
+        if (criteria.genre() != null) {
+            sql.append("AND s.genre = ?\n");
+            params.add(criteria.genre().name());
+        }
+        if (criteria.difficulty() != null) {
+            sql.append("AND s.difficulty = ?\n");
+            params.add(criteria.difficulty().name());
+        }
+        if (criteria.searchTerm() != null && !criteria.searchTerm().isBlank()) {
+            String pattern = "%" + escapeLike(criteria.searchTerm().toLowerCase()) + "%";
+            sql.append("AND (LOWER(s.title) LIKE ? ESCAPE '\\' OR LOWER(s.description) LIKE ? ESCAPE '\\')\n");
+            params.add(pattern);
+            params.add(pattern);
+        }
+        if (after != null && !after.isBlank()) {
+            SortKey key = SortKey.decode(after);
+            sql.append("AND (LOWER(s.title), s.id) > (?, ?)\n");
+            params.add(key.title());
+            params.add(key.id());
+        }
+        // One extra row tells us whether another page exists
+        sql.append("ORDER BY LOWER(s.title), s.id\nLIMIT ?");
+        params.add(limit + 1);
+
+        List<ShowRow> rows = jdbcTemplate.query(sql.toString(), this::mapRow, params.toArray());
+
+        String nextCursor = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            ShowRow last = rows.get(limit - 1);
+            nextCursor = new SortKey(last.sortTitle(), last.show().getId().value()).encode();
+        }
+        return new CatalogPage(rows.stream().map(ShowRow::show).toList(), nextCursor);
+    }
+
+    private ShowRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Show show = Show.builder()
+                .id(ShowId.of(rs.getObject("id", UUID.class)))
+                .title(rs.getString("title"))
+                .slug(rs.getString("slug"))
+                .description(rs.getString("description"))
+                .genre(Genre.valueOf(rs.getString("genre")))
+                .accent(AccentType.valueOf(rs.getString("accent")))
+                .difficulty(DifficultyLevel.valueOf(rs.getString("difficulty")))
+                .imageUrl(rs.getString("image_url"))
+                .totalSeasons(rs.getInt("total_seasons"))
+                .totalEpisodes(rs.getInt("total_episodes"))
+                .tmdbId(rs.getString("tmdb_id"))
+                .build();
+        return new ShowRow(show, rs.getString("sort_title"));
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private record ShowRow(Show show, String sortTitle) {}
+
+    private record SortKey(String title, UUID id) {
+
+        String encode() {
+            String raw = id + ":" + title;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static SortKey decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf(':');
+                return new SortKey(raw.substring(separator + 1), UUID.fromString(raw.substring(0, separator)));
+            } catch (IllegalArgumentException | StringIndexOutOfBoundsException e) {
+                throw new InvalidCatalogCursorException(cursor);
+            }
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.learntv.api.catalog.adapter.out.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -8,4 +11,10 @@ import java.util.UUID;
 public interface ShowJpaRepository extends JpaRepository<ShowJpaEntity, UUID> {
 
     Optional<ShowJpaEntity> findBySlug(String slug);
+
+    Optional<ShowJpaEntity> findFirstByTmdbId(String tmdbId);
+
+    @Modifying
+    @Query("UPDATE ShowJpaEntity s SET s.tmdbId = :tmdbId WHERE s.id = :id AND s.tmdbId IS NULL")
+    int assignTmdbIdIfMissing(@Param("id") UUID id, @Param("tmdbId") String tmdbId);
 }
@@ -0,0 +1,42 @@
+package com.learntv.api.catalog.application.port;
+
+import com.learntv.api.catalog.domain.model.DifficultyLevel;
+import com.learntv.api.catalog.domain.model.Genre;
+import com.learntv.api.catalog.domain.model.Show;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Query-side access to the catalog: filtering, search and paging run in the database,
+ * so a catalog page costs the same whatever the size of the shows table.
+ */
+public interface CatalogQueryPort {
+
+    /**
+     * Find one page of shows ordered case-insensitively by title.
+     *
+     * @param criteria filters; a null field means "any"
+     * @param after    cursor returned with the previous page, or null for the first page
+     * @param limit    maximum number of shows to return
+     */
+    CatalogPage findShows(CatalogCriteria criteria, String after, int limit);
+
+    /**
+     * @param userId when set, only shows in that user's list (user_shows)
+     */
+    record CatalogCriteria(
+            UUID userId,
+            Genre genre,
+            DifficultyLevel difficulty,
+            String searchTerm
+    ) {}
+
+    /**
+     * @param nextCursor cursor for the following page, or null if this is the last one
+     */
+    record CatalogPage(
+            List<Show> shows,
+            String nextCursor
+    ) {}
+}
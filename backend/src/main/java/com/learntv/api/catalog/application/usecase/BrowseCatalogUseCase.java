@@ -1,30 +1,34 @@
 package com.learntv.api.catalog.application.usecase;
 
+import com.learntv.api.catalog.application.port.CatalogQueryPort;
+import com.learntv.api.catalog.application.port.CatalogQueryPort.CatalogCriteria;
+import com.learntv.api.catalog.application.port.CatalogQueryPort.CatalogPage;
 import com.learntv.api.catalog.application.port.ShowRepository;
-import com.learntv.api.catalog.application.port.UserShowRepository;
 import com.learntv.api.catalog.domain.model.DifficultyLevel;
 import com.learntv.api.catalog.domain.model.Genre;
 import com.learntv.api.catalog.domain.model.Show;
 
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Use case: Browse the TV show catalog.
  *
  * Supports filtering by genre and difficulty level.
- * Returns shows sorted by title.
+ * Returns shows sorted by title, one page at a time; filtering, search and
+ * paging are done by the database through {@link CatalogQueryPort}.
  */
 public class BrowseCatalogUseCase {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final ShowRepository showRepository;
-    private final UserShowRepository userShowRepository;
+    private final CatalogQueryPort catalogQueryPort;
 
-    public BrowseCatalogUseCase(ShowRepository showRepository, UserShowRepository userShowRepository) {
+    public BrowseCatalogUseCase(ShowRepository showRepository, CatalogQueryPort catalogQueryPort) {
         this.showRepository = showRepository;
-        this.userShowRepository = userShowRepository;
+        this.catalogQueryPort = catalogQueryPort;
     }
 
     /**
@@ -35,34 +39,15 @@ public class BrowseCatalogUseCase {
     }
 
     /**
-     * Get shows filtered by criteria.
-     */
-    public List<Show> execute(CatalogFilter filter) {
-        List<Show> shows = showRepository.findAll();
-
-        return shows.stream()
-                .filter(show -> matchesFilter(show, filter))
-                .sorted((a, b) -> a.getTitle().compareToIgnoreCase(b.getTitle()))
-                .toList();
-    }
-
-    /**
-     * Get shows filtered by criteria for a specific user.
+     * Get one page of shows filtered by criteria for a specific user.
      * Only returns shows that the user has access to.
+     *
+     * @param cursor nextCursor of the previous page, or null for the first page
+     * @param limit  page size, capped at {@value #MAX_PAGE_SIZE}
      */
-    public List<Show> execute(CatalogFilter filter, UUID userId) {
-        // Fetch show IDs that the user has access to
-        List<UUID> userShowIds = userShowRepository.findShowIdsByUserId(userId);
-        Set<UUID> userShowIdSet = Set.copyOf(userShowIds);
-
-        // Get all shows and filter by user access
-        List<Show> shows = showRepository.findAll();
-
-        return shows.stream()
-                .filter(show -> userShowIdSet.contains(show.getId().value()))
-                .filter(show -> matchesFilter(show, filter))
-                .sorted((a, b) -> a.getTitle().compareToIgnoreCase(b.getTitle()))
-                .toList();
+    public CatalogPage execute(CatalogFilter filter, UUID userId, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        return catalogQueryPort.findShows(toCriteria(filter, userId), cursor, pageSize);
     }
 
     private static final int PUBLIC_PREVIEW_LIMIT = 5;
@@ -72,33 +57,14 @@ public class BrowseCatalogUseCase {
      * Returns up to 5 shows, sorted by title.
      */
     public List<Show> executePublicPreview(CatalogFilter filter) {
-        List<Show> shows = showRepository.findAll();
-
-        return shows.stream()
-                .filter(show -> matchesFilter(show, filter))
-                .sorted((a, b) -> a.getTitle().compareToIgnoreCase(b.getTitle()))
-                .limit(PUBLIC_PREVIEW_LIMIT)
-                .toList();
+        return catalogQueryPort.findShows(toCriteria(filter, null), null, PUBLIC_PREVIEW_LIMIT).shows();
     }
 
-    private boolean matchesFilter(Show show, CatalogFilter filter) {
-        if (filter == null) return true;
-
-        if (filter.genre() != null && show.getGenre() != filter.genre()) {
-            return false;
-        }
-
-        if (filter.difficulty() != null && show.getDifficulty() != filter.difficulty()) {
-            return false;
+    private static CatalogCriteria toCriteria(CatalogFilter filter, UUID userId) {
+        if (filter == null) {
+            return new CatalogCriteria(userId, null, null, null);
         }
-
-        if (filter.searchTerm() != null && !filter.searchTerm().isBlank()) {
-            String term = filter.searchTerm().toLowerCase();
-            return show.getTitle().toLowerCase().contains(term) ||
-                   (show.getDescription() != null && show.getDescription().toLowerCase().contains(term));
-        }
-
-        return true;
+        return new CatalogCriteria(userId, filter.genre(), filter.difficulty(), filter.searchTerm());
     }
 
     /**
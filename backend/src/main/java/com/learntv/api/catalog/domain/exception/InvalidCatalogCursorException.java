@@ -0,0 +1,8 @@
+package com.learntv.api.catalog.domain.exception;
+
+public class InvalidCatalogCursorException extends RuntimeException {
+
+    public InvalidCatalogCursorException(String cursor) {
+        super("Invalid catalog cursor: " + cursor);
+    }
+}
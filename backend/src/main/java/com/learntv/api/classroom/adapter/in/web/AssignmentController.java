@@ -18,6 +18,8 @@ import java.util.UUID;
 @Tag(name = "Assignments", description = "Assignment management operations")
 public class AssignmentController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final CreateAssignmentUseCase createAssignmentUseCase;
     private final GetClassroomAssignmentsUseCase getClassroomAssignmentsUseCase;
     private final GetStudentAssignmentsUseCase getStudentAssignmentsUseCase;
@@ -79,16 +81,28 @@ public class AssignmentController {
     }
 
     @GetMapping("/api/v1/me/assignments")
-    @Operation(summary = "My assignments", description = "Returns all assignments for the current student across all classrooms.")
+    @Operation(summary = "My assignments",
+               description = "Returns the current student's assignments across all classrooms, or in the given "
+                       + "classroom only, soonest due first. "
+                       + "Results are paged; when more assignments exist the " + NEXT_CURSOR_HEADER
+                       + " response header holds the cursor for the next page")
     public ResponseEntity<List<StudentAssignmentResponse>> getMyAssignments(
-            @CurrentUser AuthenticatedUser authUser
+            @CurrentUser AuthenticatedUser authUser,
+            @RequestParam(required = false) UUID classroomId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + GetStudentAssignmentsUseCase.DEFAULT_PAGE_SIZE) int limit
     ) {
-        List<GetStudentAssignmentsUseCase.StudentAssignment> assignments =
-                getStudentAssignmentsUseCase.execute(authUser.id());
+        GetStudentAssignmentsUseCase.StudentAssignmentPage page =
+                getStudentAssignmentsUseCase.execute(authUser.id(), classroomId, cursor, limit);
 
-        return ResponseEntity.ok(assignments.stream()
+        List<StudentAssignmentResponse> response = page.assignments().stream()
                 .map(StudentAssignmentResponse::fromDomain)
-                .toList());
+                .toList();
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            ok.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return ok.body(response);
     }
 
     @PutMapping("/api/v1/assignments/{assignmentId}")
@@ -1,11 +1,13 @@
 package com.learntv.api.classroom.adapter.in.web;
 
+import com.learntv.api.classroom.application.port.ClassroomDashboardQuery.ClassroomView;
 import com.learntv.api.classroom.application.usecase.*;
 import com.learntv.api.classroom.domain.model.Classroom;
 import com.learntv.api.shared.config.security.AuthenticatedUser;
 import com.learntv.api.shared.config.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,6 +23,7 @@ public class ClassroomController {
     private final CreateClassroomUseCase createClassroomUseCase;
     private final GetTeacherClassroomsUseCase getTeacherClassroomsUseCase;
     private final GetStudentClassroomsUseCase getStudentClassroomsUseCase;
+    private final GetClassroomUseCase getClassroomUseCase;
     private final JoinClassroomUseCase joinClassroomUseCase;
     private final LeaveClassroomUseCase leaveClassroomUseCase;
     private final GetClassroomStudentsUseCase getClassroomStudentsUseCase;
@@ -33,6 +36,7 @@ public class ClassroomController {
             CreateClassroomUseCase createClassroomUseCase,
             GetTeacherClassroomsUseCase getTeacherClassroomsUseCase,
             GetStudentClassroomsUseCase getStudentClassroomsUseCase,
+            GetClassroomUseCase getClassroomUseCase,
             JoinClassroomUseCase joinClassroomUseCase,
             LeaveClassroomUseCase leaveClassroomUseCase,
             GetClassroomStudentsUseCase getClassroomStudentsUseCase,
@@ -44,6 +48,7 @@ public class ClassroomController {
         this.createClassroomUseCase = createClassroomUseCase;
         this.getTeacherClassroomsUseCase = getTeacherClassroomsUseCase;
         this.getStudentClassroomsUseCase = getStudentClassroomsUseCase;
+        this.getClassroomUseCase = getClassroomUseCase;
         this.joinClassroomUseCase = joinClassroomUseCase;
         this.leaveClassroomUseCase = leaveClassroomUseCase;
         this.getClassroomStudentsUseCase = getClassroomStudentsUseCase;
@@ -81,25 +86,29 @@ public class ClassroomController {
             @CurrentUser AuthenticatedUser authUser,
             @PathVariable UUID classroomId
     ) {
-        // Check if user is the teacher
-        var teacherClassrooms = getTeacherClassroomsUseCase.execute(authUser.id());
-        var teacherMatch = teacherClassrooms.stream()
-                .filter(c -> c.classroom().getId().value().equals(classroomId))
-                .findFirst();
-        if (teacherMatch.isPresent()) {
-            var c = teacherMatch.get();
-            return ResponseEntity.ok(ClassroomResponse.fromDomainWithCount(c.classroom(), c.studentCount()));
-        }
-
-        // Check if user is an enrolled student
-        var studentClassrooms = getStudentClassroomsUseCase.execute(authUser.id());
-        return studentClassrooms.stream()
-                .filter(c -> c.getId().value().equals(classroomId))
-                .findFirst()
-                .map(c -> ResponseEntity.ok(ClassroomResponse.fromDomain(c)))
+        // Spring answers 304 Not Modified itself when If-None-Match matches the ETag
+        return getClassroomUseCase.execute(authUser.id(), classroomId)
+                .map(view -> ResponseEntity.ok()
+                        .eTag(eTag(view))
+                        .cacheControl(CacheControl.noCache().cachePrivate())
+                        .body(view.owner()
+                                ? ClassroomResponse.fromDomainWithCount(view.classroom(), view.studentCount())
+                                : ClassroomResponse.fromDomain(view.classroom())))
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Changes whenever the response would: the classroom is edited (updatedAt),
+     * students join or leave (owner only, students don't see the count), or
+     * the caller's role differs.
+     */
+    private static String eTag(ClassroomView view) {
+        Classroom classroom = view.classroom();
+        return view.owner()
+                ? "t-" + classroom.getUpdatedAt().toEpochMilli() + "-" + view.studentCount()
+                : "s-" + classroom.getUpdatedAt().toEpochMilli();
+    }
+
     @PutMapping("/{classroomId}")
     @Operation(summary = "Update classroom", description = "Updates classroom name and description. Only the owner can update.")
     public ResponseEntity<ClassroomResponse> updateClassroom(
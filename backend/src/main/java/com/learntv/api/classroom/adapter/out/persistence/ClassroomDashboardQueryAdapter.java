@@ -0,0 +1,152 @@
+package com.learntv.api.classroom.adapter.out.persistence;
+
+import com.learntv.api.classroom.application.port.ClassroomDashboardQuery;
+import com.learntv.api.classroom.domain.model.Classroom;
+import com.learntv.api.classroom.domain.model.ClassroomId;
+import com.learntv.api.classroom.domain.model.JoinCode;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Native SQL implementation of the classroom dashboard read model: GROUP BY
+ * aggregates for counts and {@code IN (...)} lookups for profiles, so nothing
+ * is loaded just to be counted. Portable between PostgreSQL and H2.
+ */
+@Repository
+public class ClassroomDashboardQueryAdapter implements ClassroomDashboardQuery {
+
+    // Primary key lookup; the membership check and the count use the
+    // (classroom_id, student_id) unique index and the classroom_id index
+    private static final String SELECT_CLASSROOM_FOR_USER = """
+            SELECT c.id, c.teacher_id, c.name, c.description, c.join_code, c.is_active,
+                   c.created_at, c.updated_at,
+                   (SELECT COUNT(*) FROM classroom_students s
+                    WHERE s.classroom_id = c.id AND s.is_active = TRUE) AS students
+            FROM classrooms c
+            WHERE c.id = :classroomId
+              AND (c.teacher_id = :userId
+                   OR (c.is_active = TRUE AND EXISTS (
+                        SELECT 1 FROM classroom_students m
+                        WHERE m.classroom_id = c.id AND m.student_id = :userId AND m.is_active = TRUE)))
+            """;
+
+    private static final String COUNT_ACTIVE_STUDENTS = """
+            SELECT classroom_id, COUNT(*) AS students
+            FROM classroom_students
+            WHERE classroom_id IN (:ids) AND is_active = TRUE
+            GROUP BY classroom_id
+            """;
+
+    private static final String COUNT_SUBMISSIONS = """
+            SELECT assignment_id,
+                   COUNT(*) AS total,
+                   SUM(CASE WHEN status = 'COMPLETED' THEN 1 ELSE 0 END) AS completed
+            FROM assignment_submissions
+            WHERE assignment_id IN (:ids)
+            GROUP BY assignment_id
+            """;
+
+    private static final String SELECT_ACTIVE_STUDENTS = """
+            SELECT u.id, u.email, u.display_name, cs.joined_at
+            FROM classroom_students cs
+            JOIN users u ON u.id = cs.student_id
+            WHERE cs.classroom_id = :classroomId AND cs.is_active = TRUE
+            ORDER BY cs.joined_at, u.id
+            """;
+
+    private static final String SELECT_PROFILES = """
+            SELECT id, email, display_name
+            FROM users
+            WHERE id IN (:ids)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ClassroomDashboardQueryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public Optional<ClassroomView> findClassroomForUser(UUID classroomId, UUID userId) {
+        List<ClassroomView> rows = jdbcTemplate.query(SELECT_CLASSROOM_FOR_USER,
+                Map.of("classroomId", classroomId, "userId", userId), (rs, rowNum) -> {
+                    Classroom classroom = Classroom.builder()
+                            .id(ClassroomId.of(rs.getObject("id", UUID.class)))
+                            .teacherId(rs.getObject("teacher_id", UUID.class))
+                            .name(rs.getString("name"))
+                            .description(rs.getString("description"))
+                            .joinCode(JoinCode.of(rs.getString("join_code")))
+                            .active(rs.getBoolean("is_active"))
+                            .createdAt(instant(rs, "created_at"))
+                            .updatedAt(instant(rs, "updated_at"))
+                            .build();
+                    return new ClassroomView(classroom, classroom.isOwnedBy(userId), rs.getInt("students"));
+                });
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public Map<UUID, Integer> countActiveStudents(Collection<UUID> classroomIds) {
+        Map<UUID, Integer> counts = new HashMap<>();
+        if (classroomIds.isEmpty()) {
+            return counts;
+        }
+        jdbcTemplate.query(COUNT_ACTIVE_STUDENTS, Map.of("ids", classroomIds), rs -> {
+            counts.put(rs.getObject("classroom_id", UUID.class), rs.getInt("students"));
+        });
+        return counts;
+    }
+
+    @Override
+    public Map<UUID, SubmissionCounts> countSubmissions(Collection<UUID> assignmentIds) {
+        Map<UUID, SubmissionCounts> counts = new HashMap<>();
+        if (assignmentIds.isEmpty()) {
+            return counts;
+        }
+        jdbcTemplate.query(COUNT_SUBMISSIONS, Map.of("ids", assignmentIds), rs -> {
+            counts.put(rs.getObject("assignment_id", UUID.class),
+                    new SubmissionCounts(rs.getInt("total"), rs.getInt("completed")));
+        });
+        return counts;
+    }
+
+    @Override
+    public List<EnrolledStudent> findActiveStudents(UUID classroomId) {
+        return jdbcTemplate.query(SELECT_ACTIVE_STUDENTS, Map.of("classroomId", classroomId), (rs, rowNum) ->
+                new EnrolledStudent(
+                        rs.getObject("id", UUID.class),
+                        rs.getString("email"),
+                        rs.getString("display_name"),
+                        instant(rs, "joined_at")));
+    }
+
+    @Override
+    public Map<UUID, StudentProfile> findStudentProfiles(Collection<UUID> userIds) {
+        Map<UUID, StudentProfile> profiles = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return profiles;
+        }
+        jdbcTemplate.query(SELECT_PROFILES, Map.of("ids", userIds), rs -> {
+            UUID id = rs.getObject("id", UUID.class);
+            profiles.put(id, new StudentProfile(id, rs.getString("email"), rs.getString("display_name")));
+        });
+        return profiles;
+    }
+
+    private static Instant instant(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
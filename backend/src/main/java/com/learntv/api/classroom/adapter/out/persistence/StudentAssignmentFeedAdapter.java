@@ -0,0 +1,136 @@
+package com.learntv.api.classroom.adapter.out.persistence;
+
+import com.learntv.api.classroom.application.port.StudentAssignmentFeedQuery;
+import com.learntv.api.classroom.domain.exception.InvalidAssignmentCursorException;
+import com.learntv.api.classroom.domain.model.Assignment;
+import com.learntv.api.classroom.domain.model.SubmissionStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of {@link StudentAssignmentFeedQuery}.
+ *
+ * Joins the student's active memberships to their classrooms' assignments and
+ * left-joins the student's submission, so status, score and the overdue flag
+ * come back with the assignment. Served by the V28 indexes on
+ * classroom_students(student_id, classroom_id) and assignments(classroom_id, due_date, id).
+ *
+ * A classroom filter narrows the same query to one classroom.
+ *
+ * Pages are keyset-paginated on (due_date NULLS LAST, id); the cursor is the
+ * last row's sort key, base64-encoded.
+ */
+@Repository
+public class StudentAssignmentFeedAdapter implements StudentAssignmentFeedQuery {
+
+    private static final String SELECT_FEED = """
+            SELECT a.id, a.classroom_id, a.episode_id, a.title, a.instructions, a.due_date,
+                   a.created_at, a.updated_at,
+                   COALESCE(s.status, 'NOT_STARTED') AS status, s.score,
+                   CASE WHEN a.due_date < CURRENT_TIMESTAMP THEN TRUE ELSE FALSE END AS overdue
+            FROM classroom_students cs
+            JOIN assignments a ON a.classroom_id = cs.classroom_id
+            LEFT JOIN assignment_submissions s ON s.assignment_id = a.id AND s.student_id = cs.student_id
+            WHERE cs.student_id = ? AND cs.is_active = TRUE
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StudentAssignmentFeedAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public FeedPage findAssignments(UUID studentId, UUID classroomId, String after, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_FEED);
+        List<Object> params = new ArrayList<>();
+        params.add(studentId);
+
+        if (classroomId != null) {
+            sql.append("AND a.classroom_id = ?\n");
+            params.add(classroomId);
+        }
+
+        if (after != null && !after.isBlank()) {
+            SortKey key = SortKey.decode(after);
+            if (key.dueDate() != null) {
+                sql.append("AND (a.due_date > ? OR (a.due_date = ? AND a.id > ?) OR a.due_date IS NULL)\n");
+                params.add(Timestamp.from(key.dueDate()));
+                params.add(Timestamp.from(key.dueDate()));
+            } else {
+                sql.append("AND a.due_date IS NULL AND a.id > ?\n");
+            }
+            params.add(key.id());
+        }
+        // One extra row tells us whether another page exists
+        sql.append("ORDER BY a.due_date ASC NULLS LAST, a.id\nLIMIT ?");
+        params.add(limit + 1);
+
+        List<FeedItem> items = jdbcTemplate.query(sql.toString(), this::mapRow, params.toArray());
+
+        String nextCursor = null;
+        if (items.size() > limit) {
+            items = items.subList(0, limit);
+            Assignment last = items.get(limit - 1).assignment();
+            nextCursor = new SortKey(last.getDueDate(), last.getId().value()).encode();
+        }
+        return new FeedPage(items, nextCursor);
+    }
+
+    private FeedItem mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Assignment assignment = Assignment.builder()
+                .id(rs.getObject("id", UUID.class))
+                .classroomId(rs.getObject("classroom_id", UUID.class))
+                .episodeId(rs.getObject("episode_id", UUID.class))
+                .title(rs.getString("title"))
+                .instructions(rs.getString("instructions"))
+                .dueDate(instant(rs, "due_date"))
+                .createdAt(instant(rs, "created_at"))
+                .updatedAt(instant(rs, "updated_at"))
+                .build();
+        return new FeedItem(
+                assignment,
+                SubmissionStatus.valueOf(rs.getString("status")),
+                rs.getObject("score", Integer.class),
+                rs.getBoolean("overdue"));
+    }
+
+    private static Instant instant(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+
+    /**
+     * @param dueDate null for the assignments without a due date, which sort last
+     */
+    private record SortKey(Instant dueDate, UUID id) {
+
+        String encode() {
+            String raw = id + ":" + (dueDate != null ? dueDate : "");
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static SortKey decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf(':');
+                String dueDate = raw.substring(separator + 1);
+                return new SortKey(dueDate.isEmpty() ? null : Instant.parse(dueDate),
+                        UUID.fromString(raw.substring(0, separator)));
+            } catch (IllegalArgumentException | StringIndexOutOfBoundsException | DateTimeParseException e) {
+                throw new InvalidAssignmentCursorException(cursor);
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.learntv.api.classroom.application.port;
+
+import com.learntv.api.classroom.domain.model.Classroom;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read model for classroom dashboards. Every method answers for any number of
+ * classrooms, assignments or users with one aggregate or batched query, so a
+ * dashboard costs the same number of queries however many rows it shows.
+ */
+public interface ClassroomDashboardQuery {
+
+    /**
+     * A classroom as one user may see it: as its teacher, or as an active
+     * student of an active classroom. Empty if it doesn't exist or the user
+     * is neither.
+     */
+    Optional<ClassroomView> findClassroomForUser(UUID classroomId, UUID userId);
+
+    /**
+     * Active students per classroom; classrooms without any are absent.
+     */
+    Map<UUID, Integer> countActiveStudents(Collection<UUID> classroomIds);
+
+    /**
+     * Submission counts per assignment; assignments without any are absent.
+     */
+    Map<UUID, SubmissionCounts> countSubmissions(Collection<UUID> assignmentIds);
+
+    /**
+     * Active students of a classroom with their profiles, in the order they joined.
+     */
+    List<EnrolledStudent> findActiveStudents(UUID classroomId);
+
+    /**
+     * Profiles of the given users; unknown ids are absent.
+     */
+    Map<UUID, StudentProfile> findStudentProfiles(Collection<UUID> userIds);
+
+    record ClassroomView(Classroom classroom, boolean owner, int studentCount) {}
+
+    record SubmissionCounts(int total, int completed) {
+        public static final SubmissionCounts NONE = new SubmissionCounts(0, 0);
+    }
+
+    record StudentProfile(UUID id, String email, String displayName) {}
+
+    record EnrolledStudent(UUID id, String email, String displayName, Instant joinedAt) {}
+}
@@ -0,0 +1,44 @@
+package com.learntv.api.classroom.application.port;
+
+import com.learntv.api.classroom.domain.model.Assignment;
+import com.learntv.api.classroom.domain.model.SubmissionStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read model for a student's assignment feed: the assignments of every
+ * classroom they're active in, joined with their own submission, one page
+ * per query however many classrooms and assignments that spans.
+ */
+public interface StudentAssignmentFeedQuery {
+
+    /**
+     * Find one page of the student's assignments, soonest due first and those
+     * without a due date last.
+     *
+     * @param classroomId only this classroom's assignments, or null for all the student's classrooms
+     * @param after       cursor returned with the previous page, or null for the first page
+     * @param limit       maximum number of assignments to return
+     */
+    FeedPage findAssignments(UUID studentId, UUID classroomId, String after, int limit);
+
+    /**
+     * @param status NOT_STARTED when the student has no submission yet
+     * @param score  null until the submission is scored
+     */
+    record FeedItem(
+            Assignment assignment,
+            SubmissionStatus status,
+            Integer score,
+            boolean overdue
+    ) {}
+
+    /**
+     * @param nextCursor cursor for the following page, or null if this is the last one
+     */
+    record FeedPage(
+            List<FeedItem> items,
+            String nextCursor
+    ) {}
+}
@@ -5,7 +5,9 @@ import com.learntv.api.classroom.application.port.SubmissionRepository;
 import com.learntv.api.classroom.domain.exception.AssignmentNotFoundException;
 import com.learntv.api.classroom.domain.model.Assignment;
 import com.learntv.api.classroom.domain.model.AssignmentSubmission;
-import com.learntv.api.progress.application.port.UserProgressRepository;
+import com.learntv.api.learning.application.port.EpisodeRepository;
+import com.learntv.api.progress.application.port.ProgressBuffer;
+import com.learntv.api.progress.application.port.ProgressEventPublisher;
 import com.learntv.api.progress.domain.model.UserProgress;
 
 import java.util.UUID;
@@ -14,14 +16,20 @@ public class CompleteAssignmentUseCase {
 
     private final AssignmentRepository assignmentRepository;
     private final SubmissionRepository submissionRepository;
-    private final UserProgressRepository progressRepository;
+    private final ProgressBuffer progressBuffer;
+    private final ProgressEventPublisher eventPublisher;
+    private final EpisodeRepository episodeRepository;
 
     public CompleteAssignmentUseCase(AssignmentRepository assignmentRepository,
                                       SubmissionRepository submissionRepository,
-                                      UserProgressRepository progressRepository) {
+                                      ProgressBuffer progressBuffer,
+                                      ProgressEventPublisher eventPublisher,
+                                      EpisodeRepository episodeRepository) {
         this.assignmentRepository = assignmentRepository;
         this.submissionRepository = submissionRepository;
-        this.progressRepository = progressRepository;
+        this.progressBuffer = progressBuffer;
+        this.eventPublisher = eventPublisher;
+        this.episodeRepository = episodeRepository;
     }
 
     public AssignmentSubmission execute(UUID studentId, UUID assignmentId) {
@@ -34,13 +42,18 @@ public class CompleteAssignmentUseCase {
                 .orElseThrow(() -> new IllegalStateException("Assignment not started"));
 
         // Get user's progress on the episode to calculate score
-        int score = progressRepository
-                .findByUserIdAndEpisodeId(studentId, assignment.getEpisodeId())
+        int score = progressBuffer
+                .find(studentId, assignment.getEpisodeId())
                 .map(UserProgress::getTotalPoints)
                 .orElse(0);
 
         submission.complete(score);
 
-        return submissionRepository.save(submission);
+        AssignmentSubmission saved = submissionRepository.save(submission);
+        // Same event ids as finishing the lesson itself, so the episode and its words are counted once
+        UUID episodeId = assignment.getEpisodeId();
+        int vocabularyCount = episodeRepository.findVocabularyByEpisodeId(episodeId).size();
+        eventPublisher.publishEpisodeCompleted(studentId, episodeId, vocabularyCount);
+        return saved;
     }
 }
@@ -1,6 +1,8 @@
 package com.learntv.api.classroom.application.usecase;
 
 import com.learntv.api.classroom.application.port.AssignmentRepository;
+import com.learntv.api.classroom.application.port.ClassroomDashboardQuery;
+import com.learntv.api.classroom.application.port.ClassroomDashboardQuery.StudentProfile;
 import com.learntv.api.classroom.application.port.ClassroomRepository;
 import com.learntv.api.classroom.application.port.SubmissionRepository;
 import com.learntv.api.classroom.domain.exception.AssignmentNotFoundException;
@@ -8,11 +10,9 @@ import com.learntv.api.classroom.domain.exception.NotClassroomOwnerException;
 import com.learntv.api.classroom.domain.model.Assignment;
 import com.learntv.api.classroom.domain.model.AssignmentSubmission;
 import com.learntv.api.classroom.domain.model.Classroom;
-import com.learntv.api.user.application.port.UserRepository;
-import com.learntv.api.user.domain.model.User;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.UUID;
 
 public class GetAssignmentSubmissionsUseCase {
@@ -20,16 +20,16 @@ public class GetAssignmentSubmissionsUseCase {
     private final AssignmentRepository assignmentRepository;
     private final ClassroomRepository classroomRepository;
     private final SubmissionRepository submissionRepository;
-    private final UserRepository userRepository;
+    private final ClassroomDashboardQuery dashboardQuery;
 
     public GetAssignmentSubmissionsUseCase(AssignmentRepository assignmentRepository,
                                             ClassroomRepository classroomRepository,
                                             SubmissionRepository submissionRepository,
-                                            UserRepository userRepository) {
+                                            ClassroomDashboardQuery dashboardQuery) {
         this.assignmentRepository = assignmentRepository;
         this.classroomRepository = classroomRepository;
         this.submissionRepository = submissionRepository;
-        this.userRepository = userRepository;
+        this.dashboardQuery = dashboardQuery;
     }
 
     public List<SubmissionWithStudent> execute(UUID teacherId, UUID assignmentId) {
@@ -45,13 +45,15 @@ public class GetAssignmentSubmissionsUseCase {
 
         List<AssignmentSubmission> submissions = submissionRepository.findByAssignmentId(assignmentId);
 
+        Map<UUID, StudentProfile> profiles = dashboardQuery.findStudentProfiles(
+                submissions.stream().map(AssignmentSubmission::getStudentId).distinct().toList());
+
         return submissions.stream()
                 .map(submission -> {
-                    Optional<User> userOpt = userRepository.findById(submission.getStudentId());
-                    String studentName = userOpt
-                            .map(u -> u.getDisplayName() != null ? u.getDisplayName() : u.getEmail())
-                            .orElse("Unknown");
-                    String studentEmail = userOpt.map(User::getEmail).orElse("");
+                    StudentProfile profile = profiles.get(submission.getStudentId());
+                    String studentName = profile == null ? "Unknown"
+                            : profile.displayName() != null ? profile.displayName() : profile.email();
+                    String studentEmail = profile != null ? profile.email() : "";
 
                     return new SubmissionWithStudent(submission, studentName, studentEmail);
                 })
@@ -1,27 +1,28 @@
 package com.learntv.api.classroom.application.usecase;
 
 import com.learntv.api.classroom.application.port.AssignmentRepository;
+import com.learntv.api.classroom.application.port.ClassroomDashboardQuery;
+import com.learntv.api.classroom.application.port.ClassroomDashboardQuery.SubmissionCounts;
 import com.learntv.api.classroom.application.port.ClassroomRepository;
-import com.learntv.api.classroom.application.port.SubmissionRepository;
 import com.learntv.api.classroom.domain.exception.ClassroomNotFoundException;
 import com.learntv.api.classroom.domain.model.Assignment;
-import com.learntv.api.classroom.domain.model.AssignmentSubmission;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class GetClassroomAssignmentsUseCase {
 
     private final AssignmentRepository assignmentRepository;
     private final ClassroomRepository classroomRepository;
-    private final SubmissionRepository submissionRepository;
+    private final ClassroomDashboardQuery dashboardQuery;
 
     public GetClassroomAssignmentsUseCase(AssignmentRepository assignmentRepository,
                                            ClassroomRepository classroomRepository,
-                                           SubmissionRepository submissionRepository) {
+                                           ClassroomDashboardQuery dashboardQuery) {
         this.assignmentRepository = assignmentRepository;
         this.classroomRepository = classroomRepository;
-        this.submissionRepository = submissionRepository;
+        this.dashboardQuery = dashboardQuery;
     }
 
     public List<AssignmentWithStats> execute(UUID classroomId) {
@@ -30,17 +31,15 @@ public class GetClassroomAssignmentsUseCase {
 
         List<Assignment> assignments = assignmentRepository.findByClassroomId(classroomId);
 
+        // One GROUP BY for all assignments instead of loading every submission
+        Map<UUID, SubmissionCounts> submissionCounts = dashboardQuery.countSubmissions(
+                assignments.stream().map(assignment -> assignment.getId().value()).toList());
+
         return assignments.stream()
                 .map(assignment -> {
-                    List<AssignmentSubmission> submissions =
-                            submissionRepository.findByAssignmentId(assignment.getId().value());
-
-                    int totalSubmissions = submissions.size();
-                    int completedCount = (int) submissions.stream()
-                            .filter(AssignmentSubmission::isCompleted)
-                            .count();
-
-                    return new AssignmentWithStats(assignment, totalSubmissions, completedCount);
+                    SubmissionCounts counts = submissionCounts.getOrDefault(
+                            assignment.getId().value(), SubmissionCounts.NONE);
+                    return new AssignmentWithStats(assignment, counts.total(), counts.completed());
                 })
                 .toList();
     }
@@ -1,30 +1,27 @@
 package com.learntv.api.classroom.application.usecase;
 
+import com.learntv.api.classroom.application.port.ClassroomDashboardQuery;
 import com.learntv.api.classroom.application.port.ClassroomRepository;
 import com.learntv.api.classroom.application.port.ClassroomStudentRepository;
 import com.learntv.api.classroom.domain.exception.ClassroomNotFoundException;
 import com.learntv.api.classroom.domain.exception.NotClassroomOwnerException;
 import com.learntv.api.classroom.domain.model.Classroom;
-import com.learntv.api.classroom.domain.model.ClassroomStudent;
-import com.learntv.api.user.application.port.UserRepository;
-import com.learntv.api.user.domain.model.User;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 public class GetClassroomStudentsUseCase {
 
     private final ClassroomRepository classroomRepository;
     private final ClassroomStudentRepository studentRepository;
-    private final UserRepository userRepository;
+    private final ClassroomDashboardQuery dashboardQuery;
 
     public GetClassroomStudentsUseCase(ClassroomRepository classroomRepository,
                                         ClassroomStudentRepository studentRepository,
-                                        UserRepository userRepository) {
+                                        ClassroomDashboardQuery dashboardQuery) {
         this.classroomRepository = classroomRepository;
         this.studentRepository = studentRepository;
-        this.userRepository = userRepository;
+        this.dashboardQuery = dashboardQuery;
     }
 
     public List<StudentInfo> execute(UUID userId, UUID classroomId) {
@@ -38,20 +35,14 @@ public class GetClassroomStudentsUseCase {
             throw new NotClassroomOwnerException();
         }
 
-        List<ClassroomStudent> memberships = studentRepository.findByClassroomId(classroomId);
-
-        return memberships.stream()
-                .filter(ClassroomStudent::isActive)
-                .map(membership -> {
-                    Optional<User> userOpt = userRepository.findById(membership.getStudentId());
-                    return userOpt.map(user -> new StudentInfo(
-                            user.getId().value(),
-                            user.getEmail(),
-                            user.getDisplayName(),
-                            membership.getJoinedAt()
-                    )).orElse(null);
-                })
-                .filter(info -> info != null)
+        // Memberships joined with their profiles in one query
+        return dashboardQuery.findActiveStudents(classroomId).stream()
+                .map(student -> new StudentInfo(
+                        student.id(),
+                        student.email(),
+                        student.displayName(),
+                        student.joinedAt()
+                ))
                 .toList();
     }
 
@@ -0,0 +1,24 @@
+package com.learntv.api.classroom.application.usecase;
+
+import com.learntv.api.classroom.application.port.ClassroomDashboardQuery;
+import com.learntv.api.classroom.application.port.ClassroomDashboardQuery.ClassroomView;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * A single classroom for its teacher or one of its active students, loaded
+ * with its access check and student count in one query.
+ */
+public class GetClassroomUseCase {
+
+    private final ClassroomDashboardQuery dashboardQuery;
+
+    public GetClassroomUseCase(ClassroomDashboardQuery dashboardQuery) {
+        this.dashboardQuery = dashboardQuery;
+    }
+
+    public Optional<ClassroomView> execute(UUID userId, UUID classroomId) {
+        return dashboardQuery.findClassroomForUser(classroomId, userId);
+    }
+}
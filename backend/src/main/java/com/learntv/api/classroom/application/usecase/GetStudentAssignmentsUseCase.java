@@ -1,62 +1,48 @@
 package com.learntv.api.classroom.application.usecase;
 
-import com.learntv.api.classroom.application.port.AssignmentRepository;
-import com.learntv.api.classroom.application.port.ClassroomStudentRepository;
-import com.learntv.api.classroom.application.port.SubmissionRepository;
+import com.learntv.api.classroom.application.port.StudentAssignmentFeedQuery;
+import com.learntv.api.classroom.application.port.StudentAssignmentFeedQuery.FeedPage;
 import com.learntv.api.classroom.domain.model.Assignment;
-import com.learntv.api.classroom.domain.model.AssignmentSubmission;
-import com.learntv.api.classroom.domain.model.ClassroomStudent;
 import com.learntv.api.classroom.domain.model.SubmissionStatus;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Use case: the current student's assignments across all their classrooms
+ * (or in one of them), soonest due first, one page at a time. Memberships, assignments and
+ * submissions are joined by the database through {@link StudentAssignmentFeedQuery}.
+ */
 public class GetStudentAssignmentsUseCase {
 
-    private final AssignmentRepository assignmentRepository;
-    private final ClassroomStudentRepository classroomStudentRepository;
-    private final SubmissionRepository submissionRepository;
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 100;
 
-    public GetStudentAssignmentsUseCase(AssignmentRepository assignmentRepository,
-                                         ClassroomStudentRepository classroomStudentRepository,
-                                         SubmissionRepository submissionRepository) {
-        this.assignmentRepository = assignmentRepository;
-        this.classroomStudentRepository = classroomStudentRepository;
-        this.submissionRepository = submissionRepository;
-    }
-
-    public List<StudentAssignment> execute(UUID studentId) {
-        // Get all classrooms the student is enrolled in
-        List<ClassroomStudent> memberships = classroomStudentRepository.findByStudentId(studentId);
-
-        return memberships.stream()
-                .filter(ClassroomStudent::isActive)
-                .flatMap(membership -> {
-                    List<Assignment> assignments = assignmentRepository.findByClassroomId(membership.getClassroomId());
-                    return assignments.stream()
-                            .map(assignment -> {
-                                Optional<AssignmentSubmission> submissionOpt = submissionRepository
-                                        .findByAssignmentIdAndStudentId(assignment.getId().value(), studentId);
-
-                                SubmissionStatus status = submissionOpt
-                                        .map(AssignmentSubmission::getStatus)
-                                        .orElse(SubmissionStatus.NOT_STARTED);
+    private final StudentAssignmentFeedQuery feedQuery;
 
-                                Integer score = submissionOpt
-                                        .map(AssignmentSubmission::getScore)
-                                        .orElse(null);
+    public GetStudentAssignmentsUseCase(StudentAssignmentFeedQuery feedQuery) {
+        this.feedQuery = feedQuery;
+    }
 
-                                return new StudentAssignment(
-                                        assignment,
-                                        membership.getClassroomId(),
-                                        status,
-                                        score,
-                                        assignment.isOverdue()
-                                );
-                            });
-                })
+    /**
+     * @param classroomId only this classroom's assignments, or null for all
+     * @param cursor      nextCursor of the previous page, or null for the first page
+     * @param limit       page size, capped at {@value #MAX_PAGE_SIZE}
+     */
+    public StudentAssignmentPage execute(UUID studentId, UUID classroomId, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        FeedPage page = feedQuery.findAssignments(studentId, classroomId, cursor, pageSize);
+
+        List<StudentAssignment> assignments = page.items().stream()
+                .map(item -> new StudentAssignment(
+                        item.assignment(),
+                        item.assignment().getClassroomId(),
+                        item.status(),
+                        item.score(),
+                        item.overdue()
+                ))
                 .toList();
+        return new StudentAssignmentPage(assignments, page.nextCursor());
     }
 
     public record StudentAssignment(
@@ -66,4 +52,12 @@ public class GetStudentAssignmentsUseCase {
             Integer score,
             boolean overdue
     ) {}
+
+    /**
+     * @param nextCursor cursor for the following page, or null if this is the last one
+     */
+    public record StudentAssignmentPage(
+            List<StudentAssignment> assignments,
+            String nextCursor
+    ) {}
 }
@@ -1,31 +1,34 @@
 package com.learntv.api.classroom.application.usecase;
 
+import com.learntv.api.classroom.application.port.ClassroomDashboardQuery;
 import com.learntv.api.classroom.application.port.ClassroomRepository;
-import com.learntv.api.classroom.application.port.ClassroomStudentRepository;
 import com.learntv.api.classroom.domain.model.Classroom;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class GetTeacherClassroomsUseCase {
 
     private final ClassroomRepository classroomRepository;
-    private final ClassroomStudentRepository studentRepository;
+    private final ClassroomDashboardQuery dashboardQuery;
 
     public GetTeacherClassroomsUseCase(ClassroomRepository classroomRepository,
-                                        ClassroomStudentRepository studentRepository) {
+                                        ClassroomDashboardQuery dashboardQuery) {
         this.classroomRepository = classroomRepository;
-        this.studentRepository = studentRepository;
+        this.dashboardQuery = dashboardQuery;
     }
 
     public List<ClassroomWithCount> execute(UUID teacherId) {
         List<Classroom> classrooms = classroomRepository.findByTeacherId(teacherId);
 
+        // One GROUP BY for all classrooms; students who left are not counted
+        Map<UUID, Integer> studentCounts = dashboardQuery.countActiveStudents(
+                classrooms.stream().map(classroom -> classroom.getId().value()).toList());
+
         return classrooms.stream()
-                .map(classroom -> {
-                    int studentCount = studentRepository.findByClassroomId(classroom.getId().value()).size();
-                    return new ClassroomWithCount(classroom, studentCount);
-                })
+                .map(classroom -> new ClassroomWithCount(classroom,
+                        studentCounts.getOrDefault(classroom.getId().value(), 0)))
                 .toList();
     }
 
@@ -0,0 +1,8 @@
+package com.learntv.api.classroom.domain.exception;
+
+public class InvalidAssignmentCursorException extends RuntimeException {
+
+    public InvalidAssignmentCursorException(String cursor) {
+        super("Invalid assignment cursor: " + cursor);
+    }
+}
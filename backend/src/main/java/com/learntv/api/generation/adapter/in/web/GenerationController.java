@@ -1,5 +1,6 @@
 package com.learntv.api.generation.adapter.in.web;
 
+import com.learntv.api.generation.adapter.in.web.dto.BatchStatusResponse;
 import com.learntv.api.generation.adapter.in.web.dto.ContentExtractionResponse;
 import com.learntv.api.generation.adapter.in.web.dto.EpisodeDto;
 import com.learntv.api.generation.adapter.in.web.dto.JobStatusResponse;
@@ -9,8 +10,11 @@ import com.learntv.api.generation.adapter.in.web.dto.ShowDto;
 import com.learntv.api.generation.adapter.in.web.dto.ShowSearchResponse;
 import com.learntv.api.generation.adapter.in.web.dto.ShowSeasonsResponse;
 import com.learntv.api.generation.application.port.in.GenerateEpisodeLessonUseCase;
+import com.learntv.api.generation.application.port.in.GenerateSeasonLessonsUseCase;
 import com.learntv.api.generation.application.port.in.GenerationCommand;
+import com.learntv.api.generation.application.port.in.GetGenerationBatchUseCase;
 import com.learntv.api.generation.application.port.in.GetGenerationStatusUseCase;
+import com.learntv.api.generation.application.port.in.SeasonGenerationCommand;
 import com.learntv.api.generation.application.port.out.ContentExtractionPort;
 import com.learntv.api.generation.application.port.out.ExerciseGenerationPort;
 import com.learntv.api.generation.application.port.out.ShowMetadataPort;
@@ -20,10 +24,12 @@ import com.learntv.api.generation.application.service.LessonGenerationService.Le
 import com.learntv.api.generation.application.port.out.ShowMetadataPort.ShowSearchResult;
 import com.learntv.api.generation.application.port.out.SubtitleFetchPort;
 import com.learntv.api.generation.application.service.ScriptFetchService;
+import com.learntv.api.generation.domain.model.ExtractedContent;
 import com.learntv.api.generation.domain.model.ExtractedExpression;
 import com.learntv.api.generation.domain.model.ExtractedGrammar;
 import com.learntv.api.generation.domain.model.ExtractedVocabulary;
 import com.learntv.api.generation.domain.model.GeneratedExercise;
+import com.learntv.api.generation.domain.model.GenerationBatch;
 import com.learntv.api.generation.domain.model.GenerationJob;
 import com.learntv.api.shared.config.PromptSanitizer;
 import com.learntv.api.shared.config.security.AuthenticatedUser;
@@ -38,10 +44,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.UUID;
 
@@ -64,6 +74,10 @@ public class GenerationController {
     private final LessonGenerationService lessonGenerationService;
     private final GenerateEpisodeLessonUseCase generateEpisodeLessonUseCase;
     private final GetGenerationStatusUseCase getGenerationStatusUseCase;
+    private final GenerateSeasonLessonsUseCase generateSeasonLessonsUseCase;
+    private final GetGenerationBatchUseCase getGenerationBatchUseCase;
+
+    private static final long JOB_EVENTS_TIMEOUT_MS = 15 * 60 * 1000L;
 
     @GetMapping("/shows/search")
     @Operation(
@@ -321,13 +335,11 @@ public class GenerationController {
         return scriptFetchService.fetchScript(imdbId, season, episode)
                 .map(script -> {
                     // Extract content first
-                    List<ExtractedVocabulary> vocabulary = contentExtractionPort.extractVocabulary(script, safeGenreForExercises);
-                    List<ExtractedGrammar> grammar = contentExtractionPort.extractGrammar(script);
-                    List<ExtractedExpression> expressions = contentExtractionPort.extractExpressions(script);
+                    ExtractedContent content = contentExtractionPort.extractAll(script, safeGenreForExercises);
 
                     // Generate exercises from extracted content
                     List<GeneratedExercise> exercises = exerciseGenerationPort.generateExercises(
-                            vocabulary, grammar, expressions);
+                            content.vocabulary(), content.grammar(), content.expressions());
 
                     return ResponseEntity.ok(exercises);
                 })
@@ -375,7 +387,7 @@ public class GenerationController {
     @Operation(
             summary = "Start async lesson generation",
             description = "Start generating a lesson asynchronously. Returns immediately with a job ID. " +
-                    "Use GET /jobs/{jobId} to poll for status and get the result."
+                    "Use GET /jobs/{jobId}/events to stream status (or GET /jobs/{jobId} to poll) and get the result."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -405,6 +417,64 @@ public class GenerationController {
                 .body(JobStatusResponse.fromDomain(job));
     }
 
+    @PostMapping("/batches")
+    @Operation(
+            summary = "Start season batch generation",
+            description = "Generate lessons for every episode of a season, or of the whole show if no season is given. " +
+                    "Returns immediately with a batch listing one job per episode. Episodes that already have a lesson " +
+                    "complete at once. Use GET /batches/{batchId} for overall progress and /jobs/{jobId}/events per episode."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Batch generation started",
+                    content = @Content(schema = @Schema(implementation = BatchStatusResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid request")
+    })
+    public ResponseEntity<BatchStatusResponse> startBatchGeneration(
+            @CurrentUser AuthenticatedUser authUser,
+            @Parameter(description = "TMDB ID of the show", example = "1396")
+            @RequestParam String tmdbId,
+            @Parameter(description = "Season number; omit to generate every season", example = "1")
+            @RequestParam(required = false) Integer season,
+            @Parameter(description = "Show genre", example = "drama")
+            @RequestParam(defaultValue = "drama") String genre) {
+
+        String safeGenre = PromptSanitizer.sanitizeGenre(genre);
+        SeasonGenerationCommand command = new SeasonGenerationCommand(tmdbId, season, safeGenre, authUser.id());
+        GenerationBatch batch = generateSeasonLessonsUseCase.startBatch(command);
+
+        return ResponseEntity
+                .status(202) // 202 Accepted
+                .body(BatchStatusResponse.fromDomain(batch));
+    }
+
+    @GetMapping("/batches/{batchId}")
+    @Operation(
+            summary = "Get batch status",
+            description = "Get the overall status of a season batch and the status of each episode's job."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch status retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = BatchStatusResponse.class))
+            ),
+            @ApiResponse(responseCode = "404", description = "Batch not found")
+    })
+    public ResponseEntity<BatchStatusResponse> getBatchStatus(
+            @Parameter(description = "Batch ID", example = "550e8400-e29b-41d4-a716-446655440000")
+            @PathVariable UUID batchId) {
+
+        try {
+            GenerationBatch batch = getGenerationBatchUseCase.getBatch(batchId);
+            return ResponseEntity.ok(BatchStatusResponse.fromDomain(batch));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @GetMapping("/jobs/{jobId}")
     @Operation(
             summary = "Get job status",
@@ -431,6 +501,45 @@ public class GenerationController {
         }
     }
 
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream job status",
+            description = "Server-sent events for an async lesson generation job. Sends the current status, " +
+                    "then a 'progress' event on every change, and closes after the job completes or fails."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(responseCode = "404", description = "Job not found")
+    })
+    public ResponseEntity<SseEmitter> streamJobStatus(
+            @Parameter(description = "Job ID", example = "550e8400-e29b-41d4-a716-446655440000")
+            @PathVariable UUID jobId) {
+
+        SseEmitter emitter = new SseEmitter(JOB_EVENTS_TIMEOUT_MS);
+        Runnable cancel;
+        try {
+            cancel = getGenerationStatusUseCase.watch(jobId, job -> sendJobEvent(emitter, job));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+        emitter.onCompletion(cancel);
+        emitter.onTimeout(cancel);
+        emitter.onError(error -> cancel.run());
+        return ResponseEntity.ok(emitter);
+    }
+
+    private void sendJobEvent(SseEmitter emitter, GenerationJob job) {
+        try {
+            emitter.send(SseEmitter.event().name("progress").data(JobStatusResponse.fromDomain(job)));
+            if (job.isTerminal()) {
+                emitter.complete();
+            }
+        } catch (IOException e) {
+            // Client went away; throwing unsubscribes this listener
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Maps a port search result to a web DTO.
      */
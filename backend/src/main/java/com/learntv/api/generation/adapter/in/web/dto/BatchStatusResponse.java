@@ -0,0 +1,84 @@
+package com.learntv.api.generation.adapter.in.web.dto;
+
+import com.learntv.api.generation.domain.model.GenerationBatch;
+import com.learntv.api.generation.domain.model.GenerationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for season batch generation, with the status of every episode.
+ */
+@Schema(description = "Status of a season (or show) batch generation")
+public record BatchStatusResponse(
+        @Schema(description = "Unique batch identifier", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID batchId,
+
+        @Schema(description = "TMDB ID of the show", example = "1396")
+        String tmdbId,
+
+        @Schema(description = "Show title", example = "Breaking Bad")
+        String showTitle,
+
+        @Schema(description = "Season generated, or null for the whole show", nullable = true, example = "1")
+        Integer seasonNumber,
+
+        @Schema(description = "Overall status derived from the episodes", example = "PROCESSING")
+        GenerationStatus status,
+
+        @Schema(description = "Overall progress percentage (0-100)", example = "45")
+        int progress,
+
+        @Schema(description = "Number of episodes in the batch", example = "7")
+        int totalEpisodes,
+
+        @Schema(description = "Episodes with a lesson ready", example = "3")
+        long completedEpisodes,
+
+        @Schema(description = "Episodes that failed", example = "0")
+        long failedEpisodes,
+
+        @Schema(description = "Per-episode job status, in season/episode order")
+        List<EpisodeJobResponse> episodes
+) {
+
+    @Schema(description = "Generation status of one episode of the batch")
+    public record EpisodeJobResponse(
+            @Schema(description = "Season number", example = "1")
+            int seasonNumber,
+
+            @Schema(description = "Episode number", example = "1")
+            int episodeNumber,
+
+            @Schema(description = "Episode title", example = "Pilot")
+            String title,
+
+            @Schema(description = "Job generating the episode; poll or stream it for detailed progress")
+            JobStatusResponse job
+    ) {}
+
+    /**
+     * Creates a response DTO from a domain GenerationBatch.
+     */
+    public static BatchStatusResponse fromDomain(GenerationBatch batch) {
+        return new BatchStatusResponse(
+                batch.id(),
+                batch.tmdbId(),
+                batch.showTitle(),
+                batch.seasonNumber(),
+                batch.status(),
+                batch.progress(),
+                batch.episodes().size(),
+                batch.countByStatus(GenerationStatus.COMPLETED),
+                batch.countByStatus(GenerationStatus.FAILED),
+                batch.episodes().stream()
+                        .map(episode -> new EpisodeJobResponse(
+                                episode.seasonNumber(),
+                                episode.episodeNumber(),
+                                episode.title(),
+                                JobStatusResponse.fromDomain(episode.job())))
+                        .toList()
+        );
+    }
+}
@@ -0,0 +1,128 @@
+package com.learntv.api.generation.adapter.out.openai;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * The parts of a chat completion response we use: the first choice's message
+ * content and finish reason, and the token usage.
+ *
+ * @param finishReason why the model stopped, e.g. "stop", or "length" when it ran
+ *                     out of tokens; null if the response doesn't say
+ */
+public record ChatCompletion(String content, String finishReason, Usage usage) {
+
+    public record Usage(int promptTokens, int completionTokens, int totalTokens) {
+        public static final Usage NONE = new Usage(0, 0, 0);
+    }
+
+    private record Choice(String content, String finishReason) {}
+
+    /**
+     * Whether the model finished its answer and the answer has content; a
+     * truncated or empty answer isn't worth caching.
+     */
+    public boolean isComplete() {
+        return "stop".equals(finishReason) && !content.isBlank();
+    }
+
+    /**
+     * Read a chat completion response token by token, skipping everything but
+     * {@code choices[0].message.content}, {@code choices[0].finish_reason} and
+     * {@code usage} without building a tree.
+     */
+    static ChatCompletion parse(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("OpenAI response is not a JSON object");
+        }
+        Choice choice = null;
+        Usage usage = Usage.NONE;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "choices" -> choice = readFirstChoice(parser);
+                case "usage" -> usage = readUsage(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        if (choice == null) {
+            throw new IOException("No choices in OpenAI response");
+        }
+        return new ChatCompletion(choice.content(), choice.finishReason(), usage);
+    }
+
+    private static Choice readFirstChoice(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        Choice choice = null;
+        boolean first = true;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (first && parser.currentToken() == JsonToken.START_OBJECT) {
+                choice = readChoice(parser);
+            } else {
+                parser.skipChildren();
+            }
+            first = false;
+        }
+        return choice;
+    }
+
+    /**
+     * A choice object's message content, empty if it has none (e.g. a refusal),
+     * and its finish reason.
+     */
+    private static Choice readChoice(JsonParser parser) throws IOException {
+        String content = "";
+        String finishReason = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (field.equals("finish_reason") && value == JsonToken.VALUE_STRING) {
+                finishReason = parser.getText();
+            } else if (field.equals("message") && value == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String messageField = parser.currentName();
+                    JsonToken messageValue = parser.nextToken();
+                    if (messageField.equals("content") && messageValue == JsonToken.VALUE_STRING) {
+                        content = parser.getText();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new Choice(content, finishReason);
+    }
+
+    private static Usage readUsage(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return Usage.NONE;
+        }
+        int prompt = 0;
+        int completion = 0;
+        int total = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value != JsonToken.VALUE_NUMBER_INT) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case "prompt_tokens" -> prompt = parser.getIntValue();
+                case "completion_tokens" -> completion = parser.getIntValue();
+                case "total_tokens" -> total = parser.getIntValue();
+                default -> { }
+            }
+        }
+        return new Usage(prompt, completion, total);
+    }
+}
@@ -0,0 +1,28 @@
+package com.learntv.api.generation.adapter.out.openai;
+
+import java.util.List;
+
+/**
+ * Request body for POST /chat/completions, serialized as-is.
+ */
+record ChatCompletionRequest(
+        String model,
+        int max_tokens,
+        double temperature,
+        ResponseFormat response_format,
+        List<Message> messages
+) {
+
+    static final ResponseFormat JSON_OBJECT = new ResponseFormat("json_object");
+
+    record ResponseFormat(String type) {}
+
+    record Message(String role, String content) {}
+
+    static ChatCompletionRequest jsonObject(String model, int maxTokens, double temperature,
+                                            String systemPrompt, String userPrompt) {
+        return new ChatCompletionRequest(model, maxTokens, temperature, JSON_OBJECT, List.of(
+                new Message("system", systemPrompt),
+                new Message("user", userPrompt)));
+    }
+}
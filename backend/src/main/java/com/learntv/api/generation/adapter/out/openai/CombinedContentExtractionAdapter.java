@@ -0,0 +1,194 @@
+package com.learntv.api.generation.adapter.out.openai;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learntv.api.generation.application.port.out.ContentExtractionPort;
+import com.learntv.api.generation.domain.model.ExtractedContent;
+import com.learntv.api.generation.domain.model.ExtractedExpression;
+import com.learntv.api.generation.domain.model.ExtractedGrammar;
+import com.learntv.api.generation.domain.model.ExtractedVocabulary;
+import com.learntv.api.generation.domain.service.ExtractionMerger;
+import com.learntv.api.generation.domain.service.ScriptChunker;
+import com.learntv.api.shared.config.PromptSanitizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.learntv.api.generation.domain.service.ExtractionMerger.MAX_EXPRESSIONS;
+import static com.learntv.api.generation.domain.service.ExtractionMerger.MAX_GRAMMAR;
+import static com.learntv.api.generation.domain.service.ExtractionMerger.MAX_VOCABULARY;
+import static com.learntv.api.generation.domain.service.ScriptChunker.MAX_CHUNK_CHARS;
+
+/**
+ * OpenAI implementation of ContentExtractionPort that asks for vocabulary,
+ * grammar and expressions in one JSON response, so each script chunk is sent
+ * (and its input tokens paid for) once instead of three times.
+ *
+ * Enabled with {@code generation.extraction.mode=combined}. Chunking and merging
+ * work as in {@link ContentExtractionAdapter}. The single-section methods ask
+ * for their section alone through a {@link ContentExtractionAdapter}, rather
+ * than paying for the other two sections' output tokens.
+ */
+@Component
+@ConditionalOnProperty(name = "generation.extraction.mode", havingValue = "combined")
+public class CombinedContentExtractionAdapter implements ContentExtractionPort {
+
+    private static final Logger log = LoggerFactory.getLogger(CombinedContentExtractionAdapter.class);
+
+    private static final String SYSTEM_PROMPT = """
+            You are an expert English teacher creating lessons from TV show scripts.
+            From the script inside <script-content> tags, extract:
+
+            1. 15-25 interesting vocabulary items. Focus on words that are:
+            - Used in natural conversation
+            - Relevant to the genre/context
+            - Not too basic (avoid "the", "is", "go") but not too obscure
+            - Include a mix of nouns, verbs, adjectives, and phrasal verbs
+
+            2. 4-6 interesting grammar patterns. Focus on:
+            - Common conversational structures
+            - Patterns that intermediate learners often struggle with
+            - Grammar used naturally in context (not textbook examples)
+
+            3. 6-10 interesting expressions. Focus on:
+            - Natural spoken expressions (not formal written language)
+            - Phrases that might confuse non-native speakers
+            - Common idioms and phrasal expressions
+
+            Return a JSON object with three arrays, in this order:
+            "vocabulary": objects with these fields:
+            - term: the word or phrase
+            - definition: clear, concise definition
+            - phonetic: IPA pronunciation (e.g., "/ˈdɒktər/")
+            - category: one of "medical", "colloquial", "professional", "emotional", "action"
+            - exampleSentence: a natural example sentence using the word
+            - audioUrl: leave as null (will be generated later)
+            "grammar": objects with these fields:
+            - title: brief name of the grammar point (e.g., "Present Perfect for Experience")
+            - explanation: clear explanation of when/how to use it
+            - structure: the grammatical pattern (e.g., "have/has + past participle")
+            - examples: array of 2-3 example sentences from or inspired by the script
+            "expressions": objects with these fields:
+            - phrase: the expression exactly as used
+            - meaning: what it actually means
+            - context: brief description of when/how it's used in the script
+            - usageNote: when/how to use this expression appropriately
+            """;
+
+    private final OpenAiClient openAiClient;
+    private final ObjectMapper objectMapper;
+    private final ScriptChunker scriptChunker;
+    private final ExtractionMerger extractionMerger;
+    private final ContentExtractionAdapter sectionAdapter;
+
+    public CombinedContentExtractionAdapter(OpenAiClient openAiClient, ObjectMapper objectMapper,
+                                            ScriptChunker scriptChunker, ExtractionMerger extractionMerger) {
+        this.openAiClient = openAiClient;
+        this.objectMapper = objectMapper;
+        this.scriptChunker = scriptChunker;
+        this.extractionMerger = extractionMerger;
+        this.sectionAdapter = new ContentExtractionAdapter(openAiClient, objectMapper, scriptChunker, extractionMerger);
+    }
+
+    @Override
+    public List<ExtractedVocabulary> extractVocabulary(String script, String genre) {
+        return sectionAdapter.extractVocabulary(script, genre);
+    }
+
+    @Override
+    public List<ExtractedGrammar> extractGrammar(String script) {
+        return sectionAdapter.extractGrammar(script);
+    }
+
+    @Override
+    public List<ExtractedExpression> extractExpressions(String script) {
+        return sectionAdapter.extractExpressions(script);
+    }
+
+    @Override
+    public ExtractedContent extractAll(String script, String genre) {
+        String safeGenre = PromptSanitizer.sanitizeGenre(genre);
+        List<String> chunks = scriptChunker.chunk(script);
+        if (chunks.isEmpty()) {
+            chunks = List.of("");
+        }
+        log.info("Extracting lesson content from {} script chunk(s) in one request each, genre: {}",
+                chunks.size(), safeGenre);
+
+        List<ExtractedContent> extracted = openAiClient.await(Flux.fromIterable(chunks)
+                .flatMapSequential(chunk -> openAiClient.complete(SYSTEM_PROMPT, String.format("""
+                                Genre: %s
+
+                                Extract vocabulary, grammar points and expressions from this TV show script:
+
+                                %s
+                                """, safeGenre, PromptSanitizer.sanitizeScriptContent(chunk, MAX_CHUNK_CHARS)),
+                        this::parseResponse))
+                .collectList());
+
+        return new ExtractedContent(
+                extractionMerger.mergeVocabulary(
+                        extracted.stream().map(ExtractedContent::vocabulary).toList(), script, MAX_VOCABULARY),
+                extractionMerger.mergeGrammar(
+                        extracted.stream().map(ExtractedContent::grammar).toList(), MAX_GRAMMAR),
+                extractionMerger.mergeExpressions(
+                        extracted.stream().map(ExtractedContent::expressions).toList(), script, MAX_EXPRESSIONS));
+    }
+
+    @Override
+    public boolean extractsAllInOneRequest() {
+        return true;
+    }
+
+    /**
+     * Read the three arrays token by token, binding one item at a time instead
+     * of building a tree of the whole response first. A missing array is empty.
+     */
+    ExtractedContent parseResponse(String response) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(response)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Extraction response is not a JSON object");
+            }
+            List<ExtractedVocabulary> vocabulary = List.of();
+            List<ExtractedGrammar> grammar = List.of();
+            List<ExtractedExpression> expressions = List.of();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "vocabulary" -> vocabulary = readArray(parser, ExtractedVocabulary.class);
+                    case "grammar" -> grammar = readArray(parser, ExtractedGrammar.class);
+                    case "expressions" -> expressions = readArray(parser, ExtractedExpression.class);
+                    default -> parser.skipChildren();
+                }
+            }
+            return new ExtractedContent(vocabulary, grammar, expressions);
+        } catch (Exception e) {
+            log.error("Failed to parse combined extraction response: {}", response, e);
+            throw new RuntimeException("Failed to parse combined extraction response", e);
+        }
+    }
+
+    private <T> List<T> readArray(JsonParser parser, Class<T> type) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return List.of();
+        }
+        List<T> items = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == JsonToken.START_OBJECT) {
+                items.add(objectMapper.readValue(parser, type));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return items;
+    }
+}
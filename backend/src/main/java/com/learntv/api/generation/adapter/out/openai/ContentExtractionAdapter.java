@@ -4,36 +4,90 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.learntv.api.generation.application.port.out.ContentExtractionPort;
+import com.learntv.api.generation.domain.model.ExtractedContent;
 import com.learntv.api.generation.domain.model.ExtractedExpression;
 import com.learntv.api.generation.domain.model.ExtractedGrammar;
 import com.learntv.api.generation.domain.model.ExtractedVocabulary;
+import com.learntv.api.generation.domain.service.ExtractionMerger;
+import com.learntv.api.generation.domain.service.ScriptChunker;
 import com.learntv.api.shared.config.PromptSanitizer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static com.learntv.api.generation.domain.service.ExtractionMerger.MAX_EXPRESSIONS;
+import static com.learntv.api.generation.domain.service.ExtractionMerger.MAX_GRAMMAR;
+import static com.learntv.api.generation.domain.service.ExtractionMerger.MAX_VOCABULARY;
+import static com.learntv.api.generation.domain.service.ScriptChunker.MAX_CHUNK_CHARS;
 
 /**
  * OpenAI implementation of ContentExtractionPort.
  * Uses GPT to extract vocabulary, grammar, and expressions from TV show scripts.
+ *
+ * The whole script is covered: {@link ScriptChunker} splits it into chunks that
+ * fit the token budget, each chunk is extracted in parallel, and
+ * {@link ExtractionMerger} deduplicates and ranks the results into one list.
+ *
+ * Each section is a request of its own, so the script is sent three times; see
+ * {@link CombinedContentExtractionAdapter} for the single-request mode
+ * ({@code generation.extraction.mode=combined}).
  */
 @Component
+@ConditionalOnProperty(name = "generation.extraction.mode", havingValue = "separate", matchIfMissing = true)
 public class ContentExtractionAdapter implements ContentExtractionPort {
 
     private static final Logger log = LoggerFactory.getLogger(ContentExtractionAdapter.class);
-    private static final int MAX_SCRIPT_CHARS = 15000;
 
     private final OpenAiClient openAiClient;
     private final ObjectMapper objectMapper;
+    private final ScriptChunker scriptChunker;
+    private final ExtractionMerger extractionMerger;
 
-    public ContentExtractionAdapter(OpenAiClient openAiClient, ObjectMapper objectMapper) {
+    public ContentExtractionAdapter(OpenAiClient openAiClient, ObjectMapper objectMapper,
+                                    ScriptChunker scriptChunker, ExtractionMerger extractionMerger) {
         this.openAiClient = openAiClient;
         this.objectMapper = objectMapper;
+        this.scriptChunker = scriptChunker;
+        this.extractionMerger = extractionMerger;
     }
 
     @Override
     public List<ExtractedVocabulary> extractVocabulary(String script, String genre) {
+        return openAiClient.await(vocabulary(script, genre));
+    }
+
+    @Override
+    public List<ExtractedGrammar> extractGrammar(String script) {
+        return openAiClient.await(grammar(script));
+    }
+
+    @Override
+    public List<ExtractedExpression> extractExpressions(String script) {
+        return openAiClient.await(expressions(script));
+    }
+
+    /**
+     * Runs the three extractions concurrently; each still sends the whole script.
+     */
+    @Override
+    public ExtractedContent extractAll(String script, String genre) {
+        return openAiClient.await(Mono.zip(vocabulary(script, genre), grammar(script), expressions(script))
+                .map(sections -> new ExtractedContent(sections.getT1(), sections.getT2(), sections.getT3())));
+    }
+
+    @Override
+    public boolean extractsAllInOneRequest() {
+        return false;
+    }
+
+    private Mono<List<ExtractedVocabulary>> vocabulary(String script, String genre) {
         String safeGenre = PromptSanitizer.sanitizeGenre(genre);
         log.info("Extracting vocabulary from script, genre: {}", safeGenre);
 
@@ -55,20 +109,17 @@ public class ContentExtractionAdapter implements ContentExtractionPort {
             - audioUrl: leave as null (will be generated later)
             """;
 
-        String userPrompt = String.format("""
+        return extractChunks(script, systemPrompt, chunk -> String.format("""
             Genre: %s
 
             Extract vocabulary from this TV show script:
 
             %s
-            """, safeGenre, PromptSanitizer.sanitizeScriptContent(script, MAX_SCRIPT_CHARS));
-
-        String response = openAiClient.chatCompletion(systemPrompt, userPrompt);
-        return parseVocabularyResponse(response);
+            """, safeGenre, chunk), this::parseVocabularyResponse)
+                .map(chunks -> extractionMerger.mergeVocabulary(chunks, script, MAX_VOCABULARY));
     }
 
-    @Override
-    public List<ExtractedGrammar> extractGrammar(String script) {
+    private Mono<List<ExtractedGrammar>> grammar(String script) {
         log.info("Extracting grammar points from script");
 
         String systemPrompt = """
@@ -86,18 +137,15 @@ public class ContentExtractionAdapter implements ContentExtractionPort {
             - examples: array of 2-3 example sentences from or inspired by the script
             """;
 
-        String userPrompt = String.format("""
+        return extractChunks(script, systemPrompt, chunk -> String.format("""
             Extract grammar points from this TV show script:
 
             %s
-            """, PromptSanitizer.sanitizeScriptContent(script, MAX_SCRIPT_CHARS));
-
-        String response = openAiClient.chatCompletion(systemPrompt, userPrompt);
-        return parseGrammarResponse(response);
+            """, chunk), this::parseGrammarResponse)
+                .map(chunks -> extractionMerger.mergeGrammar(chunks, MAX_GRAMMAR));
     }
 
-    @Override
-    public List<ExtractedExpression> extractExpressions(String script) {
+    private Mono<List<ExtractedExpression>> expressions(String script) {
         log.info("Extracting expressions from script");
 
         String systemPrompt = """
@@ -115,14 +163,36 @@ public class ContentExtractionAdapter implements ContentExtractionPort {
             - usageNote: when/how to use this expression appropriately
             """;
 
-        String userPrompt = String.format("""
+        return extractChunks(script, systemPrompt, chunk -> String.format("""
             Extract expressions and idioms from this TV show script:
 
             %s
-            """, PromptSanitizer.sanitizeScriptContent(script, MAX_SCRIPT_CHARS));
+            """, chunk), this::parseExpressionsResponse)
+                .map(chunks -> extractionMerger.mergeExpressions(chunks, script, MAX_EXPRESSIONS));
+    }
 
-        String response = openAiClient.chatCompletion(systemPrompt, userPrompt);
-        return parseExpressionsResponse(response);
+    /**
+     * Run the same extraction over every chunk of the script at once. Results
+     * come back in chunk order; the number of requests actually in flight is
+     * capped by the OpenAI concurrency limit.
+     *
+     * @param userPrompt builds the user prompt around a sanitized chunk
+     */
+    private <T> Mono<List<List<T>>> extractChunks(String script, String systemPrompt,
+                                            Function<String, String> userPrompt,
+                                            Function<String, List<T>> parser) {
+        List<String> chunks = scriptChunker.chunk(script);
+        if (chunks.isEmpty()) {
+            chunks = List.of("");
+        }
+        log.debug("Extracting from {} script chunk(s)", chunks.size());
+
+        return Flux.fromIterable(chunks)
+                .flatMapSequential(chunk -> openAiClient.complete(systemPrompt,
+                        userPrompt.apply(PromptSanitizer.sanitizeScriptContent(chunk, MAX_CHUNK_CHARS)),
+                        // A chunk with nothing worth extracting may come back without the array
+                        content -> Objects.requireNonNullElse(parser.apply(content), List.<T>of())))
+                .collectList();
     }
 
     private List<ExtractedVocabulary> parseVocabularyResponse(String response) {
@@ -81,8 +81,7 @@ public class ExerciseGenerationAdapter implements ExerciseGenerationPort {
 
         String userPrompt = buildUserPrompt(vocabulary, grammar, expressions);
 
-        String response = openAiClient.chatCompletion(systemPrompt, userPrompt);
-        return parseExercisesResponse(response);
+        return openAiClient.chatCompletion(systemPrompt, userPrompt, this::parseExercisesResponse);
     }
 
     private String buildUserPrompt(
@@ -125,6 +124,9 @@ public class ExerciseGenerationAdapter implements ExerciseGenerationPort {
         try {
             JsonNode root = objectMapper.readTree(response);
             JsonNode exercisesArray = root.path("exercises");
+            if (!exercisesArray.isArray()) {
+                throw new IllegalArgumentException("No \"exercises\" array");
+            }
             return objectMapper.convertValue(exercisesArray, new TypeReference<List<GeneratedExercise>>() {});
         } catch (Exception e) {
             log.error("Failed to parse exercises response: {}", response, e);
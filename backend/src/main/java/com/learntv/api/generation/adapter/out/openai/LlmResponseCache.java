@@ -0,0 +1,194 @@
+package com.learntv.api.generation.adapter.out.openai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Content-addressed cache of chat completion responses.
+ *
+ * A response is keyed by the SHA-256 of everything that shapes it (model,
+ * prompts, temperature, token limit), so the same script sent through the same
+ * prompt is answered from the cache instead of OpenAI. Two tiers: an in-memory
+ * LRU of {@code max-entries} responses in front of the llm_response_cache table,
+ * whose rows are honoured for {@code ttl} and deleted hourly once expired.
+ *
+ * The cache never fails a request: database errors are logged and treated as a miss.
+ * Lookups are counted in the {@code llm.response.cache} meter, tagged by result and tier.
+ */
+@Component
+public class LlmResponseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(LlmResponseCache.class);
+
+    private static final String SELECT_RESPONSE = """
+            SELECT response FROM llm_response_cache
+            WHERE cache_key = ? AND created_at > ?
+            """;
+
+    private static final String UPSERT_RESPONSE = """
+            INSERT INTO llm_response_cache (cache_key, model, response, created_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (cache_key) DO UPDATE
+            SET model = EXCLUDED.model, response = EXCLUDED.response, created_at = EXCLUDED.created_at
+            """;
+
+    private static final String DELETE_EXPIRED = "DELETE FROM llm_response_cache WHERE created_at <= ?";
+    private static final Duration PURGE_INTERVAL = Duration.ofHours(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Map<String, String> responses;
+    private final Counter memoryHits;
+    private final Counter databaseHits;
+    private final Counter misses;
+    private final ScheduledExecutorService purger;
+
+    public LlmResponseCache(JdbcTemplate jdbcTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${external-apis.openai.response-cache.enabled:true}") boolean enabled,
+                            @Value("${external-apis.openai.response-cache.max-entries:200}") int maxEntries,
+                            @Value("${external-apis.openai.response-cache.ttl:30d}") Duration ttl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.responses = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.memoryHits = lookups(meterRegistry, "hit", "memory");
+        this.databaseHits = lookups(meterRegistry, "hit", "database");
+        this.misses = lookups(meterRegistry, "miss", "none");
+        this.purger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "llm-cache-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (enabled) {
+            long intervalMinutes = PURGE_INTERVAL.toMinutes();
+            purger.scheduleWithFixedDelay(this::purgeExpired, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        purger.shutdownNow();
+    }
+
+    /**
+     * Cache key for a chat completion request: SHA-256 over its parts, each
+     * length-prefixed so no two different requests can produce the same input.
+     */
+    public static String key(String model, String systemPrompt, String userPrompt,
+                             double temperature, int maxTokens) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : List.of(model, systemPrompt, userPrompt,
+                    Double.toString(temperature), Integer.toString(maxTokens))) {
+                byte[] bytes = part.getBytes(StandardCharsets.UTF_8);
+                digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.US_ASCII));
+                digest.update((byte) ':');
+                digest.update(bytes);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public Optional<String> get(String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        synchronized (responses) {
+            String cached = responses.get(key);
+            if (cached != null) {
+                memoryHits.increment();
+                return Optional.of(cached);
+            }
+        }
+
+        Optional<String> stored = load(key);
+        if (stored.isPresent()) {
+            databaseHits.increment();
+            remember(key, stored.get());
+        } else {
+            misses.increment();
+        }
+        return stored;
+    }
+
+    public void put(String key, String model, String response) {
+        if (!enabled) {
+            return;
+        }
+        remember(key, response);
+        try {
+            jdbcTemplate.update(UPSERT_RESPONSE, key, model, response, Timestamp.from(Instant.now()));
+        } catch (DataAccessException e) {
+            log.warn("Failed to store LLM response {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Delete the rows no lookup would honour any more.
+     */
+    private void purgeExpired() {
+        try {
+            int deleted = jdbcTemplate.update(DELETE_EXPIRED, Timestamp.from(Instant.now().minus(ttl)));
+            log.debug("Deleted {} expired LLM responses", deleted);
+        } catch (DataAccessException e) {
+            log.warn("Failed to delete expired LLM responses: {}", e.getMessage());
+        }
+    }
+
+    private Optional<String> load(String key) {
+        try {
+            List<String> rows = jdbcTemplate.queryForList(SELECT_RESPONSE, String.class,
+                    key, Timestamp.from(Instant.now().minus(ttl)));
+            return rows.stream().findFirst();
+        } catch (DataAccessException e) {
+            log.warn("Failed to read cached LLM response {}: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void remember(String key, String response) {
+        synchronized (responses) {
+            responses.put(key, response);
+        }
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String result, String tier) {
+        return Counter.builder("llm.response.cache")
+                .description("Chat completion response cache lookups")
+                .tag("result", result)
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+}
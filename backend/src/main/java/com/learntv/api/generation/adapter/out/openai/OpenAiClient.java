@@ -1,75 +1,197 @@
 package com.learntv.api.generation.adapter.out.openai;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learntv.api.shared.config.ExternalApiConcurrencyLimiter;
+import com.learntv.api.shared.config.ExternalApiConcurrencyLimiter.ExternalApi;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.retry.Retry;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
-import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 /**
  * Low-level client for OpenAI Chat Completions API.
+ *
+ * {@link #complete} is non-blocking, so callers can run several completions
+ * concurrently without a thread per request; {@link #chatCompletion} blocks on
+ * it for callers that run on their own (virtual) thread anyway, and
+ * {@link #await} blocks, within the same time limit, on several combined.
+ *
+ * Responses are served from {@link LlmResponseCache} when the exact same
+ * request has been answered before, so repeated previews and regenerations of
+ * a script cost no tokens. Only answers worth repeating are cached: the model
+ * finished them, and the caller's parser accepted them. Token usage of every
+ * request that reaches OpenAI is counted in the {@code llm.tokens} meter.
  */
 @Component
 public class OpenAiClient {
 
     private static final Logger log = LoggerFactory.getLogger(OpenAiClient.class);
 
+    private static final double TEMPERATURE = 0.7;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+    // Waiting for a concurrency permit, then the request with its retries
+    private static final Duration COMPLETION_TIMEOUT = Duration.ofMinutes(3);
+
     private final WebClient openAiWebClient;
     private final OpenAiConfig config;
     private final ObjectMapper objectMapper;
+    private final ExternalApiConcurrencyLimiter concurrencyLimiter;
+    private final LlmResponseCache responseCache;
+    private final Counter promptTokens;
+    private final Counter completionTokens;
 
-    public OpenAiClient(WebClient openAiWebClient, OpenAiConfig config, ObjectMapper objectMapper) {
+    public OpenAiClient(WebClient openAiWebClient, OpenAiConfig config, ObjectMapper objectMapper,
+                        ExternalApiConcurrencyLimiter concurrencyLimiter, LlmResponseCache responseCache,
+                        MeterRegistry meterRegistry) {
         this.openAiWebClient = openAiWebClient;
         this.config = config;
         this.objectMapper = objectMapper;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.responseCache = responseCache;
+        this.promptTokens = tokens(meterRegistry, "prompt");
+        this.completionTokens = tokens(meterRegistry, "completion");
+    }
+
+    /**
+     * Send a chat completion request to OpenAI and wait for the parsed answer,
+     * giving up after {@code COMPLETION_TIMEOUT}.
+     *
+     * @param systemPrompt System message setting the AI's behavior
+     * @param userPrompt User message with the actual request
+     * @param parser Reads the assistant's response content; see {@link #complete}
+     * @return The parsed response
+     */
+    public <T> T chatCompletion(String systemPrompt, String userPrompt, Function<String, T> parser) {
+        return await(complete(systemPrompt, userPrompt, parser));
     }
 
     /**
-     * Send a chat completion request to OpenAI.
+     * Block until the completions behind {@code result} are in, giving up after
+     * {@code COMPLETION_TIMEOUT}. Every blocking wait on {@link #complete}
+     * goes through here, so no caller can hang on OpenAI indefinitely.
+     *
+     * @throws RuntimeException if the wait times out or the result is empty
+     */
+    public <T> T await(Mono<T> result) {
+        return result
+                .timeout(COMPLETION_TIMEOUT)
+                .onErrorMap(TimeoutException.class, e ->
+                        new RuntimeException("OpenAI chat completion timed out after " + COMPLETION_TIMEOUT, e))
+                .blockOptional()
+                .orElseThrow(() -> new RuntimeException("OpenAI returned no chat completion"));
+    }
+
+    /**
+     * Send a chat completion request to OpenAI. Nothing is sent until the
+     * result is subscribed to.
+     *
+     * The answer is cached only after {@code parser} has read it without
+     * throwing, so an answer the caller can't use is asked for again next time
+     * instead of being served from the cache. A cached answer the parser
+     * rejects is likewise ignored, and the request sent again.
      *
      * @param systemPrompt System message setting the AI's behavior
      * @param userPrompt User message with the actual request
-     * @return The assistant's response content
+     * @param parser Reads the assistant's response content; throws if it's unusable, never returns null
+     * @return The parsed response
      */
-    public String chatCompletion(String systemPrompt, String userPrompt) {
-        log.debug("Sending chat completion request, model: {}", config.getModel());
-
-        Map<String, Object> requestBody = Map.of(
-                "model", config.getModel(),
-                "max_tokens", config.getMaxTokens(),
-                "temperature", 0.7,
-                "response_format", Map.of("type", "json_object"),
-                "messages", List.of(
-                        Map.of("role", "system", "content", systemPrompt),
-                        Map.of("role", "user", "content", userPrompt)
-                )
-        );
+    public <T> Mono<T> complete(String systemPrompt, String userPrompt, Function<String, T> parser) {
+        String cacheKey = LlmResponseCache.key(config.getModel(), systemPrompt, userPrompt,
+                TEMPERATURE, config.getMaxTokens());
 
+        // The cache reads and writes the database, so it runs off the event loop
+        return Mono.fromCallable(() -> responseCache.get(cacheKey)
+                        .flatMap(content -> parseCached(cacheKey, content, parser)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(cached -> cached
+                        .map(Mono::just)
+                        .orElseGet(() -> send(systemPrompt, userPrompt)
+                                .flatMap(completion -> {
+                                    T result = parser.apply(completion.content());
+                                    if (!completion.isComplete()) {
+                                        log.warn("Not caching chat completion {}: finish reason {}, {} characters",
+                                                cacheKey, completion.finishReason(), completion.content().length());
+                                        return Mono.just(result);
+                                    }
+                                    return Mono.fromRunnable(() ->
+                                                    responseCache.put(cacheKey, config.getModel(), completion.content()))
+                                            .subscribeOn(Schedulers.boundedElastic())
+                                            .thenReturn(result);
+                                })));
+    }
+
+    private <T> Optional<T> parseCached(String cacheKey, String content, Function<String, T> parser) {
         try {
-            String response = openAiWebClient.post()
-                    .uri("/chat/completions")
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .retryWhen(Retry.backoff(3, Duration.ofSeconds(2))
-                            .filter(this::isRetryableError)
-                            .doBeforeRetry(signal -> log.warn("Retrying OpenAI request, attempt {}", signal.totalRetries() + 1)))
-                    .block(Duration.ofSeconds(60));
-
-            return extractContent(response);
-        } catch (WebClientResponseException e) {
-            log.error("OpenAI API error: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
-            throw new RuntimeException("OpenAI API error: " + e.getMessage(), e);
+            T result = parser.apply(content);
+            log.debug("Chat completion served from cache: {}", cacheKey);
+            return Optional.of(result);
+        } catch (RuntimeException e) {
+            // Cached before answers were checked; the fresh answer replaces it
+            log.warn("Ignoring cached chat completion {}: {}", cacheKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Mono<ChatCompletion> send(String systemPrompt, String userPrompt) {
+        ChatCompletionRequest request = ChatCompletionRequest.jsonObject(config.getModel(),
+                config.getMaxTokens(), TEMPERATURE, systemPrompt, userPrompt);
+
+        return concurrencyLimiter.limit(ExternalApi.OPENAI, () -> {
+                    log.debug("Sending chat completion request, model: {}", config.getModel());
+                    return openAiWebClient.post()
+                            .uri("/chat/completions")
+                            .bodyValue(request)
+                            .retrieve()
+                            .bodyToFlux(DataBuffer.class)
+                            .as(DataBufferUtils::join)
+                            .map(this::parse)
+                            .retryWhen(Retry.backoff(3, Duration.ofSeconds(2))
+                                    .filter(this::isRetryableError)
+                                    .doBeforeRetry(signal -> log.warn("Retrying OpenAI request, attempt {}",
+                                            signal.totalRetries() + 1)))
+                            .timeout(REQUEST_TIMEOUT);
+                })
+                .doOnNext(this::recordUsage)
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("OpenAI API error: {} - {}", e.getStatusCode(), e.getResponseBodyAsString());
+                    return new RuntimeException("OpenAI API error: " + e.getMessage(), e);
+                });
+    }
+
+    private ChatCompletion parse(DataBuffer body) {
+        try (InputStream in = body.asInputStream(true);
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            return ChatCompletion.parse(parser);
+        } catch (IOException e) {
+            log.error("Failed to parse OpenAI response: {}", e.getMessage());
+            throw new RuntimeException("Failed to parse OpenAI response", e);
         }
     }
 
+    private void recordUsage(ChatCompletion completion) {
+        ChatCompletion.Usage usage = completion.usage();
+        promptTokens.increment(usage.promptTokens());
+        completionTokens.increment(usage.completionTokens());
+        log.debug("Chat completion used {} prompt + {} completion tokens",
+                usage.promptTokens(), usage.completionTokens());
+    }
+
     private boolean isRetryableError(Throwable throwable) {
         if (throwable instanceof WebClientResponseException e) {
             int status = e.getStatusCode().value();
@@ -79,17 +201,11 @@ public class OpenAiClient {
         return false;
     }
 
-    private String extractContent(String response) {
-        try {
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode choices = root.path("choices");
-            if (choices.isArray() && !choices.isEmpty()) {
-                return choices.get(0).path("message").path("content").asText();
-            }
-            throw new RuntimeException("No choices in OpenAI response");
-        } catch (Exception e) {
-            log.error("Failed to parse OpenAI response: {}", response);
-            throw new RuntimeException("Failed to parse OpenAI response", e);
-        }
+    private Counter tokens(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("llm.tokens")
+                .description("Tokens used by chat completions sent to OpenAI")
+                .tag("type", type)
+                .tag("model", config.getModel())
+                .register(meterRegistry);
     }
 }
@@ -1,10 +1,25 @@
 package com.learntv.api.generation.adapter.out.openai;
 
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.time.Duration;
+
+/**
+ * OpenAI settings and the one WebClient every OpenAI adapter shares (chat
+ * completions, Whisper).
+ *
+ * Connections come from a dedicated pool and are kept alive between calls, so
+ * a generation job's requests reuse warm TLS connections. Over HTTPS the client
+ * offers HTTP/2 and falls back to HTTP/1.1 if the server doesn't negotiate it.
+ */
 @Configuration
 public class OpenAiConfig {
 
@@ -20,12 +35,42 @@ public class OpenAiConfig {
     @Value("${external-apis.openai.max-tokens}")
     private int maxTokens;
 
+    @Value("${external-apis.openai.connection-pool.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${external-apis.openai.connection-pool.max-idle-time:60s}")
+    private Duration maxIdleTime;
+
+    @Value("${external-apis.openai.http2:true}")
+    private boolean http2;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider openAiConnectionProvider() {
+        return ConnectionProvider.builder("openai")
+                .maxConnections(maxConnections)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(Duration.ofMinutes(10))
+                .pendingAcquireTimeout(Duration.ofSeconds(60))
+                .evictInBackground(Duration.ofSeconds(30))
+                .build();
+    }
+
     @Bean
-    public WebClient openAiWebClient() {
+    public WebClient openAiWebClient(ConnectionProvider openAiConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(openAiConnectionProvider)
+                .keepAlive(true)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10_000)
+                .responseTimeout(Duration.ofSeconds(60));
+        if (http2 && baseUrl.startsWith("https://")) {
+            // HTTP/2 is negotiated through TLS (ALPN)
+            httpClient = httpClient.secure().protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
         return WebClient.builder()
                 .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader("Authorization", "Bearer " + apiKey)
-                .defaultHeader("Content-Type", "application/json")
                 .build();
     }
 
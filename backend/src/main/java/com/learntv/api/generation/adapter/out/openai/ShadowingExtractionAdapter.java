@@ -5,6 +5,8 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.learntv.api.generation.application.port.out.ShadowingExtractionPort;
 import com.learntv.api.generation.domain.model.ExtractedScene;
+import com.learntv.api.generation.domain.model.SceneCandidate;
+import com.learntv.api.generation.domain.model.SubtitleCue;
 import com.learntv.api.shared.config.PromptSanitizer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,7 +19,7 @@ import java.util.stream.Collectors;
 public class ShadowingExtractionAdapter implements ShadowingExtractionPort {
 
     private static final Logger log = LoggerFactory.getLogger(ShadowingExtractionAdapter.class);
-    private static final int MAX_SRT_CHARS = 15000;
+    private static final int MAX_SCRIPT_CHARS = 15000;
     private static final int MAX_TERM_LENGTH = 200;
 
     private final OpenAiClient openAiClient;
@@ -29,16 +31,17 @@ public class ShadowingExtractionAdapter implements ShadowingExtractionPort {
     }
 
     @Override
-    public List<ExtractedScene> extractShadowingScenes(String rawSrt,
+    public List<ExtractedScene> extractShadowingScenes(List<SceneCandidate> candidates,
                                                         List<String> vocabularyTerms,
                                                         List<String> expressions) {
-        log.info("Extracting shadowing scenes from SRT script");
+        log.info("Extracting shadowing scenes from {} candidates", candidates.size());
 
         String systemPrompt = """
             You are an expert English teacher designing shadowing practice exercises from TV show scripts.
 
-            Given an SRT subtitle file (inside <script-content> tags) and a list of vocabulary/expressions
-            the student has been learning, select the 2-3 BEST dialogue scenes for shadowing practice.
+            Given candidate scenes preselected from an episode's subtitles (inside <script-content> tags,
+            each in a <candidate> tag) and a list of vocabulary/expressions the student has been learning,
+            select the 2-3 BEST dialogue scenes for shadowing practice.
 
             Each scene should:
             - Be 8-15 lines of dialogue (not too short, not too long)
@@ -46,12 +49,13 @@ public class ShadowingExtractionAdapter implements ShadowingExtractionPort {
             - Contain vocabulary or expressions from the lesson when possible
             - Be a natural, flowing conversation (not disconnected lines)
             - Have at least 2 characters speaking
+            - Be consecutive lines from a single candidate
 
-            Important rules for parsing the SRT:
-            - Character names appear at the start of lines, often in ALL CAPS followed by a colon
-            - If a line has no character name, it continues the previous character's speech
-            - Use the timestamp of the first line in each subtitle block as startTime
-            - Format startTime as "HH:MM:SS" (drop milliseconds)
+            Important rules for reading the subtitles:
+            - Each line is one subtitle: "[HH:MM:SS] CHARACTER: text", or "[HH:MM:SS] text" when no name is given
+            - If a line has no character name, it continues the previous character's speech,
+              unless it starts with "-", which marks a change of speaker
+            - Use the time in brackets of the line as its startTime
 
             Return a JSON object with a "scenes" array containing objects with these fields:
             - title: A descriptive title for the scene (e.g., "Emergency Room Confrontation")
@@ -73,19 +77,41 @@ public class ShadowingExtractionAdapter implements ShadowingExtractionPort {
 
             Expressions from the lesson: %s
 
-            Select 2-3 best shadowing scenes from this SRT script:
+            Select 2-3 best shadowing scenes from these candidates:
 
             %s
-            """, vocabList, exprList, PromptSanitizer.sanitizeScriptContent(rawSrt, MAX_SRT_CHARS));
+            """, vocabList, exprList, PromptSanitizer.sanitizeScriptContent(formatCandidates(candidates), MAX_SCRIPT_CHARS));
 
-        String response = openAiClient.chatCompletion(systemPrompt, userPrompt);
-        return parseScenesResponse(response);
+        return openAiClient.chatCompletion(systemPrompt, userPrompt, this::parseScenesResponse);
+    }
+
+    /**
+     * One line per cue with its start time, instead of the raw SRT: no sequence
+     * numbers, end times or markup.
+     */
+    private static String formatCandidates(List<SceneCandidate> candidates) {
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < candidates.size(); i++) {
+            script.append("<candidate id=\"").append(i + 1).append("\">\n");
+            for (SubtitleCue cue : candidates.get(i).cues()) {
+                script.append('[').append(cue.startTime()).append("] ");
+                if (cue.speaker() != null) {
+                    script.append(cue.speaker()).append(": ");
+                }
+                script.append(cue.text()).append('\n');
+            }
+            script.append("</candidate>\n");
+        }
+        return script.toString();
     }
 
     private List<ExtractedScene> parseScenesResponse(String response) {
         try {
             JsonNode root = objectMapper.readTree(response);
             JsonNode scenesArray = root.path("scenes");
+            if (!scenesArray.isArray()) {
+                throw new IllegalArgumentException("No \"scenes\" array");
+            }
             return objectMapper.convertValue(scenesArray, new TypeReference<>() {});
         } catch (Exception e) {
             log.error("Failed to parse shadowing scenes response: {}", response, e);
@@ -3,6 +3,8 @@ package com.learntv.api.generation.adapter.out.opensubtitles;
 import com.learntv.api.generation.adapter.out.opensubtitles.dto.DownloadRequest;
 import com.learntv.api.generation.adapter.out.opensubtitles.dto.DownloadResponse;
 import com.learntv.api.generation.adapter.out.opensubtitles.dto.SubtitleSearchResponse;
+import com.learntv.api.shared.config.ExternalApiConcurrencyLimiter;
+import com.learntv.api.shared.config.ExternalApiConcurrencyLimiter.ExternalApi;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -17,9 +19,12 @@ public class OpenSubtitlesClient {
     private static final Logger log = LoggerFactory.getLogger(OpenSubtitlesClient.class);
 
     private final WebClient openSubtitlesWebClient;
+    private final ExternalApiConcurrencyLimiter concurrencyLimiter;
 
-    public OpenSubtitlesClient(WebClient openSubtitlesWebClient) {
+    public OpenSubtitlesClient(WebClient openSubtitlesWebClient,
+                               ExternalApiConcurrencyLimiter concurrencyLimiter) {
         this.openSubtitlesWebClient = openSubtitlesWebClient;
+        this.concurrencyLimiter = concurrencyLimiter;
     }
 
     /**
@@ -35,7 +40,7 @@ public class OpenSubtitlesClient {
         log.debug("Searching subtitles for IMDB: {}, S{}E{}, language: {}", imdbId, season, episode, language);
 
         try {
-            SubtitleSearchResponse response = openSubtitlesWebClient.get()
+            SubtitleSearchResponse response = concurrencyLimiter.call(ExternalApi.OPENSUBTITLES, () -> openSubtitlesWebClient.get()
                     .uri(uriBuilder -> uriBuilder
                             .path("/subtitles")
                             .queryParam("imdb_id", normalizeImdbId(imdbId))
@@ -47,7 +52,7 @@ public class OpenSubtitlesClient {
                             .build())
                     .retrieve()
                     .bodyToMono(SubtitleSearchResponse.class)
-                    .block();
+                    .block());
 
             log.debug("Found {} subtitles", response != null ? response.totalCount() : 0);
             return Optional.ofNullable(response);
@@ -73,12 +78,12 @@ public class OpenSubtitlesClient {
         log.debug("Requesting download for file ID: {}", fileId);
 
         try {
-            DownloadResponse response = openSubtitlesWebClient.post()
+            DownloadResponse response = concurrencyLimiter.call(ExternalApi.OPENSUBTITLES, () -> openSubtitlesWebClient.post()
                     .uri("/download")
                     .bodyValue(new DownloadRequest(fileId))
                     .retrieve()
                     .bodyToMono(DownloadResponse.class)
-                    .block();
+                    .block());
 
             if (response != null) {
                 log.debug("Download link obtained. Remaining downloads: {}", response.remaining());
@@ -106,12 +111,12 @@ public class OpenSubtitlesClient {
 
         try {
             // Use a separate WebClient for the download URL (different host)
-            String content = WebClient.create()
+            String content = concurrencyLimiter.call(ExternalApi.OPENSUBTITLES, () -> WebClient.create()
                     .get()
                     .uri(downloadUrl)
                     .retrieve()
                     .bodyToMono(String.class)
-                    .block();
+                    .block());
 
             log.debug("Downloaded subtitle content, length: {} chars",
                     content != null ? content.length() : 0);
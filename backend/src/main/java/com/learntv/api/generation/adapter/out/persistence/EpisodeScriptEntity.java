@@ -35,6 +35,12 @@ public class EpisodeScriptEntity {
     @Column(name = "parsed_text", nullable = false, columnDefinition = "TEXT")
     private String parsedText;
 
+    /**
+     * Timed cues in {@link SubtitleCueCodec} encoding; null until parsed.
+     */
+    @Column(name = "cues")
+    private byte[] cues;
+
     @Column(name = "downloaded_at", nullable = false)
     private Instant downloadedAt;
 
@@ -43,7 +49,7 @@ public class EpisodeScriptEntity {
 
     public EpisodeScriptEntity(UUID id, String imdbId, int seasonNumber, int episodeNumber,
                                 String language, String rawContent, String parsedText,
-                                Instant downloadedAt) {
+                                byte[] cues, Instant downloadedAt) {
         this.id = id;
         this.imdbId = imdbId;
         this.seasonNumber = seasonNumber;
@@ -51,6 +57,7 @@ public class EpisodeScriptEntity {
         this.language = language;
         this.rawContent = rawContent;
         this.parsedText = parsedText;
+        this.cues = cues;
         this.downloadedAt = downloadedAt;
     }
 
@@ -82,6 +89,14 @@ public class EpisodeScriptEntity {
         return parsedText;
     }
 
+    public byte[] getCues() {
+        return cues;
+    }
+
+    public void setCues(byte[] cues) {
+        this.cues = cues;
+    }
+
     public Instant getDownloadedAt() {
         return downloadedAt;
     }
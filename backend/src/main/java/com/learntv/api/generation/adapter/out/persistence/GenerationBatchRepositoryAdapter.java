@@ -0,0 +1,118 @@
+package com.learntv.api.generation.adapter.out.persistence;
+
+import com.learntv.api.generation.application.port.out.GenerationBatchRepository;
+import com.learntv.api.generation.domain.model.GenerationBatch;
+import com.learntv.api.generation.domain.model.GenerationJob;
+import com.learntv.api.generation.domain.model.GenerationStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JDBC adapter for generation batches. A batch is read together with the
+ * current row of every episode's job in a single join.
+ */
+@Repository
+public class GenerationBatchRepositoryAdapter implements GenerationBatchRepository {
+
+    private static final String INSERT_BATCH = """
+            INSERT INTO generation_batches (id, tmdb_id, show_title, season_number, user_id, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_EPISODE = """
+            INSERT INTO generation_batch_episodes (batch_id, season_number, episode_number, title, job_id)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String SELECT_BATCH = """
+            SELECT b.id, b.tmdb_id, b.show_title, b.season_number AS batch_season, b.created_at AS batch_created_at,
+                   e.season_number, e.episode_number, e.title,
+                   j.id AS job_id, j.status, j.progress, j.current_step, j.error_message,
+                   j.result_episode_id, j.created_at, j.completed_at
+            FROM generation_batches b
+            LEFT JOIN generation_batch_episodes e ON e.batch_id = b.id
+            LEFT JOIN generation_jobs j ON j.id = e.job_id
+            WHERE b.id = ?
+            ORDER BY e.season_number, e.episode_number
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public GenerationBatchRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public GenerationBatch create(String tmdbId, String showTitle, Integer seasonNumber, UUID userId,
+                                  List<GenerationBatch.EpisodeJob> episodes) {
+        GenerationBatch batch = new GenerationBatch(UUID.randomUUID(), tmdbId, showTitle, seasonNumber,
+                Instant.now(), episodes);
+
+        jdbcTemplate.update(INSERT_BATCH, batch.id(), tmdbId, showTitle, seasonNumber, userId,
+                Timestamp.from(batch.createdAt()));
+        jdbcTemplate.batchUpdate(INSERT_EPISODE, episodes, episodes.size(), (ps, episode) -> {
+            ps.setObject(1, batch.id());
+            ps.setInt(2, episode.seasonNumber());
+            ps.setInt(3, episode.episodeNumber());
+            ps.setString(4, episode.title());
+            ps.setObject(5, episode.job().id());
+        });
+        return batch;
+    }
+
+    @Override
+    public Optional<GenerationBatch> findById(UUID batchId) {
+        ResultSetExtractor<GenerationBatch> extractor = this::mapBatch;
+        return Optional.ofNullable(jdbcTemplate.query(SELECT_BATCH, extractor, batchId));
+    }
+
+    private GenerationBatch mapBatch(ResultSet rs) throws SQLException {
+        if (!rs.next()) {
+            return null;
+        }
+        UUID id = rs.getObject("id", UUID.class);
+        String tmdbId = rs.getString("tmdb_id");
+        String showTitle = rs.getString("show_title");
+        Integer seasonNumber = rs.getObject("batch_season", Integer.class);
+        Instant createdAt = rs.getTimestamp("batch_created_at").toInstant();
+
+        List<GenerationBatch.EpisodeJob> episodes = new ArrayList<>();
+        do {
+            if (rs.getObject("job_id") != null) {
+                episodes.add(new GenerationBatch.EpisodeJob(
+                        rs.getInt("season_number"),
+                        rs.getInt("episode_number"),
+                        rs.getString("title"),
+                        mapJob(rs)));
+            }
+        } while (rs.next());
+
+        return new GenerationBatch(id, tmdbId, showTitle, seasonNumber, createdAt, episodes);
+    }
+
+    private static GenerationJob mapJob(ResultSet rs) throws SQLException {
+        Timestamp completedAt = rs.getTimestamp("completed_at");
+        return new GenerationJob(
+                rs.getObject("job_id", UUID.class),
+                GenerationStatus.valueOf(rs.getString("status")),
+                rs.getInt("progress"),
+                rs.getString("current_step"),
+                rs.getString("error_message"),
+                rs.getObject("result_episode_id", UUID.class),
+                rs.getTimestamp("created_at").toInstant(),
+                completedAt != null ? completedAt.toInstant() : null
+        );
+    }
+}
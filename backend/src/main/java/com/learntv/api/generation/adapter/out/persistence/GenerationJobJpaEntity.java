@@ -18,7 +18,7 @@ public class GenerationJobJpaEntity {
     @Id
     private UUID id;
 
-    @Column(name = "imdb_id", nullable = false, length = 20)
+    @Column(name = "imdb_id", length = 20)
     private String imdbId;
 
     @Column(name = "season_number", nullable = false)
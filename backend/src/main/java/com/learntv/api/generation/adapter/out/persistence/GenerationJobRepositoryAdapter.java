@@ -3,22 +3,103 @@ package com.learntv.api.generation.adapter.out.persistence;
 import com.learntv.api.generation.application.port.out.GenerationJobRepository;
 import com.learntv.api.generation.domain.model.GenerationJob;
 import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
  * JPA adapter implementation of GenerationJobRepository port.
  * Handles persistence of async generation jobs.
+ *
+ * The single-flight claim is plain SQL: it relies on the partial unique index
+ * from V21 (V26 for shadowing jobs) and INSERT ... ON CONFLICT, so concurrent
+ * claims across instances resolve in the database rather than in memory.
  */
 @Repository
-@RequiredArgsConstructor
 public class GenerationJobRepositoryAdapter implements GenerationJobRepository {
 
+    private static final String ACTIVE = "status IN ('PENDING', 'PROCESSING')";
+
+    private static final String EXPIRE_EPISODE_LEASE = """
+            UPDATE generation_jobs
+            SET status = 'FAILED', error_message = 'Generation lease expired', completed_at = ?
+            WHERE imdb_id = ? AND season_number = ? AND episode_number = ?
+              AND %s AND lease_expires_at < ?
+            """.formatted(ACTIVE);
+
+    private static final String EXPIRE_JOB_LEASE = """
+            UPDATE generation_jobs
+            SET status = 'FAILED', error_message = 'Generation lease expired', completed_at = ?
+            WHERE id = ? AND %s AND lease_expires_at < ?
+            """.formatted(ACTIVE);
+
+    private static final String RENEW_JOB_LEASE = """
+            UPDATE generation_jobs SET lease_expires_at = ?
+            WHERE id = ? AND %s
+            """.formatted(ACTIVE);
+
+    // uk_generation_jobs_active_episode makes this a no-op while another job holds the lease
+    private static final String INSERT_JOB_IF_NONE_ACTIVE = """
+            INSERT INTO generation_jobs
+                (id, imdb_id, season_number, episode_number, status, progress, created_at, lease_expires_at)
+            VALUES (?, ?, ?, ?, 'PENDING', 0, ?, ?)
+            ON CONFLICT (imdb_id, season_number, episode_number) WHERE %s DO NOTHING
+            """.formatted(ACTIVE);
+
+    private static final String SELECT_ACTIVE_JOB = """
+            SELECT id FROM generation_jobs
+            WHERE imdb_id = ? AND season_number = ? AND episode_number = ? AND %s
+            """.formatted(ACTIVE);
+
+    private static final String SHADOWING = "job_type = 'SHADOWING'";
+
+    private static final String EXPIRE_SHADOWING_LEASE = """
+            UPDATE generation_jobs
+            SET status = 'FAILED', error_message = 'Generation lease expired', completed_at = ?
+            WHERE result_episode_id = ? AND %s AND %s AND lease_expires_at < ?
+            """.formatted(SHADOWING, ACTIVE);
+
+    // uk_generation_jobs_active_shadowing makes this a no-op while another job holds the lease
+    private static final String INSERT_SHADOWING_JOB_IF_NONE_ACTIVE = """
+            INSERT INTO generation_jobs
+                (id, job_type, result_episode_id, season_number, episode_number, status, progress,
+                 created_at, lease_expires_at)
+            VALUES (?, 'SHADOWING', ?, ?, ?, 'PENDING', 0, ?, ?)
+            ON CONFLICT (result_episode_id) WHERE %s AND %s DO NOTHING
+            """.formatted(SHADOWING, ACTIVE);
+
+    private static final String SELECT_ACTIVE_SHADOWING_JOB = """
+            SELECT id FROM generation_jobs
+            WHERE result_episode_id = ? AND %s AND %s
+            """.formatted(SHADOWING, ACTIVE);
+
+    private static final String SELECT_EPISODE_IMDB_ID = """
+            SELECT imdb_id FROM generation_jobs
+            WHERE result_episode_id = ? AND imdb_id IS NOT NULL
+            ORDER BY created_at DESC
+            LIMIT 1
+            """;
+
+    private static final int MAX_CLAIM_ATTEMPTS = 3;
+
     private final GenerationJobJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration leaseDuration;
+
+    public GenerationJobRepositoryAdapter(GenerationJobJpaRepository jpaRepository,
+                                          JdbcTemplate jdbcTemplate,
+                                          @Value("${generation.job-lease:30m}") Duration leaseDuration) {
+        this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.leaseDuration = leaseDuration;
+    }
 
     @Override
     public GenerationJob createJob(String imdbId, int seasonNumber, int episodeNumber) {
@@ -28,6 +109,95 @@ public class GenerationJobRepositoryAdapter implements GenerationJobRepository {
         return saved.toDomain();
     }
 
+    @Override
+    public GenerationJob createCompletedJob(String imdbId, int seasonNumber, int episodeNumber, UUID episodeId) {
+        GenerationJobJpaEntity entity = GenerationJobJpaEntity.create(UUID.randomUUID(), imdbId, seasonNumber, episodeNumber);
+        entity.setStatus(com.learntv.api.generation.domain.model.GenerationStatus.COMPLETED);
+        entity.setProgress(100);
+        entity.setCurrentStep("Completed");
+        entity.setResultEpisodeId(episodeId);
+        entity.setCompletedAt(entity.getCreatedAt());
+        return jpaRepository.save(entity).toDomain();
+    }
+
+    @Override
+    @Transactional
+    public GenerationClaim claimJob(String imdbId, int seasonNumber, int episodeNumber, UUID userId) {
+        for (int attempt = 0; attempt < MAX_CLAIM_ATTEMPTS; attempt++) {
+            Timestamp now = Timestamp.from(Instant.now());
+            jdbcTemplate.update(EXPIRE_EPISODE_LEASE, now, imdbId, seasonNumber, episodeNumber, now);
+
+            UUID jobId = UUID.randomUUID();
+            int inserted = jdbcTemplate.update(INSERT_JOB_IF_NONE_ACTIVE, jobId, imdbId, seasonNumber, episodeNumber,
+                    now, Timestamp.from(now.toInstant().plus(leaseDuration)));
+            if (inserted == 1) {
+                return new GenerationClaim(findById(jobId).orElseThrow(), true);
+            }
+
+            List<UUID> active = jdbcTemplate.queryForList(SELECT_ACTIVE_JOB, UUID.class,
+                    imdbId, seasonNumber, episodeNumber);
+            if (!active.isEmpty()) {
+                UUID activeJobId = active.get(0);
+                if (userId != null) {
+                    jdbcTemplate.update("INSERT INTO generation_job_waiters (job_id, user_id) VALUES (?, ?) "
+                            + "ON CONFLICT DO NOTHING", activeJobId, userId);
+                }
+                return new GenerationClaim(findById(activeJobId).orElseThrow(), false);
+            }
+            // The active job finished between our insert and select; try again
+        }
+        throw new IllegalStateException("Could not claim generation for " + imdbId
+                + " S" + seasonNumber + "E" + episodeNumber);
+    }
+
+    @Override
+    @Transactional
+    public GenerationClaim claimShadowingJob(UUID episodeId, int seasonNumber, int episodeNumber) {
+        for (int attempt = 0; attempt < MAX_CLAIM_ATTEMPTS; attempt++) {
+            Timestamp now = Timestamp.from(Instant.now());
+            jdbcTemplate.update(EXPIRE_SHADOWING_LEASE, now, episodeId, now);
+
+            UUID jobId = UUID.randomUUID();
+            int inserted = jdbcTemplate.update(INSERT_SHADOWING_JOB_IF_NONE_ACTIVE, jobId, episodeId,
+                    seasonNumber, episodeNumber, now, Timestamp.from(now.toInstant().plus(leaseDuration)));
+            if (inserted == 1) {
+                return new GenerationClaim(findById(jobId).orElseThrow(), true);
+            }
+
+            List<UUID> active = jdbcTemplate.queryForList(SELECT_ACTIVE_SHADOWING_JOB, UUID.class, episodeId);
+            if (!active.isEmpty()) {
+                return new GenerationClaim(findById(active.get(0)).orElseThrow(), false);
+            }
+            // The active job finished between our insert and select; try again
+        }
+        throw new IllegalStateException("Could not claim shadowing generation for episode " + episodeId);
+    }
+
+    @Override
+    public Optional<String> findImdbIdByEpisodeId(UUID episodeId) {
+        return jdbcTemplate.queryForList(SELECT_EPISODE_IMDB_ID, String.class, episodeId).stream().findFirst();
+    }
+
+    @Override
+    public List<UUID> findWaitingUserIds(UUID jobId) {
+        return jdbcTemplate.queryForList("SELECT user_id FROM generation_job_waiters WHERE job_id = ?",
+                UUID.class, jobId);
+    }
+
+    @Override
+    @Transactional
+    public boolean expireLease(UUID jobId) {
+        Timestamp now = Timestamp.from(Instant.now());
+        return jdbcTemplate.update(EXPIRE_JOB_LEASE, now, jobId, now) > 0;
+    }
+
+    @Override
+    @Transactional
+    public boolean renewLease(UUID jobId) {
+        Timestamp expiresAt = Timestamp.from(Instant.now().plus(leaseDuration));
+        return jdbcTemplate.update(RENEW_JOB_LEASE, expiresAt, jobId) > 0;
+    }
+
     @Override
     public GenerationJob save(GenerationJob job) {
         return jpaRepository.findById(job.id())
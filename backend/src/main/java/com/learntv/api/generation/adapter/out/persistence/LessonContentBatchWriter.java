@@ -0,0 +1,149 @@
+package com.learntv.api.generation.adapter.out.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.learntv.api.generation.domain.model.ExtractedExpression;
+import com.learntv.api.generation.domain.model.ExtractedGrammar;
+import com.learntv.api.generation.domain.model.ExtractedVocabulary;
+import com.learntv.api.generation.domain.model.GeneratedExercise;
+import com.learntv.api.learning.domain.model.ExerciseType;
+import com.learntv.api.learning.domain.model.VocabularyCategory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes a generated lesson's child rows with one JDBC batch per table.
+ *
+ * Saving each row through its JPA repository costs a SELECT (ids are assigned,
+ * so save() merges) plus an INSERT per row. Here each table is a single batched
+ * statement, which the PostgreSQL driver rewrites into multi-row INSERTs when
+ * reWriteBatchedInserts is enabled. Runs on the caller's transaction connection,
+ * so the episode row must already be flushed.
+ */
+@Component
+public class LessonContentBatchWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(LessonContentBatchWriter.class);
+
+    private static final String INSERT_VOCABULARY = """
+            INSERT INTO vocabulary (id, episode_id, term, definition, phonetic, category, example_sentence, audio_url)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_GRAMMAR = """
+            INSERT INTO grammar_points (id, episode_id, title, explanation, structure, example)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_EXPRESSION = """
+            INSERT INTO expressions (id, episode_id, phrase, meaning, context_quote, usage_note, audio_url)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_EXERCISE = """
+            INSERT INTO exercises (id, episode_id, type, question, correct_answer, options, matching_pairs, points, audio_url)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectWriter jsonWriter;
+
+    public LessonContentBatchWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jsonWriter = objectMapper.writer();
+    }
+
+    /**
+     * Delete an episode and all its lesson content, one statement per table.
+     */
+    public void deleteEpisode(UUID episodeId) {
+        jdbcTemplate.update("DELETE FROM vocabulary WHERE episode_id = ?", episodeId);
+        jdbcTemplate.update("DELETE FROM grammar_points WHERE episode_id = ?", episodeId);
+        jdbcTemplate.update("DELETE FROM expressions WHERE episode_id = ?", episodeId);
+        jdbcTemplate.update("DELETE FROM exercises WHERE episode_id = ?", episodeId);
+        jdbcTemplate.update("DELETE FROM episodes WHERE id = ?", episodeId);
+    }
+
+    public void insertVocabulary(UUID episodeId, List<ExtractedVocabulary> vocabulary) {
+        jdbcTemplate.batchUpdate(INSERT_VOCABULARY, vocabulary.stream()
+                .map(v -> new Object[]{
+                        UUID.randomUUID(),
+                        episodeId,
+                        v.term(),
+                        v.definition(),
+                        v.phonetic(),
+                        VocabularyCategory.fromString(v.category()).name(),
+                        v.exampleSentence(),
+                        v.audioUrl()
+                })
+                .toList());
+    }
+
+    public void insertGrammarPoints(UUID episodeId, List<ExtractedGrammar> grammarPoints) {
+        jdbcTemplate.batchUpdate(INSERT_GRAMMAR, grammarPoints.stream()
+                .map(g -> new Object[]{
+                        UUID.randomUUID(),
+                        episodeId,
+                        g.title(),
+                        g.explanation(),
+                        g.structure(),
+                        g.examples() != null ? String.join("; ", g.examples()) : ""
+                })
+                .toList());
+    }
+
+    public void insertExpressions(UUID episodeId, List<ExtractedExpression> expressions) {
+        jdbcTemplate.batchUpdate(INSERT_EXPRESSION, expressions.stream()
+                .map(e -> new Object[]{
+                        UUID.randomUUID(),
+                        episodeId,
+                        e.phrase(),
+                        e.meaning(),
+                        e.context(),
+                        e.usageNote(),
+                        e.audioUrl()
+                })
+                .toList());
+    }
+
+    public void insertExercises(UUID episodeId, List<GeneratedExercise> exercises) {
+        jdbcTemplate.batchUpdate(INSERT_EXERCISE, exercises.stream()
+                .map(ex -> new Object[]{
+                        UUID.randomUUID(),
+                        episodeId,
+                        ExerciseType.valueOf(ex.type()).name(),
+                        ex.question(),
+                        ex.correctAnswer(),
+                        optionsJson(ex.options()),
+                        matchingPairsJson(ex.matchingPairs()),
+                        ex.points(),
+                        null // audioUrl generated separately
+                })
+                .toList());
+    }
+
+    private String optionsJson(List<String> options) {
+        if (options == null) return null;
+        try {
+            return jsonWriter.writeValueAsString(options);
+        } catch (JsonProcessingException e) {
+            return String.join(",", options);
+        }
+    }
+
+    private String matchingPairsJson(List<GeneratedExercise.MatchingPair> matchingPairs) {
+        if (matchingPairs == null) return null;
+        try {
+            return jsonWriter.writeValueAsString(matchingPairs);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize matchingPairs", e);
+            return null;
+        }
+    }
+}
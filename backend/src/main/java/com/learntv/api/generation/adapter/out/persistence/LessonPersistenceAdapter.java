@@ -1,7 +1,5 @@
 package com.learntv.api.generation.adapter.out.persistence;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.learntv.api.catalog.adapter.out.persistence.ShowJpaEntity;
 import com.learntv.api.catalog.adapter.out.persistence.ShowJpaRepository;
 import com.learntv.api.catalog.application.port.UserShowRepository;
@@ -9,15 +7,18 @@ import com.learntv.api.catalog.domain.model.*;
 import com.learntv.api.generation.application.port.in.GenerationCommand;
 import com.learntv.api.generation.application.port.out.LessonPersistencePort;
 import com.learntv.api.generation.application.port.out.ShowMetadataPort;
-import com.learntv.api.generation.domain.model.*;
-import com.learntv.api.learning.adapter.out.persistence.*;
-import com.learntv.api.learning.domain.model.ExerciseType;
-import com.learntv.api.learning.domain.model.VocabularyCategory;
+import com.learntv.api.generation.domain.model.GeneratedLesson;
+import com.learntv.api.learning.adapter.out.persistence.EpisodeJpaEntity;
+import com.learntv.api.learning.adapter.out.persistence.EpisodeJpaRepository;
+import com.learntv.api.learning.application.port.LessonCachePort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -25,7 +26,8 @@ import java.util.UUID;
  *
  * This adapter bridges the generation bounded context with the learning
  * bounded context by transforming GeneratedLesson domain models into
- * JPA entities for persistence.
+ * learning-context rows: the show and episode through JPA, the lesson content
+ * in batches through {@link LessonContentBatchWriter}.
  */
 @Component
 public class LessonPersistenceAdapter implements LessonPersistencePort {
@@ -35,32 +37,23 @@ public class LessonPersistenceAdapter implements LessonPersistencePort {
     private final ShowMetadataPort showMetadataPort;
     private final ShowJpaRepository showRepository;
     private final EpisodeJpaRepository episodeRepository;
-    private final VocabularyJpaRepository vocabularyRepository;
-    private final GrammarPointJpaRepository grammarRepository;
-    private final ExpressionJpaRepository expressionRepository;
-    private final ExerciseJpaRepository exerciseRepository;
+    private final LessonContentBatchWriter contentWriter;
     private final UserShowRepository userShowRepository;
-    private final ObjectMapper objectMapper;
+    private final LessonCachePort lessonCachePort;
 
     public LessonPersistenceAdapter(
             ShowMetadataPort showMetadataPort,
             ShowJpaRepository showRepository,
             EpisodeJpaRepository episodeRepository,
-            VocabularyJpaRepository vocabularyRepository,
-            GrammarPointJpaRepository grammarRepository,
-            ExpressionJpaRepository expressionRepository,
-            ExerciseJpaRepository exerciseRepository,
+            LessonContentBatchWriter contentWriter,
             UserShowRepository userShowRepository,
-            ObjectMapper objectMapper) {
+            LessonCachePort lessonCachePort) {
         this.showMetadataPort = showMetadataPort;
         this.showRepository = showRepository;
         this.episodeRepository = episodeRepository;
-        this.vocabularyRepository = vocabularyRepository;
-        this.grammarRepository = grammarRepository;
-        this.expressionRepository = expressionRepository;
-        this.exerciseRepository = exerciseRepository;
+        this.contentWriter = contentWriter;
         this.userShowRepository = userShowRepository;
-        this.objectMapper = objectMapper;
+        this.lessonCachePort = lessonCachePort;
     }
 
     @Override
@@ -79,8 +72,37 @@ public class LessonPersistenceAdapter implements LessonPersistencePort {
         log.info("Saving lesson for TMDB ID: {}, IMDB ID: {}, S{}E{}",
                 tmdbId, imdbId, seasonNumber, episodeNumber);
 
-        // 1. Find or create show
-        ShowJpaEntity show = findOrCreateShow(tmdbId, genre, imageUrl);
+        // 1. Find or create show (fetching its details from TMDB)
+        ShowJpaEntity show = findOrCreateShow(tmdbId, showMetadataPort.getShowWithSeasons(tmdbId), genre, imageUrl);
+        return saveEpisode(lesson, show, seasonNumber, episodeNumber, episodeTitle, userId);
+    }
+
+    @Override
+    @Transactional
+    public UUID save(
+            GeneratedLesson lesson,
+            ShowMetadataPort.ShowWithSeasons showMetadata,
+            String imdbId,
+            int seasonNumber,
+            int episodeNumber,
+            String episodeTitle,
+            String genre,
+            UUID userId) {
+
+        log.info("Saving lesson for TMDB ID: {}, IMDB ID: {}, S{}E{}",
+                showMetadata.tmdbId(), imdbId, seasonNumber, episodeNumber);
+
+        ShowJpaEntity show = findOrCreateShow(showMetadata.tmdbId(), Optional.of(showMetadata), genre, null);
+        return saveEpisode(lesson, show, seasonNumber, episodeNumber, episodeTitle, userId);
+    }
+
+    private UUID saveEpisode(
+            GeneratedLesson lesson,
+            ShowJpaEntity show,
+            int seasonNumber,
+            int episodeNumber,
+            String episodeTitle,
+            UUID userId) {
         log.info("Using show: {} ({})", show.getTitle(), show.getId());
 
         // 2. Check if episode already exists
@@ -90,11 +112,11 @@ public class LessonPersistenceAdapter implements LessonPersistencePort {
         if (existingEpisode.isPresent()) {
             log.warn("Episode already exists: {} S{}E{} - deleting existing content",
                     show.getTitle(), seasonNumber, episodeNumber);
-            deleteExistingEpisodeContent(existingEpisode.get().getId());
-            episodeRepository.delete(existingEpisode.get());
+            contentWriter.deleteEpisode(existingEpisode.get().getId());
+            evictCachedLessonAfterCommit(show.getSlug(), existingEpisode.get().getSlug());
         }
 
-        // 3. Create episode
+        // 3. Create episode (flushed so the batched child inserts can reference it)
         EpisodeJpaEntity episode = EpisodeJpaEntity.create(
                 show.getId(),
                 show.getSlug(),
@@ -103,83 +125,17 @@ public class LessonPersistenceAdapter implements LessonPersistencePort {
                 episodeTitle != null ? episodeTitle : "Episode " + episodeNumber,
                 "Generated lesson for " + show.getTitle()
         );
-            episodeRepository.save(episode);
-            log.info("Created episode: {}", episode.getSlug());
-
-            // 4. Save vocabulary
-            for (ExtractedVocabulary v : lesson.vocabulary()) {
-                VocabularyJpaEntity vocab = VocabularyJpaEntity.create(
-                        episode.getId(),
-                        v.term(),
-                        v.definition(),
-                        v.phonetic(),
-                        VocabularyCategory.fromString(v.category()),
-                        v.exampleSentence(),
-                        v.audioUrl()
-                );
-                vocabularyRepository.save(vocab);
-            }
-            log.info("Saved {} vocabulary items", lesson.vocabulary().size());
-
-            // 5. Save grammar points
-            for (ExtractedGrammar g : lesson.grammarPoints()) {
-                String examples = g.examples() != null ? String.join("; ", g.examples()) : "";
-                GrammarPointJpaEntity grammar = GrammarPointJpaEntity.create(
-                        episode.getId(),
-                        g.title(),
-                        g.explanation(),
-                        g.structure(),
-                        examples
-                );
-                grammarRepository.save(grammar);
-            }
-            log.info("Saved {} grammar points", lesson.grammarPoints().size());
+        episodeRepository.saveAndFlush(episode);
+        log.info("Created episode: {}", episode.getSlug());
 
-            // 6. Save expressions
-            for (ExtractedExpression e : lesson.expressions()) {
-                ExpressionJpaEntity expression = ExpressionJpaEntity.create(
-                        episode.getId(),
-                        e.phrase(),
-                        e.meaning(),
-                        e.context(),
-                        e.usageNote(),
-                        e.audioUrl()
-                );
-                expressionRepository.save(expression);
-            }
-            log.info("Saved {} expressions", lesson.expressions().size());
-
-            // 7. Save exercises
-            for (GeneratedExercise ex : lesson.exercises()) {
-                String optionsJson = null;
-                if (ex.options() != null) {
-                    try {
-                        optionsJson = objectMapper.writeValueAsString(ex.options());
-                    } catch (JsonProcessingException e) {
-                        optionsJson = String.join(",", ex.options());
-                    }
-                }
-                String matchingPairsJson = null;
-                if (ex.matchingPairs() != null) {
-                    try {
-                        matchingPairsJson = objectMapper.writeValueAsString(ex.matchingPairs());
-                    } catch (JsonProcessingException e) {
-                        log.warn("Failed to serialize matchingPairs", e);
-                    }
-                }
-                ExerciseJpaEntity exercise = ExerciseJpaEntity.create(
-                        episode.getId(),
-                        ExerciseType.valueOf(ex.type()),
-                        ex.question(),
-                        ex.correctAnswer(),
-                        optionsJson,
-                        matchingPairsJson,
-                        ex.points(),
-                        null // audioUrl generated separately
-                );
-                exerciseRepository.save(exercise);
-            }
-            log.info("Saved {} exercises", lesson.exercises().size());
+        // 4-7. Save lesson content, one batched statement per table
+        contentWriter.insertVocabulary(episode.getId(), lesson.vocabulary());
+        contentWriter.insertGrammarPoints(episode.getId(), lesson.grammarPoints());
+        contentWriter.insertExpressions(episode.getId(), lesson.expressions());
+        contentWriter.insertExercises(episode.getId(), lesson.exercises());
+        log.info("Saved {} vocabulary items, {} grammar points, {} expressions, {} exercises",
+                lesson.vocabulary().size(), lesson.grammarPoints().size(),
+                lesson.expressions().size(), lesson.exercises().size());
 
         // 8. Associate user with show
         userShowRepository.addUserShow(userId, show.getId());
@@ -188,17 +144,52 @@ public class LessonPersistenceAdapter implements LessonPersistencePort {
         return episode.getId();
     }
 
-    private void deleteExistingEpisodeContent(UUID episodeId) {
-        vocabularyRepository.deleteByEpisodeId(episodeId);
-        grammarRepository.deleteByEpisodeId(episodeId);
-        expressionRepository.deleteByEpisodeId(episodeId);
-        exerciseRepository.deleteByEpisodeId(episodeId);
+    @Override
+    @Transactional
+    public Optional<ExistingLesson> findExistingLesson(String tmdbId, int seasonNumber, int episodeNumber) {
+        return findShowByTmdbId(tmdbId)
+                .flatMap(show -> episodeRepository.findByShowIdAndSeasonNumberAndEpisodeNumber(
+                        show.getId(), seasonNumber, episodeNumber))
+                .map(episode -> new ExistingLesson(episode.getShowId(), episode.getId()));
+    }
+
+    /**
+     * Shows created before tmdb_id existed have none; they are found by the
+     * slug of their TMDB title instead and get the ID recorded, so the next
+     * lookup is an index hit.
+     */
+    private Optional<ShowJpaEntity> findShowByTmdbId(String tmdbId) {
+        Optional<ShowJpaEntity> show = showRepository.findFirstByTmdbId(tmdbId);
+        if (show.isPresent()) {
+            return show;
+        }
+        // A show with another TMDB ID under the same slug is a different show
+        Optional<ShowJpaEntity> legacyShow = showMetadataPort.getShowWithSeasons(tmdbId)
+                .flatMap(metadata -> showRepository.findBySlug(generateSlug(metadata.title())))
+                .filter(candidate -> candidate.getTmdbId() == null);
+        legacyShow.ifPresent(candidate -> showRepository.assignTmdbIdIfMissing(candidate.getId(), tmdbId));
+        return legacyShow;
     }
 
-    private ShowJpaEntity findOrCreateShow(String tmdbId, String genre, String imageUrl) {
-        // Fetch show details from TMDB
-        var showWithSeasons = showMetadataPort.getShowWithSeasons(tmdbId);
+    /**
+     * Evict the regenerated lesson once the new content is committed, so readers
+     * never re-cache the old content between the eviction and the commit.
+     */
+    private void evictCachedLessonAfterCommit(String showSlug, String episodeSlug) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            lessonCachePort.evict(showSlug, episodeSlug);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lessonCachePort.evict(showSlug, episodeSlug);
+            }
+        });
+    }
 
+    private ShowJpaEntity findOrCreateShow(String tmdbId, Optional<ShowMetadataPort.ShowWithSeasons> showWithSeasons,
+                                           String genre, String imageUrl) {
         String showTitle;
         String description;
         String posterUrl;
@@ -228,24 +219,30 @@ public class LessonPersistenceAdapter implements LessonPersistencePort {
 
         String slug = generateSlug(showTitle);
 
-        return showRepository.findBySlug(slug)
-                .orElseGet(() -> {
-                    log.info("Creating new show: {}", showTitle);
-                    Show show = Show.builder()
-                            .id(ShowId.of(UUID.randomUUID()))
-                            .title(showTitle)
-                            .slug(slug)
-                            .description(description)
-                            .genre(mapGenre(genre))
-                            .accent(AccentType.AMERICAN)
-                            .difficulty(DifficultyLevel.INTERMEDIATE)
-                            .imageUrl(posterUrl)
-                            .totalSeasons(totalSeasons)
-                            .totalEpisodes(totalEpisodes)
-                            .tmdbId(tmdbId)
-                            .build();
-                    return showRepository.save(ShowJpaEntity.fromDomain(show));
-                });
+        Optional<ShowJpaEntity> existing = showRepository.findBySlug(slug);
+        if (existing.isPresent()) {
+            // Backfill shows created before tmdb_id existed so findExistingLesson can see them
+            if (existing.get().getTmdbId() == null) {
+                showRepository.assignTmdbIdIfMissing(existing.get().getId(), tmdbId);
+            }
+            return existing.get();
+        }
+
+        log.info("Creating new show: {}", showTitle);
+        Show show = Show.builder()
+                .id(ShowId.of(UUID.randomUUID()))
+                .title(showTitle)
+                .slug(slug)
+                .description(description)
+                .genre(mapGenre(genre))
+                .accent(AccentType.AMERICAN)
+                .difficulty(DifficultyLevel.INTERMEDIATE)
+                .imageUrl(posterUrl)
+                .totalSeasons(totalSeasons)
+                .totalEpisodes(totalEpisodes)
+                .tmdbId(tmdbId)
+                .build();
+        return showRepository.save(ShowJpaEntity.fromDomain(show));
     }
 
     private String generateSlug(String title) {
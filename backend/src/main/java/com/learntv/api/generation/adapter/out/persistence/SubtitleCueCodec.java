@@ -0,0 +1,173 @@
+package com.learntv.api.generation.adapter.out.persistence;
+
+import com.learntv.api.generation.domain.model.SubtitleCue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary encoding of an episode's cues for the {@code episode_scripts.cues} column.
+ *
+ * The layout is columnar, with variable-length integers throughout:
+ * <pre>
+ * version, cue count,
+ * start times (delta from the previous cue), durations,
+ * speaker dictionary (count, then each name), speaker index per cue (0 = none),
+ * texts (UTF-8 byte length, then the bytes)
+ * </pre>
+ * Start deltas and durations are a few hundred to a few thousand milliseconds,
+ * so each takes two bytes, and a recurring speaker is stored once.
+ *
+ * Decoding rejects an unknown version and truncated or corrupt input with an
+ * {@link IllegalArgumentException}.
+ */
+public final class SubtitleCueCodec {
+
+    private static final int VERSION = 1;
+
+    private SubtitleCueCodec() {
+    }
+
+    public static byte[] encode(List<SubtitleCue> cues) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 + cues.size() * 48);
+        writeVarint(out, VERSION);
+        writeVarint(out, cues.size());
+
+        long previousStart = 0;
+        for (SubtitleCue cue : cues) {
+            writeSigned(out, cue.startMillis() - previousStart);
+            previousStart = cue.startMillis();
+        }
+        for (SubtitleCue cue : cues) {
+            writeSigned(out, cue.endMillis() - cue.startMillis());
+        }
+
+        Map<String, Integer> speakerIndexes = new HashMap<>();
+        List<String> speakers = new ArrayList<>();
+        for (SubtitleCue cue : cues) {
+            if (cue.speaker() != null && speakerIndexes.putIfAbsent(cue.speaker(), speakers.size() + 1) == null) {
+                speakers.add(cue.speaker());
+            }
+        }
+        writeVarint(out, speakers.size());
+        speakers.forEach(speaker -> writeString(out, speaker));
+        for (SubtitleCue cue : cues) {
+            writeVarint(out, cue.speaker() != null ? speakerIndexes.get(cue.speaker()) : 0);
+        }
+
+        cues.forEach(cue -> writeString(out, cue.text()));
+        return out.toByteArray();
+    }
+
+    public static List<SubtitleCue> decode(byte[] encoded) {
+        try {
+            return decode(ByteBuffer.wrap(encoded));
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated cue encoding", e);
+        }
+    }
+
+    private static List<SubtitleCue> decode(ByteBuffer in) {
+        int version = (int) readVarint(in);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported cue encoding version: " + version);
+        }
+        // Every cue takes at least four bytes (start, duration, speaker, text length)
+        int count = readLength(in, 4);
+
+        long[] starts = new long[count];
+        long previousStart = 0;
+        for (int i = 0; i < count; i++) {
+            previousStart += readSigned(in);
+            starts[i] = previousStart;
+        }
+        long[] ends = new long[count];
+        for (int i = 0; i < count; i++) {
+            ends[i] = starts[i] + readSigned(in);
+        }
+
+        String[] speakers = new String[readLength(in, 1) + 1];
+        for (int i = 1; i < speakers.length; i++) {
+            speakers[i] = readString(in);
+        }
+        int[] speakerIndexes = new int[count];
+        for (int i = 0; i < count; i++) {
+            long index = readVarint(in);
+            if (index >= speakers.length) {
+                throw new IllegalArgumentException("Corrupt cue encoding: speaker " + index + " of " + (speakers.length - 1));
+            }
+            speakerIndexes[i] = (int) index;
+        }
+
+        List<SubtitleCue> cues = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cues.add(new SubtitleCue(starts[i], ends[i], speakers[speakerIndexes[i]], readString(in)));
+        }
+        if (in.hasRemaining()) {
+            throw new IllegalArgumentException("Corrupt cue encoding: " + in.remaining() + " trailing bytes");
+        }
+        return List.copyOf(cues);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static void writeSigned(ByteArrayOutputStream out, long value) {
+        writeVarint(out, (value << 1) ^ (value >> 63));
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    private static long readVarint(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            if (shift > 63) {
+                throw new IllegalArgumentException("Corrupt cue encoding: varint too long");
+            }
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    private static long readSigned(ByteBuffer in) {
+        long value = readVarint(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * A count or length, checked against what is left to read so corrupt input
+     * can't make us allocate more than the input could hold.
+     */
+    private static int readLength(ByteBuffer in, int minBytesEach) {
+        long length = readVarint(in);
+        if (length > in.remaining() / minBytesEach) {
+            throw new IllegalArgumentException("Truncated cue encoding");
+        }
+        return (int) length;
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = readLength(in, 1);
+        String value = new String(in.array(), in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+}
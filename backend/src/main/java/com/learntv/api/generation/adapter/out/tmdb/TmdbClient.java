@@ -3,6 +3,8 @@ package com.learntv.api.generation.adapter.out.tmdb;
 import com.learntv.api.generation.adapter.out.tmdb.dto.TmdbSearchResponse;
 import com.learntv.api.generation.adapter.out.tmdb.dto.TmdbSeasonDetails;
 import com.learntv.api.generation.adapter.out.tmdb.dto.TmdbShowDetails;
+import com.learntv.api.shared.config.ExternalApiConcurrencyLimiter;
+import com.learntv.api.shared.config.ExternalApiConcurrencyLimiter.ExternalApi;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -18,10 +20,13 @@ public class TmdbClient {
 
     private final WebClient tmdbWebClient;
     private final String apiKey;
+    private final ExternalApiConcurrencyLimiter concurrencyLimiter;
 
-    public TmdbClient(WebClient tmdbWebClient, TmdbConfig tmdbConfig) {
+    public TmdbClient(WebClient tmdbWebClient, TmdbConfig tmdbConfig,
+                      ExternalApiConcurrencyLimiter concurrencyLimiter) {
         this.tmdbWebClient = tmdbWebClient;
         this.apiKey = tmdbConfig.getApiKey();
+        this.concurrencyLimiter = concurrencyLimiter;
     }
 
     /**
@@ -34,7 +39,7 @@ public class TmdbClient {
         log.debug("Searching TMDB for shows with query: {}", query);
 
         try {
-            TmdbSearchResponse response = tmdbWebClient.get()
+            TmdbSearchResponse response = concurrencyLimiter.call(ExternalApi.TMDB, () -> tmdbWebClient.get()
                     .uri(uriBuilder -> uriBuilder
                             .path("/search/tv")
                             .queryParam("api_key", apiKey)
@@ -45,7 +50,7 @@ public class TmdbClient {
                             .build())
                     .retrieve()
                     .bodyToMono(TmdbSearchResponse.class)
-                    .block();
+                    .block());
 
             log.debug("TMDB search returned {} results",
                     response != null ? response.total_results() : 0);
@@ -71,7 +76,7 @@ public class TmdbClient {
         log.debug("Fetching TMDB show details for ID: {}", tmdbId);
 
         try {
-            TmdbShowDetails response = tmdbWebClient.get()
+            TmdbShowDetails response = concurrencyLimiter.call(ExternalApi.TMDB, () -> tmdbWebClient.get()
                     .uri(uriBuilder -> uriBuilder
                             .path("/tv/{id}")
                             .queryParam("api_key", apiKey)
@@ -80,7 +85,7 @@ public class TmdbClient {
                             .build(tmdbId))
                     .retrieve()
                     .bodyToMono(TmdbShowDetails.class)
-                    .block();
+                    .block());
 
             log.debug("TMDB show details retrieved for: {}",
                     response != null ? response.name() : "unknown");
@@ -110,7 +115,7 @@ public class TmdbClient {
         log.debug("Fetching TMDB season details for show {} season {}", tmdbId, seasonNumber);
 
         try {
-            TmdbSeasonDetails response = tmdbWebClient.get()
+            TmdbSeasonDetails response = concurrencyLimiter.call(ExternalApi.TMDB, () -> tmdbWebClient.get()
                     .uri(uriBuilder -> uriBuilder
                             .path("/tv/{id}/season/{season_number}")
                             .queryParam("api_key", apiKey)
@@ -118,7 +123,7 @@ public class TmdbClient {
                             .build(tmdbId, seasonNumber))
                     .retrieve()
                     .bodyToMono(TmdbSeasonDetails.class)
-                    .block();
+                    .block());
 
             log.debug("TMDB season details retrieved with {} episodes",
                     response != null && response.episodes() != null
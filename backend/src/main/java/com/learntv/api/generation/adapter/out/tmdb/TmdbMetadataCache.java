@@ -0,0 +1,157 @@
+package com.learntv.api.generation.adapter.out.tmdb;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache of TMDB metadata, with a TTL per kind of resource.
+ *
+ * Concurrent lookups of the same missing entry are coalesced: the first caller
+ * loads it and the others wait for that result, so a burst of identical
+ * requests costs one TMDB call. Empty results (not found, or TMDB errors) are
+ * not cached. Each resource keeps an LRU of at most {@code max-entries} entries.
+ *
+ * Lookups are counted in the {@code tmdb.metadata.cache} meter, tagged by
+ * resource and result (hit, miss, or coalesced).
+ */
+@Component
+public class TmdbMetadataCache {
+
+    public enum Resource {
+        SEARCH, SHOW, SEASON, EXTERNAL_IDS
+    }
+
+    private record Key(Resource resource, Object id) {}
+
+    private record Entry(Object value, Instant expiresAt) {}
+
+    private final Map<Resource, Duration> ttls = new EnumMap<>(Resource.class);
+    private final Map<Resource, Map<Object, Entry>> entries = new EnumMap<>(Resource.class);
+    private final Map<Key, CompletableFuture<Optional<?>>> inFlight = new ConcurrentHashMap<>();
+    private final Map<Resource, Map<String, Counter>> lookups = new EnumMap<>(Resource.class);
+    private final Clock clock;
+
+    public TmdbMetadataCache(MeterRegistry meterRegistry,
+                             @Value("${external-apis.tmdb.cache.max-entries:2000}") int maxEntries,
+                             @Value("${external-apis.tmdb.cache.ttl.search:1h}") Duration searchTtl,
+                             @Value("${external-apis.tmdb.cache.ttl.show:12h}") Duration showTtl,
+                             @Value("${external-apis.tmdb.cache.ttl.season:24h}") Duration seasonTtl,
+                             @Value("${external-apis.tmdb.cache.ttl.external-ids:7d}") Duration externalIdsTtl) {
+        this(meterRegistry, maxEntries, Map.of(
+                Resource.SEARCH, searchTtl,
+                Resource.SHOW, showTtl,
+                Resource.SEASON, seasonTtl,
+                Resource.EXTERNAL_IDS, externalIdsTtl), Clock.systemUTC());
+    }
+
+    TmdbMetadataCache(MeterRegistry meterRegistry, int maxEntries, Map<Resource, Duration> ttls, Clock clock) {
+        this.clock = clock;
+        for (Resource resource : Resource.values()) {
+            this.ttls.put(resource, ttls.get(resource));
+            this.entries.put(resource, new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                    return size() > maxEntries;
+                }
+            });
+            Map<String, Counter> counters = new LinkedHashMap<>();
+            for (String result : new String[]{"hit", "miss", "coalesced"}) {
+                counters.put(result, Counter.builder("tmdb.metadata.cache")
+                        .description("TMDB metadata cache lookups")
+                        .tag("resource", resource.name().toLowerCase())
+                        .tag("result", result)
+                        .register(meterRegistry));
+            }
+            this.lookups.put(resource, counters);
+        }
+    }
+
+    public Duration ttl(Resource resource) {
+        return ttls.get(resource);
+    }
+
+    /**
+     * The cached value for {@code id}, or the result of {@code loader}, which is
+     * cached if present. Only one loader runs at a time per key.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> Optional<V> get(Resource resource, Object id, Supplier<Optional<V>> loader) {
+        Optional<V> cached = (Optional<V>) lookup(resource, id);
+        if (cached.isPresent()) {
+            count(resource, "hit");
+            return cached;
+        }
+
+        Key key = new Key(resource, id);
+        CompletableFuture<Optional<?>> load = new CompletableFuture<>();
+        CompletableFuture<Optional<?>> running = inFlight.putIfAbsent(key, load);
+        if (running != null) {
+            count(resource, "coalesced");
+            return (Optional<V>) join(running);
+        }
+
+        count(resource, "miss");
+        try {
+            Optional<V> loaded = loader.get();
+            loaded.ifPresent(value -> store(resource, id, value));
+            load.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+
+    private Optional<?> lookup(Resource resource, Object id) {
+        Map<Object, Entry> cache = entries.get(resource);
+        synchronized (cache) {
+            Entry entry = cache.get(id);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (!entry.expiresAt().isAfter(clock.instant())) {
+                cache.remove(id);
+                return Optional.empty();
+            }
+            return Optional.of(entry.value());
+        }
+    }
+
+    private void store(Resource resource, Object id, Object value) {
+        Map<Object, Entry> cache = entries.get(resource);
+        synchronized (cache) {
+            cache.put(id, new Entry(value, clock.instant().plus(ttls.get(resource))));
+        }
+    }
+
+    private void count(Resource resource, String result) {
+        lookups.get(resource).get(result).increment();
+    }
+
+    private static Optional<?> join(CompletableFuture<Optional<?>> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.learntv.api.generation.adapter.out.tmdb;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learntv.api.generation.application.port.out.ShowMetadataPort.SeasonWithEpisodes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Season episode lists fetched from TMDB, kept in the tmdb_season_episodes table
+ * so they survive restarts and are shared between instances.
+ *
+ * Like the other caches, the store never fails a request: database and
+ * serialization errors are logged and treated as a miss.
+ */
+@Component
+public class TmdbSeasonStore {
+
+    private static final Logger log = LoggerFactory.getLogger(TmdbSeasonStore.class);
+
+    private static final String SELECT_SEASON = """
+            SELECT season FROM tmdb_season_episodes
+            WHERE tmdb_id = ? AND season_number = ? AND fetched_at > ?
+            """;
+
+    private static final String UPSERT_SEASON = """
+            INSERT INTO tmdb_season_episodes (tmdb_id, season_number, season, fetched_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (tmdb_id, season_number) DO UPDATE
+            SET season = EXCLUDED.season, fetched_at = EXCLUDED.fetched_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public TmdbSeasonStore(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * The stored season, if it was fetched after {@code fetchedAfter}.
+     */
+    public Optional<SeasonWithEpisodes> find(String tmdbId, int seasonNumber, Instant fetchedAfter) {
+        try {
+            List<String> rows = jdbcTemplate.queryForList(SELECT_SEASON, String.class,
+                    tmdbId, seasonNumber, Timestamp.from(fetchedAfter));
+            if (rows.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(rows.get(0), SeasonWithEpisodes.class));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to read stored season {} S{}: {}", tmdbId, seasonNumber, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void save(SeasonWithEpisodes season) {
+        try {
+            jdbcTemplate.update(UPSERT_SEASON, season.tmdbId(), season.seasonNumber(),
+                    objectMapper.writeValueAsString(season), Timestamp.from(Instant.now()));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to store season {} S{}: {}", season.tmdbId(), season.seasonNumber(), e.getMessage());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.learntv.api.generation.adapter.out.tmdb;
 
+import com.learntv.api.generation.adapter.out.tmdb.TmdbMetadataCache.Resource;
+import com.learntv.api.generation.adapter.out.tmdb.dto.TmdbExternalIds;
 import com.learntv.api.generation.adapter.out.tmdb.dto.TmdbSeasonDetails;
 import com.learntv.api.generation.adapter.out.tmdb.dto.TmdbShowDetails;
 import com.learntv.api.generation.adapter.out.tmdb.dto.TmdbShowResult;
@@ -8,10 +10,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * TMDB-backed show metadata. Every lookup goes through {@link TmdbMetadataCache};
+ * season episode lists are also persisted in {@link TmdbSeasonStore}, so warm
+ * season listings need no network.
+ */
 @Component
 public class TmdbShowMetadataAdapter implements ShowMetadataPort {
 
@@ -19,21 +27,26 @@ public class TmdbShowMetadataAdapter implements ShowMetadataPort {
     private static final String TMDB_IMAGE_BASE_URL = "https://image.tmdb.org/t/p/w500";
 
     private final TmdbClient tmdbClient;
+    private final TmdbMetadataCache cache;
+    private final TmdbSeasonStore seasonStore;
 
-    public TmdbShowMetadataAdapter(TmdbClient tmdbClient) {
+    public TmdbShowMetadataAdapter(TmdbClient tmdbClient, TmdbMetadataCache cache, TmdbSeasonStore seasonStore) {
         this.tmdbClient = tmdbClient;
+        this.cache = cache;
+        this.seasonStore = seasonStore;
     }
 
     @Override
     public List<ShowSearchResult> searchShows(String query) {
         log.debug("Searching for shows with query: {}", query);
 
-        return tmdbClient.searchShows(query)
-                .map(response -> response.results() != null
-                        ? response.results().stream()
-                                .map(this::mapToShowSearchResult)
-                                .toList()
-                        : Collections.<ShowSearchResult>emptyList())
+        String normalizedQuery = query == null ? "" : query.strip().toLowerCase();
+        return cache.get(Resource.SEARCH, normalizedQuery, () -> tmdbClient.searchShows(query)
+                        .map(response -> response.results() != null
+                                ? response.results().stream()
+                                        .map(this::mapToShowSearchResult)
+                                        .toList()
+                                : Collections.<ShowSearchResult>emptyList()))
                 .orElse(Collections.emptyList());
     }
 
@@ -45,23 +58,17 @@ public class TmdbShowMetadataAdapter implements ShowMetadataPort {
         try {
             int tmdbIdInt = Integer.parseInt(tmdbId);
 
-            Optional<TmdbShowDetails> showDetails = tmdbClient.getShowDetails(tmdbIdInt);
+            Optional<String> imdbId = cache.get(Resource.EXTERNAL_IDS, tmdbIdInt, () -> showDetails(tmdbIdInt)
+                    .map(TmdbShowDetails::external_ids)
+                    .map(TmdbExternalIds::imdb_id));
 
-            if (showDetails.isEmpty()) {
-                log.warn("Could not find show details for TMDB ID: {}", tmdbId);
+            if (imdbId.isEmpty()) {
+                log.warn("No IMDB ID found for TMDB ID: {}", tmdbId);
                 return null;
             }
 
-            TmdbShowDetails details = showDetails.get();
-
-            if (details.external_ids() != null && details.external_ids().imdb_id() != null) {
-                String imdbId = details.external_ids().imdb_id();
-                log.debug("Found IMDB ID: {} for TMDB ID: {}", imdbId, tmdbId);
-                return imdbId;
-            }
-
-            log.warn("No IMDB ID found in external IDs for TMDB ID: {}", tmdbId);
-            return null;
+            log.debug("Found IMDB ID: {} for TMDB ID: {}", imdbId.get(), tmdbId);
+            return imdbId.get();
 
         } catch (NumberFormatException e) {
             log.error("Invalid TMDB ID format: {}", tmdbId);
@@ -115,7 +122,7 @@ public class TmdbShowMetadataAdapter implements ShowMetadataPort {
 
         try {
             int tmdbIdInt = Integer.parseInt(tmdbId);
-            return tmdbClient.getShowDetails(tmdbIdInt)
+            return showDetails(tmdbIdInt)
                     .map(this::mapToShowWithSeasons);
         } catch (NumberFormatException e) {
             log.error("Invalid TMDB ID format: {}", tmdbId);
@@ -129,27 +136,49 @@ public class TmdbShowMetadataAdapter implements ShowMetadataPort {
 
         try {
             int tmdbIdInt = Integer.parseInt(tmdbId);
-
-            // Get show details for the title
-            Optional<TmdbShowDetails> showDetails = tmdbClient.getShowDetails(tmdbIdInt);
-            if (showDetails.isEmpty()) {
-                log.warn("Show not found for TMDB ID: {}", tmdbId);
-                return Optional.empty();
-            }
-
-            // Get season details with episodes
-            return tmdbClient.getSeasonDetails(tmdbIdInt, seasonNumber)
-                    .map(seasonDetails -> mapToSeasonWithEpisodes(
-                            tmdbId,
-                            showDetails.get().name(),
-                            seasonDetails
-                    ));
+            return cache.get(Resource.SEASON, tmdbIdInt + ":" + seasonNumber,
+                            () -> loadSeason(tmdbId, tmdbIdInt, seasonNumber))
+                    .or(() -> staleSeason(tmdbId, seasonNumber));
         } catch (NumberFormatException e) {
             log.error("Invalid TMDB ID format: {}", tmdbId);
             return Optional.empty();
         }
     }
 
+    private Optional<TmdbShowDetails> showDetails(int tmdbId) {
+        return cache.get(Resource.SHOW, tmdbId, () -> tmdbClient.getShowDetails(tmdbId));
+    }
+
+    /**
+     * Season from the store while fresh, otherwise from TMDB. Empty if TMDB
+     * fails, so the failure isn't cached and the next lookup tries TMDB again.
+     */
+    private Optional<SeasonWithEpisodes> loadSeason(String tmdbId, int tmdbIdInt, int seasonNumber) {
+        Instant freshAfter = Instant.now().minus(cache.ttl(Resource.SEASON));
+        Optional<SeasonWithEpisodes> stored = seasonStore.find(tmdbId, seasonNumber, freshAfter);
+        if (stored.isPresent()) {
+            return stored;
+        }
+
+        // Show details (for the title) are usually cached already
+        Optional<SeasonWithEpisodes> fetched = showDetails(tmdbIdInt)
+                .flatMap(show -> tmdbClient.getSeasonDetails(tmdbIdInt, seasonNumber)
+                        .map(seasonDetails -> mapToSeasonWithEpisodes(tmdbId, show.name(), seasonDetails)));
+        if (fetched.isPresent()) {
+            seasonStore.save(fetched.get());
+            return fetched;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Whatever season the store holds, however old: better than none while TMDB is failing.
+     */
+    private Optional<SeasonWithEpisodes> staleSeason(String tmdbId, int seasonNumber) {
+        log.warn("Season not available from TMDB for TMDB ID: {}, season: {}", tmdbId, seasonNumber);
+        return seasonStore.find(tmdbId, seasonNumber, Instant.EPOCH);
+    }
+
     /**
      * Maps TMDB show details to domain ShowWithSeasons.
      */
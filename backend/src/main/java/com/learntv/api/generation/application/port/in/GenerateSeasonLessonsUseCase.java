@@ -0,0 +1,22 @@
+package com.learntv.api.generation.application.port.in;
+
+import com.learntv.api.generation.domain.model.GenerationBatch;
+
+/**
+ * Use case for generating the lessons of a whole season (or show) in one request.
+ *
+ * The implementation resolves the show's metadata once, creates one
+ * GenerationJob per episode under a parent GenerationBatch, and generates the
+ * episodes in the background.
+ */
+public interface GenerateSeasonLessonsUseCase {
+
+    /**
+     * Start generating every episode of the season (or show).
+     * Episodes that already have a lesson complete immediately; episodes
+     * already being generated are joined rather than generated twice.
+     *
+     * @return the batch, with the job tracking each episode
+     */
+    GenerationBatch startBatch(SeasonGenerationCommand command);
+}
@@ -0,0 +1,14 @@
+package com.learntv.api.generation.application.port.in;
+
+import com.learntv.api.generation.domain.model.GenerationBatch;
+
+import java.util.UUID;
+
+public interface GetGenerationBatchUseCase {
+
+    /**
+     * @return the batch with the current state of every episode's job
+     * @throws IllegalArgumentException if the batch does not exist
+     */
+    GenerationBatch getBatch(UUID batchId);
+}
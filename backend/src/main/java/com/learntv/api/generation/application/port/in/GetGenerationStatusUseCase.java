@@ -2,7 +2,16 @@ package com.learntv.api.generation.application.port.in;
 
 import com.learntv.api.generation.domain.model.GenerationJob;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface GetGenerationStatusUseCase {
     GenerationJob getStatus(UUID jobId);
+
+    /**
+     * Receive the job's current state, then every change until it completes or fails.
+     *
+     * @return handle that stops the updates
+     * @throws IllegalArgumentException if the job does not exist
+     */
+    Runnable watch(UUID jobId, Consumer<GenerationJob> listener);
 }
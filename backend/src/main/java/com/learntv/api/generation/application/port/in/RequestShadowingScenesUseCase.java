@@ -0,0 +1,22 @@
+package com.learntv.api.generation.application.port.in;
+
+import com.learntv.api.generation.domain.model.GenerationJob;
+
+import java.util.UUID;
+
+/**
+ * Use case for starting the async generation of an episode's shadowing scenes.
+ *
+ * Runs once per episode: a request made while a job is in flight joins that job.
+ */
+public interface RequestShadowingScenesUseCase {
+
+    /**
+     * Start generating shadowing scenes for a generated episode.
+     * This is an async operation - returns immediately with a job for tracking.
+     *
+     * @param episodeId ID of the episode whose lesson has been generated
+     * @return The new or in-flight GenerationJob (use its ID to poll status)
+     */
+    GenerationJob requestScenes(UUID episodeId, int seasonNumber, int episodeNumber);
+}
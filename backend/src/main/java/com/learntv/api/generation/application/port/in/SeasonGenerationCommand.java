@@ -0,0 +1,13 @@
+package com.learntv.api.generation.application.port.in;
+
+import java.util.UUID;
+
+/**
+ * @param seasonNumber season to generate, or null for every season of the show
+ */
+public record SeasonGenerationCommand(
+    String tmdbId,
+    Integer seasonNumber,
+    String genre,
+    UUID userId
+) {}
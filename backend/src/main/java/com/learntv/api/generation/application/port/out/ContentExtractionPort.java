@@ -1,5 +1,6 @@
 package com.learntv.api.generation.application.port.out;
 
+import com.learntv.api.generation.domain.model.ExtractedContent;
 import com.learntv.api.generation.domain.model.ExtractedExpression;
 import com.learntv.api.generation.domain.model.ExtractedGrammar;
 import com.learntv.api.generation.domain.model.ExtractedVocabulary;
@@ -10,4 +11,16 @@ public interface ContentExtractionPort {
     List<ExtractedVocabulary> extractVocabulary(String script, String genre);
     List<ExtractedGrammar> extractGrammar(String script);
     List<ExtractedExpression> extractExpressions(String script);
+
+    /**
+     * Vocabulary, grammar and expressions of the same script together.
+     */
+    ExtractedContent extractAll(String script, String genre);
+
+    /**
+     * Whether {@link #extractAll} asks for all three sections in one request. If
+     * not, callers gain nothing from it over running the three extractions
+     * side by side.
+     */
+    boolean extractsAllInOneRequest();
 }
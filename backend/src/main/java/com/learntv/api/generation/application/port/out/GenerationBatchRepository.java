@@ -0,0 +1,28 @@
+package com.learntv.api.generation.application.port.out;
+
+import com.learntv.api.generation.domain.model.GenerationBatch;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository port for season/show generation batches.
+ */
+public interface GenerationBatchRepository {
+
+    /**
+     * Save a new batch and the jobs of its episodes.
+     *
+     * @param seasonNumber the season generated, or null for the whole show
+     * @param userId user who requested the batch
+     * @return The created batch
+     */
+    GenerationBatch create(String tmdbId, String showTitle, Integer seasonNumber, UUID userId,
+                           List<GenerationBatch.EpisodeJob> episodes);
+
+    /**
+     * Find a batch with the persisted state of every episode's job, in one query.
+     */
+    Optional<GenerationBatch> findById(UUID batchId);
+}
@@ -2,6 +2,7 @@ package com.learntv.api.generation.application.port.out;
 
 import com.learntv.api.generation.domain.model.GenerationJob;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -21,6 +22,60 @@ public interface GenerationJobRepository {
      */
     GenerationJob createJob(String imdbId, int seasonNumber, int episodeNumber);
 
+    /**
+     * Record a job that completed without any work, because the episode's lesson
+     * was already generated. The job is saved in its terminal state.
+     *
+     * @param episodeId ID of the existing episode
+     * @return The completed job
+     */
+    GenerationJob createCompletedJob(String imdbId, int seasonNumber, int episodeNumber, UUID episodeId);
+
+    /**
+     * Start a job for the episode unless one is already in flight (single-flight).
+     *
+     * At most one PENDING/PROCESSING job exists per episode; that row is the
+     * generation lease. If another job holds a live lease, the user is recorded
+     * as waiting on it and that job is returned instead. Expired leases (jobs
+     * orphaned by a crash or restart) are failed first so the episode can be claimed.
+     *
+     * @param userId user asking for the lesson, granted the show when the job completes
+     * @return the claimed or joined job, and whether the caller must run it
+     */
+    GenerationClaim claimJob(String imdbId, int seasonNumber, int episodeNumber, UUID userId);
+
+    /**
+     * Start a shadowing scene job for a generated episode unless one is already
+     * in flight. Same single-flight lease as {@link #claimJob}, keyed on the episode.
+     *
+     * @return the claimed or joined job, and whether the caller must run it
+     */
+    GenerationClaim claimShadowingJob(UUID episodeId, int seasonNumber, int episodeNumber);
+
+    /**
+     * IMDB ID recorded by the lesson job that generated the episode, if any.
+     */
+    Optional<String> findImdbIdByEpisodeId(UUID episodeId);
+
+    /**
+     * Users who joined the job while it was in flight.
+     */
+    List<UUID> findWaitingUserIds(UUID jobId);
+
+    /**
+     * Fail the job if it is still active but its lease has expired.
+     *
+     * @return true if the job was failed by this call
+     */
+    boolean expireLease(UUID jobId);
+
+    /**
+     * Extend the lease of a job that is about to start work after waiting in a queue.
+     *
+     * @return false if the job is no longer active (its lease already expired)
+     */
+    boolean renewLease(UUID jobId);
+
     /**
      * Save or update a generation job.
      *
@@ -61,4 +116,10 @@ public interface GenerationJobRepository {
      * @param errorMessage Error message describing the failure
      */
     void markFailed(UUID jobId, String errorMessage);
+
+    /**
+     * @param leader true if the caller created the job and must process it;
+     *               false if it joined a job already in flight
+     */
+    record GenerationClaim(GenerationJob job, boolean leader) {}
 }
@@ -2,6 +2,7 @@ package com.learntv.api.generation.application.port.out;
 
 import com.learntv.api.generation.domain.model.GeneratedLesson;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -34,4 +35,41 @@ public interface LessonPersistencePort {
             String imageUrl,
             UUID userId
     );
+
+    /**
+     * Save a generated lesson for a show whose TMDB details the caller already
+     * fetched, e.g. once for a whole season batch.
+     *
+     * @param lesson The generated lesson content
+     * @param show Show details and seasons from TMDB
+     * @param imdbId IMDB ID of the show
+     * @param seasonNumber Season number
+     * @param episodeNumber Episode number
+     * @param episodeTitle Episode title (optional)
+     * @param genre Show genre
+     * @param userId User ID to associate with the show
+     * @return The ID of the created episode
+     */
+    UUID save(
+            GeneratedLesson lesson,
+            ShowMetadataPort.ShowWithSeasons show,
+            String imdbId,
+            int seasonNumber,
+            int episodeNumber,
+            String episodeTitle,
+            String genre,
+            UUID userId
+    );
+
+    /**
+     * Find a lesson already generated for the episode, by the show's TMDB ID.
+     *
+     * @param tmdbId TMDB show ID
+     * @param seasonNumber Season number
+     * @param episodeNumber Episode number
+     * @return The existing episode and its show, if the lesson was generated before
+     */
+    Optional<ExistingLesson> findExistingLesson(String tmdbId, int seasonNumber, int episodeNumber);
+
+    record ExistingLesson(UUID showId, UUID episodeId) {}
 }
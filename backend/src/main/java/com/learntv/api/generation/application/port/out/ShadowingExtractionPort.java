@@ -1,13 +1,18 @@
 package com.learntv.api.generation.application.port.out;
 
 import com.learntv.api.generation.domain.model.ExtractedScene;
+import com.learntv.api.generation.domain.model.SceneCandidate;
 
 import java.util.List;
 
 public interface ShadowingExtractionPort {
 
+    /**
+     * Pick the best shadowing scenes among preselected candidates; each scene
+     * is taken from a single candidate.
+     */
     List<ExtractedScene> extractShadowingScenes(
-            String rawSrt,
+            List<SceneCandidate> candidates,
             List<String> vocabularyTerms,
             List<String> expressions
     );
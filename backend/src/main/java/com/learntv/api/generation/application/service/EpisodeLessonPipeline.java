@@ -0,0 +1,223 @@
+package com.learntv.api.generation.application.service;
+
+import com.learntv.api.catalog.application.port.UserShowRepository;
+import com.learntv.api.generation.application.port.in.RequestShadowingScenesUseCase;
+import com.learntv.api.generation.application.port.out.ContentExtractionPort;
+import com.learntv.api.generation.application.port.out.ExerciseGenerationPort;
+import com.learntv.api.generation.application.port.out.GenerationJobRepository;
+import com.learntv.api.generation.domain.exception.GenerationFailedException;
+import com.learntv.api.generation.domain.model.*;
+import com.learntv.api.generation.domain.service.EpisodeLessonGenerator;
+import com.learntv.api.learning.adapter.out.persistence.EpisodeJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * The per-episode part of lesson generation, shared by single-episode jobs
+ * ({@link AsyncGenerationProcessor}) and season batches ({@link SeasonGenerationProcessor}).
+ *
+ * Runs synchronously on the caller's thread. The extraction stages form a small
+ * stage graph: vocabulary, grammar and expression extraction only depend on the
+ * script, so they fan out in parallel on the content extraction executor, and
+ * exercise generation joins on all three. With the combined extraction mode
+ * the three come back from one request instead.
+ *
+ * Every stage renews the job's lease (generation.job-lease) as it starts or
+ * finishes, so a job that is still making progress is never expired and
+ * taken over by a second run, however long it takes overall. A job whose
+ * lease was already expired stops at its next stage.
+ */
+@Service
+public class EpisodeLessonPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(EpisodeLessonPipeline.class);
+
+    private final JobProgressService jobProgressService;
+    private final ContentExtractionPort contentExtractionPort;
+    private final ExerciseGenerationPort exerciseGenerationPort;
+    private final EpisodeLessonGenerator episodeLessonGenerator;
+    private final EpisodeJpaRepository episodeJpaRepository;
+    private final UserShowRepository userShowRepository;
+    private final GenerationJobRepository jobRepository;
+    private final RequestShadowingScenesUseCase requestShadowingScenesUseCase;
+    private final Executor contentExtractionExecutor;
+
+    public EpisodeLessonPipeline(
+            JobProgressService jobProgressService,
+            ContentExtractionPort contentExtractionPort,
+            ExerciseGenerationPort exerciseGenerationPort,
+            EpisodeLessonGenerator episodeLessonGenerator,
+            EpisodeJpaRepository episodeJpaRepository,
+            UserShowRepository userShowRepository,
+            GenerationJobRepository jobRepository,
+            RequestShadowingScenesUseCase requestShadowingScenesUseCase,
+            @Qualifier("contentExtractionExecutor") Executor contentExtractionExecutor) {
+        this.jobProgressService = jobProgressService;
+        this.contentExtractionPort = contentExtractionPort;
+        this.exerciseGenerationPort = exerciseGenerationPort;
+        this.episodeLessonGenerator = episodeLessonGenerator;
+        this.episodeJpaRepository = episodeJpaRepository;
+        this.userShowRepository = userShowRepository;
+        this.jobRepository = jobRepository;
+        this.requestShadowingScenesUseCase = requestShadowingScenesUseCase;
+        this.contentExtractionExecutor = contentExtractionExecutor;
+    }
+
+    /**
+     * Extract content from a fetched script and compose the lesson,
+     * reporting progress on the job up to exercise generation.
+     */
+    public GeneratedLesson generateLesson(UUID jobId, String scriptText, String genre) {
+        startStage(jobId, GenerationProgressStep.PARSING_SCRIPT);
+        log.info("Script fetched for job: {} ({} characters)", jobId, scriptText.length());
+
+        // Steps 2-4: Extract vocabulary, grammar and expressions
+        ExtractedContent content = extractContent(jobId, scriptText, genre);
+        List<ExtractedVocabulary> vocabulary = content.vocabulary();
+        List<ExtractedGrammar> grammar = content.grammar();
+        List<ExtractedExpression> expressions = content.expressions();
+        log.info("Extracted {} vocabulary items, {} grammar points, {} expressions for job: {}",
+                vocabulary.size(), grammar.size(), expressions.size(), jobId);
+
+        // Step 5: Generate exercises
+        startStage(jobId, GenerationProgressStep.GENERATING_EXERCISES);
+        List<GeneratedExercise> exercises = exerciseGenerationPort.generateExercises(
+                vocabulary, grammar, expressions
+        );
+        log.info("Generated {} exercises for job: {}", exercises.size(), jobId);
+
+        // Step 6: Compose lesson using domain service
+        GeneratedLesson lesson = episodeLessonGenerator.generate(
+                vocabulary,
+                grammar,
+                expressions,
+                exercises
+        );
+
+        // Log quality metrics
+        if (!episodeLessonGenerator.isHighQuality(lesson)) {
+            log.warn("Lesson quality below optimal for job: {} - consider reviewing content", jobId);
+        }
+
+        int totalPoints = episodeLessonGenerator.calculateTotalPoints(lesson);
+        log.info("Lesson composed for job: {} with {} total points", jobId, totalPoints);
+        return lesson;
+    }
+
+    /**
+     * Report the job's next step, first extending its lease to cover it.
+     *
+     * @throws GenerationFailedException if the lease already expired (the job
+     *         was failed, and the episode may have been claimed by another job)
+     */
+    public void startStage(UUID jobId, GenerationProgressStep step) {
+        renewLease(jobId);
+        jobProgressService.updateProgress(jobId, step);
+    }
+
+    /**
+     * Mark the job completed, give every user who joined it access to the show,
+     * and start precomputing the episode's shadowing scenes.
+     */
+    public void complete(UUID jobId, UUID episodeId) {
+        jobProgressService.updateProgress(jobId, GenerationProgressStep.COMPLETED);
+        jobProgressService.markCompleted(jobId, episodeId);
+        episodeJpaRepository.findById(episodeId).ifPresent(episode -> {
+            grantWaitingUsers(jobId, episode.getShowId());
+            requestShadowingScenes(episodeId, episode.getSeasonNumber(), episode.getEpisodeNumber());
+        });
+        log.info("Job completed successfully: {}", jobId);
+    }
+
+    public void fail(UUID jobId, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        log.error("Job failed: {}", jobId, cause);
+        jobProgressService.clearParallelStages(jobId);
+        jobProgressService.markFailed(jobId, cause.getMessage());
+    }
+
+    /**
+     * Run the three extraction stages in parallel, or as one stage when the
+     * extraction port gets all three sections from a single request.
+     */
+    private ExtractedContent extractContent(UUID jobId, String scriptText, String genre) {
+        List<GenerationProgressStep> steps = List.of(
+                GenerationProgressStep.EXTRACTING_VOCABULARY,
+                GenerationProgressStep.EXTRACTING_GRAMMAR,
+                GenerationProgressStep.EXTRACTING_EXPRESSIONS
+        );
+        jobProgressService.startParallelStages(jobId, steps);
+
+        if (contentExtractionPort.extractsAllInOneRequest()) {
+            ExtractedContent content = contentExtractionPort.extractAll(scriptText, genre);
+            renewLease(jobId);
+            steps.forEach(step -> jobProgressService.completeParallelStage(jobId, step));
+            return content;
+        }
+
+        CompletableFuture<List<ExtractedVocabulary>> vocabularyStage = runStage(
+                jobId, GenerationProgressStep.EXTRACTING_VOCABULARY,
+                () -> contentExtractionPort.extractVocabulary(scriptText, genre));
+        CompletableFuture<List<ExtractedGrammar>> grammarStage = runStage(
+                jobId, GenerationProgressStep.EXTRACTING_GRAMMAR,
+                () -> contentExtractionPort.extractGrammar(scriptText));
+        CompletableFuture<List<ExtractedExpression>> expressionsStage = runStage(
+                jobId, GenerationProgressStep.EXTRACTING_EXPRESSIONS,
+                () -> contentExtractionPort.extractExpressions(scriptText));
+
+        CompletableFuture.allOf(vocabularyStage, grammarStage, expressionsStage).join();
+        return new ExtractedContent(vocabularyStage.join(), grammarStage.join(), expressionsStage.join());
+    }
+
+    /**
+     * Run one independent stage of the pipeline on the content extraction executor,
+     * reporting its completion to the job's parallel stage group.
+     */
+    private <T> CompletableFuture<T> runStage(UUID jobId, GenerationProgressStep step, Supplier<T> stage) {
+        return CompletableFuture.supplyAsync(() -> {
+            T result = stage.get();
+            renewLease(jobId);
+            jobProgressService.completeParallelStage(jobId, step);
+            return result;
+        }, contentExtractionExecutor);
+    }
+
+    private void renewLease(UUID jobId) {
+        if (!jobRepository.renewLease(jobId)) {
+            throw new GenerationFailedException("Generation lease of job " + jobId + " expired");
+        }
+    }
+
+    /**
+     * The lesson is already saved and its job completed, so a failure here must not
+     * fail the job; the shadowing endpoint starts the scenes on demand instead.
+     */
+    private void requestShadowingScenes(UUID episodeId, int seasonNumber, int episodeNumber) {
+        try {
+            requestShadowingScenesUseCase.requestScenes(episodeId, seasonNumber, episodeNumber);
+        } catch (Exception e) {
+            log.warn("Could not start shadowing scenes for episode {}: {}", episodeId, e.getMessage());
+        }
+    }
+
+    /**
+     * Give every user who joined this job while it ran access to the show.
+     * Runs after the job is marked completed, when no one else can join it.
+     */
+    private void grantWaitingUsers(UUID jobId, UUID showId) {
+        List<UUID> waiting = jobRepository.findWaitingUserIds(jobId);
+        waiting.forEach(userId -> userShowRepository.addUserShow(userId, showId));
+        if (!waiting.isEmpty()) {
+            log.info("Granted show {} to {} users waiting on job {}", showId, waiting.size(), jobId);
+        }
+    }
+}
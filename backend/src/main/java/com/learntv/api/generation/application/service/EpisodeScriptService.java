@@ -2,6 +2,8 @@ package com.learntv.api.generation.application.service;
 
 import com.learntv.api.generation.adapter.out.persistence.EpisodeScriptEntity;
 import com.learntv.api.generation.adapter.out.persistence.EpisodeScriptRepository;
+import com.learntv.api.generation.adapter.out.persistence.SubtitleCueCodec;
+import com.learntv.api.generation.domain.model.SubtitleCue;
 import com.learntv.api.generation.domain.service.SrtParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,6 +11,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -46,9 +49,31 @@ public class EpisodeScriptService {
                 });
     }
 
+    /**
+     * Get the timed cues of a stored script.
+     * Scripts stored before cues were kept are parsed from their raw content
+     * once, and the cues saved with them.
+     *
+     * @return the cues, or empty if the script is not stored yet
+     */
+    @Transactional
+    public Optional<List<SubtitleCue>> getCues(String imdbId, int season, int episode, String language) {
+        return repository.findByImdbIdAndSeasonNumberAndEpisodeNumberAndLanguage(
+                        imdbId, season, episode, language)
+                .map(script -> {
+                    if (script.getCues() != null) {
+                        return SubtitleCueCodec.decode(script.getCues());
+                    }
+                    log.info("Backfilling cues for {} S{}E{} ({})", imdbId, season, episode, language);
+                    List<SubtitleCue> cues = srtParser.parseCues(script.getRawContent());
+                    script.setCues(SubtitleCueCodec.encode(cues));
+                    return cues;
+                });
+    }
+
     /**
      * Store a newly downloaded script permanently.
-     * Parses the SRT content and stores both raw and parsed versions.
+     * Parses the SRT content and stores the raw version, the parsed text and its timed cues.
      *
      * @param imdbId     the IMDB ID
      * @param season     season number
@@ -63,6 +88,7 @@ public class EpisodeScriptService {
 
         // Parse the SRT content
         String parsedText = srtParser.parsePreservingGroups(rawContent);
+        List<SubtitleCue> cues = srtParser.parseCues(rawContent);
 
         // Check if we already have this stored (shouldn't happen in normal flow)
         Optional<EpisodeScriptEntity> existing = repository
@@ -82,11 +108,13 @@ public class EpisodeScriptService {
                 language,
                 rawContent,
                 parsedText,
+                SubtitleCueCodec.encode(cues),
                 Instant.now()
         );
 
         repository.save(entity);
-        log.info("Stored script for {} S{}E{}, {} chars", imdbId, season, episode, parsedText.length());
+        log.info("Stored script for {} S{}E{}, {} chars, {} cues",
+                imdbId, season, episode, parsedText.length(), cues.size());
 
         return parsedText;
     }
@@ -1,5 +1,6 @@
 package com.learntv.api.generation.application.service;
 
+import com.learntv.api.catalog.application.port.UserShowRepository;
 import com.learntv.api.generation.application.port.in.GenerateEpisodeLessonUseCase;
 import com.learntv.api.generation.application.port.in.GenerationCommand;
 import com.learntv.api.generation.application.port.out.*;
@@ -12,7 +13,8 @@ import org.springframework.stereotype.Service;
  * Use Case implementation for generating episode lessons.
  *
  * RESPONSIBILITIES:
- * - Create and track generation jobs
+ * - Create and track generation jobs, one in flight per episode
+ * - Complete the job on the spot when the episode's lesson already exists
  * - Delegate async processing to AsyncGenerationProcessor
  *
  * The actual generation work is done by AsyncGenerationProcessor
@@ -25,14 +27,20 @@ public class GenerateEpisodeLessonService implements GenerateEpisodeLessonUseCas
 
     private final GenerationJobRepository jobRepository;
     private final ShowMetadataPort showMetadataPort;
+    private final LessonPersistencePort lessonPersistencePort;
+    private final UserShowRepository userShowRepository;
     private final AsyncGenerationProcessor asyncProcessor;
 
     public GenerateEpisodeLessonService(
             GenerationJobRepository jobRepository,
             ShowMetadataPort showMetadataPort,
+            LessonPersistencePort lessonPersistencePort,
+            UserShowRepository userShowRepository,
             AsyncGenerationProcessor asyncProcessor) {
         this.jobRepository = jobRepository;
         this.showMetadataPort = showMetadataPort;
+        this.lessonPersistencePort = lessonPersistencePort;
+        this.userShowRepository = userShowRepository;
         this.asyncProcessor = asyncProcessor;
     }
 
@@ -41,24 +49,42 @@ public class GenerateEpisodeLessonService implements GenerateEpisodeLessonUseCas
         log.info("Starting lesson generation for TMDB ID: {}, S{}E{}",
                 command.tmdbId(), command.seasonNumber(), command.episodeNumber());
 
-        // Get IMDB ID from TMDB
-        String imdbId = showMetadataPort.getImdbId(
+        // Lesson already generated: grant access and hand back a completed job
+        var existing = lessonPersistencePort.findExistingLesson(
                 command.tmdbId(),
                 command.seasonNumber(),
                 command.episodeNumber()
         );
-
-        if (imdbId == null) {
-            throw new IllegalArgumentException(
-                    "Could not find IMDB ID for TMDB ID: " + command.tmdbId());
+        if (existing.isPresent()) {
+            userShowRepository.addUserShow(command.userId(), existing.get().showId());
+            // The job that generated it knows the IMDB ID; TMDB is only asked for lessons older than jobs
+            String imdbId = jobRepository.findImdbIdByEpisodeId(existing.get().episodeId())
+                    .orElseGet(() -> requireImdbId(command));
+            GenerationJob job = jobRepository.createCompletedJob(
+                    imdbId,
+                    command.seasonNumber(),
+                    command.episodeNumber(),
+                    existing.get().episodeId()
+            );
+            log.info("Reused existing episode: {} for job: {}", existing.get().episodeId(), job.id());
+            return job;
         }
 
-        // Create job and return immediately
-        GenerationJob job = jobRepository.createJob(
+        String imdbId = requireImdbId(command);
+
+        // Create job (or join the one already generating this episode) and return immediately
+        GenerationJobRepository.GenerationClaim claim = jobRepository.claimJob(
                 imdbId,
                 command.seasonNumber(),
-                command.episodeNumber()
+                command.episodeNumber(),
+                command.userId()
         );
+        GenerationJob job = claim.job();
+
+        if (!claim.leader()) {
+            log.info("Joined in-flight generation job: {} for IMDB ID: {}", job.id(), imdbId);
+            return job;
+        }
 
         log.info("Created generation job: {} for IMDB ID: {}", job.id(), imdbId);
 
@@ -67,4 +93,17 @@ public class GenerateEpisodeLessonService implements GenerateEpisodeLessonUseCas
 
         return job;
     }
+
+    private String requireImdbId(GenerationCommand command) {
+        String imdbId = showMetadataPort.getImdbId(
+                command.tmdbId(),
+                command.seasonNumber(),
+                command.episodeNumber()
+        );
+        if (imdbId == null) {
+            throw new IllegalArgumentException(
+                    "Could not find IMDB ID for TMDB ID: " + command.tmdbId());
+        }
+        return imdbId;
+    }
 }
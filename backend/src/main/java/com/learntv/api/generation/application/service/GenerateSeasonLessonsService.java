@@ -0,0 +1,141 @@
+package com.learntv.api.generation.application.service;
+
+import com.learntv.api.catalog.application.port.UserShowRepository;
+import com.learntv.api.generation.application.port.in.GenerateSeasonLessonsUseCase;
+import com.learntv.api.generation.application.port.in.SeasonGenerationCommand;
+import com.learntv.api.generation.application.port.out.*;
+import com.learntv.api.generation.application.port.out.ShowMetadataPort.Season;
+import com.learntv.api.generation.application.port.out.ShowMetadataPort.ShowWithSeasons;
+import com.learntv.api.generation.domain.model.GenerationBatch;
+import com.learntv.api.generation.domain.model.GenerationJob;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Use Case implementation for generating a whole season (or show).
+ *
+ * Resolves the show, its IMDB ID and its episode list from TMDB once for the
+ * whole batch, then sets up one job per episode the same way single-episode
+ * generation does: existing lessons complete on the spot, episodes already in
+ * flight are joined, and the rest are claimed and handed to
+ * {@link SeasonGenerationProcessor}.
+ */
+@Service
+public class GenerateSeasonLessonsService implements GenerateSeasonLessonsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(GenerateSeasonLessonsService.class);
+
+    private final ShowMetadataPort showMetadataPort;
+    private final GenerationJobRepository jobRepository;
+    private final GenerationBatchRepository batchRepository;
+    private final LessonPersistencePort lessonPersistencePort;
+    private final UserShowRepository userShowRepository;
+    private final SeasonGenerationProcessor batchProcessor;
+    private final int maxEpisodes;
+
+    public GenerateSeasonLessonsService(
+            ShowMetadataPort showMetadataPort,
+            GenerationJobRepository jobRepository,
+            GenerationBatchRepository batchRepository,
+            LessonPersistencePort lessonPersistencePort,
+            UserShowRepository userShowRepository,
+            SeasonGenerationProcessor batchProcessor,
+            @Value("${generation.batch.max-episodes:50}") int maxEpisodes) {
+        this.showMetadataPort = showMetadataPort;
+        this.jobRepository = jobRepository;
+        this.batchRepository = batchRepository;
+        this.lessonPersistencePort = lessonPersistencePort;
+        this.userShowRepository = userShowRepository;
+        this.batchProcessor = batchProcessor;
+        this.maxEpisodes = maxEpisodes;
+    }
+
+    @Override
+    public GenerationBatch startBatch(SeasonGenerationCommand command) {
+        log.info("Starting batch generation for TMDB ID: {}, season: {}",
+                command.tmdbId(), command.seasonNumber() != null ? command.seasonNumber() : "all");
+
+        ShowWithSeasons show = showMetadataPort.getShowWithSeasons(command.tmdbId())
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Could not find show for TMDB ID: " + command.tmdbId()));
+
+        // Season 0 holds specials, which are only generated when asked for explicitly
+        List<Season> seasons = show.seasons().stream()
+                .filter(season -> command.seasonNumber() != null
+                        ? season.seasonNumber() == command.seasonNumber()
+                        : season.seasonNumber() > 0)
+                .toList();
+        if (seasons.isEmpty()) {
+            throw new IllegalArgumentException("Season " + command.seasonNumber()
+                    + " not found for TMDB ID: " + command.tmdbId());
+        }
+
+        int plannedEpisodes = seasons.stream().mapToInt(Season::episodeCount).sum();
+        if (plannedEpisodes > maxEpisodes) {
+            throw new IllegalArgumentException("Batch of " + plannedEpisodes
+                    + " episodes exceeds the limit of " + maxEpisodes + "; generate one season at a time");
+        }
+
+        String imdbId = showMetadataPort.getImdbId(command.tmdbId(), seasons.get(0).seasonNumber(), 1);
+        if (imdbId == null) {
+            throw new IllegalArgumentException(
+                    "Could not find IMDB ID for TMDB ID: " + command.tmdbId());
+        }
+
+        List<GenerationBatch.EpisodeJob> episodes = new ArrayList<>();
+        List<SeasonGenerationProcessor.EpisodeWork> work = new ArrayList<>();
+        for (Season season : seasons) {
+            var seasonEpisodes = showMetadataPort.getSeasonEpisodes(command.tmdbId(), season.seasonNumber())
+                    .map(ShowMetadataPort.SeasonWithEpisodes::episodes)
+                    .orElse(List.of());
+            for (ShowMetadataPort.Episode episode : seasonEpisodes) {
+                GenerationJob job = setUpEpisode(command, imdbId, season.seasonNumber(), episode, work);
+                episodes.add(new GenerationBatch.EpisodeJob(
+                        season.seasonNumber(), episode.episodeNumber(), episode.title(), job));
+            }
+        }
+        if (episodes.isEmpty()) {
+            throw new IllegalArgumentException("No episodes found for TMDB ID: " + command.tmdbId());
+        }
+
+        GenerationBatch batch = batchRepository.create(
+                command.tmdbId(), show.title(), command.seasonNumber(), command.userId(), episodes);
+        log.info("Created batch {} for {}: {} episodes, {} to generate",
+                batch.id(), show.title(), episodes.size(), work.size());
+
+        if (!work.isEmpty()) {
+            batchProcessor.processBatch(batch.id(), imdbId, show, command.genre(), command.userId(), work);
+        }
+        return batch;
+    }
+
+    /**
+     * Get the job for one episode of the batch: a completed one if the lesson
+     * exists, the in-flight one if another request is generating it, or a new
+     * one added to {@code work}.
+     */
+    private GenerationJob setUpEpisode(SeasonGenerationCommand command, String imdbId, int seasonNumber,
+                                       ShowMetadataPort.Episode episode,
+                                       List<SeasonGenerationProcessor.EpisodeWork> work) {
+        var existing = lessonPersistencePort.findExistingLesson(
+                command.tmdbId(), seasonNumber, episode.episodeNumber());
+        if (existing.isPresent()) {
+            userShowRepository.addUserShow(command.userId(), existing.get().showId());
+            return jobRepository.createCompletedJob(
+                    imdbId, seasonNumber, episode.episodeNumber(), existing.get().episodeId());
+        }
+
+        GenerationJobRepository.GenerationClaim claim = jobRepository.claimJob(
+                imdbId, seasonNumber, episode.episodeNumber(), command.userId());
+        if (claim.leader()) {
+            work.add(new SeasonGenerationProcessor.EpisodeWork(
+                    claim.job().id(), seasonNumber, episode.episodeNumber(), episode.title()));
+        }
+        return claim.job();
+    }
+}
@@ -0,0 +1,41 @@
+package com.learntv.api.generation.application.service;
+
+import com.learntv.api.generation.application.port.in.GetGenerationBatchUseCase;
+import com.learntv.api.generation.application.port.out.GenerationBatchRepository;
+import com.learntv.api.generation.domain.model.GenerationBatch;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Use Case implementation for querying a season batch.
+ */
+@Service
+public class GetGenerationBatchService implements GetGenerationBatchUseCase {
+
+    private final GenerationBatchRepository batchRepository;
+    private final JobEventBus jobEventBus;
+
+    public GetGenerationBatchService(GenerationBatchRepository batchRepository, JobEventBus jobEventBus) {
+        this.batchRepository = batchRepository;
+        this.jobEventBus = jobEventBus;
+    }
+
+    /**
+     * The batch and its jobs come from one query; episodes running in this
+     * instance then get their live progress from memory.
+     */
+    @Override
+    public GenerationBatch getBatch(UUID batchId) {
+        GenerationBatch batch = batchRepository.findById(batchId)
+                .orElseThrow(() -> new IllegalArgumentException("Batch not found: " + batchId));
+        return batch.withEpisodes(batch.episodes().stream()
+                .map(episode -> episode.job().isTerminal()
+                        ? episode
+                        : jobEventBus.latest(episode.job().id())
+                                .map(live -> new GenerationBatch.EpisodeJob(
+                                        episode.seasonNumber(), episode.episodeNumber(), episode.title(), live))
+                                .orElse(episode))
+                .toList());
+    }
+}
@@ -5,7 +5,9 @@ import com.learntv.api.generation.application.port.out.GenerationJobRepository;
 import com.learntv.api.generation.domain.model.GenerationJob;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Use Case implementation for querying generation job status.
@@ -14,14 +16,41 @@ import java.util.UUID;
 public class GetGenerationStatusService implements GetGenerationStatusUseCase {
 
     private final GenerationJobRepository jobRepository;
+    private final JobEventBus jobEventBus;
 
-    public GetGenerationStatusService(GenerationJobRepository jobRepository) {
+    public GetGenerationStatusService(GenerationJobRepository jobRepository, JobEventBus jobEventBus) {
         this.jobRepository = jobRepository;
+        this.jobEventBus = jobEventBus;
     }
 
+    /**
+     * Jobs running in this instance are answered from memory; the row only
+     * holds their progress as of the last persisted transition.
+     */
     @Override
     public GenerationJob getStatus(UUID jobId) {
-        return jobRepository.findById(jobId)
+        return jobEventBus.latest(jobId)
+                .or(() -> findPersisted(jobId))
                 .orElseThrow(() -> new IllegalArgumentException("Job not found: " + jobId));
     }
+
+    /**
+     * Read the row, failing it first if it is still active but its lease ran
+     * out (the instance running it died), so waiters are not left hanging.
+     */
+    private Optional<GenerationJob> findPersisted(UUID jobId) {
+        Optional<GenerationJob> job = jobRepository.findById(jobId);
+        if (job.isPresent() && !job.get().isTerminal() && jobRepository.expireLease(jobId)) {
+            return jobRepository.findById(jobId);
+        }
+        return job;
+    }
+
+    @Override
+    public Runnable watch(UUID jobId, Consumer<GenerationJob> listener) {
+        getStatus(jobId); // fail fast on unknown jobs
+        // Read the row at subscribe time: a job that finished in between is
+        // already committed there, since terminal states publish after commit
+        return jobEventBus.subscribe(jobId, listener, () -> findPersisted(jobId));
+    }
 }
@@ -0,0 +1,261 @@
+package com.learntv.api.generation.application.service;
+
+import com.learntv.api.generation.domain.model.GenerationJob;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * In-memory publish/subscribe channel for generation job state.
+ *
+ * Holds the latest snapshot of every job running in this instance and pushes
+ * each new snapshot to the job's subscribers. A job's channel is dropped once
+ * it publishes a terminal state; from then on the generation_jobs row is the
+ * source of truth. A channel that hears nothing for a whole job lease belongs
+ * to a job that died without finishing, and is dropped as well.
+ *
+ * Subscribers are called on {@code jobEventExecutor}, never on the publishing
+ * thread, so a slow client can't hold up the generation job or other clients.
+ * Each subscriber gets its snapshots in publish order; one that falls behind
+ * skips the intermediate ones and gets the latest.
+ */
+@Component
+public class JobEventBus {
+
+    private static final Logger log = LoggerFactory.getLogger(JobEventBus.class);
+
+    private final Map<UUID, Channel> channels = new ConcurrentHashMap<>();
+    private final Executor deliveryExecutor;
+    private final Duration idleTimeout;
+    private final Clock clock;
+    private final ScheduledExecutorService sweeper;
+
+    public JobEventBus(@Qualifier("jobEventExecutor") Executor deliveryExecutor,
+                       @Value("${generation.job-lease:30m}") Duration idleTimeout) {
+        this(deliveryExecutor, idleTimeout, Clock.systemUTC());
+    }
+
+    JobEventBus(Executor deliveryExecutor, Duration idleTimeout, Clock clock) {
+        this.deliveryExecutor = deliveryExecutor;
+        this.idleTimeout = idleTimeout;
+        this.clock = clock;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-events-sweep");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::closeIdleChannels, 1, 1, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    /**
+     * Latest snapshot published for a job still running in this instance.
+     */
+    public Optional<GenerationJob> latest(UUID jobId) {
+        Channel channel = channels.get(jobId);
+        if (channel == null) {
+            return Optional.empty();
+        }
+        channel.lock.lock();
+        try {
+            return Optional.ofNullable(channel.latest);
+        } finally {
+            channel.lock.unlock();
+        }
+    }
+
+    /**
+     * Record a new snapshot and hand it to every subscriber of the job.
+     */
+    public void publish(GenerationJob job) {
+        while (true) {
+            Channel channel = channels.computeIfAbsent(job.id(), id -> new Channel());
+            channel.lock.lock();
+            try {
+                if (channel.closed) continue;
+                channel.latest = job;
+                channel.lastPublished = clock.instant();
+                for (Subscriber subscriber : List.copyOf(channel.subscribers)) {
+                    subscriber.offer(job);
+                }
+                if (job.isTerminal()) {
+                    close(job.id(), channel);
+                }
+                return;
+            } finally {
+                channel.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Subscribe to a job's snapshots. The listener first receives the current
+     * state (the latest published snapshot, or {@code fallback} if nothing has
+     * been published in this instance), then every later snapshot until the job
+     * reaches a terminal state.
+     *
+     * @return handle that cancels the subscription; safe to call more than once
+     */
+    public Runnable subscribe(UUID jobId, Consumer<GenerationJob> listener,
+                              Supplier<Optional<GenerationJob>> fallback) {
+        while (true) {
+            Channel channel = channels.computeIfAbsent(jobId, id -> new Channel());
+            Subscriber subscriber = new Subscriber(jobId, channel, listener);
+            channel.lock.lock();
+            try {
+                if (channel.closed) continue;
+                Optional<GenerationJob> current = channel.latest != null
+                        ? Optional.of(channel.latest)
+                        : fallback.get();
+                current.ifPresent(subscriber::offer);
+                if (current.isEmpty() || current.get().isTerminal()) {
+                    closeIfIdle(jobId, channel);
+                    return () -> {};
+                }
+                channel.subscribers.add(subscriber);
+            } finally {
+                channel.lock.unlock();
+            }
+            return subscriber::cancel;
+        }
+    }
+
+    void closeIdleChannels() {
+        Instant cutoff = clock.instant().minus(idleTimeout);
+        channels.forEach((jobId, channel) -> {
+            channel.lock.lock();
+            try {
+                if (channel.latest != null && channel.lastPublished.isBefore(cutoff)) {
+                    log.warn("Dropping events channel of job {}: nothing published for {}", jobId, idleTimeout);
+                    close(jobId, channel);
+                }
+            } finally {
+                channel.lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Drop a channel that was only opened by subscribers and has nobody left to notify.
+     * Channels holding a published snapshot stay until the job finishes.
+     */
+    private void closeIfIdle(UUID jobId, Channel channel) {
+        if (channel.latest == null && channel.subscribers.isEmpty()) {
+            close(jobId, channel);
+        }
+    }
+
+    private void close(UUID jobId, Channel channel) {
+        channel.closed = true;
+        channel.subscribers.clear();
+        channels.remove(jobId, channel);
+    }
+
+    /**
+     * Guarded by {@link #lock}, which (unlike a monitor) doesn't pin a
+     * virtual thread while the subscribe fallback reads the database.
+     */
+    private static final class Channel {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final List<Subscriber> subscribers = new ArrayList<>();
+        private GenerationJob latest;
+        private Instant lastPublished;
+        private boolean closed;
+    }
+
+    /**
+     * One listener's mailbox: holds the newest snapshot not delivered yet, and
+     * drains it on the delivery executor one snapshot at a time.
+     */
+    private final class Subscriber {
+
+        private final UUID jobId;
+        private final Channel channel;
+        private final Consumer<GenerationJob> listener;
+        // Guarded by this; never held while the listener runs
+        private GenerationJob pending;
+        private boolean draining;
+        private volatile boolean cancelled;
+
+        private Subscriber(UUID jobId, Channel channel, Consumer<GenerationJob> listener) {
+            this.jobId = jobId;
+            this.channel = channel;
+            this.listener = listener;
+        }
+
+        void offer(GenerationJob job) {
+            synchronized (this) {
+                pending = job;
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                deliveryExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                log.debug("Dropping job {} subscriber: delivery rejected", jobId);
+                synchronized (this) {
+                    draining = false;
+                }
+                cancel();
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                GenerationJob next;
+                synchronized (this) {
+                    next = pending;
+                    pending = null;
+                    if (next == null || cancelled) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    listener.accept(next);
+                } catch (RuntimeException e) {
+                    log.debug("Dropping job {} subscriber: {}", jobId, e.getMessage());
+                    cancel();
+                }
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            channel.lock.lock();
+            try {
+                channel.subscribers.remove(this);
+                closeIfIdle(jobId, channel);
+            } finally {
+                channel.lock.unlock();
+            }
+        }
+    }
+}
@@ -3,20 +3,29 @@ package com.learntv.api.generation.application.service;
 import com.learntv.api.generation.application.port.out.GenerationJobRepository;
 import com.learntv.api.generation.domain.model.GenerationJob;
 import com.learntv.api.generation.domain.model.GenerationProgressStep;
+import com.learntv.api.generation.domain.model.ParallelStageProgress;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Service for updating job progress in separate transactions.
+ * Service for reporting job progress.
  *
- * Uses REQUIRES_NEW propagation so each progress update is committed
- * immediately and visible to polling clients, regardless of the
- * parent transaction's state.
+ * Intermediate progress lives in memory and is pushed to subscribers through
+ * {@link JobEventBus}; the generation_jobs row is only written when the job
+ * starts processing and when it completes or fails. Those writes use
+ * REQUIRES_NEW so they are committed regardless of the caller's transaction,
+ * and the terminal snapshot is published only after that commit.
  */
 @Service
 public class JobProgressService {
@@ -24,24 +33,51 @@ public class JobProgressService {
     private static final Logger log = LoggerFactory.getLogger(JobProgressService.class);
 
     private final GenerationJobRepository jobRepository;
+    private final JobEventBus jobEventBus;
+    private final Map<UUID, ParallelStageProgress> parallelStages = new ConcurrentHashMap<>();
 
-    public JobProgressService(GenerationJobRepository jobRepository) {
+    public JobProgressService(GenerationJobRepository jobRepository, JobEventBus jobEventBus) {
         this.jobRepository = jobRepository;
+        this.jobEventBus = jobEventBus;
     }
 
     /**
-     * Update job progress in a NEW transaction.
-     * This commits immediately, making progress visible to polling clients.
+     * Publish the job's new step. Only the first update of a job touches the
+     * database, to move the row from PENDING to PROCESSING.
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void updateProgress(UUID jobId, GenerationProgressStep step) {
-        GenerationJob job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new IllegalStateException("Job not found: " + jobId));
+        publishProgress(jobId, step.getProgress(), step.getDescription());
+    }
+
+    /**
+     * Start a group of steps that run at the same time.
+     * The job reports every running stage in its current step until the group finishes.
+     */
+    public void startParallelStages(UUID jobId, List<GenerationProgressStep> stages) {
+        ParallelStageProgress group = ParallelStageProgress.start(stages);
+        parallelStages.put(jobId, group);
+        publishProgress(jobId, group.progress(), group.description());
+    }
 
-        GenerationJob updated = job.updateProgress(step.getProgress(), step.getDescription());
-        jobRepository.save(updated);
+    /**
+     * Mark one stage of the running group as finished.
+     *
+     * The publish happens inside the map's atomic compute so concurrent stage
+     * completions for the same job can never report progress out of order.
+     */
+    public void completeParallelStage(UUID jobId, GenerationProgressStep stage) {
+        parallelStages.computeIfPresent(jobId, (id, group) -> {
+            ParallelStageProgress updated = group.complete(stage);
+            publishProgress(jobId, updated.progress(), updated.description());
+            return updated.isDone() ? null : updated;
+        });
+    }
 
-        log.debug("Job {} progress: {}% - {}", jobId, step.getProgress(), step.getDescription());
+    /**
+     * Forget any parallel stage group still tracked for the job (e.g. after a failure).
+     */
+    public void clearParallelStages(UUID jobId) {
+        parallelStages.remove(jobId);
     }
 
     /**
@@ -50,6 +86,7 @@ public class JobProgressService {
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void markCompleted(UUID jobId, UUID episodeId) {
         jobRepository.markCompleted(jobId, episodeId);
+        publishAfterCommit(currentSnapshot(jobId).markCompleted(episodeId));
         log.info("Job {} marked as COMPLETED with episode {}", jobId, episodeId);
     }
 
@@ -60,6 +97,45 @@ public class JobProgressService {
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void markFailed(UUID jobId, String errorMessage) {
         jobRepository.markFailed(jobId, errorMessage);
+        publishAfterCommit(currentSnapshot(jobId).markFailed(errorMessage));
         log.error("Job {} marked as FAILED: {}", jobId, errorMessage);
     }
+
+    private void publishProgress(UUID jobId, int progress, String description) {
+        Optional<GenerationJob> live = jobEventBus.latest(jobId);
+        GenerationJob updated = live.orElseGet(() -> loadJob(jobId)).updateProgress(progress, description);
+        if (live.isEmpty()) {
+            // First update for this job: persist the PENDING -> PROCESSING transition once
+            jobRepository.save(updated);
+        }
+        jobEventBus.publish(updated);
+
+        log.debug("Job {} progress: {}% - {}", jobId, progress, description);
+    }
+
+    private GenerationJob currentSnapshot(UUID jobId) {
+        return jobEventBus.latest(jobId).orElseGet(() -> loadJob(jobId));
+    }
+
+    private GenerationJob loadJob(UUID jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalStateException("Job not found: " + jobId));
+    }
+
+    /**
+     * Publish a terminal snapshot once the row recording it is committed, so a
+     * subscriber that re-reads the job never sees an older state than it was sent.
+     */
+    private void publishAfterCommit(GenerationJob job) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            jobEventBus.publish(job);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                jobEventBus.publish(job);
+            }
+        });
+    }
 }
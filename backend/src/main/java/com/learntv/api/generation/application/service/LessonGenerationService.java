@@ -7,6 +7,7 @@ import com.learntv.api.catalog.adapter.out.persistence.ShowJpaRepository;
 import com.learntv.api.catalog.domain.model.*;
 import com.learntv.api.generation.application.port.out.ContentExtractionPort;
 import com.learntv.api.generation.application.port.out.ExerciseGenerationPort;
+import com.learntv.api.generation.domain.model.ExtractedContent;
 import com.learntv.api.generation.domain.model.ExtractedExpression;
 import com.learntv.api.generation.domain.model.ExtractedGrammar;
 import com.learntv.api.generation.domain.model.ExtractedVocabulary;
@@ -108,8 +109,9 @@ public class LessonGenerationService {
         episodeRepository.save(episode);
         log.info("Created episode: {}", episode.getSlug());
 
-        // 5. Extract vocabulary
-        List<ExtractedVocabulary> extractedVocab = contentExtractionPort.extractVocabulary(script, request.genre());
+        // 5. Extract vocabulary, grammar and expressions
+        ExtractedContent content = contentExtractionPort.extractAll(script, request.genre());
+        List<ExtractedVocabulary> extractedVocab = content.vocabulary();
         for (ExtractedVocabulary v : extractedVocab) {
             VocabularyJpaEntity vocab = VocabularyJpaEntity.create(
                     episode.getId(),
@@ -124,8 +126,8 @@ public class LessonGenerationService {
         }
         log.info("Saved {} vocabulary items", extractedVocab.size());
 
-        // 6. Extract and save grammar points
-        List<ExtractedGrammar> extractedGrammar = contentExtractionPort.extractGrammar(script);
+        // 6. Save grammar points
+        List<ExtractedGrammar> extractedGrammar = content.grammar();
         for (ExtractedGrammar g : extractedGrammar) {
             String examples = g.examples() != null ? String.join("; ", g.examples()) : "";
             GrammarPointJpaEntity grammar = GrammarPointJpaEntity.create(
@@ -139,8 +141,8 @@ public class LessonGenerationService {
         }
         log.info("Saved {} grammar points", extractedGrammar.size());
 
-        // 7. Extract expressions
-        List<ExtractedExpression> extractedExpressions = contentExtractionPort.extractExpressions(script);
+        // 7. Save expressions
+        List<ExtractedExpression> extractedExpressions = content.expressions();
         for (ExtractedExpression e : extractedExpressions) {
             ExpressionJpaEntity expression = ExpressionJpaEntity.create(
                     episode.getId(),
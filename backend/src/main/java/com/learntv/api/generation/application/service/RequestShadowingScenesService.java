@@ -0,0 +1,51 @@
+package com.learntv.api.generation.application.service;
+
+import com.learntv.api.generation.application.port.in.RequestShadowingScenesUseCase;
+import com.learntv.api.generation.application.port.out.GenerationJobRepository;
+import com.learntv.api.generation.domain.model.GenerationJob;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Use Case implementation for shadowing scene jobs.
+ *
+ * Claims the episode's shadowing job (or joins the one in flight) and hands new
+ * jobs to ShadowingGenerationProcessor, so neither the read endpoint nor lesson
+ * generation waits on the LLM.
+ */
+@Service
+public class RequestShadowingScenesService implements RequestShadowingScenesUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestShadowingScenesService.class);
+
+    private final GenerationJobRepository jobRepository;
+    private final ShadowingGenerationProcessor processor;
+
+    public RequestShadowingScenesService(GenerationJobRepository jobRepository,
+                                         ShadowingGenerationProcessor processor) {
+        this.jobRepository = jobRepository;
+        this.processor = processor;
+    }
+
+    @Override
+    public GenerationJob requestScenes(UUID episodeId, int seasonNumber, int episodeNumber) {
+        GenerationJobRepository.GenerationClaim claim =
+                jobRepository.claimShadowingJob(episodeId, seasonNumber, episodeNumber);
+        GenerationJob job = claim.job();
+
+        if (!claim.leader()) {
+            log.info("Joined in-flight shadowing job: {} for episode: {}", job.id(), episodeId);
+            return job;
+        }
+
+        log.info("Created shadowing job: {} for episode: {}", job.id(), episodeId);
+
+        // Start async processing in separate bean (so @Async works)
+        processor.processScenes(job.id(), episodeId);
+
+        return job;
+    }
+}
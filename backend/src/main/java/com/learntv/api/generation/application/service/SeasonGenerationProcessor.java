@@ -0,0 +1,221 @@
+package com.learntv.api.generation.application.service;
+
+import com.learntv.api.generation.application.port.out.GenerationJobRepository;
+import com.learntv.api.generation.application.port.out.LessonPersistencePort;
+import com.learntv.api.generation.application.port.out.ShowMetadataPort.ShowWithSeasons;
+import com.learntv.api.generation.domain.model.GeneratedLesson;
+import com.learntv.api.generation.domain.model.GenerationProgressStep;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Async processor for season batches.
+ *
+ * Two pipelined stages:
+ * <ol>
+ *   <li>Subtitles for every episode are prefetched in order by a few workers,
+ *       well ahead of the LLM stages (OpenSubtitles is the slow, rate-limited part).</li>
+ *   <li>Episodes go through {@link EpisodeLessonPipeline} as soon as their script
+ *       is in, at most {@code generation.batch.max-concurrent-episodes} at a time,
+ *       and each is saved and completed as soon as it finishes.</li>
+ * </ol>
+ * Every episode reports progress on its own job; a failed episode does not stop the batch.
+ *
+ * Nothing here blocks a thread of {@code lessonGenerationExecutor} on other
+ * tasks of that executor: the batch only starts its episode lanes and returns,
+ * and each lane chains its next episode onto the previous one. With a small
+ * platform-thread pool, concurrent batches therefore queue up behind each
+ * other instead of deadlocking. Nor does a task ever run on the thread that
+ * hands it over: when an executor's queue is full, the task is handed over
+ * again a little later.
+ */
+@Service
+public class SeasonGenerationProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(SeasonGenerationProcessor.class);
+
+    private static final Duration RESUBMIT_DELAY = Duration.ofMillis(500);
+    // About a minute of refusals: the executor is shutting down, not just busy
+    private static final int MAX_DISPATCH_ATTEMPTS = 120;
+
+    private final JobProgressService jobProgressService;
+    private final ScriptFetchService scriptFetchService;
+    private final LessonPersistencePort lessonPersistencePort;
+    private final EpisodeLessonPipeline pipeline;
+    private final GenerationJobRepository jobRepository;
+    private final Executor lessonGenerationExecutor;
+    private final Executor contentExtractionExecutor;
+    private final int maxConcurrentEpisodes;
+    private final int prefetchWorkers;
+
+    public SeasonGenerationProcessor(
+            JobProgressService jobProgressService,
+            ScriptFetchService scriptFetchService,
+            LessonPersistencePort lessonPersistencePort,
+            EpisodeLessonPipeline pipeline,
+            GenerationJobRepository jobRepository,
+            @Qualifier("lessonGenerationExecutor") Executor lessonGenerationExecutor,
+            @Qualifier("contentExtractionExecutor") Executor contentExtractionExecutor,
+            @Value("${generation.batch.max-concurrent-episodes:2}") int maxConcurrentEpisodes,
+            @Value("${generation.batch.subtitle-prefetch-workers:3}") int prefetchWorkers) {
+        this.jobProgressService = jobProgressService;
+        this.scriptFetchService = scriptFetchService;
+        this.lessonPersistencePort = lessonPersistencePort;
+        this.pipeline = pipeline;
+        this.jobRepository = jobRepository;
+        this.lessonGenerationExecutor = lessonGenerationExecutor;
+        this.contentExtractionExecutor = contentExtractionExecutor;
+        this.maxConcurrentEpisodes = maxConcurrentEpisodes;
+        this.prefetchWorkers = prefetchWorkers;
+    }
+
+    /**
+     * An episode this batch must generate; its job was claimed by the batch.
+     */
+    public record EpisodeWork(UUID jobId, int seasonNumber, int episodeNumber, String title) {}
+
+    @Async("lessonGenerationExecutor")
+    public void processBatch(UUID batchId, String imdbId, ShowWithSeasons show, String genre, UUID userId,
+                             List<EpisodeWork> episodes) {
+        log.info("Starting batch {}: {} episodes of {}", batchId, episodes.size(), show.title());
+
+        Map<UUID, CompletableFuture<Optional<String>>> scripts = prefetchScripts(imdbId, episodes);
+
+        // The first save of a new show creates its row; saveLock keeps the batch's saves from racing on it
+        BatchRun run = new BatchRun(batchId, imdbId, show, genre, userId, scripts,
+                new ConcurrentLinkedQueue<>(episodes), new AtomicInteger(episodes.size()), new Object());
+        for (int lane = 0; lane < Math.min(maxConcurrentEpisodes, episodes.size()); lane++) {
+            startNextEpisode(run);
+        }
+    }
+
+    /**
+     * Everything a running batch's lanes share.
+     */
+    private record BatchRun(UUID batchId, String imdbId, ShowWithSeasons show, String genre, UUID userId,
+                            Map<UUID, CompletableFuture<Optional<String>>> scripts, Queue<EpisodeWork> remaining,
+                            AtomicInteger unfinished, Object saveLock) {}
+
+    /**
+     * Take the batch's next episode and run it on a generation thread once its
+     * script is in (or failed to come), then chain the lane's next episode.
+     */
+    private void startNextEpisode(BatchRun run) {
+        EpisodeWork episode = run.remaining().poll();
+        if (episode == null) {
+            return;
+        }
+        CompletableFuture<Optional<String>> script = run.scripts().get(episode.jobId());
+        script.handle((text, error) -> null)
+                .thenRunAsync(() -> processEpisode(run.imdbId(), run.show(), run.genre(), run.userId(), episode,
+                                script, run.saveLock()),
+                        task -> dispatch(lessonGenerationExecutor, task))
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        log.error("Batch {}: job {} ended abnormally", run.batchId(), episode.jobId(), error);
+                    }
+                    if (run.unfinished().decrementAndGet() == 0) {
+                        log.info("Batch {} finished", run.batchId());
+                    }
+                    startNextEpisode(run);
+                });
+    }
+
+    private void processEpisode(String imdbId, ShowWithSeasons show, String genre, UUID userId, EpisodeWork episode,
+                                CompletableFuture<Optional<String>> script, Object saveLock) {
+        UUID jobId = episode.jobId();
+        try {
+            // The job may have sat in the queue; make sure its lease still covers the work ahead
+            if (!jobRepository.renewLease(jobId)) {
+                log.warn("Skipping job {}: its lease expired while queued in the batch", jobId);
+                return;
+            }
+
+            jobProgressService.updateProgress(jobId, GenerationProgressStep.FETCHING_SCRIPT);
+            String scriptText = script.join().orElseThrow(() -> new RuntimeException(
+                    "Script not found for " + imdbId + " S" + episode.seasonNumber() + "E" + episode.episodeNumber()));
+
+            GeneratedLesson lesson = pipeline.generateLesson(jobId, scriptText, genre);
+
+            pipeline.startStage(jobId, GenerationProgressStep.SAVING);
+            UUID episodeId;
+            synchronized (saveLock) {
+                episodeId = lessonPersistencePort.save(lesson, show, imdbId, episode.seasonNumber(),
+                        episode.episodeNumber(), episode.title(), genre, userId);
+            }
+            log.info("Lesson persisted for job: {} as episode: {}", jobId, episodeId);
+
+            pipeline.complete(jobId, episodeId);
+        } catch (Exception e) {
+            pipeline.fail(jobId, e);
+        }
+    }
+
+    /**
+     * Start fetching every episode's script in order with a fixed number of
+     * workers, so subtitles stay ahead of the LLM stages without flooding the executor.
+     */
+    private Map<UUID, CompletableFuture<Optional<String>>> prefetchScripts(String imdbId, List<EpisodeWork> episodes) {
+        Map<UUID, CompletableFuture<Optional<String>>> scripts = new HashMap<>();
+        episodes.forEach(episode -> scripts.put(episode.jobId(), new CompletableFuture<>()));
+
+        Queue<EpisodeWork> queue = new ConcurrentLinkedQueue<>(episodes);
+        Runnable worker = () -> {
+            EpisodeWork episode;
+            while ((episode = queue.poll()) != null) {
+                CompletableFuture<Optional<String>> script = scripts.get(episode.jobId());
+                try {
+                    script.complete(scriptFetchService.fetchScript(
+                            imdbId, episode.seasonNumber(), episode.episodeNumber()));
+                } catch (RuntimeException e) {
+                    script.completeExceptionally(e);
+                }
+            }
+        };
+        for (int i = 0; i < Math.min(prefetchWorkers, episodes.size()); i++) {
+            dispatch(contentExtractionExecutor, worker);
+        }
+        return scripts;
+    }
+
+    /**
+     * Run the task on the executor. If its queue is full, try again after
+     * {@link #RESUBMIT_DELAY} rather than on the calling thread, which may be
+     * a thread the task itself would end up waiting on.
+     */
+    private static void dispatch(Executor executor, Runnable task) {
+        dispatch(executor, task, 1);
+    }
+
+    private static void dispatch(Executor executor, Runnable task, int attempt) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            if (attempt >= MAX_DISPATCH_ATTEMPTS) {
+                // Its job keeps its lease until it expires; the job is then reclaimed
+                log.error("Dropping batch task after {} rejected attempts", attempt, e);
+                return;
+            }
+            CompletableFuture.delayedExecutor(RESUBMIT_DELAY.toMillis(), TimeUnit.MILLISECONDS)
+                    .execute(() -> dispatch(executor, task, attempt + 1));
+        }
+    }
+}
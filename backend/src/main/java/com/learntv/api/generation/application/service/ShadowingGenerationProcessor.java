@@ -0,0 +1,48 @@
+package com.learntv.api.generation.application.service;
+
+import com.learntv.api.generation.domain.model.GenerationProgressStep;
+import com.learntv.api.learning.application.usecase.GenerateShadowingScenesUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Async processor for shadowing scene jobs.
+ *
+ * Separate from {@link RequestShadowingScenesService} so Spring's @Async proxy
+ * is not bypassed.
+ */
+@Service
+public class ShadowingGenerationProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(ShadowingGenerationProcessor.class);
+
+    private final JobProgressService jobProgressService;
+    private final GenerateShadowingScenesUseCase generateShadowingScenesUseCase;
+
+    public ShadowingGenerationProcessor(JobProgressService jobProgressService,
+                                        GenerateShadowingScenesUseCase generateShadowingScenesUseCase) {
+        this.jobProgressService = jobProgressService;
+        this.generateShadowingScenesUseCase = generateShadowingScenesUseCase;
+    }
+
+    @Async("lessonGenerationExecutor")
+    public void processScenes(UUID jobId, UUID episodeId) {
+        try {
+            log.info("Starting shadowing job: {} for episode: {}", jobId, episodeId);
+            jobProgressService.updateProgress(jobId, GenerationProgressStep.EXTRACTING_SCENES);
+
+            generateShadowingScenesUseCase.execute(episodeId);
+
+            jobProgressService.updateProgress(jobId, GenerationProgressStep.COMPLETED);
+            jobProgressService.markCompleted(jobId, episodeId);
+            log.info("Shadowing job completed: {}", jobId);
+        } catch (Exception e) {
+            log.error("Shadowing job failed: {}", jobId, e);
+            jobProgressService.markFailed(jobId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.learntv.api.generation.domain.model;
+
+import java.util.List;
+
+public record ExtractedContent(
+    List<ExtractedVocabulary> vocabulary,
+    List<ExtractedGrammar> grammar,
+    List<ExtractedExpression> expressions
+) {}
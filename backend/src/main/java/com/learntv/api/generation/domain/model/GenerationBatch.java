@@ -0,0 +1,78 @@
+package com.learntv.api.generation.domain.model;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Parent job for generating the lessons of a whole season (or show).
+ *
+ * Each episode is tracked by its own GenerationJob; the batch's status and
+ * progress are derived from them.
+ *
+ * @param seasonNumber the season generated, or null for every season of the show
+ */
+public record GenerationBatch(
+    UUID id,
+    String tmdbId,
+    String showTitle,
+    Integer seasonNumber,
+    Instant createdAt,
+    List<EpisodeJob> episodes
+) {
+
+    public GenerationBatch {
+        episodes = List.copyOf(episodes);
+    }
+
+    /**
+     * One episode of the batch and the job generating it. The job may be shared
+     * with other requests if the episode was already being generated.
+     */
+    public record EpisodeJob(
+        int seasonNumber,
+        int episodeNumber,
+        String title,
+        GenerationJob job
+    ) {}
+
+    /**
+     * Replace the episodes' jobs with fresher snapshots (e.g. live progress).
+     */
+    public GenerationBatch withEpisodes(List<EpisodeJob> updated) {
+        return new GenerationBatch(id, tmdbId, showTitle, seasonNumber, createdAt, updated);
+    }
+
+    /**
+     * PENDING until any episode starts, PROCESSING while any is unfinished,
+     * then COMPLETED, or FAILED if no episode succeeded.
+     */
+    public GenerationStatus status() {
+        if (episodes.stream().allMatch(e -> e.job().status() == GenerationStatus.PENDING)) {
+            return episodes.isEmpty() ? GenerationStatus.COMPLETED : GenerationStatus.PENDING;
+        }
+        if (episodes.stream().anyMatch(e -> !e.job().isTerminal())) {
+            return GenerationStatus.PROCESSING;
+        }
+        return episodes.stream().anyMatch(e -> e.job().isSuccessful())
+                ? GenerationStatus.COMPLETED
+                : GenerationStatus.FAILED;
+    }
+
+    /**
+     * Average progress over the episodes, counting finished ones (either way) as done.
+     */
+    public int progress() {
+        if (episodes.isEmpty()) {
+            return 100;
+        }
+        int total = episodes.stream()
+                .mapToInt(e -> e.job().isTerminal() ? 100 : e.job().progress())
+                .sum();
+        return total / episodes.size();
+    }
+
+    public long countByStatus(GenerationStatus status) {
+        return episodes.stream().filter(e -> e.job().status() == status).count();
+    }
+}
@@ -1,7 +1,7 @@
 package com.learntv.api.generation.domain.model;
 
 /**
- * Defines the progress steps for lesson generation.
+ * Defines the progress steps for lesson generation (and shadowing scene jobs).
  * Each step has a defined progress percentage and description.
  */
 public enum GenerationProgressStep {
@@ -11,6 +11,7 @@ public enum GenerationProgressStep {
     EXTRACTING_GRAMMAR(55, "Extracting grammar..."),
     EXTRACTING_EXPRESSIONS(70, "Extracting expressions..."),
     GENERATING_EXERCISES(85, "Generating exercises..."),
+    EXTRACTING_SCENES(50, "Extracting shadowing scenes..."),
     SAVING(95, "Saving..."),
     COMPLETED(100, "Completed");
 
@@ -0,0 +1,105 @@
+package com.learntv.api.generation.domain.model;
+
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Progress of a group of generation steps that run at the same time.
+ * Immutable: state transition methods return new instances.
+ *
+ * Progress follows the same scale as sequential generation: with k stages
+ * finished, the group reports the progress of its (k+1)-th step in
+ * ascending order, regardless of which stage actually finished first.
+ */
+public record ParallelStageProgress(
+    List<GenerationProgressStep> stages,
+    Set<GenerationProgressStep> completed
+) {
+
+    public ParallelStageProgress {
+        if (stages == null || stages.isEmpty()) {
+            throw new IllegalArgumentException("At least one stage is required");
+        }
+        stages = stages.stream()
+                .sorted(Comparator.comparingInt(GenerationProgressStep::getProgress))
+                .toList();
+        completed = completed.isEmpty()
+                ? EnumSet.noneOf(GenerationProgressStep.class)
+                : EnumSet.copyOf(completed);
+    }
+
+    /**
+     * Factory method to start a group with all stages running.
+     */
+    public static ParallelStageProgress start(List<GenerationProgressStep> stages) {
+        return new ParallelStageProgress(stages, Set.of());
+    }
+
+    /**
+     * Mark one stage of the group as finished.
+     */
+    public ParallelStageProgress complete(GenerationProgressStep stage) {
+        if (!stages.contains(stage)) {
+            throw new IllegalArgumentException("Stage " + stage + " is not part of this group");
+        }
+        Set<GenerationProgressStep> next = EnumSet.noneOf(GenerationProgressStep.class);
+        next.addAll(completed);
+        next.add(stage);
+        return new ParallelStageProgress(stages, next);
+    }
+
+    /**
+     * Stages that have started but not finished yet, in ascending progress order.
+     */
+    public List<GenerationProgressStep> running() {
+        return stages.stream()
+                .filter(stage -> !completed.contains(stage))
+                .toList();
+    }
+
+    /**
+     * Progress percentage to report for the group (0-100).
+     */
+    public int progress() {
+        int index = Math.min(completed.size(), stages.size() - 1);
+        return stages.get(index).getProgress();
+    }
+
+    /**
+     * Step description listing every stage still running,
+     * e.g. "Extracting grammar, expressions...".
+     */
+    public String description() {
+        List<GenerationProgressStep> running = running();
+        if (running.isEmpty()) {
+            return stages.get(stages.size() - 1).getDescription();
+        }
+        if (running.size() == 1) {
+            return running.get(0).getDescription();
+        }
+        String first = stripEllipsis(running.get(0).getDescription());
+        String verb = first.contains(" ") ? first.substring(0, first.indexOf(' ') + 1) : "";
+        return running.stream()
+                .map(stage -> stripEllipsis(stage.getDescription()))
+                .map(description -> !verb.isEmpty() && description.startsWith(verb)
+                        ? description.substring(verb.length())
+                        : description)
+                .collect(Collectors.joining(", ", verb, "..."));
+    }
+
+    /**
+     * Check if every stage of the group has finished.
+     */
+    public boolean isDone() {
+        return completed.size() == stages.size();
+    }
+
+    private static String stripEllipsis(String description) {
+        return description.endsWith("...")
+                ? description.substring(0, description.length() - 3)
+                : description;
+    }
+}
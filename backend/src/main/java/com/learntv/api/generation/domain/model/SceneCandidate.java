@@ -0,0 +1,20 @@
+package com.learntv.api.generation.domain.model;
+
+import java.util.List;
+
+/**
+ * A run of consecutive cues preselected as a possible shadowing scene.
+ *
+ * @param matchedTerms how many distinct lesson terms the cues contain
+ * @param score        the selector's ranking score; higher is better
+ */
+public record SceneCandidate(
+    List<SubtitleCue> cues,
+    int matchedTerms,
+    double score
+) {
+
+    public SceneCandidate {
+        cues = List.copyOf(cues);
+    }
+}
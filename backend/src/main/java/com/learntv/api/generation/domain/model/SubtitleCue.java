@@ -0,0 +1,23 @@
+package com.learntv.api.generation.domain.model;
+
+/**
+ * One timed subtitle entry of an episode script.
+ *
+ * @param speaker the speaker label the entry started with (e.g. "WALTER"), or null
+ * @param text    the cleaned dialogue, without the speaker label
+ */
+public record SubtitleCue(
+    long startMillis,
+    long endMillis,
+    String speaker,
+    String text
+) {
+
+    /**
+     * Start time as "HH:MM:SS", the format used for scene and vocabulary timestamps.
+     */
+    public String startTime() {
+        long seconds = startMillis / 1000;
+        return String.format("%02d:%02d:%02d", seconds / 3600, seconds / 60 % 60, seconds % 60);
+    }
+}
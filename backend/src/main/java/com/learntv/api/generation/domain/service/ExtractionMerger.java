@@ -0,0 +1,110 @@
+package com.learntv.api.generation.domain.service;
+
+import com.learntv.api.generation.domain.model.ExtractedExpression;
+import com.learntv.api.generation.domain.model.ExtractedGrammar;
+import com.learntv.api.generation.domain.model.ExtractedVocabulary;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Domain Service that merges what was extracted from each chunk of a script
+ * (see {@link ScriptChunker}) into one lesson-sized list.
+ *
+ * Items are deduplicated by term, phrase or grammar title, ignoring case,
+ * whitespace and surrounding punctuation; the first chunk's version of an item
+ * is kept. The merged items are then ranked by:
+ * <ol>
+ *   <li>the number of chunks they were extracted from</li>
+ *   <li>how often the term or phrase occurs in the whole script
+ *       (found with a {@link TermMatcher}; not used for grammar)</li>
+ *   <li>script order</li>
+ * </ol>
+ * and cut to the requested limit.
+ */
+public class ExtractionMerger {
+
+    // Items per lesson section, whichever way the sections were extracted
+    public static final int MAX_VOCABULARY = 25;
+    public static final int MAX_GRAMMAR = 6;
+    public static final int MAX_EXPRESSIONS = 10;
+
+    public List<ExtractedVocabulary> mergeVocabulary(List<List<ExtractedVocabulary>> chunks,
+                                                     String script, int limit) {
+        return merge(chunks, ExtractedVocabulary::term, script, limit);
+    }
+
+    public List<ExtractedExpression> mergeExpressions(List<List<ExtractedExpression>> chunks,
+                                                      String script, int limit) {
+        return merge(chunks, ExtractedExpression::phrase, script, limit);
+    }
+
+    public List<ExtractedGrammar> mergeGrammar(List<List<ExtractedGrammar>> chunks, int limit) {
+        return merge(chunks, ExtractedGrammar::title, null, limit);
+    }
+
+    private <T> List<T> merge(List<List<T>> chunks, Function<T, String> text, String script, int limit) {
+        Map<String, Ranked<T>> byKey = new LinkedHashMap<>();
+        for (List<T> chunk : chunks) {
+            for (T item : chunk) {
+                String key = key(text.apply(item));
+                if (key.isEmpty()) {
+                    continue;
+                }
+                Ranked<T> ranked = byKey.computeIfAbsent(key, k -> new Ranked<>(item, byKey.size()));
+                // Count each chunk once, even if the model listed the item twice
+                if (ranked.lastChunk != chunk) {
+                    ranked.lastChunk = chunk;
+                    ranked.chunks++;
+                }
+            }
+        }
+        List<Ranked<T>> ranked = new ArrayList<>(byKey.values());
+        if (script != null && !ranked.isEmpty()) {
+            countOccurrences(ranked, text, script);
+        }
+
+        ranked.sort(Comparator.<Ranked<T>>comparingInt(r -> r.chunks).reversed()
+                .thenComparing(Comparator.<Ranked<T>>comparingInt(r -> r.occurrences).reversed())
+                .thenComparingInt(r -> r.order));
+        return ranked.stream()
+                .limit(limit)
+                .map(r -> r.item)
+                .toList();
+    }
+
+    private <T> void countOccurrences(List<Ranked<T>> ranked, Function<T, String> text, String script) {
+        TermMatcher matcher = new TermMatcher(ranked.stream().map(r -> text.apply(r.item)).toList());
+        matcher.forEachMatch(script, term -> ranked.get(term).occurrences++);
+    }
+
+    /**
+     * "Break the ice!" and "break  the ice" are the same phrase.
+     */
+    private static String key(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", " ")
+                .replaceAll("^[\\p{Punct}\\s]+|[\\p{Punct}\\s]+$", "");
+    }
+
+    private static final class Ranked<T> {
+        private final T item;
+        private final int order;
+        private int chunks;
+        private int occurrences;
+        private List<T> lastChunk;
+
+        private Ranked(T item, int order) {
+            this.item = item;
+            this.order = order;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.learntv.api.generation.domain.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Domain Service that splits a parsed script into chunks that each fit a token
+ * budget, so extraction can cover the whole episode instead of a prefix.
+ *
+ * Chunks are cut only between subtitle groups (the blank-line separated blocks
+ * of {@link SrtParser#parsePreservingGroups(String)}), never inside one. If the
+ * script would need more than {@code maxChunks} chunks, the budget grows so
+ * that it fits in {@code maxChunks}: the whole episode is always covered.
+ *
+ * Token counts are estimated the way BPE tokenizers (cl100k/o200k) split
+ * English text: a short word and its leading space are one token, longer
+ * words take roughly one more token per four letters, digits go in groups of
+ * three and every other symbol counts as its own token. The estimate errs on
+ * the high side, so a chunk never ends up larger than the budget.
+ */
+public class ScriptChunker {
+
+    // Backstop for a single subtitle group larger than the token budget
+    public static final int MAX_CHUNK_CHARS = 60000;
+
+    private static final String GROUP_SEPARATOR = "\n\n";
+
+    private final int maxTokensPerChunk;
+    private final int maxChunks;
+
+    public ScriptChunker(int maxTokensPerChunk, int maxChunks) {
+        if (maxTokensPerChunk <= 0 || maxChunks <= 0) {
+            throw new IllegalArgumentException("Chunk budget and chunk count must be positive");
+        }
+        this.maxTokensPerChunk = maxTokensPerChunk;
+        this.maxChunks = maxChunks;
+    }
+
+    /**
+     * @param script parsed script text, subtitle groups separated by blank lines
+     * @return the script's groups packed into chunks, in order; empty for a blank script
+     */
+    public List<String> chunk(String script) {
+        if (script == null || script.isBlank()) {
+            return List.of();
+        }
+        String[] groups = script.split(GROUP_SEPARATOR);
+        int[] tokens = new int[groups.length];
+        long total = 0;
+        int largest = 0;
+        for (int i = 0; i < groups.length; i++) {
+            tokens[i] = estimateTokens(groups[i]) + 1; // + the separator
+            total += tokens[i];
+            largest = Math.max(largest, tokens[i]);
+        }
+
+        List<String> chunks = pack(groups, tokens, maxTokensPerChunk);
+        if (chunks.size() > maxChunks) {
+            // Every chunk but the last ends up more than (budget - largest group) full,
+            // so this budget always fits in maxChunks
+            chunks = pack(groups, tokens, (total + maxChunks - 1) / maxChunks + largest);
+        }
+        return chunks;
+    }
+
+    private static List<String> pack(String[] groups, int[] tokens, long budget) {
+        List<String> chunks = new ArrayList<>();
+        StringBuilder chunk = new StringBuilder();
+        long chunkTokens = 0;
+        for (int i = 0; i < groups.length; i++) {
+            if (groups[i].isBlank()) {
+                continue;
+            }
+            if (chunkTokens > 0 && chunkTokens + tokens[i] > budget) {
+                chunks.add(chunk.toString());
+                chunk.setLength(0);
+                chunkTokens = 0;
+            }
+            if (chunkTokens > 0) {
+                chunk.append(GROUP_SEPARATOR);
+            }
+            chunk.append(groups[i]);
+            chunkTokens += tokens[i];
+        }
+        if (chunkTokens > 0) {
+            chunks.add(chunk.toString());
+        }
+        return chunks;
+    }
+
+    /**
+     * Estimated number of tokens in {@code text} for a BPE tokenizer.
+     */
+    public static int estimateTokens(CharSequence text) {
+        int tokens = 0;
+        int i = 0;
+        int length = text.length();
+        while (i < length) {
+            char c = text.charAt(i);
+            if (c == '\n') {
+                // A run of newlines is one token
+                tokens++;
+                while (i < length && text.charAt(i) == '\n') {
+                    i++;
+                }
+            } else if (Character.isWhitespace(c)) {
+                // Folded into the next word's token
+                i++;
+            } else if (Character.isLetter(c)) {
+                int start = i;
+                while (i < length && (Character.isLetter(text.charAt(i)) || text.charAt(i) == '\'')) {
+                    i++;
+                }
+                int letters = i - start;
+                tokens += letters <= 6 ? 1 : 1 + (letters - 6 + 3) / 4;
+            } else if (Character.isDigit(c)) {
+                int start = i;
+                while (i < length && Character.isDigit(text.charAt(i))) {
+                    i++;
+                }
+                tokens += (i - start + 2) / 3;
+            } else {
+                tokens++;
+                i++;
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,174 @@
+package com.learntv.api.generation.domain.service;
+
+import com.learntv.api.generation.domain.model.SceneCandidate;
+import com.learntv.api.generation.domain.model.SubtitleCue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Domain Service that preselects candidate shadowing scenes from an episode's
+ * cues, so only the most promising parts of the episode go to the LLM.
+ *
+ * A window of {@value #MIN_LINES}-{@value #MAX_LINES} consecutive cues is slid
+ * over the whole episode (never across a pause longer than
+ * {@value #MAX_PAUSE_MILLIS} ms, which usually means a scene change) and scored on:
+ * <ul>
+ *   <li>lesson terms: distinct vocabulary/expressions used, and their total hits
+ *       (found with a {@link TermMatcher})</li>
+ *   <li>speaker alternation: changes of speaker label, and "-" dialogue dashes,
+ *       per line</li>
+ *   <li>length: closest to {@value #IDEAL_LINES} lines</li>
+ * </ul>
+ * The best-scoring non-overlapping windows are returned, in episode order.
+ */
+public class ShadowingSceneSelector {
+
+    static final int MIN_LINES = 8;
+    static final int MAX_LINES = 15;
+    static final int IDEAL_LINES = 11;
+    static final long MAX_PAUSE_MILLIS = 6000;
+
+    private static final double DISTINCT_TERM_WEIGHT = 3.0;
+    private static final double TERM_HIT_WEIGHT = 1.0;
+    private static final double ALTERNATION_WEIGHT = 4.0;
+    private static final double LENGTH_WEIGHT = 1.0;
+
+    private final int maxCandidates;
+
+    public ShadowingSceneSelector(int maxCandidates) {
+        this.maxCandidates = maxCandidates;
+    }
+
+    /**
+     * @param cues  the episode's cues, in order
+     * @param terms the lesson's vocabulary terms and expressions
+     * @return up to {@code maxCandidates} windows, in episode order
+     */
+    public List<SceneCandidate> selectCandidates(List<SubtitleCue> cues, List<String> terms) {
+        if (cues.isEmpty()) {
+            return List.of();
+        }
+        TermMatcher matcher = new TermMatcher(terms);
+        List<int[]> termsByCue = new ArrayList<>(cues.size());
+        for (SubtitleCue cue : cues) {
+            List<Integer> found = new ArrayList<>();
+            matcher.forEachMatch(cue.text(), found::add);
+            termsByCue.add(found.stream().mapToInt(Integer::intValue).toArray());
+        }
+        int[] turns = speakerTurns(cues);
+
+        List<Window> windows = new ArrayList<>();
+        int[] termHits = new int[matcher.termCount()];
+        for (int start = 0; start < cues.size(); start++) {
+            Window best = bestWindowFrom(start, cues, termsByCue, turns, termHits);
+            if (best != null) {
+                windows.add(best);
+            }
+        }
+
+        if (windows.isEmpty()) {
+            // Too few cues, or too fragmented, for a full window: offer the opening lines
+            return List.of(new SceneCandidate(cues.subList(0, Math.min(MAX_LINES, cues.size())), 0, 0));
+        }
+        return pickNonOverlapping(windows).stream()
+                .map(window -> new SceneCandidate(
+                        cues.subList(window.start(), window.end() + 1), window.matchedTerms(), window.score()))
+                .toList();
+    }
+
+    /**
+     * The best-scoring window starting at {@code start}, or null if the cues
+     * from there are interrupted by a pause before reaching {@link #MIN_LINES}.
+     * {@code termHits} is scratch space and is left zeroed.
+     */
+    private static Window bestWindowFrom(int start, List<SubtitleCue> cues, List<int[]> termsByCue,
+                                         int[] turns, int[] termHits) {
+        Window best = null;
+        int distinct = 0;
+        int hits = 0;
+        int turnCount = 0;
+        int end = start;
+        for (; end < cues.size() && end - start < MAX_LINES; end++) {
+            if (end > start && cues.get(end).startMillis() - cues.get(end - 1).endMillis() > MAX_PAUSE_MILLIS) {
+                break;
+            }
+            for (int term : termsByCue.get(end)) {
+                if (termHits[term]++ == 0) {
+                    distinct++;
+                }
+                hits++;
+            }
+            turnCount += turns[end];
+
+            int lines = end - start + 1;
+            if (lines >= MIN_LINES) {
+                double score = DISTINCT_TERM_WEIGHT * distinct
+                        + TERM_HIT_WEIGHT * hits
+                        + ALTERNATION_WEIGHT * Math.min(1.0, (double) turnCount / lines)
+                        + LENGTH_WEIGHT * (1.0 - (double) Math.abs(lines - IDEAL_LINES) / MAX_LINES);
+                if (best == null || score > best.score()) {
+                    best = new Window(start, end, distinct, score);
+                }
+            }
+        }
+        for (int i = start; i < end; i++) {
+            for (int term : termsByCue.get(i)) {
+                termHits[term] = 0;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Speaker changes at or within each cue: a different speaker label than the
+     * last one seen, a leading "-" and every " - " inside the text.
+     */
+    private static int[] speakerTurns(List<SubtitleCue> cues) {
+        int[] turns = new int[cues.size()];
+        String lastSpeaker = null;
+        for (int i = 0; i < cues.size(); i++) {
+            SubtitleCue cue = cues.get(i);
+            if (cue.speaker() != null) {
+                if (lastSpeaker != null && !Objects.equals(lastSpeaker, cue.speaker())) {
+                    turns[i]++;
+                }
+                lastSpeaker = cue.speaker();
+            }
+            String text = cue.text();
+            if (text.startsWith("-")) {
+                turns[i]++;
+            }
+            for (int at = text.indexOf(" - "); at >= 0; at = text.indexOf(" - ", at + 3)) {
+                turns[i]++;
+            }
+        }
+        return turns;
+    }
+
+    private List<Window> pickNonOverlapping(List<Window> windows) {
+        List<Window> byScore = new ArrayList<>(windows);
+        byScore.sort(Comparator.comparingDouble(Window::score).reversed().thenComparingInt(Window::start));
+
+        List<Window> picked = new ArrayList<>();
+        for (Window window : byScore) {
+            if (picked.size() == maxCandidates) {
+                break;
+            }
+            if (picked.stream().noneMatch(window::overlaps)) {
+                picked.add(window);
+            }
+        }
+        picked.sort(Comparator.comparingInt(Window::start));
+        return picked;
+    }
+
+    private record Window(int start, int end, int matchedTerms, double score) {
+
+        boolean overlaps(Window other) {
+            return start <= other.end && other.start <= end;
+        }
+    }
+}
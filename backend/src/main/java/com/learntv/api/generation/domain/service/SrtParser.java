@@ -1,38 +1,43 @@
 package com.learntv.api.generation.domain.service;
 
+import com.learntv.api.generation.domain.model.SubtitleCue;
 import org.springframework.stereotype.Component;
 
-import java.util.regex.Pattern;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Parser for SRT (SubRip) subtitle files.
  * Converts SRT content to clean dialogue text suitable for NLP processing.
+ *
+ * The input is read once, in chunks, and split into lines as it goes; each line
+ * is recognized and cleaned in place in a reusable buffer by hand-written
+ * scanners, so the only strings allocated are the result. WebVTT cues with
+ * hour-based timestamps ({@code 00:01:23.456 --> ...}) are recognized too.
+ *
+ * What is dropped from each line, in order:
+ * <ul>
+ *   <li>sequence numbers and timestamp lines: {@code 12}, {@code 00:01:23,456 --> 00:01:25,789}</li>
+ *   <li>pure hearing impaired lines: {@code [music playing]}, {@code (door slams)}</li>
+ *   <li>HTML/formatting tags: {@code <i>}, {@code </i>}, {@code <font ...>}</li>
+ *   <li>ASS/SSA style codes: {@code {\an8}}, {@code {\pos(x,y)}}</li>
+ *   <li>music notes: {@code ♪ lyrics ♪}</li>
+ *   <li>a leading speaker label: {@code WALTER:}, {@code MR. WHITE:}</li>
+ *   <li>inline hearing impaired text: {@code Hello [door closes] there}</li>
+ * </ul>
+ * Whitespace is then collapsed, and lines left empty, shorter than two
+ * characters or made only of punctuation are skipped.
+ *
+ * {@link #parseCues} keeps the timing instead: one {@link SubtitleCue} per
+ * entry, with its times, speaker label and cleaned text.
  */
 @Component
 public class SrtParser {
 
-    // Pattern for SRT sequence numbers (line with just digits)
-    private static final Pattern SEQUENCE_NUMBER = Pattern.compile("^\\d+$");
-
-    // Pattern for SRT timestamps: 00:01:23,456 --> 00:01:25,789
-    private static final Pattern TIMESTAMP = Pattern.compile(
-            "^\\d{2}:\\d{2}:\\d{2}[,.]\\d{3}\\s*-->\\s*\\d{2}:\\d{2}:\\d{2}[,.]\\d{3}.*$"
-    );
-
-    // Pattern for HTML/formatting tags: <i>, </i>, <b>, </b>, <font...>, etc.
-    private static final Pattern HTML_TAGS = Pattern.compile("<[^>]+>");
-
-    // Pattern for ASS/SSA style codes: {\an8}, {\pos(x,y)}, etc.
-    private static final Pattern ASS_CODES = Pattern.compile("\\{\\\\[^}]+\\}");
-
-    // Pattern for hearing impaired descriptions: [music playing], (door slams), etc.
-    private static final Pattern HEARING_IMPAIRED = Pattern.compile("^[\\[\\(][^\\]\\)]+[\\]\\)]$");
-
-    // Pattern for speaker labels: WALTER:, MR. WHITE:, etc.
-    private static final Pattern SPEAKER_LABEL = Pattern.compile("^[A-Z][A-Z\\s\\.]+:\\s*");
-
-    // Pattern for music notes: ♪ lyrics ♪
-    private static final Pattern MUSIC_NOTES = Pattern.compile("[♪♫]");
+    private static final int CHUNK_SIZE = 8192;
 
     /**
      * Parse SRT content to clean dialogue text.
@@ -44,142 +49,566 @@ public class SrtParser {
         if (srtContent == null || srtContent.isBlank()) {
             return "";
         }
+        return parse(srtContent, new DialogueWriter(false, srtContent.length()));
+    }
 
-        StringBuilder result = new StringBuilder();
-        String[] lines = srtContent.split("\\r?\\n");
+    /**
+     * Parse SRT content read from a stream to clean dialogue text.
+     *
+     * @param srtContent the raw SRT file content; not closed
+     * @return clean dialogue text with one line per subtitle entry
+     */
+    public String parseToPlainText(Reader srtContent) throws IOException {
+        return parse(srtContent, new DialogueWriter(false, CHUNK_SIZE));
+    }
 
-        for (String line : lines) {
-            String cleaned = cleanLine(line);
-            if (!cleaned.isEmpty()) {
-                if (result.length() > 0) {
-                    result.append("\n");
-                }
-                result.append(cleaned);
-            }
+    /**
+     * Parse SRT and return dialogue with preserved line breaks for multi-line subtitles.
+     * This version keeps related dialogue together.
+     *
+     * @param srtContent the raw SRT file content
+     * @return clean dialogue preserving subtitle groupings
+     */
+    public String parsePreservingGroups(String srtContent) {
+        if (srtContent == null || srtContent.isBlank()) {
+            return "";
         }
+        return parse(srtContent, new DialogueWriter(true, srtContent.length()));
+    }
 
-        return result.toString().trim();
+    /**
+     * Parse SRT read from a stream, keeping related dialogue together.
+     *
+     * @param srtContent the raw SRT file content; not closed
+     * @return clean dialogue preserving subtitle groupings
+     */
+    public String parsePreservingGroups(Reader srtContent) throws IOException {
+        return parse(srtContent, new DialogueWriter(true, CHUNK_SIZE));
     }
 
     /**
-     * Clean a single line of SRT content.
+     * Parse SRT content into timed cues: one per subtitle entry, with its
+     * dialogue cleaned the same way as {@link #parsePreservingGroups(String)}.
+     * Text outside a timed entry (e.g. a WebVTT header) and entries left
+     * without dialogue are dropped.
      *
-     * @param line the raw line
-     * @return cleaned line, or empty string if line should be skipped
+     * @param srtContent the raw SRT file content
+     * @return the cues in file order
      */
-    private String cleanLine(String line) {
-        if (line == null) {
-            return "";
+    public List<SubtitleCue> parseCues(String srtContent) {
+        if (srtContent == null || srtContent.isEmpty()) {
+            return List.of();
         }
+        return parse(srtContent, new CueCollector());
+    }
 
-        String trimmed = line.trim();
+    /**
+     * Parse SRT content read from a stream into timed cues.
+     *
+     * @param srtContent the raw SRT file content; not closed
+     * @return the cues in file order
+     */
+    public List<SubtitleCue> parseCues(Reader srtContent) throws IOException {
+        return parse(srtContent, new CueCollector());
+    }
 
-        // Skip empty lines
-        if (trimmed.isEmpty()) {
-            return "";
+    private static <T> T parse(String content, LineScanner<T> scanner) {
+        char[] chunk = new char[Math.min(CHUNK_SIZE, content.length())];
+        for (int offset = 0; offset < content.length(); offset += chunk.length) {
+            int length = Math.min(chunk.length, content.length() - offset);
+            content.getChars(offset, offset + length, chunk, 0);
+            scanner.accept(chunk, length);
         }
+        return scanner.finish();
+    }
 
-        // Skip sequence numbers
-        if (SEQUENCE_NUMBER.matcher(trimmed).matches()) {
-            return "";
+    private static <T> T parse(Reader content, LineScanner<T> scanner) throws IOException {
+        char[] chunk = new char[CHUNK_SIZE];
+        int length;
+        while ((length = content.read(chunk)) != -1) {
+            scanner.accept(chunk, length);
         }
+        return scanner.finish();
+    }
 
-        // Skip timestamps
-        if (TIMESTAMP.matcher(trimmed).matches()) {
-            return "";
+    /**
+     * Splits the input into trimmed lines in a reusable buffer and hands them
+     * to the subclass, which may clean them in place.
+     */
+    private abstract static class LineScanner<T> {
+
+        char[] line = new char[256];
+        private int lineLength;
+        private boolean blankSoFar = true;
+
+        void accept(char[] chunk, int length) {
+            for (int i = 0; i < length; i++) {
+                char c = chunk[i];
+                if (blankSoFar && !Character.isWhitespace(c)) {
+                    blankSoFar = false;
+                }
+                if (c == '\n') {
+                    endLine();
+                } else {
+                    if (lineLength == line.length) {
+                        line = Arrays.copyOf(line, line.length * 2);
+                    }
+                    line[lineLength++] = c;
+                }
+            }
         }
 
-        // Skip pure hearing impaired lines
-        if (HEARING_IMPAIRED.matcher(trimmed).matches()) {
-            return "";
+        T finish() {
+            endLine();
+            return result(blankSoFar);
+        }
+
+        /**
+         * Lines end at "\n" or "\r\n"; a lone '\r' stays part of the line.
+         */
+        private void endLine() {
+            int end = lineLength;
+            if (end > 0 && line[end - 1] == '\r') {
+                end--;
+            }
+            lineLength = 0;
+
+            int start = 0;
+            while (start < end && line[start] <= ' ') {
+                start++;
+            }
+            while (end > start && line[end - 1] <= ' ') {
+                end--;
+            }
+
+            if (start == end) {
+                blankLine();
+            } else {
+                line(start, end);
+            }
         }
 
-        // Remove HTML tags
-        String cleaned = HTML_TAGS.matcher(trimmed).replaceAll("");
+        abstract void blankLine();
 
-        // Remove ASS/SSA style codes
-        cleaned = ASS_CODES.matcher(cleaned).replaceAll("");
+        /**
+         * @param start first character of the trimmed line in {@link #line}
+         * @param end   end of the trimmed line, exclusive
+         */
+        abstract void line(int start, int end);
 
-        // Remove music notes (often indicate song lyrics, which we skip)
-        cleaned = MUSIC_NOTES.matcher(cleaned).replaceAll("");
+        /**
+         * @param blank whether the input was only whitespace
+         */
+        abstract T result(boolean blank);
+    }
 
-        // Optionally remove speaker labels (keep the dialogue)
-        cleaned = SPEAKER_LABEL.matcher(cleaned).replaceAll("");
+    /**
+     * Writes the cleaned dialogue out, either one line per subtitle line or
+     * one paragraph per subtitle entry.
+     */
+    private static final class DialogueWriter extends LineScanner<String> {
 
-        // Remove inline hearing impaired text: "Hello [door closes] there"
-        cleaned = cleaned.replaceAll("\\[[^\\]]+\\]", "");
-        cleaned = cleaned.replaceAll("\\([^)]+\\)", "");
+        private final boolean preserveGroups;
+        private final StringBuilder result;
+        private boolean groupOpen;
 
-        // Clean up multiple spaces
-        cleaned = cleaned.replaceAll("\\s+", " ").trim();
+        DialogueWriter(boolean preserveGroups, int expectedLength) {
+            this.preserveGroups = preserveGroups;
+            this.result = new StringBuilder(expectedLength / 2);
+        }
 
-        // Skip if line is now empty or too short
-        if (cleaned.length() < 2) {
-            return "";
+        // Empty line marks end of subtitle group
+        @Override
+        void blankLine() {
+            groupOpen = false;
         }
 
-        // Skip lines that are just punctuation
-        if (cleaned.matches("^[\\-\\s\\.\\?!,]+$")) {
-            return "";
+        @Override
+        void line(int start, int end) {
+            if (isSequenceNumber(line, start, end)
+                    || isTimestamp(line, start, end)
+                    || isHearingImpaired(line, start, end)) {
+                return;
+            }
+
+            int length = LineCleaner.clean(line, start, end, null);
+            if (length > 0) {
+                write(start, length);
+            }
+        }
+
+        private void write(int start, int length) {
+            if (!preserveGroups) {
+                if (!result.isEmpty()) {
+                    result.append('\n');
+                }
+            } else if (groupOpen) {
+                result.append(' ');
+            } else {
+                if (!result.isEmpty()) {
+                    result.append("\n\n");
+                }
+                groupOpen = true;
+            }
+            result.append(line, start, length);
         }
 
-        return cleaned;
+        @Override
+        String result(boolean blank) {
+            return blank ? "" : result.toString();
+        }
     }
 
     /**
-     * Parse SRT and return dialogue with preserved line breaks for multi-line subtitles.
-     * This version keeps related dialogue together.
+     * Collects one cue per timed subtitle entry. An entry runs from its
+     * timestamp line to the next blank line (or the next timestamp line, for
+     * files that leave the blank line out).
+     */
+    private static final class CueCollector extends LineScanner<List<SubtitleCue>> {
+
+        private final List<SubtitleCue> cues = new ArrayList<>();
+        private final StringBuilder text = new StringBuilder();
+        private final StringBuilder speaker = new StringBuilder();
+        private long startMillis = -1;
+        private long endMillis;
+
+        @Override
+        void blankLine() {
+            endCue();
+        }
+
+        @Override
+        void line(int start, int end) {
+            if (isTimestamp(line, start, end)) {
+                endCue();
+                startMillis = readMillis(line, start);
+                endMillis = readMillis(line, endTimeIndex(line, start, end));
+                return;
+            }
+            if (startMillis < 0 || isSequenceNumber(line, start, end) || isHearingImpaired(line, start, end)) {
+                return;
+            }
+
+            int length = LineCleaner.clean(line, start, end, speaker.isEmpty() ? speaker : null);
+            if (length > 0) {
+                if (!text.isEmpty()) {
+                    text.append(' ');
+                }
+                text.append(line, start, length);
+            }
+        }
+
+        private void endCue() {
+            if (startMillis >= 0 && !text.isEmpty()) {
+                cues.add(new SubtitleCue(startMillis, endMillis,
+                        speaker.isEmpty() ? null : speaker.toString(), text.toString()));
+            }
+            startMillis = -1;
+            text.setLength(0);
+            speaker.setLength(0);
+        }
+
+        @Override
+        List<SubtitleCue> result(boolean blank) {
+            endCue();
+            return List.copyOf(cues);
+        }
+    }
+
+    /**
+     * A line with just digits.
+     */
+    static boolean isSequenceNumber(char[] line, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isDigit(line[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@code 00:01:23,456 --> 00:01:25,789}, optionally followed by cue settings
+     * on the same line. Either ',' or '.' may separate the milliseconds.
+     */
+    static boolean isTimestamp(char[] line, int start, int end) {
+        int i = skipTime(line, start, end);
+        if (i < 0) {
+            return false;
+        }
+        i = skipSpaces(line, i, end);
+        if (end - i < 3 || line[i] != '-' || line[i + 1] != '-' || line[i + 2] != '>') {
+            return false;
+        }
+        i = skipTime(line, skipSpaces(line, i + 3, end), end);
+        if (i < 0) {
+            return false;
+        }
+        for (; i < end; i++) {
+            if (isLineTerminator(line[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Index of the end time of a line {@link #isTimestamp} accepted.
+     */
+    private static int endTimeIndex(char[] line, int start, int end) {
+        return skipSpaces(line, skipSpaces(line, start + 12, end) + 3, end);
+    }
+
+    /**
+     * Read the {@code hh:mm:ss,mmm} at {@code i} as milliseconds.
+     */
+    private static long readMillis(char[] line, int i) {
+        long hours = digits(line, i, 2);
+        long minutes = digits(line, i + 3, 2);
+        long seconds = digits(line, i + 6, 2);
+        return ((hours * 60 + minutes) * 60 + seconds) * 1000 + digits(line, i + 9, 3);
+    }
+
+    private static int digits(char[] line, int i, int count) {
+        int value = 0;
+        for (int j = i; j < i + count; j++) {
+            value = value * 10 + (line[j] - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Skip {@code hh:mm:ss,mmm} (or {@code hh:mm:ss.mmm}) at {@code i}.
      *
-     * @param srtContent the raw SRT file content
-     * @return clean dialogue preserving subtitle groupings
+     * @return the index after it, or -1 if there is none
      */
-    public String parsePreservingGroups(String srtContent) {
-        if (srtContent == null || srtContent.isBlank()) {
-            return "";
+    private static int skipTime(char[] line, int i, int end) {
+        if (end - i < 12
+                || !isDigit(line[i]) || !isDigit(line[i + 1]) || line[i + 2] != ':'
+                || !isDigit(line[i + 3]) || !isDigit(line[i + 4]) || line[i + 5] != ':'
+                || !isDigit(line[i + 6]) || !isDigit(line[i + 7])
+                || (line[i + 8] != ',' && line[i + 8] != '.')
+                || !isDigit(line[i + 9]) || !isDigit(line[i + 10]) || !isDigit(line[i + 11])) {
+            return -1;
+        }
+        return i + 12;
+    }
+
+    /**
+     * A line that is entirely a hearing impaired description: {@code [music playing]}, {@code (door slams)}.
+     */
+    static boolean isHearingImpaired(char[] line, int start, int end) {
+        if (end - start < 3
+                || (line[start] != '[' && line[start] != '(')
+                || (line[end - 1] != ']' && line[end - 1] != ')')) {
+            return false;
+        }
+        for (int i = start + 1; i < end - 1; i++) {
+            if (line[i] == ']' || line[i] == ')') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * In-place cleanup of a dialogue line. Each step compacts the characters it
+     * keeps to the front of the range, so nothing is copied out until the line is written.
+     */
+    static final class LineCleaner {
+
+        private LineCleaner() {
         }
 
-        StringBuilder result = new StringBuilder();
-        StringBuilder currentGroup = new StringBuilder();
-        String[] lines = srtContent.split("\\r?\\n");
+        /**
+         * Clean {@code line[start, end)}.
+         *
+         * @param speaker if not null, receives the speaker label removed from the line, if any
+         * @return the length of the cleaned text, now starting at {@code start},
+         *         or 0 if the line should be skipped
+         */
+        static int clean(char[] line, int start, int end, StringBuilder speaker) {
+            end = removeEnclosed(line, start, end, '<', '>');
+            end = removeStyleCodes(line, start, end);
+            end = removeMusicNotes(line, start, end);
+            end = removeSpeakerLabel(line, start, end, speaker);
+            end = removeEnclosed(line, start, end, '[', ']');
+            end = removeEnclosed(line, start, end, '(', ')');
+            end = collapseWhitespace(line, start, end);
+
+            int from = start;
+            while (from < end && line[from] <= ' ') {
+                from++;
+            }
+            while (end > from && line[end - 1] <= ' ') {
+                end--;
+            }
+            int length = end - from;
+            if (from > start) {
+                System.arraycopy(line, from, line, start, length);
+            }
+
+            // Skip if line is now empty or too short, or just punctuation
+            if (length < 2 || isPunctuation(line, start, start + length)) {
+                return 0;
+            }
+            return length;
+        }
 
-        for (String line : lines) {
-            String trimmed = line.trim();
+        /**
+         * Remove every {@code open}, at least one other character, then the first {@code close}:
+         * tags like {@code <i>}, and inline descriptions like {@code [door closes]}.
+         */
+        private static int removeEnclosed(char[] line, int start, int end, char open, char close) {
+            int write = start;
+            int read = start;
+            // Once a close is missing past some point, no later open can be closed either
+            boolean unclosed = false;
+            while (read < end) {
+                char c = line[read];
+                if (c == open && !unclosed && read + 1 < end && line[read + 1] != close) {
+                    int closeAt = indexOf(line, close, read + 2, end);
+                    if (closeAt >= 0) {
+                        read = closeAt + 1;
+                        continue;
+                    }
+                    unclosed = true;
+                }
+                line[write++] = c;
+                read++;
+            }
+            return write;
+        }
 
-            // Empty line marks end of subtitle group
-            if (trimmed.isEmpty()) {
-                if (currentGroup.length() > 0) {
-                    if (result.length() > 0) {
-                        result.append("\n\n");
+        /**
+         * Remove ASS/SSA style codes: '{', '\', at least one other character, then the first '}'.
+         */
+        private static int removeStyleCodes(char[] line, int start, int end) {
+            int write = start;
+            int read = start;
+            boolean unclosed = false;
+            while (read < end) {
+                char c = line[read];
+                if (c == '{' && !unclosed && read + 2 < end && line[read + 1] == '\\' && line[read + 2] != '}') {
+                    int closeAt = indexOf(line, '}', read + 3, end);
+                    if (closeAt >= 0) {
+                        read = closeAt + 1;
+                        continue;
                     }
-                    result.append(currentGroup.toString().trim());
-                    currentGroup.setLength(0);
+                    unclosed = true;
+                }
+                line[write++] = c;
+                read++;
+            }
+            return write;
+        }
+
+        /**
+         * Remove music notes (often indicate song lyrics, which we skip).
+         */
+        private static int removeMusicNotes(char[] line, int start, int end) {
+            int write = start;
+            for (int read = start; read < end; read++) {
+                char c = line[read];
+                if (c != '♪' && c != '♫') {
+                    line[write++] = c;
+                }
+            }
+            return write;
+        }
+
+        /**
+         * Remove a speaker label at the start of the line: an uppercase letter,
+         * at least one more uppercase letter, space or dot, a colon, then any spaces.
+         */
+        private static int removeSpeakerLabel(char[] line, int start, int end, StringBuilder speaker) {
+            if (start == end || !isUpperCase(line[start])) {
+                return end;
+            }
+            int i = start + 1;
+            while (i < end && (isUpperCase(line[i]) || isSpace(line[i]) || line[i] == '.')) {
+                i++;
+            }
+            if (i - start < 2 || i == end || line[i] != ':') {
+                return end;
+            }
+            if (speaker != null) {
+                int nameEnd = i;
+                while (isSpace(line[nameEnd - 1])) {
+                    nameEnd--;
                 }
-                continue;
+                speaker.append(line, start, nameEnd - start);
             }
+            int labelEnd = skipSpaces(line, i + 1, end);
+            System.arraycopy(line, labelEnd, line, start, end - labelEnd);
+            return end - (labelEnd - start);
+        }
 
-            // Skip sequence numbers and timestamps
-            if (SEQUENCE_NUMBER.matcher(trimmed).matches() ||
-                    TIMESTAMP.matcher(trimmed).matches()) {
-                continue;
+        /**
+         * Replace every run of whitespace with a single space.
+         */
+        private static int collapseWhitespace(char[] line, int start, int end) {
+            int write = start;
+            boolean inSpace = false;
+            for (int read = start; read < end; read++) {
+                char c = line[read];
+                if (isSpace(c)) {
+                    if (!inSpace) {
+                        line[write++] = ' ';
+                        inSpace = true;
+                    }
+                } else {
+                    line[write++] = c;
+                    inSpace = false;
+                }
             }
+            return write;
+        }
 
-            String cleaned = cleanLine(trimmed);
-            if (!cleaned.isEmpty()) {
-                if (currentGroup.length() > 0) {
-                    currentGroup.append(" ");
+        private static boolean isPunctuation(char[] line, int start, int end) {
+            for (int i = start; i < end; i++) {
+                char c = line[i];
+                if (c != '-' && c != '.' && c != '?' && c != '!' && c != ',' && !isSpace(c)) {
+                    return false;
                 }
-                currentGroup.append(cleaned);
             }
+            return true;
         }
 
-        // Don't forget the last group
-        if (currentGroup.length() > 0) {
-            if (result.length() > 0) {
-                result.append("\n\n");
+        private static int indexOf(char[] line, char c, int from, int end) {
+            for (int i = from; i < end; i++) {
+                if (line[i] == c) {
+                    return i;
+                }
             }
-            result.append(currentGroup.toString().trim());
+            return -1;
+        }
+    }
+
+    private static int skipSpaces(char[] line, int i, int end) {
+        while (i < end && isSpace(line[i])) {
+            i++;
         }
+        return i;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isUpperCase(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    /**
+     * The whitespace characters of regular expressions' {@code \s}; trimming
+     * instead strips every control character, as {@link String#trim()} does.
+     */
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
 
-        return result.toString().trim();
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
     }
 }
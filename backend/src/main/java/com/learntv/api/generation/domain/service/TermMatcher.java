@@ -0,0 +1,153 @@
+package com.learntv.api.generation.domain.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.IntConsumer;
+
+/**
+ * Finds every occurrence of a set of terms in a text in one pass (Aho–Corasick),
+ * however many terms there are.
+ *
+ * Matching ignores case and only counts whole words: "run" matches "Run!" but
+ * not "running". Terms are identified by their index in the list given to the
+ * constructor.
+ */
+public class TermMatcher {
+
+    private static final int ROOT = 0;
+
+    // Trie edges, keyed by (state, char)
+    private final Map<Long, Integer> transitions = new HashMap<>();
+    private final List<Integer> failure = new ArrayList<>();
+    // Term ending at each state, or -1
+    private final List<Integer> terminal = new ArrayList<>();
+    // Nearest state along the failure chain that ends a term, or -1
+    private final List<Integer> outputLink = new ArrayList<>();
+    private final int[] termLengths;
+
+    public TermMatcher(List<String> terms) {
+        termLengths = new int[terms.size()];
+        addState();
+        for (int term = 0; term < terms.size(); term++) {
+            String normalized = normalize(terms.get(term));
+            termLengths[term] = normalized.length();
+            if (!normalized.isEmpty()) {
+                addTerm(normalized, term);
+            }
+        }
+        linkFailures();
+    }
+
+    public int termCount() {
+        return termLengths.length;
+    }
+
+    /**
+     * Report the index of every term found in {@code text}, once per occurrence.
+     */
+    public void forEachMatch(CharSequence text, IntConsumer onMatch) {
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            Integer next;
+            while ((next = transitions.get(key(state, c))) == null && state != ROOT) {
+                state = failure.get(state);
+            }
+            state = next != null ? next : ROOT;
+
+            for (int match = terminal.get(state) >= 0 ? state : outputLink.get(state);
+                 match >= 0;
+                 match = outputLink.get(match)) {
+                int term = terminal.get(match);
+                if (isWholeWord(text, i - termLengths[term] + 1, i + 1)) {
+                    onMatch.accept(term);
+                }
+            }
+        }
+    }
+
+    private void addTerm(String term, int index) {
+        int state = ROOT;
+        for (int i = 0; i < term.length(); i++) {
+            long key = key(state, term.charAt(i));
+            Integer next = transitions.get(key);
+            if (next == null) {
+                next = addState();
+                transitions.put(key, next);
+            }
+            state = next;
+        }
+        // Duplicate terms report the first index
+        if (terminal.get(state) < 0) {
+            terminal.set(state, index);
+        }
+    }
+
+    /**
+     * Breadth-first over the trie: each state's failure link is the longest
+     * proper suffix of its path that is also a path in the trie.
+     */
+    private void linkFailures() {
+        Map<Integer, List<Map.Entry<Long, Integer>>> edgesByState = new HashMap<>();
+        for (Map.Entry<Long, Integer> edge : transitions.entrySet()) {
+            int from = (int) (edge.getKey() >>> 16);
+            edgesByState.computeIfAbsent(from, s -> new ArrayList<>()).add(edge);
+        }
+
+        Queue<Integer> queue = new ArrayDeque<>();
+        queue.add(ROOT);
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Long, Integer> edge : edgesByState.getOrDefault(state, List.of())) {
+                char c = (char) (edge.getKey() & 0xFFFF);
+                int child = edge.getValue();
+                int fallback = ROOT;
+                if (state != ROOT) {
+                    int candidate = failure.get(state);
+                    Integer next;
+                    while ((next = transitions.get(key(candidate, c))) == null && candidate != ROOT) {
+                        candidate = failure.get(candidate);
+                    }
+                    fallback = next != null ? next : ROOT;
+                }
+                failure.set(child, fallback);
+                outputLink.set(child, terminal.get(fallback) >= 0 ? fallback : outputLink.get(fallback));
+                queue.add(child);
+            }
+        }
+    }
+
+    private int addState() {
+        failure.add(ROOT);
+        terminal.add(-1);
+        outputLink.add(-1);
+        return failure.size() - 1;
+    }
+
+    private static long key(int state, char c) {
+        return ((long) state << 16) | c;
+    }
+
+    private static boolean isWholeWord(CharSequence text, int start, int end) {
+        return (start == 0 || !Character.isLetterOrDigit(text.charAt(start - 1)))
+                && (end == text.length() || !Character.isLetterOrDigit(text.charAt(end)));
+    }
+
+    /**
+     * Lower-cased char by char, the same way the text is, so lengths line up.
+     */
+    private static String normalize(String term) {
+        if (term == null) {
+            return "";
+        }
+        char[] chars = term.strip().replaceAll("\\s+", " ").toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+}
@@ -1,9 +1,10 @@
 package com.learntv.api.learning.adapter.in.web;
 
-import com.learntv.api.learning.application.port.ShadowingSceneRepository.ShadowingScene;
+import com.learntv.api.generation.adapter.in.web.dto.JobStatusResponse;
 import com.learntv.api.learning.application.service.PhonemeService;
 import com.learntv.api.learning.application.usecase.CheckExerciseAnswerUseCase;
 import com.learntv.api.learning.application.usecase.GetShadowingScenesUseCase;
+import com.learntv.api.learning.application.usecase.GetShadowingScenesUseCase.ShadowingScenesResult;
 import com.learntv.api.learning.application.usecase.ViewEpisodeLessonUseCase;
 import com.learntv.api.shared.config.security.AuthenticatedUser;
 import com.learntv.api.shared.config.security.CurrentUser;
@@ -67,14 +68,22 @@ public class EpisodeController {
 
     @GetMapping("/{episodeSlug}/shadowing")
     @Operation(summary = "Get shadowing scenes",
-               description = "Returns shadowing practice scenes for an episode. Generates them on first request.")
-    public ResponseEntity<List<ShadowingSceneResponse>> getShadowingScenes(
+               description = "Returns shadowing practice scenes for an episode. If they are still being generated, " +
+                       "returns 202 with the generation job instead; poll GET /generation/jobs/{jobId} " +
+                       "(or stream its events) and request the scenes again once it completes.")
+    public ResponseEntity<?> getShadowingScenes(
             @CurrentUser AuthenticatedUser authUser,
             @PathVariable String showSlug,
             @PathVariable String episodeSlug) {
 
-        List<ShadowingScene> scenes = getShadowingScenesUseCase.execute(showSlug, episodeSlug);
-        List<ShadowingSceneResponse> response = scenes.stream()
+        ShadowingScenesResult result = getShadowingScenesUseCase.execute(showSlug, episodeSlug);
+        if (!result.isReady()) {
+            return ResponseEntity
+                    .status(202) // 202 Accepted
+                    .body(JobStatusResponse.fromDomain(result.pendingJob()));
+        }
+
+        List<ShadowingSceneResponse> response = result.scenes().stream()
                 .map(ShadowingSceneResponse::fromDomain)
                 .toList();
         return ResponseEntity.ok(response);
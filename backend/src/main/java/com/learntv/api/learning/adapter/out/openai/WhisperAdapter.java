@@ -2,8 +2,9 @@ package com.learntv.api.learning.adapter.out.openai;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learntv.api.shared.config.ExternalApiConcurrencyLimiter;
+import com.learntv.api.shared.config.ExternalApiConcurrencyLimiter.ExternalApi;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Component;
@@ -23,18 +24,17 @@ public class WhisperAdapter {
 
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
+    private final ExternalApiConcurrencyLimiter concurrencyLimiter;
 
     public WhisperAdapter(
-            @Value("${external-apis.openai.api-key}") String apiKey,
-            @Value("${external-apis.openai.base-url}") String baseUrl,
-            ObjectMapper objectMapper) {
-
-        this.webClient = WebClient.builder()
-                .baseUrl(baseUrl)
-                .defaultHeader("Authorization", "Bearer " + apiKey)
-                .build();
+            WebClient openAiWebClient,
+            ObjectMapper objectMapper,
+            ExternalApiConcurrencyLimiter concurrencyLimiter) {
 
+        // Shares the pooled OpenAI connections with the chat completion client
+        this.webClient = openAiWebClient;
         this.objectMapper = objectMapper;
+        this.concurrencyLimiter = concurrencyLimiter;
     }
 
     /**
@@ -65,7 +65,7 @@ public class WhisperAdapter {
         }
 
         try {
-            String response = webClient.post()
+            String response = concurrencyLimiter.call(ExternalApi.OPENAI, () -> webClient.post()
                     .uri("/audio/transcriptions")
                     .body(BodyInserters.fromMultipartData(bodyBuilder.build()))
                     .retrieve()
@@ -73,7 +73,7 @@ public class WhisperAdapter {
                     .retryWhen(Retry.backoff(3, Duration.ofSeconds(2))
                             .filter(this::isRetryableError)
                             .doBeforeRetry(signal -> log.warn("Retrying Whisper request, attempt {}", signal.totalRetries() + 1)))
-                    .block(Duration.ofSeconds(60));
+                    .block(Duration.ofSeconds(60)));
 
             return extractText(response);
         } catch (WebClientResponseException e) {
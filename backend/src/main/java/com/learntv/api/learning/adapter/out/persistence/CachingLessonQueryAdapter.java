@@ -0,0 +1,86 @@
+package com.learntv.api.learning.adapter.out.persistence;
+
+import com.learntv.api.learning.application.port.LessonCachePort;
+import com.learntv.api.learning.application.port.LessonQueryPort;
+import com.learntv.api.learning.domain.model.Lesson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Read-through cache in front of {@link LessonQueryAdapter}.
+ *
+ * Lessons are immutable once generated, so a loaded lesson can be served from
+ * memory until its episode is regenerated (see {@link LessonCachePort#evict}).
+ * Entries are keyed by show/episode slug and evicted least-recently-used once
+ * the cache holds {@code learning.lesson-cache.max-size} lessons.
+ * Missing lessons are not cached, so a newly generated episode is visible immediately.
+ */
+@Component
+@Primary
+public class CachingLessonQueryAdapter implements LessonQueryPort, LessonCachePort {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingLessonQueryAdapter.class);
+
+    private final LessonQueryAdapter delegate;
+    private final Map<String, Lesson> lessons;
+    private long evictions;
+
+    public CachingLessonQueryAdapter(LessonQueryAdapter delegate,
+                                     @Value("${learning.lesson-cache.max-size:500}") int maxSize) {
+        this.delegate = delegate;
+        this.lessons = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Lesson> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public Optional<Lesson> loadFullLesson(String showSlug, String episodeSlug) {
+        String key = key(showSlug, episodeSlug);
+        long evictionsBeforeLoad;
+
+        synchronized (lessons) {
+            Lesson cached = lessons.get(key);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+            evictionsBeforeLoad = evictions;
+        }
+
+        // Load outside the lock; two concurrent misses may both hit the DB,
+        // which is cheaper than serializing every miss behind one lock.
+        Optional<Lesson> loaded = delegate.loadFullLesson(showSlug, episodeSlug);
+        loaded.ifPresent(lesson -> {
+            synchronized (lessons) {
+                // An eviction during the load may mean we just read the pre-regeneration lesson
+                if (evictions == evictionsBeforeLoad) {
+                    lessons.putIfAbsent(key, lesson);
+                }
+            }
+        });
+        return loaded;
+    }
+
+    @Override
+    public void evict(String showSlug, String episodeSlug) {
+        String key = key(showSlug, episodeSlug);
+        synchronized (lessons) {
+            lessons.remove(key);
+            evictions++;
+        }
+        log.debug("Evicted cached lesson {}", key);
+    }
+
+    private static String key(String showSlug, String episodeSlug) {
+        return showSlug + "/" + episodeSlug;
+    }
+}
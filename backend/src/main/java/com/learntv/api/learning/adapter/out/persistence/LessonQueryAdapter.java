@@ -2,27 +2,97 @@ package com.learntv.api.learning.adapter.out.persistence;
 
 import com.learntv.api.learning.application.port.LessonQueryPort;
 import com.learntv.api.learning.domain.model.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.*;
 
 /**
  * Optimized query adapter for loading lessons.
  * Uses native SQL to load all lesson content in minimal queries,
  * avoiding the N+1 problem.
+ *
+ * With {@code learning.lesson-query.single-round-trip=true} (default) the episode
+ * and its four child collections are fetched in one UNION ALL statement with a
+ * row-kind discriminator. Every column is cast to VARCHAR so the same SQL runs
+ * on PostgreSQL and on H2 (test profile). Otherwise one query per table is used.
  */
 @Repository
 public class LessonQueryAdapter implements LessonQueryPort {
 
+    private static final int EPISODE_ROW = 0;
+    private static final int VOCABULARY_ROW = 1;
+    private static final int GRAMMAR_ROW = 2;
+    private static final int EXPRESSION_ROW = 3;
+    private static final int EXERCISE_ROW = 4;
+
+    private static final String FULL_LESSON_SQL = """
+            WITH ep AS (
+                SELECT id FROM episodes WHERE show_slug = ? AND slug = ?
+            )
+            SELECT 0 AS row_kind,
+                   CAST(e.id AS VARCHAR) AS c1, CAST(e.show_id AS VARCHAR) AS c2, e.show_slug AS c3,
+                   CAST(e.season_number AS VARCHAR) AS c4, CAST(e.episode_number AS VARCHAR) AS c5,
+                   e.title AS c6, e.slug AS c7, e.synopsis AS c8, CAST(e.duration_minutes AS VARCHAR) AS c9,
+                   CAST(NULL AS VARCHAR) AS sort1, CAST(NULL AS VARCHAR) AS sort2
+            FROM episodes e JOIN ep ON e.id = ep.id
+            UNION ALL
+            SELECT 1,
+                   CAST(v.id AS VARCHAR), CAST(v.episode_id AS VARCHAR), v.term,
+                   v.definition, v.phonetic, v.category,
+                   v.example_sentence, v.context_timestamp, v.audio_url,
+                   v.term, CAST(NULL AS VARCHAR)
+            FROM vocabulary v JOIN ep ON v.episode_id = ep.id
+            UNION ALL
+            SELECT 2,
+                   CAST(g.id AS VARCHAR), CAST(g.episode_id AS VARCHAR), g.title,
+                   g.explanation, g.structure, g.example,
+                   g.context_quote, CAST(NULL AS VARCHAR), CAST(NULL AS VARCHAR),
+                   g.title, CAST(NULL AS VARCHAR)
+            FROM grammar_points g JOIN ep ON g.episode_id = ep.id
+            UNION ALL
+            SELECT 3,
+                   CAST(x.id AS VARCHAR), CAST(x.episode_id AS VARCHAR), x.phrase,
+                   x.meaning, x.context_quote, x.usage_note,
+                   x.audio_url, CAST(NULL AS VARCHAR), CAST(NULL AS VARCHAR),
+                   x.phrase, CAST(NULL AS VARCHAR)
+            FROM expressions x JOIN ep ON x.episode_id = ep.id
+            UNION ALL
+            SELECT 4,
+                   CAST(ex.id AS VARCHAR), CAST(ex.episode_id AS VARCHAR), ex.type,
+                   ex.question, ex.correct_answer, ex.options,
+                   ex.matching_pairs, CAST(ex.points AS VARCHAR), ex.audio_url,
+                   ex.type, ex.question
+            FROM exercises ex JOIN ep ON ex.episode_id = ep.id
+            ORDER BY row_kind, sort1, sort2
+            """;
+
     private final JdbcTemplate jdbcTemplate;
+    private final boolean singleRoundTrip;
 
-    public LessonQueryAdapter(JdbcTemplate jdbcTemplate) {
+    public LessonQueryAdapter(JdbcTemplate jdbcTemplate,
+                              @Value("${learning.lesson-query.single-round-trip:true}") boolean singleRoundTrip) {
         this.jdbcTemplate = jdbcTemplate;
+        this.singleRoundTrip = singleRoundTrip;
     }
 
     @Override
     public Optional<Lesson> loadFullLesson(String showSlug, String episodeSlug) {
+        return singleRoundTrip
+                ? loadFullLessonInSingleQuery(showSlug, episodeSlug)
+                : loadFullLessonInSeparateQueries(showSlug, episodeSlug);
+    }
+
+    private Optional<Lesson> loadFullLessonInSingleQuery(String showSlug, String episodeSlug) {
+        LessonRows rows = new LessonRows();
+        jdbcTemplate.query(FULL_LESSON_SQL, rows::add, showSlug, episodeSlug);
+        return rows.toLesson();
+    }
+
+    private Optional<Lesson> loadFullLessonInSeparateQueries(String showSlug, String episodeSlug) {
         // First, load the episode
         Optional<Episode> episodeOpt = loadEpisode(showSlug, episodeSlug);
         if (episodeOpt.isEmpty()) {
@@ -32,8 +102,7 @@ public class LessonQueryAdapter implements LessonQueryPort {
         Episode episode = episodeOpt.get();
         UUID episodeId = episode.getId().value();
 
-        // Load all related content in parallel-friendly single queries each
-        // (Could be further optimized with a single mega-query if needed)
+        // Load all related content with one query per table
         List<Vocabulary> vocabulary = loadVocabulary(episodeId);
         List<GrammarPoint> grammarPoints = loadGrammarPoints(episodeId);
         List<Expression> expressions = loadExpressions(episodeId);
@@ -153,4 +222,86 @@ public class LessonQueryAdapter implements LessonQueryPort {
                         .build(),
                 episodeId);
     }
+
+    /**
+     * Accumulates the rows of {@link #FULL_LESSON_SQL} by row kind.
+     * Columns are positional: c1..c9 hold each table's columns in SELECT order.
+     */
+    private static final class LessonRows {
+
+        private Episode episode;
+        private final List<Vocabulary> vocabulary = new ArrayList<>();
+        private final List<GrammarPoint> grammarPoints = new ArrayList<>();
+        private final List<Expression> expressions = new ArrayList<>();
+        private final List<Exercise> exercises = new ArrayList<>();
+
+        void add(ResultSet rs) throws SQLException {
+            int rowKind = rs.getInt("row_kind");
+            switch (rowKind) {
+                case EPISODE_ROW -> episode = Episode.builder()
+                        .id(EpisodeId.of(UUID.fromString(rs.getString("c1"))))
+                        .showId(UUID.fromString(rs.getString("c2")))
+                        .showSlug(rs.getString("c3"))
+                        .seasonNumber(parseInt(rs.getString("c4")))
+                        .episodeNumber(parseInt(rs.getString("c5")))
+                        .title(rs.getString("c6"))
+                        .slug(rs.getString("c7"))
+                        .synopsis(rs.getString("c8"))
+                        .durationMinutes(parseInt(rs.getString("c9")))
+                        .build();
+                case VOCABULARY_ROW -> vocabulary.add(Vocabulary.builder()
+                        .id(UUID.fromString(rs.getString("c1")))
+                        .episodeId(UUID.fromString(rs.getString("c2")))
+                        .term(rs.getString("c3"))
+                        .definition(rs.getString("c4"))
+                        .phonetic(rs.getString("c5"))
+                        .category(VocabularyCategory.valueOf(rs.getString("c6")))
+                        .exampleSentence(rs.getString("c7"))
+                        .contextTimestamp(rs.getString("c8"))
+                        .audioUrl(rs.getString("c9"))
+                        .build());
+                case GRAMMAR_ROW -> grammarPoints.add(GrammarPoint.builder()
+                        .id(UUID.fromString(rs.getString("c1")))
+                        .episodeId(UUID.fromString(rs.getString("c2")))
+                        .title(rs.getString("c3"))
+                        .explanation(rs.getString("c4"))
+                        .structure(rs.getString("c5"))
+                        .example(rs.getString("c6"))
+                        .contextQuote(rs.getString("c7"))
+                        .build());
+                case EXPRESSION_ROW -> expressions.add(Expression.builder()
+                        .id(UUID.fromString(rs.getString("c1")))
+                        .episodeId(UUID.fromString(rs.getString("c2")))
+                        .phrase(rs.getString("c3"))
+                        .meaning(rs.getString("c4"))
+                        .contextQuote(rs.getString("c5"))
+                        .usageNote(rs.getString("c6"))
+                        .audioUrl(rs.getString("c7"))
+                        .build());
+                case EXERCISE_ROW -> exercises.add(Exercise.builder()
+                        .id(UUID.fromString(rs.getString("c1")))
+                        .episodeId(UUID.fromString(rs.getString("c2")))
+                        .type(ExerciseType.valueOf(rs.getString("c3")))
+                        .question(rs.getString("c4"))
+                        .correctAnswer(rs.getString("c5"))
+                        .options(rs.getString("c6"))
+                        .matchingPairs(rs.getString("c7"))
+                        .points(parseInt(rs.getString("c8")))
+                        .audioUrl(rs.getString("c9"))
+                        .build());
+                default -> throw new IllegalStateException("Unknown lesson row kind: " + rowKind);
+            }
+        }
+
+        Optional<Lesson> toLesson() {
+            if (episode == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new Lesson(episode, vocabulary, grammarPoints, expressions, exercises));
+        }
+
+        private static int parseInt(String value) {
+            return value != null ? Integer.parseInt(value) : 0;
+        }
+    }
 }
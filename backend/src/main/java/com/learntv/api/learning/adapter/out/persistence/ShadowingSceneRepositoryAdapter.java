@@ -8,6 +8,7 @@ import com.learntv.api.learning.application.port.ShadowingSceneRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
 import java.util.List;
@@ -40,6 +41,7 @@ public class ShadowingSceneRepositoryAdapter implements ShadowingSceneRepository
     }
 
     @Override
+    @Transactional
     public void saveAll(UUID episodeId, List<ExtractedScene> scenes) {
         for (int i = 0; i < scenes.size(); i++) {
             ExtractedScene scene = scenes.get(i);
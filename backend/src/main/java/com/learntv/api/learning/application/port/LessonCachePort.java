@@ -0,0 +1,14 @@
+package com.learntv.api.learning.application.port;
+
+/**
+ * Port for invalidating cached lessons.
+ * Lessons are immutable once generated, so the only time a cached lesson
+ * goes stale is when its episode is regenerated.
+ */
+public interface LessonCachePort {
+
+    /**
+     * Drop the cached lesson for an episode so the next read reloads it.
+     */
+    void evict(String showSlug, String episodeSlug);
+}
@@ -0,0 +1,130 @@
+package com.learntv.api.learning.application.service;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Read-only view over {@code phoneme-index.bin}, generated at build time from
+ * the CMU Pronouncing Dictionary by the {@code generatePhonemeIndex} Gradle task.
+ *
+ * Words are stored sorted as ASCII bytes in one blob and their phonemes as
+ * one-byte symbol ids in another, both addressed through offset tables, so
+ * the whole dictionary lives in a handful of arrays instead of ~125k map entries.
+ */
+final class PhonemeIndex {
+
+    private static final int MAGIC = 0x50484958; // "PHIX"
+    private static final int VERSION = 1;
+
+    private final String[] alphabet;
+    private final int[] wordOffsets;
+    private final int[] phonemeOffsets;
+    private final byte[] words;
+    private final byte[] phonemes;
+
+    private PhonemeIndex(String[] alphabet, int[] wordOffsets, int[] phonemeOffsets,
+                         byte[] words, byte[] phonemes) {
+        this.alphabet = alphabet;
+        this.wordOffsets = wordOffsets;
+        this.phonemeOffsets = phonemeOffsets;
+        this.words = words;
+        this.phonemes = phonemes;
+    }
+
+    static PhonemeIndex read(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(input);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a phoneme index");
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported phoneme index version " + version);
+        }
+
+        String[] alphabet = new String[in.readUnsignedByte()];
+        for (int i = 0; i < alphabet.length; i++) {
+            alphabet[i] = in.readUTF();
+        }
+
+        int wordCount = in.readInt();
+        int[] wordOffsets = readInts(in, wordCount + 1);
+        int[] phonemeOffsets = readInts(in, wordCount + 1);
+        byte[] words = new byte[wordOffsets[wordCount]];
+        in.readFully(words);
+        byte[] phonemes = new byte[phonemeOffsets[wordCount]];
+        in.readFully(phonemes);
+
+        return new PhonemeIndex(alphabet, wordOffsets, phonemeOffsets, words, phonemes);
+    }
+
+    /** ARPAbet symbols, indexed by the ids returned from {@link #phonemeAt}. */
+    String[] alphabet() {
+        return alphabet.clone();
+    }
+
+    int wordCount() {
+        return wordOffsets.length - 1;
+    }
+
+    /**
+     * Binary search for the word formed by the characters of {@code text} in
+     * {@code [start, end)} that survive {@link #normalize} (lowercased; anything
+     * other than a-z and apostrophes dropped).
+     *
+     * @return the word's index, or -1 if it is not in the dictionary
+     */
+    int find(CharSequence text, int start, int end) {
+        int low = 0;
+        int high = wordCount() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(mid, text, start, end);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    int phonemeCount(int word) {
+        return phonemeOffsets[word + 1] - phonemeOffsets[word];
+    }
+
+    int phonemeAt(int word, int position) {
+        return phonemes[phonemeOffsets[word] + position];
+    }
+
+    /**
+     * Lowercase a character and map anything lookup ignores to 0.
+     */
+    static char normalize(char c) {
+        char lower = Character.toLowerCase(c);
+        return (lower >= 'a' && lower <= 'z') || lower == '\'' ? lower : 0;
+    }
+
+    private int compare(int word, CharSequence text, int start, int end) {
+        int pos = wordOffsets[word];
+        int wordEnd = wordOffsets[word + 1];
+        for (int i = start; i < end; i++) {
+            char c = normalize(text.charAt(i));
+            if (c == 0) continue;
+            if (pos == wordEnd) return -1;
+            int diff = words[pos++] - c;
+            if (diff != 0) return diff;
+        }
+        return pos == wordEnd ? 0 : 1;
+    }
+
+    private static int[] readInts(DataInputStream in, int count) throws IOException {
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+}
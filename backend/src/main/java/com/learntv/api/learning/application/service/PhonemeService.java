@@ -5,20 +5,23 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
-import java.util.*;
+import java.io.BufferedInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Looks up IPA phonemes for English words using the CMU Pronouncing Dictionary.
  * The dictionary maps words to ARPAbet symbols, which are then converted to IPA.
+ * It is precompiled at build time into {@code phoneme-index.bin} (see {@link PhonemeIndex}),
+ * with stress digits already stripped except for AH0.
  */
 @Service
 @Slf4j
 public class PhonemeService {
 
-    private final Map<String, List<String>> dictionary = new HashMap<>();
+    private volatile PhonemeIndex index;
+    private String[] symbolIpa;
 
     private static final Map<String, String> ARPABET_TO_IPA = Map.ofEntries(
             Map.entry("AA", "ɑː"),
@@ -65,71 +68,52 @@ public class PhonemeService {
 
     @PostConstruct
     void loadDictionary() {
-        try {
-            var resource = new ClassPathResource("cmudict.txt");
-            try (var reader = new BufferedReader(
-                    new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    if (line.isBlank() || line.startsWith(";;;")) continue;
-
-                    int space = line.indexOf(' ');
-                    if (space < 0) continue;
-
-                    String word = line.substring(0, space).toLowerCase();
-                    // Skip alternate pronunciations like "a(2)"
-                    int paren = word.indexOf('(');
-                    if (paren > 0) continue;
-
-                    String[] arpabetTokens = line.substring(space).trim().split("\\s+");
-                    List<String> ipaPhonemes = new ArrayList<>();
-
-                    for (String token : arpabetTokens) {
-                        String ipa = convertArpabetToIpa(token);
-                        if (ipa != null && !ipaPhonemes.contains(ipa)) {
-                            ipaPhonemes.add(ipa);
-                        }
-                    }
-
-                    if (!ipaPhonemes.isEmpty()) {
-                        dictionary.put(word, List.copyOf(ipaPhonemes));
-                    }
-                }
+        try (var input = new BufferedInputStream(new ClassPathResource("phoneme-index.bin").getInputStream())) {
+            PhonemeIndex loaded = PhonemeIndex.read(input);
+            String[] symbols = loaded.alphabet();
+            String[] ipa = new String[symbols.length];
+            for (int i = 0; i < symbols.length; i++) {
+                ipa[i] = ARPABET_TO_IPA.get(symbols[i]);
             }
-            log.info("Loaded CMU dictionary with {} words", dictionary.size());
+            this.symbolIpa = ipa;
+            this.index = loaded;
+            log.info("Loaded phoneme index with {} words", loaded.wordCount());
         } catch (Exception e) {
-            log.error("Failed to load CMU dictionary: {}", e.getMessage());
+            log.error("Failed to load phoneme index: {}", e.getMessage());
         }
     }
 
     /**
      * Look up the unique IPA phonemes for a word or phrase.
      * For multi-word phrases, phonemes from all words are combined (deduplicated).
+     * Words are split on whitespace, lowercased, and stripped of anything but
+     * letters and apostrophes while being matched, without building substrings.
      */
     public List<String> lookup(String text) {
-        if (text == null || text.isBlank()) return List.of();
-
-        String[] words = text.toLowerCase().replaceAll("[^a-z\\s']", "").trim().split("\\s+");
-        LinkedHashSet<String> phonemes = new LinkedHashSet<>();
-
-        for (String word : words) {
-            List<String> wordPhonemes = dictionary.get(word);
-            if (wordPhonemes != null) {
-                phonemes.addAll(wordPhonemes);
+        PhonemeIndex index = this.index;
+        if (index == null || text == null || text.isBlank()) return List.of();
+
+        boolean[] seen = new boolean[symbolIpa.length];
+        List<String> phonemes = new ArrayList<>();
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && Character.isWhitespace(text.charAt(i))) i++;
+            int start = i;
+            while (i < length && !Character.isWhitespace(text.charAt(i))) i++;
+            if (start == i) break;
+
+            int word = index.find(text, start, i);
+            if (word < 0) continue;
+            for (int p = 0, count = index.phonemeCount(word); p < count; p++) {
+                int symbol = index.phonemeAt(word, p);
+                if (!seen[symbol] && symbolIpa[symbol] != null) {
+                    seen[symbol] = true;
+                    phonemes.add(symbolIpa[symbol]);
+                }
             }
         }
 
         return List.copyOf(phonemes);
     }
-
-    private String convertArpabetToIpa(String arpabet) {
-        // Check for AH0 specifically (schwa) before stripping stress
-        if (arpabet.equals("AH0")) {
-            return ARPABET_TO_IPA.get("AH0");
-        }
-
-        // Strip stress digits (0, 1, 2) from vowels
-        String base = arpabet.replaceAll("[012]$", "");
-        return ARPABET_TO_IPA.get(base);
-    }
 }
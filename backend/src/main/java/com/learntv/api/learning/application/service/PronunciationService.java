@@ -1,5 +1,6 @@
 package com.learntv.api.learning.application.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.learntv.api.generation.adapter.out.openai.OpenAiClient;
@@ -161,25 +162,33 @@ public class PronunciationService {
                     safeExpected, expectedWords, expectedWords != 1 ? "s" : "",
                     similarity * 100);
 
-            String response = openAiClient.chatCompletion(systemPrompt, userPrompt);
-            JsonNode root = objectMapper.readTree(response);
-
-            String expectedIpa = root.has("expectedIpa") ? root.get("expectedIpa").asText() : null;
-
-            JsonNode suggestionsNode = root.path("suggestions");
-            List<String> suggestions = new ArrayList<>();
-            if (suggestionsNode.isArray()) {
-                for (JsonNode node : suggestionsNode) {
-                    suggestions.add(node.asText());
-                }
-            }
-            return new FeedbackResult(expectedIpa, suggestions);
+            return openAiClient.chatCompletion(systemPrompt, userPrompt, this::parseFeedback);
         } catch (Exception e) {
             log.warn("Failed to generate pronunciation feedback: {}", e.getMessage());
             return new FeedbackResult(null, List.of());
         }
     }
 
+    private FeedbackResult parseFeedback(String response) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Pronunciation feedback is not JSON", e);
+        }
+
+        String expectedIpa = root.has("expectedIpa") ? root.get("expectedIpa").asText() : null;
+
+        JsonNode suggestionsNode = root.path("suggestions");
+        List<String> suggestions = new ArrayList<>();
+        if (suggestionsNode.isArray()) {
+            for (JsonNode node : suggestionsNode) {
+                suggestions.add(node.asText());
+            }
+        }
+        return new FeedbackResult(expectedIpa, suggestions);
+    }
+
     /**
      * Result of pronunciation evaluation.
      *
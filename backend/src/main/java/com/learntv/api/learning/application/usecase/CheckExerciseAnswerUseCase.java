@@ -5,7 +5,9 @@ import com.learntv.api.learning.domain.exception.EpisodeNotFoundException;
 import com.learntv.api.learning.domain.exception.ExerciseNotFoundException;
 import com.learntv.api.learning.domain.model.Exercise;
 import com.learntv.api.learning.domain.model.Lesson;
-import com.learntv.api.progress.application.port.UserProgressRepository;
+import com.learntv.api.progress.application.port.ProgressBuffer;
+import com.learntv.api.progress.application.port.ProgressEventPublisher;
+import com.learntv.api.progress.domain.event.ProgressEvent;
 import com.learntv.api.progress.domain.model.UserProgress;
 
 import java.util.UUID;
@@ -14,20 +16,24 @@ import java.util.UUID;
  * Use case: Check an exercise answer and update user progress.
  *
  * Orchestrates:
- * - Loading the lesson to find the exercise
+ * - Loading the lesson to find the exercise (served from the lesson cache)
  * - Checking the answer using domain logic
- * - Updating user progress if correct
- * - Determining if lesson is now complete
+ * - Adding the points to the buffered progress if correct (written behind in batches)
+ * - Determining if lesson is now complete (the completion is written before answering)
+ * - Publishing progress events for the user's stats (aggregated asynchronously)
  */
 public class CheckExerciseAnswerUseCase {
 
     private final LessonQueryPort lessonQueryPort;
-    private final UserProgressRepository progressRepository;
+    private final ProgressBuffer progressBuffer;
+    private final ProgressEventPublisher eventPublisher;
 
     public CheckExerciseAnswerUseCase(LessonQueryPort lessonQueryPort,
-                                       UserProgressRepository progressRepository) {
+                                       ProgressBuffer progressBuffer,
+                                       ProgressEventPublisher eventPublisher) {
         this.lessonQueryPort = lessonQueryPort;
-        this.progressRepository = progressRepository;
+        this.progressBuffer = progressBuffer;
+        this.eventPublisher = eventPublisher;
     }
 
     public AnswerResult execute(UUID userId, String showSlug, String episodeSlug,
@@ -45,18 +51,20 @@ public class CheckExerciseAnswerUseCase {
         int pointsEarned = correct ? exercise.getPoints() : 0;
 
         // Update progress if correct
-        UserProgress progress = getOrCreateProgress(userId, lesson.getEpisode().getId().value());
-
+        UUID episodeId = lesson.getEpisode().getId().value();
+        UserProgress progress;
         if (correct) {
-            progress.updateProgress("exercises", pointsEarned);
-            progress = progressRepository.save(progress);
+            progress = progressBuffer.addPoints(userId, episodeId, "exercises", pointsEarned);
+            eventPublisher.publish(ProgressEvent.exerciseCompleted(userId, exerciseId));
+        } else {
+            progress = getOrCreateProgress(userId, episodeId);
         }
 
         // Check if lesson is now complete
         boolean lessonComplete = lesson.isComplete(progress);
         if (lessonComplete && !progress.isCompleted()) {
-            progress.markCompleted();
-            progress = progressRepository.save(progress);
+            progress = progressBuffer.complete(userId, episodeId);
+            eventPublisher.publishEpisodeCompleted(userId, episodeId, lesson.getVocabularyCount());
         }
 
         return new AnswerResult(
@@ -71,7 +79,7 @@ public class CheckExerciseAnswerUseCase {
     }
 
     private UserProgress getOrCreateProgress(UUID userId, UUID episodeId) {
-        return progressRepository.findByUserIdAndEpisodeId(userId, episodeId)
+        return progressBuffer.find(userId, episodeId)
                 .orElseGet(() -> UserProgress.builder()
                         .userId(userId)
                         .episodeId(episodeId)
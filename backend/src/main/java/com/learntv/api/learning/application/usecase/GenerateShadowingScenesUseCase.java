@@ -0,0 +1,138 @@
+package com.learntv.api.learning.application.usecase;
+
+import com.learntv.api.catalog.application.port.ShowRepository;
+import com.learntv.api.catalog.domain.model.Show;
+import com.learntv.api.generation.application.port.out.GenerationJobRepository;
+import com.learntv.api.generation.application.port.out.ShadowingExtractionPort;
+import com.learntv.api.generation.application.port.out.ShowMetadataPort;
+import com.learntv.api.generation.application.service.EpisodeScriptService;
+import com.learntv.api.generation.domain.model.ExtractedScene;
+import com.learntv.api.generation.domain.model.SceneCandidate;
+import com.learntv.api.generation.domain.model.SubtitleCue;
+import com.learntv.api.generation.domain.service.ShadowingSceneSelector;
+import com.learntv.api.learning.application.port.EpisodeRepository;
+import com.learntv.api.learning.application.port.LessonQueryPort;
+import com.learntv.api.learning.application.port.ShadowingSceneRepository;
+import com.learntv.api.learning.domain.model.Episode;
+import com.learntv.api.learning.domain.model.Lesson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Generates and stores an episode's shadowing scenes. Runs inside a shadowing
+ * generation job, never on a request thread.
+ */
+public class GenerateShadowingScenesUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(GenerateShadowingScenesUseCase.class);
+
+    private final ShadowingSceneRepository shadowingSceneRepository;
+    private final EpisodeRepository episodeRepository;
+    private final ShowRepository showRepository;
+    private final ShowMetadataPort showMetadataPort;
+    private final GenerationJobRepository generationJobRepository;
+    private final EpisodeScriptService episodeScriptService;
+    private final LessonQueryPort lessonQueryPort;
+    private final ShadowingExtractionPort shadowingExtractionPort;
+    private final ShadowingSceneSelector shadowingSceneSelector;
+
+    public GenerateShadowingScenesUseCase(ShadowingSceneRepository shadowingSceneRepository,
+                                           EpisodeRepository episodeRepository,
+                                           ShowRepository showRepository,
+                                           ShowMetadataPort showMetadataPort,
+                                           GenerationJobRepository generationJobRepository,
+                                           EpisodeScriptService episodeScriptService,
+                                           LessonQueryPort lessonQueryPort,
+                                           ShadowingExtractionPort shadowingExtractionPort,
+                                           ShadowingSceneSelector shadowingSceneSelector) {
+        this.shadowingSceneRepository = shadowingSceneRepository;
+        this.episodeRepository = episodeRepository;
+        this.showRepository = showRepository;
+        this.showMetadataPort = showMetadataPort;
+        this.generationJobRepository = generationJobRepository;
+        this.episodeScriptService = episodeScriptService;
+        this.lessonQueryPort = lessonQueryPort;
+        this.shadowingExtractionPort = shadowingExtractionPort;
+        this.shadowingSceneSelector = shadowingSceneSelector;
+    }
+
+    /**
+     * Does nothing if the episode already has scenes.
+     */
+    public void execute(UUID episodeId) {
+        if (shadowingSceneRepository.existsByEpisodeId(episodeId)) {
+            log.info("Shadowing scenes already exist for episode {}", episodeId);
+            return;
+        }
+
+        Episode episode = episodeRepository.findById(episodeId)
+                .orElseThrow(() -> new IllegalArgumentException("Episode not found: " + episodeId));
+        log.info("Generating shadowing scenes for {} S{}E{}", episode.getShowSlug(),
+                episode.getSeasonNumber(), episode.getEpisodeNumber());
+
+        String imdbId = resolveImdbId(episode);
+
+        // Fetch the script's timed cues
+        List<SubtitleCue> cues = episodeScriptService
+                .getCues(imdbId, episode.getSeasonNumber(), episode.getEpisodeNumber(), "en")
+                .orElseThrow(() -> {
+                    log.error("No script found for imdbId={}, S{}E{}", imdbId,
+                            episode.getSeasonNumber(), episode.getEpisodeNumber());
+                    return new RuntimeException("No script found for episode: " + episode.getSlug());
+                });
+        log.info("Found script: {} cues", cues.size());
+
+        // Get vocabulary terms and expressions from the lesson
+        Lesson lesson = lessonQueryPort.loadFullLesson(episode.getShowSlug(), episode.getSlug())
+                .orElseThrow(() -> new IllegalArgumentException("Lesson not found for episode: " + episodeId));
+
+        List<String> vocabTerms = lesson.getVocabulary().stream()
+                .map(v -> v.getTerm())
+                .toList();
+
+        List<String> expressions = lesson.getExpressions().stream()
+                .map(e -> e.getPhrase())
+                .toList();
+        log.info("Lesson has {} vocab terms, {} expressions", vocabTerms.size(), expressions.size());
+
+        // Score the whole episode locally; only the best candidates go to the AI
+        List<String> terms = new ArrayList<>(vocabTerms);
+        terms.addAll(expressions);
+        List<SceneCandidate> candidates = shadowingSceneSelector.selectCandidates(cues, terms);
+        log.info("Preselected {} candidate scenes from {} cues", candidates.size(), cues.size());
+
+        // Call AI to extract scenes
+        List<ExtractedScene> extractedScenes = shadowingExtractionPort
+                .extractShadowingScenes(candidates, vocabTerms, expressions);
+        log.info("AI returned {} scenes", extractedScenes.size());
+
+        if (extractedScenes.isEmpty()) {
+            throw new RuntimeException("No shadowing scenes found for episode: " + episode.getSlug());
+        }
+        shadowingSceneRepository.saveAll(episodeId, extractedScenes);
+    }
+
+    /**
+     * The lesson job that generated the episode recorded its IMDB ID; only
+     * episodes generated before jobs existed need the TMDB lookup.
+     */
+    private String resolveImdbId(Episode episode) {
+        return generationJobRepository.findImdbIdByEpisodeId(episode.getId().value())
+                .orElseGet(() -> {
+                    Show show = showRepository.findBySlug(episode.getShowSlug())
+                            .orElseThrow(() -> new RuntimeException("Show not found: " + episode.getShowSlug()));
+                    if (show.getTmdbId() == null) {
+                        throw new RuntimeException("Show has no TMDB ID, cannot look up script: "
+                                + episode.getShowSlug());
+                    }
+                    String imdbId = showMetadataPort.getImdbId(
+                            show.getTmdbId(), episode.getSeasonNumber(), episode.getEpisodeNumber());
+                    log.info("Resolved IMDB ID from TMDB: {}", imdbId);
+                    return imdbId;
+                });
+    }
+}
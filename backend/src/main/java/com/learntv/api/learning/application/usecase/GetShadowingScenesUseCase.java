@@ -1,118 +1,61 @@
 package com.learntv.api.learning.application.usecase;
 
-import com.learntv.api.catalog.application.port.ShowRepository;
-import com.learntv.api.catalog.domain.model.Show;
-import com.learntv.api.generation.adapter.out.persistence.EpisodeScriptEntity;
-import com.learntv.api.generation.adapter.out.persistence.EpisodeScriptRepository;
-import com.learntv.api.generation.application.port.out.ShadowingExtractionPort;
-import com.learntv.api.generation.application.port.out.ShowMetadataPort;
-import com.learntv.api.generation.domain.model.ExtractedScene;
+import com.learntv.api.generation.application.port.in.RequestShadowingScenesUseCase;
+import com.learntv.api.generation.domain.model.GenerationJob;
 import com.learntv.api.learning.application.port.EpisodeRepository;
-import com.learntv.api.learning.application.port.LessonQueryPort;
 import com.learntv.api.learning.application.port.ShadowingSceneRepository;
 import com.learntv.api.learning.application.port.ShadowingSceneRepository.ShadowingScene;
 import com.learntv.api.learning.domain.exception.EpisodeNotFoundException;
 import com.learntv.api.learning.domain.model.Episode;
-import com.learntv.api.learning.domain.model.Lesson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.UUID;
 
+/**
+ * Reads an episode's shadowing scenes. Scenes are normally generated right after
+ * the lesson; if they are not there yet, this starts (or joins) the episode's
+ * shadowing job and returns it instead of waiting.
+ */
 public class GetShadowingScenesUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(GetShadowingScenesUseCase.class);
 
     private final ShadowingSceneRepository shadowingSceneRepository;
     private final EpisodeRepository episodeRepository;
-    private final ShowRepository showRepository;
-    private final ShowMetadataPort showMetadataPort;
-    private final EpisodeScriptRepository episodeScriptRepository;
-    private final LessonQueryPort lessonQueryPort;
-    private final ShadowingExtractionPort shadowingExtractionPort;
+    private final RequestShadowingScenesUseCase requestShadowingScenesUseCase;
 
     public GetShadowingScenesUseCase(ShadowingSceneRepository shadowingSceneRepository,
                                       EpisodeRepository episodeRepository,
-                                      ShowRepository showRepository,
-                                      ShowMetadataPort showMetadataPort,
-                                      EpisodeScriptRepository episodeScriptRepository,
-                                      LessonQueryPort lessonQueryPort,
-                                      ShadowingExtractionPort shadowingExtractionPort) {
+                                      RequestShadowingScenesUseCase requestShadowingScenesUseCase) {
         this.shadowingSceneRepository = shadowingSceneRepository;
         this.episodeRepository = episodeRepository;
-        this.showRepository = showRepository;
-        this.showMetadataPort = showMetadataPort;
-        this.episodeScriptRepository = episodeScriptRepository;
-        this.lessonQueryPort = lessonQueryPort;
-        this.shadowingExtractionPort = shadowingExtractionPort;
+        this.requestShadowingScenesUseCase = requestShadowingScenesUseCase;
     }
 
-    public List<ShadowingScene> execute(String showSlug, String episodeSlug) {
-        log.info("Shadowing request for show={}, episode={}", showSlug, episodeSlug);
-
+    public ShadowingScenesResult execute(String showSlug, String episodeSlug) {
         Episode episode = episodeRepository.findByShowSlugAndEpisodeSlug(showSlug, episodeSlug)
                 .orElseThrow(() -> new EpisodeNotFoundException(showSlug, episodeSlug));
-        log.info("Found episode: id={}, S{}E{}", episode.getId().value(),
-                episode.getSeasonNumber(), episode.getEpisodeNumber());
+        UUID episodeId = episode.getId().value();
 
-        // Check if scenes already exist (cached)
-        if (shadowingSceneRepository.existsByEpisodeId(episode.getId().value())) {
-            log.info("Returning cached shadowing scenes for {}", episodeSlug);
-            return shadowingSceneRepository.findByEpisodeId(episode.getId().value());
+        List<ShadowingScene> scenes = shadowingSceneRepository.findByEpisodeId(episodeId);
+        if (!scenes.isEmpty()) {
+            return new ShadowingScenesResult(scenes, null);
         }
 
-        // Need to generate scenes
-        log.info("Generating shadowing scenes for {}", episodeSlug);
-
-        // Get the show's TMDB ID to look up the IMDB ID for the script
-        Show show = showRepository.findBySlug(showSlug)
-                .orElseThrow(() -> {
-                    log.error("Show not found: {}", showSlug);
-                    return new RuntimeException("Show not found: " + showSlug);
-                });
-        log.info("Found show: tmdbId={}", show.getTmdbId());
+        log.info("No shadowing scenes yet for {}/{}, requesting generation", showSlug, episodeSlug);
+        GenerationJob job = requestShadowingScenesUseCase.requestScenes(
+                episodeId, episode.getSeasonNumber(), episode.getEpisodeNumber());
+        return new ShadowingScenesResult(List.of(), job);
+    }
 
-        if (show.getTmdbId() == null) {
-            log.error("Show has no TMDB ID: {}", showSlug);
-            throw new RuntimeException("Show has no TMDB ID, cannot look up script: " + showSlug);
+    /**
+     * Either the episode's scenes, or the job generating them.
+     */
+    public record ShadowingScenesResult(List<ShadowingScene> scenes, GenerationJob pendingJob) {
+        public boolean isReady() {
+            return pendingJob == null;
         }
-
-        String imdbId = showMetadataPort.getImdbId(
-                show.getTmdbId(), episode.getSeasonNumber(), episode.getEpisodeNumber());
-        log.info("Resolved IMDB ID: {}", imdbId);
-
-        // Fetch the raw SRT script
-        EpisodeScriptEntity script = episodeScriptRepository
-                .findByImdbIdAndSeasonNumberAndEpisodeNumberAndLanguage(
-                        imdbId, episode.getSeasonNumber(), episode.getEpisodeNumber(), "en")
-                .orElseThrow(() -> {
-                    log.error("No script found for imdbId={}, S{}E{}", imdbId,
-                            episode.getSeasonNumber(), episode.getEpisodeNumber());
-                    return new RuntimeException("No script found for episode: " + episodeSlug);
-                });
-        log.info("Found script: {} chars raw content", script.getRawContent().length());
-
-        // Get vocabulary terms and expressions from the lesson
-        Lesson lesson = lessonQueryPort.loadFullLesson(showSlug, episodeSlug)
-                .orElseThrow(() -> new EpisodeNotFoundException(showSlug, episodeSlug));
-
-        List<String> vocabTerms = lesson.getVocabulary().stream()
-                .map(v -> v.getTerm())
-                .toList();
-
-        List<String> expressions = lesson.getExpressions().stream()
-                .map(e -> e.getPhrase())
-                .toList();
-        log.info("Lesson has {} vocab terms, {} expressions", vocabTerms.size(), expressions.size());
-
-        // Call AI to extract scenes
-        log.info("Calling AI to extract shadowing scenes...");
-        List<ExtractedScene> extractedScenes = shadowingExtractionPort
-                .extractShadowingScenes(script.getRawContent(), vocabTerms, expressions);
-        log.info("AI returned {} scenes", extractedScenes.size());
-
-        // Persist and return
-        shadowingSceneRepository.saveAll(episode.getId().value(), extractedScenes);
-        return shadowingSceneRepository.findByEpisodeId(episode.getId().value());
     }
 }
@@ -3,7 +3,7 @@ package com.learntv.api.learning.application.usecase;
 import com.learntv.api.learning.application.port.LessonQueryPort;
 import com.learntv.api.learning.domain.exception.EpisodeNotFoundException;
 import com.learntv.api.learning.domain.model.Lesson;
-import com.learntv.api.progress.application.port.UserProgressRepository;
+import com.learntv.api.progress.application.port.ProgressBuffer;
 import com.learntv.api.progress.domain.model.UserProgress;
 
 import java.util.Optional;
@@ -20,12 +20,12 @@ import java.util.UUID;
 public class ViewEpisodeLessonUseCase {
 
     private final LessonQueryPort lessonQueryPort;
-    private final UserProgressRepository progressRepository;
+    private final ProgressBuffer progressBuffer;
 
     public ViewEpisodeLessonUseCase(LessonQueryPort lessonQueryPort,
-                                     UserProgressRepository progressRepository) {
+                                     ProgressBuffer progressBuffer) {
         this.lessonQueryPort = lessonQueryPort;
-        this.progressRepository = progressRepository;
+        this.progressBuffer = progressBuffer;
     }
 
     public LessonWithProgress execute(UUID userId, String showSlug, String episodeSlug) {
@@ -34,8 +34,8 @@ public class ViewEpisodeLessonUseCase {
                 .orElseThrow(() -> new EpisodeNotFoundException(showSlug, episodeSlug));
 
         // Load user's progress (may not exist yet)
-        Optional<UserProgress> progressOpt = progressRepository
-                .findByUserIdAndEpisodeId(userId, lesson.getEpisode().getId().value());
+        Optional<UserProgress> progressOpt = progressBuffer
+                .find(userId, lesson.getEpisode().getId().value());
 
         UserProgress progress = progressOpt.orElse(null);
 
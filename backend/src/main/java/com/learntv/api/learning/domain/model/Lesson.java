@@ -17,6 +17,8 @@ public class Lesson {
     private final List<GrammarPoint> grammarPoints;
     private final List<Expression> expressions;
     private final List<Exercise> exercises;
+    private final Map<UUID, Exercise> exercisesById;
+    private final int totalPoints;
 
     public Lesson(Episode episode,
                   List<Vocabulary> vocabulary,
@@ -28,6 +30,18 @@ public class Lesson {
         this.grammarPoints = grammarPoints != null ? List.copyOf(grammarPoints) : List.of();
         this.expressions = expressions != null ? List.copyOf(expressions) : List.of();
         this.exercises = exercises != null ? List.copyOf(exercises) : List.of();
+        this.exercisesById = indexExercises(this.exercises);
+        this.totalPoints = this.exercises.stream()
+                .mapToInt(Exercise::getPoints)
+                .sum();
+    }
+
+    private static Map<UUID, Exercise> indexExercises(List<Exercise> exercises) {
+        Map<UUID, Exercise> index = new HashMap<>(exercises.size() * 2);
+        for (Exercise exercise : exercises) {
+            index.putIfAbsent(exercise.getId(), exercise);
+        }
+        return Collections.unmodifiableMap(index);
     }
 
     // ==================== Getters ====================
@@ -58,9 +72,7 @@ public class Lesson {
      * Total possible points for all exercises in this lesson.
      */
     public int getTotalPoints() {
-        return exercises.stream()
-                .mapToInt(Exercise::getPoints)
-                .sum();
+        return totalPoints;
     }
 
     /**
@@ -132,12 +144,10 @@ public class Lesson {
     }
 
     /**
-     * Find exercise by ID.
+     * Find exercise by ID (constant time, backed by an index built at construction).
      */
     public Optional<Exercise> findExercise(UUID exerciseId) {
-        return exercises.stream()
-                .filter(e -> e.getId().equals(exerciseId))
-                .findFirst();
+        return Optional.ofNullable(exercisesById.get(exerciseId));
     }
 
     // ==================== Content Statistics ====================
@@ -1,9 +1,13 @@
 package com.learntv.api.progress.adapter.out.persistence;
 
 import com.learntv.api.progress.application.port.UserProgressRepository;
+import com.learntv.api.progress.domain.model.ProgressDelta;
 import com.learntv.api.progress.domain.model.UserProgress;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,10 +15,26 @@ import java.util.UUID;
 @Repository
 public class UserProgressRepositoryAdapter implements UserProgressRepository {
 
+    private static final String ADD_PROGRESS = """
+            INSERT INTO user_episode_progress (id, user_id, episode_id, vocabulary_score, grammar_score,
+                                               expressions_score, exercises_score, total_points, completed, last_accessed)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (user_id, episode_id) DO UPDATE SET
+                vocabulary_score = user_episode_progress.vocabulary_score + EXCLUDED.vocabulary_score,
+                grammar_score = user_episode_progress.grammar_score + EXCLUDED.grammar_score,
+                expressions_score = user_episode_progress.expressions_score + EXCLUDED.expressions_score,
+                exercises_score = user_episode_progress.exercises_score + EXCLUDED.exercises_score,
+                total_points = user_episode_progress.total_points + EXCLUDED.total_points,
+                completed = user_episode_progress.completed OR EXCLUDED.completed,
+                last_accessed = GREATEST(user_episode_progress.last_accessed, EXCLUDED.last_accessed)
+            """;
+
     private final UserProgressJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public UserProgressRepositoryAdapter(UserProgressJpaRepository jpaRepository) {
+    public UserProgressRepositoryAdapter(UserProgressJpaRepository jpaRepository, JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -31,9 +51,21 @@ public class UserProgressRepositoryAdapter implements UserProgressRepository {
     }
 
     @Override
-    public UserProgress save(UserProgress progress) {
-        UserProgressJpaEntity entity = UserProgressJpaEntity.fromDomain(progress);
-        UserProgressJpaEntity saved = jpaRepository.save(entity);
-        return saved.toDomain();
+    public void addAll(Collection<ProgressDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ADD_PROGRESS, deltas, deltas.size(), (ps, delta) -> {
+            ps.setObject(1, delta.progressId());
+            ps.setObject(2, delta.userId());
+            ps.setObject(3, delta.episodeId());
+            ps.setInt(4, delta.vocabularyScore());
+            ps.setInt(5, delta.grammarScore());
+            ps.setInt(6, delta.expressionsScore());
+            ps.setInt(7, delta.exercisesScore());
+            ps.setInt(8, delta.totalPoints());
+            ps.setBoolean(9, delta.completed());
+            ps.setTimestamp(10, Timestamp.from(delta.lastAccessed()));
+        });
     }
 }
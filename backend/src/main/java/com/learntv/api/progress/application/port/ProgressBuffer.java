@@ -0,0 +1,31 @@
+package com.learntv.api.progress.application.port;
+
+import com.learntv.api.progress.domain.model.UserProgress;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Write-behind access to user progress. Points are added in memory,
+ * atomically per (user, episode), and written to the database in batches,
+ * so answering an exercise doesn't cost a write. Reads include points not
+ * written yet. Returned progress is a snapshot; changing it changes nothing.
+ */
+public interface ProgressBuffer {
+
+    Optional<UserProgress> find(UUID userId, UUID episodeId);
+
+    List<UserProgress> findByUserId(UUID userId);
+
+    /**
+     * Add points to a category, creating the progress if there is none.
+     */
+    UserProgress addPoints(UUID userId, UUID episodeId, String category, int points);
+
+    /**
+     * Mark the episode completed. The completion and any points still
+     * buffered for it are written before this returns.
+     */
+    UserProgress complete(UUID userId, UUID episodeId);
+}
@@ -0,0 +1,23 @@
+package com.learntv.api.progress.application.port;
+
+import com.learntv.api.progress.domain.event.ProgressEvent;
+
+import java.util.UUID;
+
+/**
+ * Outbound port for progress events. Publishing must be cheap and must not
+ * fail the caller: it runs on the answer-checking path.
+ */
+public interface ProgressEventPublisher {
+
+    void publish(ProgressEvent event);
+
+    /**
+     * An episode completed and the words its lesson teaches, published
+     * together by every use case that completes an episode.
+     */
+    default void publishEpisodeCompleted(UUID userId, UUID episodeId, int vocabularyCount) {
+        publish(ProgressEvent.episodeCompleted(userId, episodeId));
+        publish(ProgressEvent.wordsLearned(userId, episodeId, vocabularyCount));
+    }
+}
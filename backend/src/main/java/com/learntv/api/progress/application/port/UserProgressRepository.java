@@ -1,7 +1,9 @@
 package com.learntv.api.progress.application.port;
 
+import com.learntv.api.progress.domain.model.ProgressDelta;
 import com.learntv.api.progress.domain.model.UserProgress;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,5 +14,9 @@ public interface UserProgressRepository {
 
     List<UserProgress> findByUserId(UUID userId);
 
-    UserProgress save(UserProgress progress);
+    /**
+     * Add each delta to its stored progress, inserting the row if missing, in
+     * one batch. Scores are incremented in the database, not overwritten.
+     */
+    void addAll(Collection<ProgressDelta> deltas);
 }
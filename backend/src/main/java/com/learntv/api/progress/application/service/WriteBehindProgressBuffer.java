@@ -0,0 +1,351 @@
+package com.learntv.api.progress.application.service;
+
+import com.learntv.api.progress.application.port.ProgressBuffer;
+import com.learntv.api.progress.application.port.UserProgressRepository;
+import com.learntv.api.progress.domain.model.ProgressDelta;
+import com.learntv.api.progress.domain.model.UserProgress;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * In-memory implementation of {@link ProgressBuffer}.
+ *
+ * Each (user, episode) being worked on has an entry holding its current
+ * progress and a copy of what the database has. Changes are applied to the
+ * current progress under the entry's lock, so concurrent answers from the same
+ * user can't lose each other's points. Every {@code progress.write-behind.flush-interval}
+ * the difference of every entry is written in one batch of additive upserts;
+ * {@link #complete} writes its entry straight away, and leaves the episode
+ * not completed if that write fails. Entries with nothing to
+ * write for a whole interval are dropped and reloaded on next use.
+ *
+ * If the database fails to take a batch, everything stays buffered and the
+ * scheduled flushes back off, up to about a minute apart, until it takes one
+ * again. Only an entry whose own write is rejected (e.g. its episode was
+ * deleted) is given up on, after {@value #MAX_FLUSH_ATTEMPTS} rejected writes.
+ *
+ * A graceful shutdown writes what is buffered; a crash loses the points not
+ * written yet (one flush interval, unless the database was failing), never a
+ * completion. With several instances the database totals stay exact
+ * (increments add up), but a read on one instance may not include points
+ * buffered on another until they are flushed.
+ */
+@Service
+public class WriteBehindProgressBuffer implements ProgressBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindProgressBuffer.class);
+    // Consecutive rejected writes before an entry's points are given up on
+    static final int MAX_FLUSH_ATTEMPTS = 5;
+    // Failed batches double the pause between flushes up to 2^5 intervals
+    private static final int MAX_BACKOFF_SHIFT = 5;
+
+    private final UserProgressRepository progressRepository;
+    private final TransactionOperations transactionOperations;
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+    private final ScheduledExecutorService scheduler;
+    private final long flushIntervalNanos;
+    private final AtomicInteger failedBatches = new AtomicInteger();
+    private volatile long backoffUntilNanos = System.nanoTime();
+
+    public WriteBehindProgressBuffer(UserProgressRepository progressRepository,
+                                     TransactionOperations transactionOperations,
+                                     @Value("${progress.write-behind.flush-interval:2s}") Duration flushInterval) {
+        this.progressRepository = progressRepository;
+        this.transactionOperations = transactionOperations;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "progress-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flushIntervalNanos = flushInterval.toNanos();
+        long intervalMillis = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::scheduledFlush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Optional<UserProgress> find(UUID userId, UUID episodeId) {
+        Entry entry = entries.get(new Key(userId, episodeId));
+        if (entry != null) {
+            synchronized (entry) {
+                if (!entry.evicted) {
+                    return Optional.of(copyOf(entry.current));
+                }
+            }
+        }
+        return progressRepository.findByUserIdAndEpisodeId(userId, episodeId);
+    }
+
+    @Override
+    public List<UserProgress> findByUserId(UUID userId) {
+        Map<UUID, UserProgress> byEpisode = new LinkedHashMap<>();
+        progressRepository.findByUserId(userId).forEach(progress -> byEpisode.put(progress.getEpisodeId(), progress));
+        entries.forEach((key, entry) -> {
+            if (key.userId().equals(userId)) {
+                synchronized (entry) {
+                    if (!entry.evicted) {
+                        byEpisode.put(key.episodeId(), copyOf(entry.current));
+                    }
+                }
+            }
+        });
+        return List.copyOf(byEpisode.values());
+    }
+
+    @Override
+    public UserProgress addPoints(UUID userId, UUID episodeId, String category, int points) {
+        return update(userId, episodeId, progress -> progress.updateProgress(category, points));
+    }
+
+    @Override
+    public UserProgress complete(UUID userId, UUID episodeId) {
+        Key key = new Key(userId, episodeId);
+        UserProgress completed = update(userId, episodeId, UserProgress::markCompleted);
+        try {
+            write(List.of(key));
+        } catch (RuntimeException e) {
+            // Callers publish the completion once this returns; a retry must find the episode not completed yet
+            revertUnwrittenCompletion(key);
+            throw e;
+        }
+        return completed;
+    }
+
+    /**
+     * Write everything buffered. Writes never overlap.
+     */
+    public void flush() {
+        List<Key> keys = List.copyOf(entries.keySet());
+        try {
+            write(keys);
+            failedBatches.set(0);
+        } catch (RuntimeException e) {
+            if (!isRejectedData(e)) {
+                backOff(keys.size(), e);
+                return;
+            }
+            // One bad entry (e.g. its episode was deleted) must not hold back everyone else's progress.
+            // Each write takes flushLock on its own, so complete() isn't held up by the whole loop.
+            log.warn("Writing progress of {} entries failed, retrying one entry at a time", keys.size(), e);
+            for (Key key : keys) {
+                try {
+                    write(List.of(key));
+                } catch (RuntimeException entryFailure) {
+                    if (!isRejectedData(entryFailure)) {
+                        backOff(keys.size(), entryFailure);
+                        return;
+                    }
+                    giveUpAfterRepeatedRejections(key, entryFailure);
+                }
+            }
+            failedBatches.set(0);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        flushQuietly();
+    }
+
+    private UserProgress update(UUID userId, UUID episodeId, Consumer<UserProgress> change) {
+        Key key = new Key(userId, episodeId);
+        while (true) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                // Loaded outside any lock; if two threads race, one entry wins and both use it
+                UserProgress stored = progressRepository.findByUserIdAndEpisodeId(userId, episodeId)
+                        .orElseGet(() -> UserProgress.builder()
+                                .userId(userId)
+                                .episodeId(episodeId)
+                                .build());
+                Entry loaded = new Entry(stored);
+                entry = Objects.requireNonNullElse(entries.putIfAbsent(key, loaded), loaded);
+            }
+            synchronized (entry) {
+                // An evicted entry has nothing left to write; reload a fresh one
+                if (!entry.evicted) {
+                    change.accept(entry.current);
+                    return copyOf(entry.current);
+                }
+            }
+        }
+    }
+
+    /**
+     * Write the difference of the given entries in one transaction. Throws if
+     * the write fails, leaving the difference buffered for the next attempt.
+     */
+    private void write(Collection<Key> keys) {
+        synchronized (flushLock) {
+            Map<Entry, UserProgress> snapshots = new LinkedHashMap<>();
+            List<ProgressDelta> deltas = new ArrayList<>();
+            for (Key key : keys) {
+                Entry entry = entries.get(key);
+                if (entry == null) {
+                    continue;
+                }
+                synchronized (entry) {
+                    if (entry.evicted) {
+                        continue;
+                    }
+                    UserProgress snapshot = copyOf(entry.current);
+                    ProgressDelta delta = ProgressDelta.between(entry.written, snapshot);
+                    if (delta.isEmpty()) {
+                        // Idle for a whole interval
+                        entry.evicted = true;
+                        entries.remove(key, entry);
+                    } else {
+                        snapshots.put(entry, snapshot);
+                        deltas.add(delta);
+                    }
+                }
+            }
+            if (deltas.isEmpty()) {
+                return;
+            }
+
+            transactionOperations.executeWithoutResult(status -> progressRepository.addAll(deltas));
+
+            snapshots.forEach((entry, snapshot) -> {
+                synchronized (entry) {
+                    entry.written = snapshot;
+                    entry.rejectedWrites = 0;
+                }
+            });
+        }
+    }
+
+    private void revertUnwrittenCompletion(Key key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return;
+        }
+        synchronized (entry) {
+            if (!entry.evicted && entry.current.isCompleted() && !entry.written.isCompleted()) {
+                entry.current = UserProgress.builder()
+                        .id(entry.current.getId())
+                        .userId(entry.current.getUserId())
+                        .episodeId(entry.current.getEpisodeId())
+                        .vocabularyScore(entry.current.getVocabularyScore())
+                        .grammarScore(entry.current.getGrammarScore())
+                        .expressionsScore(entry.current.getExpressionsScore())
+                        .exercisesScore(entry.current.getExercisesScore())
+                        .totalPoints(entry.current.getTotalPoints())
+                        .completed(false)
+                        .lastAccessed(entry.current.getLastAccessed())
+                        .build();
+            }
+        }
+    }
+
+    private void giveUpAfterRepeatedRejections(Key key, RuntimeException failure) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return;
+        }
+        synchronized (entry) {
+            if (++entry.rejectedWrites < MAX_FLUSH_ATTEMPTS) {
+                log.warn("Writing progress of user {} on episode {} was rejected, will retry",
+                        key.userId(), key.episodeId(), failure);
+                return;
+            }
+            log.error("Dropping unwritten progress of user {} on episode {} after {} rejected writes: {}",
+                    key.userId(), key.episodeId(), entry.rejectedWrites,
+                    ProgressDelta.between(entry.written, entry.current), failure);
+            entry.evicted = true;
+            entries.remove(key, entry);
+        }
+    }
+
+    /**
+     * The database didn't take the batch: keep every entry's points buffered,
+     * without counting it against the entries, and pause scheduled flushes for
+     * twice as long after each consecutive failure.
+     */
+    private void backOff(int entryCount, RuntimeException failure) {
+        int failures = failedBatches.incrementAndGet();
+        long pause = flushIntervalNanos << Math.min(failures - 1, MAX_BACKOFF_SHIFT);
+        backoffUntilNanos = System.nanoTime() + pause;
+        log.warn("Writing progress of {} entries failed {} times in a row; it stays buffered, next flush in {} ms",
+                entryCount, failures, TimeUnit.NANOSECONDS.toMillis(pause), failure);
+    }
+
+    /**
+     * Whether the database rejected the data itself (a constraint, a bad value),
+     * as opposed to being unreachable, slow or contended.
+     */
+    private static boolean isRejectedData(RuntimeException e) {
+        return e instanceof NonTransientDataAccessException && !(e instanceof DataAccessResourceFailureException);
+    }
+
+    private void scheduledFlush() {
+        if (System.nanoTime() - backoffUntilNanos < 0) {
+            return;
+        }
+        flushQuietly();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Progress flush failed", e);
+        }
+    }
+
+    private static UserProgress copyOf(UserProgress progress) {
+        return UserProgress.builder()
+                .id(progress.getId())
+                .userId(progress.getUserId())
+                .episodeId(progress.getEpisodeId())
+                .vocabularyScore(progress.getVocabularyScore())
+                .grammarScore(progress.getGrammarScore())
+                .expressionsScore(progress.getExpressionsScore())
+                .exercisesScore(progress.getExercisesScore())
+                .totalPoints(progress.getTotalPoints())
+                .completed(progress.isCompleted())
+                .lastAccessed(progress.getLastAccessed())
+                .build();
+    }
+
+    private record Key(UUID userId, UUID episodeId) {}
+
+    /**
+     * Guarded by its own monitor.
+     */
+    private static final class Entry {
+
+        private UserProgress current;
+        private UserProgress written;
+        private boolean evicted;
+        private int rejectedWrites;
+
+        private Entry(UserProgress stored) {
+            this.written = stored;
+            this.current = copyOf(stored);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.learntv.api.progress.application.usecase;
 
-import com.learntv.api.progress.application.port.UserProgressRepository;
+import com.learntv.api.progress.application.port.ProgressBuffer;
 import com.learntv.api.progress.domain.model.ProgressSnapshot;
 import com.learntv.api.progress.domain.model.UserProgress;
 
@@ -15,17 +15,17 @@ import java.util.UUID;
  */
 public class GetUserProgressUseCase {
 
-    private final UserProgressRepository progressRepository;
+    private final ProgressBuffer progressBuffer;
 
-    public GetUserProgressUseCase(UserProgressRepository progressRepository) {
-        this.progressRepository = progressRepository;
+    public GetUserProgressUseCase(ProgressBuffer progressBuffer) {
+        this.progressBuffer = progressBuffer;
     }
 
     /**
      * Get overall progress for a user across all episodes.
      */
     public ProgressSnapshot execute(UUID userId) {
-        List<UserProgress> progressList = progressRepository.findByUserId(userId);
+        List<UserProgress> progressList = progressBuffer.findByUserId(userId);
         return ProgressSnapshot.fromProgress(userId, progressList);
     }
 
@@ -33,6 +33,6 @@ public class GetUserProgressUseCase {
      * Get progress for a specific episode.
      */
     public Optional<UserProgress> execute(UUID userId, UUID episodeId) {
-        return progressRepository.findByUserIdAndEpisodeId(userId, episodeId);
+        return progressBuffer.find(userId, episodeId);
     }
 }
@@ -1,6 +1,8 @@
 package com.learntv.api.progress.application.usecase;
 
-import com.learntv.api.progress.application.port.UserProgressRepository;
+import com.learntv.api.learning.application.port.EpisodeRepository;
+import com.learntv.api.progress.application.port.ProgressBuffer;
+import com.learntv.api.progress.application.port.ProgressEventPublisher;
 import com.learntv.api.progress.domain.model.UserProgress;
 
 import java.util.UUID;
@@ -10,35 +12,51 @@ import java.util.UUID;
  *
  * Handles:
  * - Creating new progress records
- * - Updating existing progress
- * - Marking episodes as complete
+ * - Adding points to existing progress (buffered, written behind in batches)
+ * - Marking episodes as complete (published with the lesson's word count for the user's stats)
  */
 public class UpdateProgressUseCase {
 
-    private final UserProgressRepository progressRepository;
+    private final ProgressBuffer progressBuffer;
+    private final ProgressEventPublisher eventPublisher;
+    private final EpisodeRepository episodeRepository;
 
-    public UpdateProgressUseCase(UserProgressRepository progressRepository) {
-        this.progressRepository = progressRepository;
+    public UpdateProgressUseCase(ProgressBuffer progressBuffer,
+                                  ProgressEventPublisher eventPublisher,
+                                  EpisodeRepository episodeRepository) {
+        this.progressBuffer = progressBuffer;
+        this.eventPublisher = eventPublisher;
+        this.episodeRepository = episodeRepository;
     }
 
     public UserProgress execute(UUID userId, UUID episodeId, ProgressUpdate update) {
-        // Get or create progress
-        UserProgress progress = progressRepository.findByUserIdAndEpisodeId(userId, episodeId)
-                .orElseGet(() -> UserProgress.builder()
-                        .userId(userId)
-                        .episodeId(episodeId)
-                        .build());
+        UserProgress progress = null;
 
         // Apply updates using domain logic
         if (update.category() != null && update.points() > 0) {
-            progress.updateProgress(update.category(), update.points());
+            progress = progressBuffer.addPoints(userId, episodeId, update.category(), update.points());
         }
 
         if (update.markComplete()) {
-            progress.markCompleted();
+            boolean completedBefore = progress != null
+                    ? progress.isCompleted()
+                    : progressBuffer.find(userId, episodeId).map(UserProgress::isCompleted).orElse(false);
+            progress = progressBuffer.complete(userId, episodeId);
+            if (!completedBefore) {
+                int vocabularyCount = episodeRepository.findVocabularyByEpisodeId(episodeId).size();
+                eventPublisher.publishEpisodeCompleted(userId, episodeId, vocabularyCount);
+            }
         }
 
-        return progressRepository.save(progress);
+        if (progress != null) {
+            return progress;
+        }
+        // Nothing to apply: return the progress as it is (or a new one)
+        return progressBuffer.find(userId, episodeId)
+                .orElseGet(() -> UserProgress.builder()
+                        .userId(userId)
+                        .episodeId(episodeId)
+                        .build());
     }
 
     /**
@@ -0,0 +1,56 @@
+package com.learntv.api.progress.domain.event;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Something a learner achieved, published by the use cases that record it
+ * and aggregated into their stats.
+ *
+ * The event id is derived from what happened rather than when, so the same
+ * achievement reported twice (by two use cases, a retried request or a
+ * replay) has the same id and is counted once.
+ *
+ * @param amount how many of the thing: 1, or the number of words for WORDS_LEARNED
+ */
+public record ProgressEvent(
+        UUID eventId,
+        UUID userId,
+        Type type,
+        int amount,
+        Instant occurredAt
+) {
+
+    public enum Type {
+        EXERCISE_COMPLETED,
+        EPISODE_COMPLETED,
+        WORDS_LEARNED
+    }
+
+    public ProgressEvent {
+        Objects.requireNonNull(eventId, "eventId is required");
+        Objects.requireNonNull(userId, "userId is required");
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(occurredAt, "occurredAt is required");
+    }
+
+    public static ProgressEvent exerciseCompleted(UUID userId, UUID exerciseId) {
+        return of(Type.EXERCISE_COMPLETED, userId, exerciseId, 1);
+    }
+
+    public static ProgressEvent episodeCompleted(UUID userId, UUID episodeId) {
+        return of(Type.EPISODE_COMPLETED, userId, episodeId, 1);
+    }
+
+    public static ProgressEvent wordsLearned(UUID userId, UUID episodeId, int words) {
+        return of(Type.WORDS_LEARNED, userId, episodeId, words);
+    }
+
+    private static ProgressEvent of(Type type, UUID userId, UUID subjectId, int amount) {
+        String key = type + ":" + userId + ":" + subjectId;
+        UUID eventId = UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8));
+        return new ProgressEvent(eventId, userId, type, amount, Instant.now());
+    }
+}
@@ -0,0 +1,46 @@
+package com.learntv.api.progress.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * What changed in one user's progress on one episode since it was last
+ * written: points to add to the stored scores, and whether it became
+ * completed. Applied by adding, so concurrent writers never overwrite
+ * each other's points.
+ *
+ * @param progressId id for the row if it doesn't exist yet
+ */
+public record ProgressDelta(
+        UUID progressId,
+        UUID userId,
+        UUID episodeId,
+        int vocabularyScore,
+        int grammarScore,
+        int expressionsScore,
+        int exercisesScore,
+        int totalPoints,
+        boolean completed,
+        Instant lastAccessed
+) {
+
+    public static ProgressDelta between(UserProgress written, UserProgress current) {
+        return new ProgressDelta(
+                written.getId(),
+                current.getUserId(),
+                current.getEpisodeId(),
+                current.getVocabularyScore() - written.getVocabularyScore(),
+                current.getGrammarScore() - written.getGrammarScore(),
+                current.getExpressionsScore() - written.getExpressionsScore(),
+                current.getExercisesScore() - written.getExercisesScore(),
+                current.getTotalPoints() - written.getTotalPoints(),
+                current.isCompleted() && !written.isCompleted(),
+                current.getLastAccessed()
+        );
+    }
+
+    public boolean isEmpty() {
+        return vocabularyScore == 0 && grammarScore == 0 && expressionsScore == 0
+                && exercisesScore == 0 && totalPoints == 0 && !completed;
+    }
+}
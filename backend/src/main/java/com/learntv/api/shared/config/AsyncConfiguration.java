@@ -1,7 +1,9 @@
 package com.learntv.api.shared.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -9,18 +11,29 @@ import java.util.concurrent.Executor;
 
 /**
  * Configuration for async processing.
- * Enables @Async annotation and configures thread pool for lesson generation.
+ * Enables @Async annotation and configures executors for lesson generation.
+ *
+ * Generation jobs spend almost all their time parked on blocking HTTP calls,
+ * so with {@code generation.executor.virtual-threads=true} each job and each
+ * extraction stage gets its own virtual thread. Concurrency is then bounded per
+ * external API by {@link ExternalApiConcurrencyLimiter} rather than by pool size.
  */
 @Configuration
 @EnableAsync
 public class AsyncConfiguration {
 
+    @Value("${generation.executor.virtual-threads:false}")
+    private boolean virtualThreads;
+
     /**
-     * Thread pool for async lesson generation.
+     * Executor for async lesson generation.
      * Configured to handle multiple concurrent generation jobs.
      */
     @Bean(name = "lessonGenerationExecutor")
     public Executor lessonGenerationExecutor() {
+        if (virtualThreads) {
+            return virtualThreadExecutor("lesson-gen-");
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
         executor.setMaxPoolSize(5);
@@ -29,4 +42,48 @@ public class AsyncConfiguration {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Executor for the independent extraction stages of a generation job.
+     * Kept separate from lessonGenerationExecutor so a job waiting on its own
+     * stages can never starve them of threads. Sized for three stages per
+     * concurrent job.
+     */
+    @Bean(name = "contentExtractionExecutor")
+    public Executor contentExtractionExecutor() {
+        if (virtualThreads) {
+            return virtualThreadExecutor("content-extract-");
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(6);
+        executor.setMaxPoolSize(15);
+        executor.setQueueCapacity(30);
+        executor.setThreadNamePrefix("content-extract-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor that pushes job progress to subscribers (SSE clients), so a
+     * slow client blocks only its own deliveries, never the generation job.
+     */
+    @Bean(name = "jobEventExecutor")
+    public Executor jobEventExecutor() {
+        if (virtualThreads) {
+            return virtualThreadExecutor("job-events-");
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(20);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("job-events-");
+        executor.initialize();
+        return executor;
+    }
+
+    private Executor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        return executor;
+    }
 }
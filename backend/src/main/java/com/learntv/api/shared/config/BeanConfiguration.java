@@ -1,30 +1,40 @@
 package com.learntv.api.shared.config;
 
+import com.learntv.api.catalog.application.port.CatalogQueryPort;
 import com.learntv.api.catalog.application.port.ShowRepository;
-import com.learntv.api.catalog.application.port.UserShowRepository;
 import com.learntv.api.catalog.application.usecase.BrowseCatalogUseCase;
 import com.learntv.api.catalog.application.usecase.ViewShowDetailsUseCase;
+import com.learntv.api.generation.application.port.in.RequestShadowingScenesUseCase;
+import com.learntv.api.generation.application.port.out.GenerationJobRepository;
 import com.learntv.api.generation.application.port.out.ShowMetadataPort;
 import com.learntv.api.generation.domain.service.EpisodeLessonGenerator;
-import com.learntv.api.generation.adapter.out.persistence.EpisodeScriptRepository;
+import com.learntv.api.generation.domain.service.ExtractionMerger;
+import com.learntv.api.generation.domain.service.ScriptChunker;
+import com.learntv.api.generation.domain.service.ShadowingSceneSelector;
+import com.learntv.api.generation.application.service.EpisodeScriptService;
 import com.learntv.api.generation.application.port.out.ShadowingExtractionPort;
 import com.learntv.api.learning.application.port.EpisodeRepository;
 import com.learntv.api.learning.application.port.LessonQueryPort;
 import com.learntv.api.learning.application.port.ShadowingSceneRepository;
 import com.learntv.api.learning.application.usecase.CheckExerciseAnswerUseCase;
+import com.learntv.api.learning.application.usecase.GenerateShadowingScenesUseCase;
 import com.learntv.api.learning.application.usecase.GetShadowingScenesUseCase;
 import com.learntv.api.learning.application.usecase.ViewEpisodeLessonUseCase;
-import com.learntv.api.progress.application.port.UserProgressRepository;
+import com.learntv.api.progress.application.port.ProgressBuffer;
+import com.learntv.api.progress.application.port.ProgressEventPublisher;
 import com.learntv.api.progress.application.usecase.GetUserProgressUseCase;
 import com.learntv.api.progress.application.usecase.UpdateProgressUseCase;
 import com.learntv.api.user.application.port.UserRepository;
 import com.learntv.api.user.application.port.UserStatsRepository;
 import com.learntv.api.user.application.usecase.*;
 import com.learntv.api.classroom.application.port.AssignmentRepository;
+import com.learntv.api.classroom.application.port.ClassroomDashboardQuery;
 import com.learntv.api.classroom.application.port.ClassroomRepository;
 import com.learntv.api.classroom.application.port.ClassroomStudentRepository;
+import com.learntv.api.classroom.application.port.StudentAssignmentFeedQuery;
 import com.learntv.api.classroom.application.port.SubmissionRepository;
 import com.learntv.api.classroom.application.usecase.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -35,8 +45,8 @@ public class BeanConfiguration {
 
     @Bean
     public BrowseCatalogUseCase browseCatalogUseCase(ShowRepository showRepository,
-                                                      UserShowRepository userShowRepository) {
-        return new BrowseCatalogUseCase(showRepository, userShowRepository);
+                                                      CatalogQueryPort catalogQueryPort) {
+        return new BrowseCatalogUseCase(showRepository, catalogQueryPort);
     }
 
     @Bean
@@ -50,38 +60,52 @@ public class BeanConfiguration {
 
     @Bean
     public ViewEpisodeLessonUseCase viewEpisodeLessonUseCase(LessonQueryPort lessonQueryPort,
-                                                              UserProgressRepository progressRepository) {
-        return new ViewEpisodeLessonUseCase(lessonQueryPort, progressRepository);
+                                                              ProgressBuffer progressBuffer) {
+        return new ViewEpisodeLessonUseCase(lessonQueryPort, progressBuffer);
     }
 
     @Bean
     public CheckExerciseAnswerUseCase checkExerciseAnswerUseCase(LessonQueryPort lessonQueryPort,
-                                                                   UserProgressRepository progressRepository) {
-        return new CheckExerciseAnswerUseCase(lessonQueryPort, progressRepository);
+                                                                   ProgressBuffer progressBuffer,
+                                                                   ProgressEventPublisher progressEventPublisher) {
+        return new CheckExerciseAnswerUseCase(lessonQueryPort, progressBuffer, progressEventPublisher);
+    }
+
+    @Bean
+    public GenerateShadowingScenesUseCase generateShadowingScenesUseCase(ShadowingSceneRepository shadowingSceneRepository,
+                                                                           EpisodeRepository episodeRepository,
+                                                                           ShowRepository showRepository,
+                                                                           ShowMetadataPort showMetadataPort,
+                                                                           GenerationJobRepository generationJobRepository,
+                                                                           EpisodeScriptService episodeScriptService,
+                                                                           LessonQueryPort lessonQueryPort,
+                                                                           ShadowingExtractionPort shadowingExtractionPort,
+                                                                           ShadowingSceneSelector shadowingSceneSelector) {
+        return new GenerateShadowingScenesUseCase(shadowingSceneRepository, episodeRepository, showRepository,
+                showMetadataPort, generationJobRepository, episodeScriptService, lessonQueryPort,
+                shadowingExtractionPort, shadowingSceneSelector);
     }
 
     @Bean
     public GetShadowingScenesUseCase getShadowingScenesUseCase(ShadowingSceneRepository shadowingSceneRepository,
                                                                  EpisodeRepository episodeRepository,
-                                                                 ShowRepository showRepository,
-                                                                 ShowMetadataPort showMetadataPort,
-                                                                 EpisodeScriptRepository episodeScriptRepository,
-                                                                 LessonQueryPort lessonQueryPort,
-                                                                 ShadowingExtractionPort shadowingExtractionPort) {
-        return new GetShadowingScenesUseCase(shadowingSceneRepository, episodeRepository, showRepository,
-                showMetadataPort, episodeScriptRepository, lessonQueryPort, shadowingExtractionPort);
+                                                                 RequestShadowingScenesUseCase requestShadowingScenesUseCase) {
+        return new GetShadowingScenesUseCase(shadowingSceneRepository, episodeRepository,
+                requestShadowingScenesUseCase);
     }
 
     // ==================== Progress Use Cases ====================
 
     @Bean
-    public GetUserProgressUseCase getUserProgressUseCase(UserProgressRepository progressRepository) {
-        return new GetUserProgressUseCase(progressRepository);
+    public GetUserProgressUseCase getUserProgressUseCase(ProgressBuffer progressBuffer) {
+        return new GetUserProgressUseCase(progressBuffer);
     }
 
     @Bean
-    public UpdateProgressUseCase updateProgressUseCase(UserProgressRepository progressRepository) {
-        return new UpdateProgressUseCase(progressRepository);
+    public UpdateProgressUseCase updateProgressUseCase(ProgressBuffer progressBuffer,
+                                                       ProgressEventPublisher progressEventPublisher,
+                                                       EpisodeRepository episodeRepository) {
+        return new UpdateProgressUseCase(progressBuffer, progressEventPublisher, episodeRepository);
     }
 
     // ==================== Generation Domain Services ====================
@@ -91,6 +115,24 @@ public class BeanConfiguration {
         return new EpisodeLessonGenerator();
     }
 
+    @Bean
+    public ShadowingSceneSelector shadowingSceneSelector(
+            @Value("${generation.shadowing.max-candidates:6}") int maxCandidates) {
+        return new ShadowingSceneSelector(maxCandidates);
+    }
+
+    @Bean
+    public ScriptChunker scriptChunker(
+            @Value("${generation.extraction.chunk-tokens:4000}") int chunkTokens,
+            @Value("${generation.extraction.max-chunks:6}") int maxChunks) {
+        return new ScriptChunker(chunkTokens, maxChunks);
+    }
+
+    @Bean
+    public ExtractionMerger extractionMerger() {
+        return new ExtractionMerger();
+    }
+
     // ==================== User Use Cases ====================
 
     @Bean
@@ -129,8 +171,13 @@ public class BeanConfiguration {
 
     @Bean
     public GetTeacherClassroomsUseCase getTeacherClassroomsUseCase(ClassroomRepository classroomRepository,
-                                                                    ClassroomStudentRepository studentRepository) {
-        return new GetTeacherClassroomsUseCase(classroomRepository, studentRepository);
+                                                                    ClassroomDashboardQuery dashboardQuery) {
+        return new GetTeacherClassroomsUseCase(classroomRepository, dashboardQuery);
+    }
+
+    @Bean
+    public GetClassroomUseCase getClassroomUseCase(ClassroomDashboardQuery dashboardQuery) {
+        return new GetClassroomUseCase(dashboardQuery);
     }
 
     @Bean
@@ -154,8 +201,8 @@ public class BeanConfiguration {
     @Bean
     public GetClassroomStudentsUseCase getClassroomStudentsUseCase(ClassroomRepository classroomRepository,
                                                                     ClassroomStudentRepository studentRepository,
-                                                                    UserRepository userRepository) {
-        return new GetClassroomStudentsUseCase(classroomRepository, studentRepository, userRepository);
+                                                                    ClassroomDashboardQuery dashboardQuery) {
+        return new GetClassroomStudentsUseCase(classroomRepository, studentRepository, dashboardQuery);
     }
 
     @Bean
@@ -190,15 +237,13 @@ public class BeanConfiguration {
     @Bean
     public GetClassroomAssignmentsUseCase getClassroomAssignmentsUseCase(AssignmentRepository assignmentRepository,
                                                                           ClassroomRepository classroomRepository,
-                                                                          SubmissionRepository submissionRepository) {
-        return new GetClassroomAssignmentsUseCase(assignmentRepository, classroomRepository, submissionRepository);
+                                                                          ClassroomDashboardQuery dashboardQuery) {
+        return new GetClassroomAssignmentsUseCase(assignmentRepository, classroomRepository, dashboardQuery);
     }
 
     @Bean
-    public GetStudentAssignmentsUseCase getStudentAssignmentsUseCase(AssignmentRepository assignmentRepository,
-                                                                      ClassroomStudentRepository classroomStudentRepository,
-                                                                      SubmissionRepository submissionRepository) {
-        return new GetStudentAssignmentsUseCase(assignmentRepository, classroomStudentRepository, submissionRepository);
+    public GetStudentAssignmentsUseCase getStudentAssignmentsUseCase(StudentAssignmentFeedQuery feedQuery) {
+        return new GetStudentAssignmentsUseCase(feedQuery);
     }
 
     @Bean
@@ -210,16 +255,19 @@ public class BeanConfiguration {
     @Bean
     public CompleteAssignmentUseCase completeAssignmentUseCase(AssignmentRepository assignmentRepository,
                                                                 SubmissionRepository submissionRepository,
-                                                                UserProgressRepository progressRepository) {
-        return new CompleteAssignmentUseCase(assignmentRepository, submissionRepository, progressRepository);
+                                                                ProgressBuffer progressBuffer,
+                                                                ProgressEventPublisher progressEventPublisher,
+                                                                EpisodeRepository episodeRepository) {
+        return new CompleteAssignmentUseCase(assignmentRepository, submissionRepository, progressBuffer,
+                progressEventPublisher, episodeRepository);
     }
 
     @Bean
     public GetAssignmentSubmissionsUseCase getAssignmentSubmissionsUseCase(AssignmentRepository assignmentRepository,
                                                                             ClassroomRepository classroomRepository,
                                                                             SubmissionRepository submissionRepository,
-                                                                            UserRepository userRepository) {
-        return new GetAssignmentSubmissionsUseCase(assignmentRepository, classroomRepository, submissionRepository, userRepository);
+                                                                            ClassroomDashboardQuery dashboardQuery) {
+        return new GetAssignmentSubmissionsUseCase(assignmentRepository, classroomRepository, submissionRepository, dashboardQuery);
     }
 
     @Bean
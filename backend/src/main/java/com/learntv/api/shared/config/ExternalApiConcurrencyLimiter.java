@@ -0,0 +1,147 @@
+package com.learntv.api.shared.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of in-flight calls per external API.
+ *
+ * With virtual threads the executor no longer limits how many jobs run at once,
+ * so the limit moves here: a job waiting for a permit parks its (virtual) thread
+ * instead of being rejected, and each API only sees as many concurrent requests
+ * as its rate limits allow. Reactive calls ({@link #limit}) share the same
+ * permits but wait without holding a thread.
+ */
+@Component
+public class ExternalApiConcurrencyLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(ExternalApiConcurrencyLimiter.class);
+
+    public enum ExternalApi {
+        OPENAI, TMDB, OPENSUBTITLES
+    }
+
+    private final Map<ExternalApi, Permits> permits = new EnumMap<>(ExternalApi.class);
+
+    public ExternalApiConcurrencyLimiter(
+            @Value("${external-apis.openai.max-concurrent-requests:50}") int openAiLimit,
+            @Value("${external-apis.tmdb.max-concurrent-requests:20}") int tmdbLimit,
+            @Value("${external-apis.opensubtitles.max-concurrent-requests:5}") int openSubtitlesLimit) {
+        permits.put(ExternalApi.OPENAI, new Permits(openAiLimit));
+        permits.put(ExternalApi.TMDB, new Permits(tmdbLimit));
+        permits.put(ExternalApi.OPENSUBTITLES, new Permits(openSubtitlesLimit));
+    }
+
+    /**
+     * Run a blocking call once a permit for the given API is available.
+     *
+     * @param api  the external API being called
+     * @param call the blocking call
+     * @return the call's result
+     */
+    public <T> T call(ExternalApi api, Supplier<T> call) {
+        Permits apiPermits = permits.get(api);
+        CompletableFuture<Void> permit = apiPermits.acquire();
+        try {
+            if (!permit.isDone()) {
+                log.debug("Waiting for {} permit ({} callers queued)", api, apiPermits.queued());
+            }
+            permit.get();
+        } catch (InterruptedException e) {
+            if (!permit.cancel(false)) {
+                apiPermits.release();
+            }
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + api + " permit", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed waiting for " + api + " permit", e.getCause());
+        }
+        try {
+            return call.get();
+        } finally {
+            apiPermits.release();
+        }
+    }
+
+    /**
+     * Subscribe to a reactive call once a permit for the given API is available.
+     * The permit is held until the call completes, fails or is cancelled.
+     *
+     * @param api  the external API being called
+     * @param call the call, subscribed to once a permit is granted
+     * @return the call's result
+     */
+    public <T> Mono<T> limit(ExternalApi api, Supplier<Mono<T>> call) {
+        Permits apiPermits = permits.get(api);
+        return Mono.defer(() -> {
+            CompletableFuture<Void> permit = apiPermits.acquire();
+            return Mono.fromFuture(permit, true)
+                    .then(Mono.defer(call))
+                    .doFinally(signal -> {
+                        // Either the permit was granted and must be returned, or the
+                        // cancelled waiter is skipped when the permit is handed on
+                        if (!permit.cancel(false)) {
+                            apiPermits.release();
+                        }
+                    });
+        });
+    }
+
+    /**
+     * A fair counting semaphore whose waiters are futures, so blocking callers
+     * can wait on them and reactive callers can subscribe to them.
+     */
+    private static final class Permits {
+
+        private final Deque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+        private int available;
+
+        Permits(int limit) {
+            this.available = limit;
+        }
+
+        synchronized CompletableFuture<Void> acquire() {
+            if (available > 0) {
+                available--;
+                return CompletableFuture.completedFuture(null);
+            }
+            CompletableFuture<Void> waiter = new CompletableFuture<>();
+            waiters.add(waiter);
+            return waiter;
+        }
+
+        /**
+         * Hand the permit to the first waiter that is still waiting, or return it.
+         */
+        void release() {
+            while (true) {
+                CompletableFuture<Void> next;
+                synchronized (this) {
+                    next = waiters.poll();
+                    if (next == null) {
+                        available++;
+                        return;
+                    }
+                }
+                if (next.complete(null)) {
+                    return;
+                }
+            }
+        }
+
+        synchronized int queued() {
+            return waiters.size();
+        }
+    }
+}
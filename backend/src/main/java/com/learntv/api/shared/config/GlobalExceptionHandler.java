@@ -1,6 +1,8 @@
 package com.learntv.api.shared.config;
 
+import com.learntv.api.catalog.domain.exception.InvalidCatalogCursorException;
 import com.learntv.api.catalog.domain.exception.ShowNotFoundException;
+import com.learntv.api.classroom.domain.exception.InvalidAssignmentCursorException;
 import com.learntv.api.learning.domain.exception.EpisodeNotFoundException;
 import com.learntv.api.learning.domain.exception.ExerciseNotFoundException;
 import jakarta.validation.ConstraintViolation;
@@ -55,6 +57,28 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    @ExceptionHandler(InvalidCatalogCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCatalogCursor(InvalidCatalogCursorException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(
+                        HttpStatus.BAD_REQUEST.value(),
+                        "Bad Request",
+                        ex.getMessage(),
+                        Instant.now()
+                ));
+    }
+
+    @ExceptionHandler(InvalidAssignmentCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidAssignmentCursor(InvalidAssignmentCursorException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(
+                        HttpStatus.BAD_REQUEST.value(),
+                        "Bad Request",
+                        ex.getMessage(),
+                        Instant.now()
+                ));
+    }
+
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<ErrorResponse> handleConstraintViolation(ConstraintViolationException ex) {
         String message = ex.getConstraintViolations().stream()
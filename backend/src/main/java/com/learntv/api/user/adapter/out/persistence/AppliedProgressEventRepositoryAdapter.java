@@ -0,0 +1,59 @@
+package com.learntv.api.user.adapter.out.persistence;
+
+import com.learntv.api.progress.domain.event.ProgressEvent;
+import com.learntv.api.user.application.port.AppliedProgressEventRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of {@link AppliedProgressEventRepository}: one batched
+ * insert that skips ids already present, reading back which rows went in.
+ */
+@Repository
+public class AppliedProgressEventRepositoryAdapter implements AppliedProgressEventRepository {
+
+    private static final String INSERT_EVENT = """
+            INSERT INTO user_stats_applied_events (event_id, user_id, event_type, occurred_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (event_id) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AppliedProgressEventRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Set<UUID> markApplied(Collection<ProgressEvent> events) {
+        if (events.isEmpty()) {
+            return Set.of();
+        }
+        List<ProgressEvent> batch = List.copyOf(events);
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_EVENT, batch, batch.size(), (ps, event) -> {
+            ps.setObject(1, event.eventId());
+            ps.setObject(2, event.userId());
+            ps.setString(3, event.type().name());
+            ps.setTimestamp(4, Timestamp.from(event.occurredAt()));
+        });
+
+        Set<UUID> inserted = new HashSet<>();
+        int index = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                if (count > 0) {
+                    inserted.add(batch.get(index).eventId());
+                }
+                index++;
+            }
+        }
+        return inserted;
+    }
+}
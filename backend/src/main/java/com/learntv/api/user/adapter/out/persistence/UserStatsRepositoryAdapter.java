@@ -2,18 +2,62 @@ package com.learntv.api.user.adapter.out.persistence;
 
 import com.learntv.api.user.application.port.UserStatsRepository;
 import com.learntv.api.user.domain.model.UserStats;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Single rows through JPA; the batch reads and writes of the stats aggregator
+ * through JDBC, so they are one statement (or one batch) however many users
+ * are involved.
+ */
 @Repository
 public class UserStatsRepositoryAdapter implements UserStatsRepository {
 
+    private static final String INSERT_MISSING = """
+            INSERT INTO user_stats (user_id) VALUES (?)
+            ON CONFLICT (user_id) DO NOTHING
+            """;
+
+    // Rows are locked in key order, so two flushes sharing users can't deadlock
+    private static final String SELECT_FOR_UPDATE = """
+            SELECT user_id, total_episodes_completed, total_exercises_completed, total_words_learned,
+                   current_streak_days, longest_streak_days, last_activity_date, updated_at
+            FROM user_stats
+            WHERE user_id IN (:ids)
+            ORDER BY user_id
+            FOR UPDATE
+            """;
+
+    private static final String UPDATE_STATS = """
+            UPDATE user_stats SET
+                total_episodes_completed = ?,
+                total_exercises_completed = ?,
+                total_words_learned = ?,
+                current_streak_days = ?,
+                longest_streak_days = ?,
+                last_activity_date = ?,
+                updated_at = ?
+            WHERE user_id = ?
+            """;
+
     private final UserStatsJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
 
-    public UserStatsRepositoryAdapter(UserStatsJpaRepository jpaRepository) {
+    public UserStatsRepositoryAdapter(UserStatsJpaRepository jpaRepository, JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
     }
 
     @Override
@@ -22,10 +66,53 @@ public class UserStatsRepositoryAdapter implements UserStatsRepository {
                 .map(UserStatsJpaEntity::toDomain);
     }
 
+    @Override
+    public Map<UUID, UserStats> lockAllByUserIds(Collection<UUID> userIds) {
+        Map<UUID, UserStats> stats = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return stats;
+        }
+        List<UUID> sorted = userIds.stream().sorted().toList();
+        jdbcTemplate.batchUpdate(INSERT_MISSING, sorted, sorted.size(), (ps, userId) -> ps.setObject(1, userId));
+        namedJdbcTemplate.query(SELECT_FOR_UPDATE, Map.of("ids", sorted), rs -> {
+            Date lastActivity = rs.getDate("last_activity_date");
+            Timestamp updatedAt = rs.getTimestamp("updated_at");
+            UserStats row = UserStats.builder()
+                    .userId(rs.getObject("user_id", UUID.class))
+                    .totalEpisodesCompleted(rs.getInt("total_episodes_completed"))
+                    .totalExercisesCompleted(rs.getInt("total_exercises_completed"))
+                    .totalWordsLearned(rs.getInt("total_words_learned"))
+                    .currentStreakDays(rs.getInt("current_streak_days"))
+                    .longestStreakDays(rs.getInt("longest_streak_days"))
+                    .lastActivityDate(lastActivity != null ? lastActivity.toLocalDate() : null)
+                    .updatedAt(updatedAt != null ? updatedAt.toInstant() : null)
+                    .build();
+            stats.put(row.getUserId(), row);
+        });
+        return stats;
+    }
+
     @Override
     public UserStats save(UserStats stats) {
         UserStatsJpaEntity entity = UserStatsJpaEntity.fromDomain(stats);
         UserStatsJpaEntity saved = jpaRepository.save(entity);
         return saved.toDomain();
     }
+
+    @Override
+    public void updateAll(Collection<UserStats> stats) {
+        if (stats.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_STATS, stats, stats.size(), (ps, row) -> {
+            ps.setInt(1, row.getTotalEpisodesCompleted());
+            ps.setInt(2, row.getTotalExercisesCompleted());
+            ps.setInt(3, row.getTotalWordsLearned());
+            ps.setInt(4, row.getCurrentStreakDays());
+            ps.setInt(5, row.getLongestStreakDays());
+            ps.setDate(6, row.getLastActivityDate() != null ? Date.valueOf(row.getLastActivityDate()) : null);
+            ps.setTimestamp(7, Timestamp.from(row.getUpdatedAt()));
+            ps.setObject(8, row.getUserId());
+        });
+    }
 }
@@ -0,0 +1,21 @@
+package com.learntv.api.user.application.port;
+
+import com.learntv.api.progress.domain.event.ProgressEvent;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Ids of the progress events already counted in user stats, so a replayed
+ * or duplicated event is not counted again.
+ */
+public interface AppliedProgressEventRepository {
+
+    /**
+     * Record the events as applied.
+     *
+     * @return ids of the events that had not been applied before
+     */
+    Set<UUID> markApplied(Collection<ProgressEvent> events);
+}
@@ -2,6 +2,8 @@ package com.learntv.api.user.application.port;
 
 import com.learntv.api.user.domain.model.UserStats;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -9,5 +11,16 @@ public interface UserStatsRepository {
 
     Optional<UserStats> findByUserId(UUID userId);
 
+    /**
+     * Stats of the given users, each row locked until the current transaction
+     * ends. Users without a stats row get an empty one. Must run in a transaction.
+     */
+    Map<UUID, UserStats> lockAllByUserIds(Collection<UUID> userIds);
+
     UserStats save(UserStats stats);
+
+    /**
+     * Write back stats read with {@link #lockAllByUserIds}, in one batch.
+     */
+    void updateAll(Collection<UserStats> stats);
 }
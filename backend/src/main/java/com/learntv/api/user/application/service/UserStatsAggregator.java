@@ -0,0 +1,227 @@
+package com.learntv.api.user.application.service;
+
+import com.learntv.api.progress.application.port.ProgressEventPublisher;
+import com.learntv.api.progress.domain.event.ProgressEvent;
+import com.learntv.api.user.application.port.AppliedProgressEventRepository;
+import com.learntv.api.user.application.port.UserStatsRepository;
+import com.learntv.api.user.domain.model.UserStats;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps user_stats up to date from progress events, off the request path.
+ *
+ * Publishing only appends the event to its user's pending list. A background
+ * thread flushes every {@code user-stats.flush-interval} (sooner once
+ * {@code user-stats.max-pending-events} are waiting), so stats are at most
+ * that stale. A flush applies all pending events in one transaction: it
+ * records their ids in user_stats_applied_events, locks the stats rows of
+ * the users with events recorded for the first time (creating missing ones)
+ * in one query, applies those events in the order they happened, and writes
+ * the rows back in one batched update. Replayed or duplicate events are
+ * therefore counted once, and concurrent flushes on other instances wait on
+ * the row locks rather than overwrite each other's counts.
+ *
+ * Events of a failed flush stay pending and are retried by the next scheduled
+ * flush; only the events of a user whose own data makes the flush fail (e.g. a
+ * user deleted meanwhile) are dropped. A graceful shutdown flushes what is
+ * pending; a crash, or a database outage lasting until shutdown, loses the
+ * events not flushed yet.
+ */
+@Service
+public class UserStatsAggregator implements ProgressEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(UserStatsAggregator.class);
+
+    private final UserStatsRepository statsRepository;
+    private final AppliedProgressEventRepository appliedEventRepository;
+    private final TransactionOperations transactionOperations;
+    private final int maxPendingEvents;
+    // Same calendar as UserStats.recordActivity()
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private final ConcurrentHashMap<UUID, List<ProgressEvent>> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingEvents = new AtomicInteger();
+    private final AtomicBoolean earlyFlushRequested = new AtomicBoolean();
+    private final Object flushLock = new Object();
+    private final ScheduledExecutorService scheduler;
+
+    public UserStatsAggregator(UserStatsRepository statsRepository,
+                               AppliedProgressEventRepository appliedEventRepository,
+                               TransactionOperations transactionOperations,
+                               @Value("${user-stats.flush-interval:5s}") Duration flushInterval,
+                               @Value("${user-stats.max-pending-events:1000}") int maxPendingEvents) {
+        this.statsRepository = statsRepository;
+        this.appliedEventRepository = appliedEventRepository;
+        this.transactionOperations = transactionOperations;
+        this.maxPendingEvents = maxPendingEvents;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-stats-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void publish(ProgressEvent event) {
+        pending.compute(event.userId(), (userId, events) -> {
+            List<ProgressEvent> list = events != null ? events : new ArrayList<>();
+            list.add(event);
+            return list;
+        });
+        if (pendingEvents.incrementAndGet() >= maxPendingEvents && earlyFlushRequested.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::flushQuietly);
+            } catch (RejectedExecutionException e) {
+                // Shutting down: the final flush in shutdown() applies the event
+            }
+        }
+    }
+
+    /**
+     * Apply everything published so far. Flushes never overlap.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            earlyFlushRequested.set(false);
+            Map<UUID, List<ProgressEvent>> batch = new HashMap<>();
+            for (UUID userId : pending.keySet()) {
+                List<ProgressEvent> events = pending.remove(userId);
+                if (events != null) {
+                    batch.put(userId, events);
+                    pendingEvents.addAndGet(-events.size());
+                }
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                transactionOperations.executeWithoutResult(status -> apply(batch));
+            } catch (RuntimeException e) {
+                if (!isUserDataError(e)) {
+                    log.warn("Flushing stats for {} users failed, keeping their events for the next flush",
+                            batch.size(), e);
+                    batch.forEach(this::requeue);
+                    return;
+                }
+                // One bad user (e.g. deleted meanwhile) must not hold back everyone else's stats
+                log.warn("Flushing stats for {} users failed, retrying one user at a time", batch.size(), e);
+                batch.forEach((userId, events) -> {
+                    try {
+                        transactionOperations.executeWithoutResult(status -> apply(Map.of(userId, events)));
+                    } catch (RuntimeException userFailure) {
+                        if (isUserDataError(userFailure)) {
+                            log.error("Dropping {} progress events for user {}", events.size(), userId, userFailure);
+                        } else {
+                            log.warn("Flushing stats for user {} failed, keeping their events for the next flush",
+                                    userId, userFailure);
+                            requeue(userId, events);
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        flushQuietly();
+        if (pendingEvents.get() > 0) {
+            log.error("Shutting down with {} progress events not applied to user stats", pendingEvents.get());
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("User stats flush failed", e);
+        }
+    }
+
+    /**
+     * Put events of a failed flush back in front of what was published since.
+     * Events that did get applied are recognised as duplicates when retried.
+     */
+    private void requeue(UUID userId, List<ProgressEvent> events) {
+        pending.merge(userId, events, (published, failed) -> {
+            List<ProgressEvent> list = new ArrayList<>(failed);
+            list.addAll(published);
+            return list;
+        });
+        pendingEvents.addAndGet(events.size());
+        // Back off: no early flush until the scheduled one retries
+        earlyFlushRequested.set(true);
+    }
+
+    /**
+     * Whether a flush failed on the user's own data, which no retry will fix,
+     * rather than on the database being unreachable, slow or contended.
+     */
+    private static boolean isUserDataError(RuntimeException e) {
+        return e instanceof NonTransientDataAccessException && !(e instanceof DataAccessResourceFailureException);
+    }
+
+    private void apply(Map<UUID, List<ProgressEvent>> batch) {
+        List<ProgressEvent> events = batch.values().stream().flatMap(List::stream).toList();
+        Set<UUID> firstSeen = new HashSet<>(appliedEventRepository.markApplied(events));
+        if (firstSeen.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, List<ProgressEvent>> toApply = new HashMap<>();
+        batch.forEach((userId, userEvents) -> {
+            // remove() so an event published twice within the batch is applied once
+            List<ProgressEvent> fresh = userEvents.stream()
+                    .filter(event -> firstSeen.remove(event.eventId()))
+                    .sorted(Comparator.comparing(ProgressEvent::occurredAt))
+                    .toList();
+            if (!fresh.isEmpty()) {
+                toApply.put(userId, fresh);
+            }
+        });
+
+        // Locked until commit, so another instance flushing the same users waits instead of losing these counts
+        Map<UUID, UserStats> stats = statsRepository.lockAllByUserIds(toApply.keySet());
+        toApply.forEach((userId, userEvents) -> userEvents.forEach(event -> apply(stats.get(userId), event)));
+        statsRepository.updateAll(stats.values());
+    }
+
+    private void apply(UserStats stats, ProgressEvent event) {
+        LocalDate day = LocalDate.ofInstant(event.occurredAt(), zone);
+        switch (event.type()) {
+            case EXERCISE_COMPLETED -> stats.incrementExercisesCompleted(day);
+            case EPISODE_COMPLETED -> stats.incrementEpisodesCompleted(day);
+            case WORDS_LEARNED -> stats.incrementWordsLearned(event.amount(), day);
+        }
+    }
+}
@@ -38,13 +38,19 @@ public class UserStats {
     }
 
     public void recordActivity() {
-        LocalDate today = LocalDate.now();
+        recordActivity(LocalDate.now());
+    }
 
+    /**
+     * Count activity on the given day towards the streak. Activity from before
+     * the last active day arrived late and doesn't move the streak.
+     */
+    public void recordActivity(LocalDate day) {
         if (lastActivityDate == null) {
             currentStreakDays = 1;
-        } else if (lastActivityDate.equals(today.minusDays(1))) {
+        } else if (lastActivityDate.equals(day.minusDays(1))) {
             currentStreakDays++;
-        } else if (!lastActivityDate.equals(today)) {
+        } else if (day.isAfter(lastActivityDate)) {
             currentStreakDays = 1;
         }
 
@@ -52,23 +58,37 @@ public class UserStats {
             longestStreakDays = currentStreakDays;
         }
 
-        lastActivityDate = today;
+        if (lastActivityDate == null || day.isAfter(lastActivityDate)) {
+            lastActivityDate = day;
+        }
         updatedAt = Instant.now();
     }
 
     public void incrementEpisodesCompleted() {
+        incrementEpisodesCompleted(LocalDate.now());
+    }
+
+    public void incrementEpisodesCompleted(LocalDate day) {
         totalEpisodesCompleted++;
-        recordActivity();
+        recordActivity(day);
     }
 
     public void incrementExercisesCompleted() {
+        incrementExercisesCompleted(LocalDate.now());
+    }
+
+    public void incrementExercisesCompleted(LocalDate day) {
         totalExercisesCompleted++;
-        recordActivity();
+        recordActivity(day);
     }
 
     public void incrementWordsLearned(int count) {
+        incrementWordsLearned(count, LocalDate.now());
+    }
+
+    public void incrementWordsLearned(int count, LocalDate day) {
         totalWordsLearned += count;
-        recordActivity();
+        recordActivity(day);
     }
 
     // Getters
@@ -0,0 +1,17 @@
+-- V20__catalog_query_indexes.sql
+-- Indexes for the catalog query (CatalogQueryAdapter): keyset paging by title
+-- and case-insensitive substring search on title/description.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Keyset order: ORDER BY LOWER(title), id with (LOWER(title), id) > (?, ?)
+CREATE INDEX idx_shows_title_order ON shows (LOWER(title), id);
+
+-- Genre/difficulty filters combined with the catalog order
+CREATE INDEX idx_shows_genre_title_order ON shows (genre, LOWER(title), id);
+CREATE INDEX idx_shows_difficulty_title_order ON shows (difficulty, LOWER(title), id);
+
+-- LOWER(...) LIKE '%term%' search
+CREATE INDEX idx_shows_title_trgm ON shows USING gin (LOWER(title) gin_trgm_ops);
+CREATE INDEX idx_shows_description_trgm ON shows USING gin (LOWER(description) gin_trgm_ops);
+
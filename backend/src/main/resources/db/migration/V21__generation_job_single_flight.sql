@@ -0,0 +1,27 @@
+-- V21__generation_job_single_flight.sql
+-- One active generation job per episode. The active generation_jobs row is the
+-- lease: later requests for the same episode join it instead of starting a
+-- second pipeline, and a lease that outlives its instance expires.
+
+ALTER TABLE generation_jobs ADD COLUMN lease_expires_at TIMESTAMP WITH TIME ZONE;
+
+-- Jobs left running by a previous deployment can never finish
+UPDATE generation_jobs
+SET status = 'FAILED',
+    error_message = 'Interrupted by restart',
+    completed_at = CURRENT_TIMESTAMP
+WHERE status IN ('PENDING', 'PROCESSING');
+
+CREATE UNIQUE INDEX uk_generation_jobs_active_episode
+    ON generation_jobs (imdb_id, season_number, episode_number)
+    WHERE status IN ('PENDING', 'PROCESSING');
+
+-- Users who joined an in-flight job; they get the show added to their list on completion
+CREATE TABLE generation_job_waiters (
+    job_id UUID NOT NULL REFERENCES generation_jobs(id) ON DELETE CASCADE,
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (job_id, user_id)
+);
+
+ALTER TABLE generation_job_waiters ENABLE ROW LEVEL SECURITY;
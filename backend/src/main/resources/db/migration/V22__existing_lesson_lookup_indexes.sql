@@ -0,0 +1,7 @@
+-- V22__existing_lesson_lookup_indexes.sql
+-- Generation checks for an already generated lesson by TMDB show ID and
+-- season/episode before doing any work; both steps are index lookups.
+
+CREATE INDEX idx_shows_tmdb_id ON shows(tmdb_id);
+
+CREATE INDEX idx_episodes_show_season_episode ON episodes(show_id, season_number, episode_number);
@@ -0,0 +1,12 @@
+-- V23__llm_response_cache.sql
+-- Chat completion responses keyed by a SHA-256 of the request (model, prompts,
+-- temperature, max tokens), so identical requests are answered without OpenAI.
+
+CREATE TABLE llm_response_cache (
+    cache_key CHAR(64) PRIMARY KEY,
+    model VARCHAR(100) NOT NULL,
+    response TEXT NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+ALTER TABLE llm_response_cache ENABLE ROW LEVEL SECURITY;
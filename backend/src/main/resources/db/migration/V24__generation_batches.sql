@@ -0,0 +1,24 @@
+-- V24__generation_batches.sql
+-- Season/show batch generation: a parent row per request and the per-episode
+-- generation job it tracks. Batch status and progress are derived from the jobs.
+
+CREATE TABLE generation_batches (
+    id UUID PRIMARY KEY,
+    tmdb_id VARCHAR(20) NOT NULL,
+    show_title VARCHAR(255) NOT NULL,
+    season_number INTEGER,
+    user_id UUID REFERENCES users(id) ON DELETE SET NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE generation_batch_episodes (
+    batch_id UUID NOT NULL REFERENCES generation_batches(id) ON DELETE CASCADE,
+    season_number INTEGER NOT NULL,
+    episode_number INTEGER NOT NULL,
+    title VARCHAR(255),
+    job_id UUID NOT NULL REFERENCES generation_jobs(id) ON DELETE CASCADE,
+    PRIMARY KEY (batch_id, season_number, episode_number)
+);
+
+ALTER TABLE generation_batches ENABLE ROW LEVEL SECURITY;
+ALTER TABLE generation_batch_episodes ENABLE ROW LEVEL SECURITY;
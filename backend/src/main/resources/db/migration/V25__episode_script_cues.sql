@@ -0,0 +1,5 @@
+-- Timed cues parsed from the raw subtitles, so later stages (shadowing scenes,
+-- timestamps) don't have to re-parse raw_content. Binary, columnar encoding
+-- (see SubtitleCueCodec); NULL for scripts stored before this column, which
+-- are backfilled the first time their cues are read.
+ALTER TABLE episode_scripts ADD COLUMN cues BYTEA;
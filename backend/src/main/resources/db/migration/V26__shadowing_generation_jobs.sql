@@ -0,0 +1,18 @@
+-- V26__shadowing_generation_jobs.sql
+-- Shadowing scenes are generated by background jobs in generation_jobs, like
+-- lessons. A shadowing job is keyed on the episode it belongs to
+-- (result_episode_id) rather than on the IMDB episode, which it may not know yet,
+-- so imdb_id is left NULL and the job never collides with lesson jobs in
+-- uk_generation_jobs_active_episode.
+
+ALTER TABLE generation_jobs ADD COLUMN job_type VARCHAR(20) NOT NULL DEFAULT 'LESSON';
+
+ALTER TABLE generation_jobs ALTER COLUMN imdb_id DROP NOT NULL;
+
+-- One active shadowing job per episode; later requests join it
+CREATE UNIQUE INDEX uk_generation_jobs_active_shadowing
+    ON generation_jobs (result_episode_id)
+    WHERE job_type = 'SHADOWING' AND status IN ('PENDING', 'PROCESSING');
+
+-- Finding the lesson job (and its IMDB ID) of a generated episode
+CREATE INDEX idx_generation_jobs_result_episode ON generation_jobs (result_episode_id);
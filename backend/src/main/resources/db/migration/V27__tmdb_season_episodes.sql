@@ -0,0 +1,13 @@
+-- V27__tmdb_season_episodes.sql
+-- Season episode lists fetched from TMDB (JSON of ShowMetadataPort.SeasonWithEpisodes),
+-- so listing a season's episodes doesn't call TMDB while the row is fresh.
+
+CREATE TABLE tmdb_season_episodes (
+    tmdb_id VARCHAR(20) NOT NULL,
+    season_number INT NOT NULL,
+    season TEXT NOT NULL,
+    fetched_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (tmdb_id, season_number)
+);
+
+ALTER TABLE tmdb_season_episodes ENABLE ROW LEVEL SECURITY;
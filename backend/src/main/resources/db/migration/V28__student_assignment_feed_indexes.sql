@@ -0,0 +1,17 @@
+-- V28__student_assignment_feed_indexes.sql
+-- Indexes for the student assignment feed (StudentAssignmentFeedAdapter):
+-- a student's active memberships, then each classroom's assignments in
+-- due-date order, then the student's submission for each assignment.
+
+CREATE INDEX idx_classroom_students_student_active
+    ON classroom_students(student_id, classroom_id)
+    WHERE is_active = TRUE;
+
+-- Supersedes idx_assignments_classroom, which is a prefix of it
+CREATE INDEX idx_assignments_classroom_due ON assignments(classroom_id, due_date, id);
+DROP INDEX idx_assignments_classroom;
+
+-- uk_assignment_submission already finds the row; carrying status and score
+-- lets the feed read them from the index alone
+CREATE INDEX idx_submissions_assignment_student_status
+    ON assignment_submissions(assignment_id, student_id) INCLUDE (status, score);
@@ -0,0 +1,17 @@
+-- V29__user_stats_applied_events.sql
+-- Progress events already counted in user_stats (UserStatsAggregator), so
+-- replayed or duplicate events are applied once. Event ids are derived from
+-- what happened (e.g. user + exercise), so this also holds one row per
+-- distinct achievement.
+
+CREATE TABLE user_stats_applied_events (
+    event_id UUID PRIMARY KEY,
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    event_type VARCHAR(30) NOT NULL,
+    occurred_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    applied_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_user_stats_applied_events_user ON user_stats_applied_events(user_id);
+
+ALTER TABLE user_stats_applied_events ENABLE ROW LEVEL SECURITY;
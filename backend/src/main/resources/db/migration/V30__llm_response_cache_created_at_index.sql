@@ -0,0 +1,4 @@
+-- V30__llm_response_cache_created_at_index.sql
+-- Expired responses are deleted by age (LlmResponseCache.purgeExpired).
+
+CREATE INDEX idx_llm_response_cache_created_at ON llm_response_cache(created_at);
@@ -0,0 +1,296 @@
+package com.learntv.api.classroom.adapter.out.persistence;
+
+import com.learntv.api.classroom.application.port.AssignmentRepository;
+import com.learntv.api.classroom.application.port.ClassroomDashboardQuery.ClassroomView;
+import com.learntv.api.classroom.application.port.ClassroomDashboardQuery.EnrolledStudent;
+import com.learntv.api.classroom.application.port.ClassroomDashboardQuery.StudentProfile;
+import com.learntv.api.classroom.application.port.ClassroomRepository;
+import com.learntv.api.classroom.application.usecase.GetClassroomAssignmentsUseCase;
+import com.learntv.api.classroom.application.usecase.GetTeacherClassroomsUseCase;
+import com.learntv.api.classroom.domain.model.Assignment;
+import com.learntv.api.classroom.domain.model.AssignmentId;
+import com.learntv.api.classroom.domain.model.Classroom;
+import com.learntv.api.classroom.domain.model.ClassroomId;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query-count regression test for the classroom dashboards: a teacher with
+ * 10 classrooms of 40 students must cost the same handful of queries as a
+ * teacher with one. Runs the native SQL on an in-memory H2 database and counts
+ * the statements it prepares.
+ */
+class ClassroomDashboardQueryAdapterTest {
+
+    private static final int CLASSROOMS = 10;
+    private static final int STUDENTS_PER_CLASSROOM = 40;
+    private static final int INACTIVE_PER_CLASSROOM = 4;
+    private static final int ASSIGNMENTS_PER_CLASSROOM = 5;
+    private static final int SUBMISSIONS_PER_ASSIGNMENT = 10;
+    private static final int COMPLETED_PER_ASSIGNMENT = 4;
+
+    private static final UUID TEACHER_ID = UUID.randomUUID();
+    private static final List<Classroom> classrooms = new ArrayList<>();
+    private static final List<Assignment> assignments = new ArrayList<>();
+    private static final List<UUID> studentIds = new ArrayList<>();
+
+    private static CountingDataSource dataSource;
+    private static ClassroomDashboardQueryAdapter adapter;
+
+    private final AtomicInteger portCalls = new AtomicInteger();
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new CountingDataSource("jdbc:h2:mem:classroom-dashboard;DB_CLOSE_DELAY=-1;MODE=PostgreSQL");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        seed(jdbc);
+        adapter = new ClassroomDashboardQueryAdapter(jdbc);
+    }
+
+    @BeforeEach
+    void resetCounters() {
+        dataSource.statements.set(0);
+        portCalls.set(0);
+    }
+
+    @Test
+    void teacherClassrooms_shouldCountActiveStudentsOfAllClassroomsInOneQuery() {
+        var useCase = new GetTeacherClassroomsUseCase(new InMemoryClassroomRepository(), adapter);
+
+        List<GetTeacherClassroomsUseCase.ClassroomWithCount> result = useCase.execute(TEACHER_ID);
+
+        assertEquals(CLASSROOMS, result.size());
+        result.forEach(c -> assertEquals(STUDENTS_PER_CLASSROOM - INACTIVE_PER_CLASSROOM, c.studentCount()));
+        assertEquals(1, portCalls.get());
+        assertEquals(1, dataSource.statements.get());
+    }
+
+    @Test
+    void classroomAssignments_shouldCountSubmissionsOfAllAssignmentsInOneQuery() {
+        var useCase = new GetClassroomAssignmentsUseCase(
+                new InMemoryAssignmentRepository(), new InMemoryClassroomRepository(), adapter);
+
+        List<GetClassroomAssignmentsUseCase.AssignmentWithStats> result =
+                useCase.execute(classrooms.get(0).getId().value());
+
+        assertEquals(ASSIGNMENTS_PER_CLASSROOM, result.size());
+        result.forEach(a -> {
+            assertEquals(SUBMISSIONS_PER_ASSIGNMENT, a.totalSubmissions());
+            assertEquals(COMPLETED_PER_ASSIGNMENT, a.completedSubmissions());
+        });
+        assertEquals(2, portCalls.get());
+        assertEquals(1, dataSource.statements.get());
+    }
+
+    @Test
+    void findClassroomForUser_shouldCheckAccessAndCountStudentsInOneQuery() {
+        UUID classroomId = classrooms.get(0).getId().value();
+
+        ClassroomView asTeacher = adapter.findClassroomForUser(classroomId, TEACHER_ID).orElseThrow();
+        assertTrue(asTeacher.owner());
+        assertEquals(STUDENTS_PER_CLASSROOM - INACTIVE_PER_CLASSROOM, asTeacher.studentCount());
+        assertEquals("Class 0", asTeacher.classroom().getName());
+        assertEquals(1, dataSource.statements.get());
+
+        ClassroomView asStudent = adapter.findClassroomForUser(classroomId, studentIds.get(0)).orElseThrow();
+        assertFalse(asStudent.owner());
+
+        UUID formerStudent = studentIds.get(STUDENTS_PER_CLASSROOM - 1);
+        assertTrue(adapter.findClassroomForUser(classroomId, formerStudent).isEmpty());
+        assertTrue(adapter.findClassroomForUser(classroomId, studentIds.get(STUDENTS_PER_CLASSROOM)).isEmpty());
+        assertTrue(adapter.findClassroomForUser(UUID.randomUUID(), TEACHER_ID).isEmpty());
+    }
+
+    @Test
+    void findActiveStudents_shouldJoinProfilesInOneQuery() {
+        List<EnrolledStudent> students = adapter.findActiveStudents(classrooms.get(0).getId().value());
+
+        assertEquals(STUDENTS_PER_CLASSROOM - INACTIVE_PER_CLASSROOM, students.size());
+        assertEquals(studentIds.get(0), students.get(0).id());
+        assertEquals("student0@example.com", students.get(0).email());
+        assertEquals(1, dataSource.statements.get());
+    }
+
+    @Test
+    void findStudentProfiles_shouldLoadAllProfilesInOneQuery() {
+        List<UUID> ids = new ArrayList<>(studentIds.subList(0, STUDENTS_PER_CLASSROOM));
+        ids.add(UUID.randomUUID());
+
+        Map<UUID, StudentProfile> profiles = adapter.findStudentProfiles(ids);
+
+        assertEquals(STUDENTS_PER_CLASSROOM, profiles.size());
+        assertEquals("Student 1", profiles.get(studentIds.get(1)).displayName());
+        assertEquals(1, dataSource.statements.get());
+    }
+
+    private static void seed(JdbcTemplate jdbc) {
+        jdbc.execute("""
+                CREATE TABLE users (
+                    id UUID PRIMARY KEY, email VARCHAR(255) NOT NULL, display_name VARCHAR(100))
+                """);
+        jdbc.execute("""
+                CREATE TABLE classrooms (
+                    id UUID PRIMARY KEY, teacher_id UUID NOT NULL, name VARCHAR(100) NOT NULL,
+                    description TEXT, join_code VARCHAR(10) NOT NULL, is_active BOOLEAN DEFAULT TRUE,
+                    created_at TIMESTAMP WITH TIME ZONE, updated_at TIMESTAMP WITH TIME ZONE)
+                """);
+        jdbc.execute("""
+                CREATE TABLE classroom_students (
+                    id UUID PRIMARY KEY, classroom_id UUID NOT NULL, student_id UUID NOT NULL,
+                    joined_at TIMESTAMP WITH TIME ZONE, is_active BOOLEAN DEFAULT TRUE)
+                """);
+        jdbc.execute("""
+                CREATE TABLE assignment_submissions (
+                    id UUID PRIMARY KEY, assignment_id UUID NOT NULL, student_id UUID NOT NULL,
+                    status VARCHAR(20) NOT NULL)
+                """);
+
+        for (int s = 0; s < CLASSROOMS * STUDENTS_PER_CLASSROOM; s++) {
+            UUID studentId = UUID.randomUUID();
+            studentIds.add(studentId);
+            jdbc.update("INSERT INTO users (id, email, display_name) VALUES (?, ?, ?)",
+                    studentId, "student" + s + "@example.com", "Student " + s);
+        }
+
+        Instant joinedAt = Instant.parse("2026-01-01T00:00:00Z");
+        for (int c = 0; c < CLASSROOMS; c++) {
+            Classroom classroom = Classroom.builder().teacherId(TEACHER_ID).name("Class " + c).build();
+            classrooms.add(classroom);
+            jdbc.update("INSERT INTO classrooms (id, teacher_id, name, join_code, is_active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    classroom.getId().value(), TEACHER_ID, classroom.getName(), classroom.getJoinCode().value(), true,
+                    Timestamp.from(classroom.getCreatedAt()), Timestamp.from(classroom.getUpdatedAt()));
+            for (int s = 0; s < STUDENTS_PER_CLASSROOM; s++) {
+                jdbc.update("INSERT INTO classroom_students (id, classroom_id, student_id, joined_at, is_active) VALUES (?, ?, ?, ?, ?)",
+                        UUID.randomUUID(), classroom.getId().value(), studentIds.get(c * STUDENTS_PER_CLASSROOM + s),
+                        Timestamp.from(joinedAt.plusSeconds(s)), s < STUDENTS_PER_CLASSROOM - INACTIVE_PER_CLASSROOM);
+            }
+            for (int a = 0; a < ASSIGNMENTS_PER_CLASSROOM; a++) {
+                Assignment assignment = Assignment.builder()
+                        .classroomId(classroom.getId().value()).episodeId(UUID.randomUUID()).build();
+                assignments.add(assignment);
+                for (int s = 0; s < SUBMISSIONS_PER_ASSIGNMENT; s++) {
+                    jdbc.update("INSERT INTO assignment_submissions (id, assignment_id, student_id, status) VALUES (?, ?, ?, ?)",
+                            UUID.randomUUID(), assignment.getId().value(), studentIds.get(c * STUDENTS_PER_CLASSROOM + s),
+                            s < COMPLETED_PER_ASSIGNMENT ? "COMPLETED" : "IN_PROGRESS");
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts every statement prepared on its connections.
+     */
+    private static final class CountingDataSource extends DriverManagerDataSource {
+
+        private final AtomicInteger statements = new AtomicInteger();
+
+        private CountingDataSource(String url) {
+            super(url, "sa", "");
+        }
+
+        @Override
+        protected Connection getConnectionFromDriverManager(String url, Properties props) throws SQLException {
+            Connection connection = super.getConnectionFromDriverManager(url, props);
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("prepareStatement") || method.getName().equals("createStatement")) {
+                            statements.incrementAndGet();
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+
+    private class InMemoryClassroomRepository implements ClassroomRepository {
+
+        @Override
+        public Optional<Classroom> findById(ClassroomId id) {
+            return findById(id.value());
+        }
+
+        @Override
+        public Optional<Classroom> findById(UUID id) {
+            portCalls.incrementAndGet();
+            return classrooms.stream().filter(c -> c.getId().value().equals(id)).findFirst();
+        }
+
+        @Override
+        public Optional<Classroom> findByJoinCode(String joinCode) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Classroom> findByTeacherId(UUID teacherId) {
+            portCalls.incrementAndGet();
+            return classrooms.stream().filter(c -> c.isOwnedBy(teacherId)).toList();
+        }
+
+        @Override
+        public Classroom save(Classroom classroom) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(ClassroomId id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean existsByJoinCode(String joinCode) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private class InMemoryAssignmentRepository implements AssignmentRepository {
+
+        @Override
+        public Optional<Assignment> findById(AssignmentId id) {
+            return findById(id.value());
+        }
+
+        @Override
+        public Optional<Assignment> findById(UUID id) {
+            portCalls.incrementAndGet();
+            return assignments.stream().filter(a -> a.getId().value().equals(id)).findFirst();
+        }
+
+        @Override
+        public List<Assignment> findByClassroomId(UUID classroomId) {
+            portCalls.incrementAndGet();
+            return assignments.stream().filter(a -> a.getClassroomId().equals(classroomId)).toList();
+        }
+
+        @Override
+        public Assignment save(Assignment assignment) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(AssignmentId id) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
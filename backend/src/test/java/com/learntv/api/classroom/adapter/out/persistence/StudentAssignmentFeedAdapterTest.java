@@ -0,0 +1,138 @@
+package com.learntv.api.classroom.adapter.out.persistence;
+
+import com.learntv.api.classroom.application.port.StudentAssignmentFeedQuery.FeedItem;
+import com.learntv.api.classroom.application.port.StudentAssignmentFeedQuery.FeedPage;
+import com.learntv.api.classroom.domain.exception.InvalidAssignmentCursorException;
+import com.learntv.api.classroom.domain.model.SubmissionStatus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the student assignment feed query on an in-memory H2 database: a
+ * student in 3 classrooms (one of which they left) with 4 assignments each.
+ */
+class StudentAssignmentFeedAdapterTest {
+
+    private static final UUID STUDENT_ID = UUID.randomUUID();
+    private static final Instant NOW = Instant.now();
+    // The last one is the classroom the student left
+    private static final List<UUID> CLASSROOM_IDS = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+    private static StudentAssignmentFeedAdapter adapter;
+
+    @BeforeAll
+    static void setUp() {
+        JdbcTemplate jdbc = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:student-assignment-feed;DB_CLOSE_DELAY=-1;MODE=PostgreSQL", "sa", ""));
+        jdbc.execute("""
+                CREATE TABLE classroom_students (
+                    id UUID PRIMARY KEY, classroom_id UUID NOT NULL, student_id UUID NOT NULL,
+                    is_active BOOLEAN DEFAULT TRUE)
+                """);
+        jdbc.execute("""
+                CREATE TABLE assignments (
+                    id UUID PRIMARY KEY, classroom_id UUID NOT NULL, episode_id UUID NOT NULL,
+                    title VARCHAR(200), instructions TEXT, due_date TIMESTAMP WITH TIME ZONE,
+                    created_at TIMESTAMP WITH TIME ZONE, updated_at TIMESTAMP WITH TIME ZONE)
+                """);
+        jdbc.execute("""
+                CREATE TABLE assignment_submissions (
+                    id UUID PRIMARY KEY, assignment_id UUID NOT NULL, student_id UUID NOT NULL,
+                    status VARCHAR(20) NOT NULL, score INTEGER)
+                """);
+
+        for (int c = 0; c < 3; c++) {
+            UUID classroomId = CLASSROOM_IDS.get(c);
+            jdbc.update("INSERT INTO classroom_students (id, classroom_id, student_id, is_active) VALUES (?, ?, ?, ?)",
+                    UUID.randomUUID(), classroomId, STUDENT_ID, c < 2);
+            for (int a = 0; a < 4; a++) {
+                UUID assignmentId = UUID.randomUUID();
+                // Due dates interleave across classrooms: one overdue, two upcoming, one without
+                Instant dueDate = a == 3 ? null : NOW.plus(Duration.ofDays(a * 2L - 1)).plusSeconds(c);
+                jdbc.update("INSERT INTO assignments (id, classroom_id, episode_id, title, due_date, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                        assignmentId, classroomId, UUID.randomUUID(), "Class " + c + " assignment " + a,
+                        dueDate != null ? Timestamp.from(dueDate) : null, Timestamp.from(NOW), Timestamp.from(NOW));
+                if (a == 0) {
+                    jdbc.update("INSERT INTO assignment_submissions (id, assignment_id, student_id, status, score) VALUES (?, ?, ?, ?, ?)",
+                            UUID.randomUUID(), assignmentId, STUDENT_ID, "COMPLETED", 80);
+                }
+            }
+        }
+        adapter = new StudentAssignmentFeedAdapter(jdbc);
+    }
+
+    @Test
+    void findAssignments_shouldJoinSubmissionsAndSortByDueDate() {
+        FeedPage page = adapter.findAssignments(STUDENT_ID, null, null, 100);
+
+        List<FeedItem> items = page.items();
+        assertEquals(8, items.size());
+        assertNull(page.nextCursor());
+
+        FeedItem first = items.get(0);
+        assertTrue(first.overdue());
+        assertEquals(SubmissionStatus.COMPLETED, first.status());
+        assertEquals(80, first.score());
+
+        FeedItem upcoming = items.get(2);
+        assertFalse(upcoming.overdue());
+        assertEquals(SubmissionStatus.NOT_STARTED, upcoming.status());
+        assertNull(upcoming.score());
+
+        for (int i = 1; i < 6; i++) {
+            assertTrue(items.get(i - 1).assignment().getDueDate().isBefore(items.get(i).assignment().getDueDate()));
+        }
+        assertNull(items.get(6).assignment().getDueDate());
+        assertNull(items.get(7).assignment().getDueDate());
+    }
+
+    @Test
+    void findAssignments_shouldPageThroughWholeFeed() {
+        List<FeedItem> all = adapter.findAssignments(STUDENT_ID, null, null, 100).items();
+
+        List<FeedItem> paged = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            FeedPage page = adapter.findAssignments(STUDENT_ID, null, cursor, 3);
+            paged.addAll(page.items());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(ids(all), ids(paged));
+    }
+
+    @Test
+    void findAssignments_shouldKeepToTheGivenClassroom() {
+        UUID classroomId = CLASSROOM_IDS.get(1);
+
+        List<FeedItem> items = adapter.findAssignments(STUDENT_ID, classroomId, null, 100).items();
+
+        assertEquals(4, items.size());
+        assertTrue(items.stream().allMatch(item -> item.assignment().getClassroomId().equals(classroomId)));
+        assertTrue(adapter.findAssignments(STUDENT_ID, CLASSROOM_IDS.get(2), null, 100).items().isEmpty());
+    }
+
+    @Test
+    void findAssignments_shouldRejectMalformedCursor() {
+        assertThrows(InvalidAssignmentCursorException.class,
+                () -> adapter.findAssignments(STUDENT_ID, null, "not-a-cursor", 3));
+    }
+
+    private static List<UUID> ids(List<FeedItem> items) {
+        return items.stream().map(item -> item.assignment().getId().value()).toList();
+    }
+}
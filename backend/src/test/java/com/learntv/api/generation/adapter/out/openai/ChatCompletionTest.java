@@ -0,0 +1,72 @@
+package com.learntv.api.generation.adapter.out.openai;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChatCompletionTest {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Test
+    void shouldReadFirstChoiceContentAndUsage() throws IOException {
+        String response = """
+                {
+                  "id": "chatcmpl-123",
+                  "object": "chat.completion",
+                  "choices": [
+                    {"index": 0, "logprobs": null, "finish_reason": "stop",
+                     "message": {"role": "assistant", "refusal": null, "content": "{\\"vocabulary\\": [\\"cook\\"]}"}},
+                    {"index": 1, "message": {"role": "assistant", "content": "second"}}
+                  ],
+                  "usage": {
+                    "prompt_tokens": 1520, "completion_tokens": 311, "total_tokens": 1831,
+                    "prompt_tokens_details": {"cached_tokens": 1024}
+                  },
+                  "system_fingerprint": "fp_44709d6fcb"
+                }
+                """;
+
+        ChatCompletion completion = parse(response);
+
+        assertEquals("{\"vocabulary\": [\"cook\"]}", completion.content());
+        assertEquals("stop", completion.finishReason());
+        assertTrue(completion.isComplete());
+        assertEquals(new ChatCompletion.Usage(1520, 311, 1831), completion.usage());
+    }
+
+    @Test
+    void shouldNotCountTruncatedAnswerAsComplete() throws IOException {
+        ChatCompletion completion = parse("""
+                {"choices": [{"finish_reason": "length", "message": {"content": "{\\"vocabulary\\": [{\\"te"}}]}
+                """);
+
+        assertEquals("length", completion.finishReason());
+        assertFalse(completion.isComplete());
+    }
+
+    @Test
+    void shouldTreatMissingContentAsEmptyAndMissingUsageAsNone() throws IOException {
+        ChatCompletion completion = parse("""
+                {"choices": [{"message": {"role": "assistant", "content": null, "refusal": "no"}}]}
+                """);
+
+        assertEquals("", completion.content());
+        assertNull(completion.finishReason());
+        assertFalse(completion.isComplete());
+        assertEquals(ChatCompletion.Usage.NONE, completion.usage());
+    }
+
+    @Test
+    void shouldRejectResponsesWithoutChoices() {
+        assertThrows(IOException.class, () -> parse("{\"choices\": [], \"usage\": {\"total_tokens\": 3}}"));
+        assertThrows(IOException.class, () -> parse("{\"error\": {\"message\": \"Rate limit\"}}"));
+    }
+
+    private ChatCompletion parse(String json) throws IOException {
+        return ChatCompletion.parse(jsonFactory.createParser(json));
+    }
+}
@@ -0,0 +1,250 @@
+package com.learntv.api.generation.adapter.out.openai;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learntv.api.generation.application.port.out.ContentExtractionPort;
+import com.learntv.api.generation.domain.model.ExtractedContent;
+import com.learntv.api.generation.domain.model.ExtractedExpression;
+import com.learntv.api.generation.domain.model.ExtractedGrammar;
+import com.learntv.api.generation.domain.model.ExtractedVocabulary;
+import com.learntv.api.generation.domain.service.ExtractionMerger;
+import com.learntv.api.generation.domain.service.ScriptChunker;
+import com.learntv.api.generation.domain.service.SrtParser;
+import com.learntv.api.shared.config.ExternalApiConcurrencyLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Latency and token benchmark for content extraction: one request per section
+ * ({@link ContentExtractionAdapter}) vs all sections in one request
+ * ({@link CombinedContentExtractionAdapter}).
+ *
+ * Run with {@code ./gradlew benchmark}. OpenAI is replaced by a local mock
+ * server that answers after {@code llm-base-ms} plus {@code llm-ms-per-token}
+ * for every completion token it returns, and reports prompt/completion usage
+ * estimated with {@link ScriptChunker#estimateTokens}. By default it extracts
+ * a generated episode-sized script; to use a real one:
+ *
+ * <pre>
+ * ./gradlew benchmark -Dbenchmark.srt-file=/path/to/episode.srt \
+ *     -Dbenchmark.llm-base-ms=400 -Dbenchmark.llm-ms-per-token=2
+ * </pre>
+ */
+@Tag("benchmark")
+class ContentExtractionModeBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 2;
+    private static final int MEASURED_ITERATIONS = 10;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static MockWebServer server;
+    private static ConnectionProvider connectionProvider;
+    private static SimpleMeterRegistry meterRegistry;
+    private static ContentExtractionPort separate;
+    private static ContentExtractionPort combined;
+    private static String script;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        String file = System.getProperty("benchmark.srt-file");
+        script = file != null
+                ? new SrtParser().parsePreservingGroups(Files.readString(Path.of(file)))
+                : generateScript(1000);
+
+        server = new MockWebServer();
+        server.setDispatcher(new MockOpenAi(
+                Long.getLong("benchmark.llm-base-ms", 300),
+                Double.parseDouble(System.getProperty("benchmark.llm-ms-per-token", "0.5"))));
+        server.start();
+
+        OpenAiConfig config = new OpenAiConfig();
+        ReflectionTestUtils.setField(config, "apiKey", "benchmark");
+        ReflectionTestUtils.setField(config, "baseUrl", server.url("/v1").toString());
+        ReflectionTestUtils.setField(config, "model", "gpt-4o-mini");
+        ReflectionTestUtils.setField(config, "maxTokens", 4000);
+        ReflectionTestUtils.setField(config, "maxConnections", 100);
+        ReflectionTestUtils.setField(config, "maxIdleTime", Duration.ofSeconds(60));
+        ReflectionTestUtils.setField(config, "http2", false);
+        connectionProvider = config.openAiConnectionProvider();
+
+        meterRegistry = new SimpleMeterRegistry();
+        OpenAiClient client = new OpenAiClient(config.openAiWebClient(connectionProvider), config, objectMapper,
+                new ExternalApiConcurrencyLimiter(50, 20, 5),
+                new LlmResponseCache(null, meterRegistry, false, 0, Duration.ZERO),
+                meterRegistry);
+
+        ScriptChunker chunker = new ScriptChunker(4000, 6);
+        ExtractionMerger merger = new ExtractionMerger();
+        separate = new ContentExtractionAdapter(client, objectMapper, chunker, merger);
+        combined = new CombinedContentExtractionAdapter(client, objectMapper, chunker, merger);
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        connectionProvider.dispose();
+        server.shutdown();
+    }
+
+    @Test
+    void combinedMode_shouldExtractSameContentAsSeparateMode() {
+        ExtractedContent fromSeparate = separate.extractAll(script, "drama");
+        ExtractedContent fromCombined = combined.extractAll(script, "drama");
+
+        assertFalse(fromSeparate.vocabulary().isEmpty());
+        assertEquals(fromSeparate, fromCombined);
+    }
+
+    @Test
+    void extractAll_latencyAndTokens() {
+        report("separate", measure(separate));
+        report("combined", measure(combined));
+    }
+
+    /**
+     * @return sorted latencies, and requests and tokens averaged per lesson
+     */
+    private static Measurement measure(ContentExtractionPort port) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            port.extractAll(script, "drama");
+        }
+        int requestsBefore = server.getRequestCount();
+        double promptBefore = tokens("prompt");
+        double completionBefore = tokens("completion");
+
+        long[] samples = new long[MEASURED_ITERATIONS];
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            port.extractAll(script, "drama");
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return new Measurement(samples,
+                (double) (server.getRequestCount() - requestsBefore) / MEASURED_ITERATIONS,
+                (tokens("prompt") - promptBefore) / MEASURED_ITERATIONS,
+                (tokens("completion") - completionBefore) / MEASURED_ITERATIONS);
+    }
+
+    private static void report(String mode, Measurement measurement) {
+        System.out.printf("extractAll %s: p50=%.0f ms p99=%.0f ms, %.1f requests, %.0f prompt + %.0f completion tokens per lesson%n",
+                mode, percentile(measurement.latencies(), 50), percentile(measurement.latencies(), 99),
+                measurement.requests(), measurement.promptTokens(), measurement.completionTokens());
+    }
+
+    private static double tokens(String type) {
+        return meterRegistry.get("llm.tokens").tag("type", type).counter().count();
+    }
+
+    private static double percentile(long[] sortedNanos, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static String generateScript(int groups) {
+        String[] lines = {
+                "I need you to hold the line.\nWe're short-staffed tonight.",
+                "- Where's the chart?\n- On the counter, next to the coffee.",
+                "Don't beat around the bush.\nJust tell me what happened.",
+                "If I'd known, I would've called you.",
+                "He's been working here since 2019."
+        };
+        return String.join("\n\n", IntStream.range(0, groups).mapToObj(i -> lines[i % lines.length]).toList());
+    }
+
+    private record Measurement(long[] latencies, double requests, double promptTokens, double completionTokens) {}
+
+    /**
+     * Answers chat completions with the sections named in the system prompt,
+     * delayed like a model that streams out its completion tokens.
+     */
+    private static final class MockOpenAi extends Dispatcher {
+
+        private static final int VOCABULARY_ITEMS = 20;
+        private static final int GRAMMAR_ITEMS = 5;
+        private static final int EXPRESSION_ITEMS = 8;
+
+        private final long baseMillis;
+        private final double millisPerToken;
+
+        private MockOpenAi(long baseMillis, double millisPerToken) {
+            this.baseMillis = baseMillis;
+            this.millisPerToken = millisPerToken;
+        }
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            try {
+                JsonNode body = objectMapper.readTree(request.getBody().readUtf8());
+                String systemPrompt = body.path("messages").path(0).path("content").asText();
+                String userPrompt = body.path("messages").path(1).path("content").asText();
+
+                Map<String, Object> sections = new LinkedHashMap<>();
+                if (systemPrompt.contains("\"vocabulary\"")) {
+                    sections.put("vocabulary", items(VOCABULARY_ITEMS, i -> new ExtractedVocabulary(
+                            "word " + i, "Definition of word " + i, "/wɜːd/", "colloquial",
+                            "We used word " + i + " in a sentence.", null)));
+                }
+                if (systemPrompt.contains("\"grammar\"")) {
+                    sections.put("grammar", items(GRAMMAR_ITEMS, i -> new ExtractedGrammar(
+                            "Pattern " + i, "When and how to use pattern " + i, "subject + verb " + i,
+                            List.of("First example of pattern " + i, "Second example of pattern " + i))));
+                }
+                if (systemPrompt.contains("\"expressions\"")) {
+                    sections.put("expressions", items(EXPRESSION_ITEMS, i -> new ExtractedExpression(
+                            "expression " + i, "What expression " + i + " means",
+                            "Said during the handover", "Informal; use with friends", null)));
+                }
+                String content = objectMapper.writeValueAsString(sections);
+
+                int promptTokens = ScriptChunker.estimateTokens(systemPrompt) + ScriptChunker.estimateTokens(userPrompt);
+                int completionTokens = ScriptChunker.estimateTokens(content);
+                Map<String, Object> response = Map.of(
+                        "choices", List.of(Map.of("index", 0, "finish_reason", "stop",
+                                "message", Map.of("role", "assistant", "content", content))),
+                        "usage", Map.of("prompt_tokens", promptTokens, "completion_tokens", completionTokens,
+                                "total_tokens", promptTokens + completionTokens));
+
+                return new MockResponse()
+                        .setHeader("Content-Type", "application/json")
+                        .setBody(objectMapper.writeValueAsString(response))
+                        .setHeadersDelay(baseMillis + (long) (completionTokens * millisPerToken), TimeUnit.MILLISECONDS);
+            } catch (IOException e) {
+                return new MockResponse().setResponseCode(500);
+            }
+        }
+
+        private static <T> List<T> items(int count, IntFunction<T> item) {
+            List<T> items = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                items.add(item.apply(i));
+            }
+            return items;
+        }
+    }
+}
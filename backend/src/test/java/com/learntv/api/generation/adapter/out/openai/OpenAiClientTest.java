@@ -0,0 +1,161 @@
+package com.learntv.api.generation.adapter.out.openai;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learntv.api.shared.config.ExternalApiConcurrencyLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpenAiClientTest {
+
+    private static final String SYSTEM_PROMPT = "Return a JSON object with a \"vocabulary\" array.";
+    private static final String USER_PROMPT = "Say my name.";
+    private static final String ANSWER = "{\"vocabulary\": [\"name\"]}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final InMemoryResponseCache responseCache = new InMemoryResponseCache();
+    private MockWebServer server;
+    private ConnectionProvider connectionProvider;
+    private OpenAiClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+
+        OpenAiConfig config = new OpenAiConfig();
+        ReflectionTestUtils.setField(config, "apiKey", "test");
+        ReflectionTestUtils.setField(config, "baseUrl", server.url("/v1").toString());
+        ReflectionTestUtils.setField(config, "model", "gpt-4o-mini");
+        ReflectionTestUtils.setField(config, "maxTokens", 4000);
+        ReflectionTestUtils.setField(config, "maxConnections", 10);
+        ReflectionTestUtils.setField(config, "maxIdleTime", Duration.ofSeconds(60));
+        ReflectionTestUtils.setField(config, "http2", false);
+        connectionProvider = config.openAiConnectionProvider();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        client = new OpenAiClient(config.openAiWebClient(connectionProvider), config, objectMapper,
+                new ExternalApiConcurrencyLimiter(50, 20, 5), responseCache, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        connectionProvider.dispose();
+        server.shutdown();
+    }
+
+    @Test
+    void chatCompletion_shouldServeRepeatedRequestFromCache() {
+        server.enqueue(completion(ANSWER, "stop"));
+
+        assertEquals(List.of("name"), client.chatCompletion(SYSTEM_PROMPT, USER_PROMPT, this::vocabulary));
+        assertEquals(List.of("name"), client.chatCompletion(SYSTEM_PROMPT, USER_PROMPT, this::vocabulary));
+
+        assertEquals(1, server.getRequestCount());
+        assertEquals(List.of(ANSWER), List.copyOf(responseCache.responses.values()));
+    }
+
+    @Test
+    void chatCompletion_shouldNotCacheTruncatedAnswer() {
+        String truncated = "{\"vocabulary\": [\"name\"], \"grammar\": [";
+        server.enqueue(completion(truncated, "length"));
+        server.enqueue(completion(ANSWER, "stop"));
+
+        // The caller copes with the truncated answer, but it mustn't be repeated
+        assertEquals(truncated, client.chatCompletion(SYSTEM_PROMPT, USER_PROMPT, content -> content));
+        assertTrue(responseCache.responses.isEmpty());
+
+        assertEquals(ANSWER, client.chatCompletion(SYSTEM_PROMPT, USER_PROMPT, content -> content));
+        assertEquals(2, server.getRequestCount());
+        assertEquals(List.of(ANSWER), List.copyOf(responseCache.responses.values()));
+    }
+
+    @Test
+    void chatCompletion_shouldNotCacheAnswerTheParserRejects() {
+        server.enqueue(completion("Sorry, here is the vocabulary: name", "stop"));
+        server.enqueue(completion("", "stop"));
+
+        assertThrows(RuntimeException.class,
+                () -> client.chatCompletion(SYSTEM_PROMPT, USER_PROMPT, this::vocabulary));
+        assertTrue(responseCache.responses.isEmpty());
+
+        assertEquals("", client.chatCompletion(SYSTEM_PROMPT, USER_PROMPT, content -> content));
+        assertTrue(responseCache.responses.isEmpty());
+    }
+
+    @Test
+    void chatCompletion_shouldAskAgainWhenCachedAnswerNoLongerParses() {
+        String cacheKey = LlmResponseCache.key("gpt-4o-mini", SYSTEM_PROMPT, USER_PROMPT, 0.7, 4000);
+        responseCache.put(cacheKey, "gpt-4o-mini", "{\"vocabulary\": [\"na");
+        server.enqueue(completion(ANSWER, "stop"));
+
+        assertEquals(List.of("name"), client.chatCompletion(SYSTEM_PROMPT, USER_PROMPT, this::vocabulary));
+
+        assertEquals(1, server.getRequestCount());
+        assertEquals(ANSWER, responseCache.responses.get(cacheKey));
+    }
+
+    private List<String> vocabulary(String content) {
+        try {
+            JsonNode vocabulary = objectMapper.readTree(content).path("vocabulary");
+            if (!vocabulary.isArray()) {
+                throw new IllegalArgumentException("No vocabulary array");
+            }
+            return objectMapper.convertValue(vocabulary,
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, String.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Not JSON", e);
+        }
+    }
+
+    private MockResponse completion(String content, String finishReason) {
+        try {
+            return new MockResponse()
+                    .setHeader("Content-Type", "application/json")
+                    .setBody(objectMapper.writeValueAsString(Map.of(
+                            "choices", List.of(Map.of("index", 0, "finish_reason", finishReason,
+                                    "message", Map.of("role", "assistant", "content", content))),
+                            "usage", Map.of("prompt_tokens", 20, "completion_tokens", 10, "total_tokens", 30))));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The in-memory tier only; no database.
+     */
+    private static final class InMemoryResponseCache extends LlmResponseCache {
+
+        private final Map<String, String> responses = new ConcurrentHashMap<>();
+
+        InMemoryResponseCache() {
+            super(null, new SimpleMeterRegistry(), false, 0, Duration.ZERO);
+        }
+
+        @Override
+        public Optional<String> get(String key) {
+            return Optional.ofNullable(responses.get(key));
+        }
+
+        @Override
+        public void put(String key, String model, String response) {
+            responses.put(key, response);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.learntv.api.generation.adapter.out.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learntv.api.catalog.adapter.out.persistence.ShowJpaEntity;
+import com.learntv.api.catalog.adapter.out.persistence.ShowJpaRepository;
+import com.learntv.api.catalog.application.port.UserShowRepository;
+import com.learntv.api.catalog.domain.model.AccentType;
+import com.learntv.api.catalog.domain.model.DifficultyLevel;
+import com.learntv.api.catalog.domain.model.Genre;
+import com.learntv.api.catalog.domain.model.Show;
+import com.learntv.api.catalog.domain.model.ShowId;
+import com.learntv.api.generation.application.port.out.ShowMetadataPort.ShowWithSeasons;
+import com.learntv.api.generation.domain.model.ExtractedExpression;
+import com.learntv.api.generation.domain.model.ExtractedGrammar;
+import com.learntv.api.generation.domain.model.ExtractedVocabulary;
+import com.learntv.api.generation.domain.model.GeneratedExercise;
+import com.learntv.api.generation.domain.model.GeneratedLesson;
+import com.learntv.api.learning.adapter.out.persistence.EpisodeJpaEntity;
+import com.learntv.api.learning.adapter.out.persistence.EpisodeJpaRepository;
+import com.learntv.api.learning.application.port.LessonCachePort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Regenerates an episode whose lesson exists, inside a simulated transaction,
+ * with the repositories replaced by fakes.
+ */
+class LessonPersistenceAdapterTest {
+
+    private static final GeneratedLesson LESSON = new GeneratedLesson(List.of(), List.of(), List.of(), List.of());
+    private static final ShowWithSeasons SHOW = new ShowWithSeasons("1396", "Breaking Bad", null, null, 2008, List.of());
+
+    private final List<String> evicted = new ArrayList<>();
+    private LessonPersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        ShowJpaEntity show = ShowJpaEntity.fromDomain(Show.builder()
+                .id(ShowId.of(UUID.randomUUID()))
+                .title("Breaking Bad")
+                .slug("breaking-bad")
+                .genre(Genre.DRAMA)
+                .accent(AccentType.AMERICAN)
+                .difficulty(DifficultyLevel.INTERMEDIATE)
+                .tmdbId("1396")
+                .build());
+        EpisodeJpaEntity existing = EpisodeJpaEntity.create(show.getId(), show.getSlug(), 1, 1, "Pilot", "Pilot");
+
+        ShowJpaRepository showRepository = fake(ShowJpaRepository.class,
+                Map.of("findBySlug", args -> Optional.of(show)));
+        EpisodeJpaRepository episodeRepository = fake(EpisodeJpaRepository.class, Map.of(
+                "findByShowIdAndSeasonNumberAndEpisodeNumber", args -> Optional.of(existing),
+                "saveAndFlush", args -> args[0]));
+        UserShowRepository userShowRepository = fake(UserShowRepository.class,
+                Map.of("addUserShow", args -> null));
+        LessonCachePort lessonCache = (showSlug, episodeSlug) -> evicted.add(showSlug + "/" + episodeSlug);
+
+        adapter = new LessonPersistenceAdapter(null, showRepository, episodeRepository, new NoOpContentWriter(),
+                userShowRepository, lessonCache);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void save_shouldEvictRegeneratedLessonOnlyOnceCommitted() {
+        adapter.save(LESSON, SHOW, "tt0903747", 1, 1, "Pilot", "drama", UUID.randomUUID());
+        // Readers still get the old lesson, which is what the database still has
+        assertTrue(evicted.isEmpty());
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+
+        assertEquals(List.of("breaking-bad/breaking-bad-s1e1"), evicted);
+    }
+
+    @Test
+    void save_shouldKeepCachedLessonWhenRegenerationRollsBack() {
+        adapter.save(LESSON, SHOW, "tt0903747", 1, 1, "Pilot", "drama", UUID.randomUUID());
+
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertTrue(evicted.isEmpty());
+    }
+
+    /**
+     * A repository answering only the given methods, by name.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T fake(Class<T> type, Map<String, Answer> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Answer answer = answers.get(method.getName());
+            if (answer == null) {
+                throw new UnsupportedOperationException(method.getName());
+            }
+            return answer.apply(args);
+        });
+    }
+
+    @FunctionalInterface
+    private interface Answer {
+        Object apply(Object[] args);
+    }
+
+    private static final class NoOpContentWriter extends LessonContentBatchWriter {
+
+        NoOpContentWriter() {
+            super(null, new ObjectMapper());
+        }
+
+        @Override
+        public void deleteEpisode(UUID episodeId) {
+        }
+
+        @Override
+        public void insertVocabulary(UUID episodeId, List<ExtractedVocabulary> vocabulary) {
+        }
+
+        @Override
+        public void insertGrammarPoints(UUID episodeId, List<ExtractedGrammar> grammarPoints) {
+        }
+
+        @Override
+        public void insertExpressions(UUID episodeId, List<ExtractedExpression> expressions) {
+        }
+
+        @Override
+        public void insertExercises(UUID episodeId, List<GeneratedExercise> exercises) {
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.learntv.api.generation.adapter.out.persistence;
+
+import com.learntv.api.generation.domain.model.SubtitleCue;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubtitleCueCodecTest {
+
+    private static final List<SubtitleCue> CUES = List.of(
+            new SubtitleCue(0, 0, null, ""),
+            new SubtitleCue(1_500, 3_200, "WALTER", "Say my name."),
+            new SubtitleCue(3_400, 5_000, "JESSE", "Heisenberg. Yeah, science! 🧪"),
+            new SubtitleCue(5_100, 6_000, "WALTER", "You're goddamn right."),
+            new SubtitleCue(6_000, 6_500, null, "Ñandú — 日本語のセリフ"),
+            // Out of order and long: a 10-hour recording
+            new SubtitleCue(36_000_000, 36_004_000, "", "Late cue"),
+            new SubtitleCue(2_000, 2_500, null, "Back again"),
+            new SubtitleCue(Long.MAX_VALUE / 2, Long.MAX_VALUE / 2 + 1, null, "Huge timestamp")
+    );
+
+    @Test
+    void shouldRoundTripEmptyList() {
+        assertEquals(List.of(), SubtitleCueCodec.decode(SubtitleCueCodec.encode(List.of())));
+    }
+
+    @Test
+    void shouldRoundTripCues() {
+        assertEquals(CUES, SubtitleCueCodec.decode(SubtitleCueCodec.encode(CUES)));
+    }
+
+    @Test
+    void shouldStoreRecurringSpeakerOnce() {
+        byte[] encoded = SubtitleCueCodec.encode(List.of(
+                new SubtitleCue(0, 1_000, "WALTER", "One."),
+                new SubtitleCue(1_000, 2_000, "WALTER", "Two.")));
+
+        int occurrences = 0;
+        String asText = new String(encoded, StandardCharsets.ISO_8859_1);
+        for (int i = asText.indexOf("WALTER"); i >= 0; i = asText.indexOf("WALTER", i + 1)) {
+            occurrences++;
+        }
+        assertEquals(1, occurrences);
+    }
+
+    @Test
+    void shouldRejectUnknownVersion() {
+        byte[] encoded = SubtitleCueCodec.encode(CUES);
+        encoded[0] = 2;
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> SubtitleCueCodec.decode(encoded));
+        assertTrue(e.getMessage().contains("version"));
+    }
+
+    @Test
+    void shouldRejectTruncatedInput() {
+        byte[] encoded = SubtitleCueCodec.encode(CUES);
+
+        assertThrows(IllegalArgumentException.class, () -> SubtitleCueCodec.decode(new byte[0]));
+        for (int length = 1; length < encoded.length; length++) {
+            byte[] truncated = Arrays.copyOf(encoded, length);
+            assertThrows(IllegalArgumentException.class, () -> SubtitleCueCodec.decode(truncated),
+                    "decoded the first " + length + " of " + encoded.length + " bytes");
+        }
+    }
+
+    @Test
+    void shouldRejectTrailingBytes() {
+        byte[] encoded = SubtitleCueCodec.encode(CUES);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> SubtitleCueCodec.decode(Arrays.copyOf(encoded, encoded.length + 1)));
+    }
+}
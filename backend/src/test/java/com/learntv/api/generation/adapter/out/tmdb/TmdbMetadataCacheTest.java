@@ -0,0 +1,130 @@
+package com.learntv.api.generation.adapter.out.tmdb;
+
+import com.learntv.api.generation.adapter.out.tmdb.TmdbMetadataCache.Resource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TmdbMetadataCacheTest {
+
+    private static final Map<Resource, Duration> TTLS = Map.of(
+            Resource.SEARCH, Duration.ofHours(1),
+            Resource.SHOW, Duration.ofHours(12),
+            Resource.SEASON, Duration.ofHours(24),
+            Resource.EXTERNAL_IDS, Duration.ofDays(7));
+
+    private final MutableClock clock = new MutableClock();
+    private final TmdbMetadataCache cache = new TmdbMetadataCache(new SimpleMeterRegistry(), 100, TTLS, clock);
+
+    @Test
+    void shouldLoadOnceUntilExpired() {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Optional.of("tt0903747"),
+                    cache.get(Resource.EXTERNAL_IDS, 1396, () -> {
+                        loads.incrementAndGet();
+                        return Optional.of("tt0903747");
+                    }));
+        }
+        assertEquals(1, loads.get());
+
+        clock.advance(Duration.ofDays(7));
+        cache.get(Resource.EXTERNAL_IDS, 1396, () -> {
+            loads.incrementAndGet();
+            return Optional.of("tt0903747");
+        });
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldNotCacheEmptyResults() {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            cache.get(Resource.SHOW, 1396, () -> {
+                loads.incrementAndGet();
+                return Optional.empty();
+            });
+        }
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldCoalesceConcurrentLookupsOfTheSameKey() throws Exception {
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Optional<String>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> cache.get(Resource.SHOW, 1396, () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return Optional.of("Breaking Bad");
+                })));
+            }
+            // Let every caller reach the cache before the single load finishes
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<Optional<String>> result : results) {
+                assertEquals(Optional.of("Breaking Bad"), result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
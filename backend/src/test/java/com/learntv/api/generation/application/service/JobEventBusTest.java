@@ -0,0 +1,112 @@
+package com.learntv.api.generation.application.service;
+
+import com.learntv.api.generation.domain.model.GenerationJob;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobEventBusTest {
+
+    private final ExecutorService deliveryExecutor = Executors.newCachedThreadPool();
+    private final MutableClock clock = new MutableClock();
+    private final JobEventBus bus = new JobEventBus(deliveryExecutor, Duration.ofMinutes(30), clock);
+
+    @AfterEach
+    void tearDown() {
+        bus.shutdown();
+        deliveryExecutor.shutdownNow();
+    }
+
+    @Test
+    void publish_shouldNotWaitForSlowSubscriber() throws Exception {
+        GenerationJob job = GenerationJob.create().markProcessing("Starting");
+        bus.publish(job);
+
+        CountDownLatch release = new CountDownLatch(1);
+        bus.subscribe(job.id(), snapshot -> await(release), Optional::empty);
+        List<GenerationJob> fastReceived = new CopyOnWriteArrayList<>();
+        CountDownLatch fastDone = new CountDownLatch(1);
+        bus.subscribe(job.id(), snapshot -> {
+            fastReceived.add(snapshot);
+            if (snapshot.isTerminal()) {
+                fastDone.countDown();
+            }
+        }, Optional::empty);
+
+        // The slow subscriber is stuck on its first snapshot; publishing goes on regardless
+        for (int progress = 10; progress <= 90; progress += 10) {
+            bus.publish(job.updateProgress(progress, "Step " + progress));
+        }
+        bus.publish(job.markCompleted(UUID.randomUUID()));
+
+        assertTrue(fastDone.await(5, TimeUnit.SECONDS));
+        assertTrue(fastReceived.get(fastReceived.size() - 1).isTerminal());
+        for (int i = 1; i < fastReceived.size(); i++) {
+            assertTrue(fastReceived.get(i - 1).progress() <= fastReceived.get(i).progress()
+                    || fastReceived.get(i).isTerminal());
+        }
+        release.countDown();
+    }
+
+    @Test
+    void closeIdleChannels_shouldDropChannelOfJobThatStoppedPublishing() {
+        GenerationJob job = GenerationJob.create().markProcessing("Starting");
+        bus.publish(job);
+        bus.subscribe(job.id(), snapshot -> {}, Optional::empty);
+
+        clock.advance(Duration.ofMinutes(10));
+        bus.closeIdleChannels();
+        assertTrue(bus.latest(job.id()).isPresent());
+
+        clock.advance(Duration.ofMinutes(25));
+        bus.closeIdleChannels();
+        assertTrue(bus.latest(job.id()).isEmpty());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.learntv.api.generation.application.service;
+
+import com.learntv.api.generation.application.port.out.GenerationJobRepository;
+import com.learntv.api.generation.application.port.out.LessonPersistencePort;
+import com.learntv.api.generation.application.port.out.ShowMetadataPort.ShowWithSeasons;
+import com.learntv.api.generation.application.service.SeasonGenerationProcessor.EpisodeWork;
+import com.learntv.api.generation.domain.model.GeneratedLesson;
+import com.learntv.api.generation.domain.model.GenerationJob;
+import com.learntv.api.generation.domain.model.GenerationProgressStep;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs season batches on the platform-thread configuration of
+ * lessonGenerationExecutor (see AsyncConfiguration), with the external
+ * services replaced by fakes.
+ */
+class SeasonGenerationProcessorTest {
+
+    private static final ShowWithSeasons SHOW = new ShowWithSeasons("1396", "Breaking Bad", null, null, 2008, List.of());
+    private static final GeneratedLesson LESSON = new GeneratedLesson(List.of(), List.of(), List.of(), List.of());
+
+    private ThreadPoolTaskExecutor lessonGenerationExecutor = platformExecutor("lesson-gen-", 2, 5, 10);
+    private final ThreadPoolTaskExecutor contentExtractionExecutor = platformExecutor("content-extract-", 6, 15, 30);
+    private final Set<UUID> completedJobs = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> failedJobs = ConcurrentHashMap.newKeySet();
+    private final Set<String> generationThreads = ConcurrentHashMap.newKeySet();
+    private CountDownLatch allCompleted = new CountDownLatch(6);
+
+    @AfterEach
+    void tearDown() {
+        lessonGenerationExecutor.shutdown();
+        contentExtractionExecutor.shutdown();
+    }
+
+    @Test
+    void processBatch_shouldFinishConcurrentBatchesOnPlatformThreads() throws Exception {
+        SeasonGenerationProcessor processor = new SeasonGenerationProcessor(
+                new NoOpProgressService(), new FakeScriptFetchService(), new FakeLessonPersistence(),
+                new FakePipeline(), new LeaseHoldingJobRepository(),
+                lessonGenerationExecutor, contentExtractionExecutor, 2, 3);
+
+        List<EpisodeWork> season1 = episodes(1);
+        List<EpisodeWork> season2 = episodes(2);
+        // What the @Async proxy does: each batch starts on a lessonGenerationExecutor thread
+        lessonGenerationExecutor.execute(() ->
+                processor.processBatch(UUID.randomUUID(), "tt0903747", SHOW, "drama", UUID.randomUUID(), season1));
+        lessonGenerationExecutor.execute(() ->
+                processor.processBatch(UUID.randomUUID(), "tt0903747", SHOW, "drama", UUID.randomUUID(), season2));
+
+        assertTrue(allCompleted.await(10, TimeUnit.SECONDS),
+                "batches stalled with " + completedJobs.size() + " of 6 episodes completed");
+        assertTrue(failedJobs.isEmpty());
+        season1.forEach(episode -> assertTrue(completedJobs.contains(episode.jobId())));
+        season2.forEach(episode -> assertTrue(completedJobs.contains(episode.jobId())));
+    }
+
+    @Test
+    void processBatch_shouldWaitForRoomRatherThanRunEpisodeOnPrefetchThread() throws Exception {
+        // One thread and no queue: the second lane's episode is refused while the first runs
+        lessonGenerationExecutor.shutdown();
+        lessonGenerationExecutor = platformExecutor("lesson-gen-", 1, 1, 0);
+        allCompleted = new CountDownLatch(3);
+        SeasonGenerationProcessor processor = new SeasonGenerationProcessor(
+                new NoOpProgressService(), new FakeScriptFetchService(), new FakeLessonPersistence(),
+                new FakePipeline(), new LeaseHoldingJobRepository(),
+                lessonGenerationExecutor, contentExtractionExecutor, 2, 3);
+
+        List<EpisodeWork> season = episodes(1);
+        processor.processBatch(UUID.randomUUID(), "tt0903747", SHOW, "drama", UUID.randomUUID(), season);
+
+        assertTrue(allCompleted.await(10, TimeUnit.SECONDS),
+                "batch stalled with " + completedJobs.size() + " of 3 episodes completed");
+        assertTrue(failedJobs.isEmpty());
+        assertTrue(generationThreads.stream().allMatch(name -> name.startsWith("lesson-gen-")),
+                "episodes ran on " + generationThreads);
+    }
+
+    private static List<EpisodeWork> episodes(int season) {
+        return IntStream.rangeClosed(1, 3)
+                .mapToObj(number -> new EpisodeWork(UUID.randomUUID(), season, number, "Episode " + number))
+                .toList();
+    }
+
+    private static ThreadPoolTaskExecutor platformExecutor(String prefix, int core, int max, int queue) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(core);
+        executor.setMaxPoolSize(max);
+        executor.setQueueCapacity(queue);
+        executor.setThreadNamePrefix(prefix);
+        executor.initialize();
+        return executor;
+    }
+
+    private static void pause() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class NoOpProgressService extends JobProgressService {
+
+        NoOpProgressService() {
+            super(null, null);
+        }
+
+        @Override
+        public void updateProgress(UUID jobId, GenerationProgressStep step) {
+        }
+    }
+
+    private static final class FakeScriptFetchService extends ScriptFetchService {
+
+        FakeScriptFetchService() {
+            super(null, null);
+        }
+
+        @Override
+        public Optional<String> fetchScript(String imdbId, int season, int episode) {
+            pause();
+            return Optional.of("Say my name.");
+        }
+    }
+
+    private final class FakePipeline extends EpisodeLessonPipeline {
+
+        FakePipeline() {
+            super(null, null, null, null, null, null, null, null, null);
+        }
+
+        @Override
+        public GeneratedLesson generateLesson(UUID jobId, String scriptText, String genre) {
+            generationThreads.add(Thread.currentThread().getName());
+            pause();
+            return LESSON;
+        }
+
+        @Override
+        public void startStage(UUID jobId, GenerationProgressStep step) {
+        }
+
+        @Override
+        public void complete(UUID jobId, UUID episodeId) {
+            completedJobs.add(jobId);
+            allCompleted.countDown();
+        }
+
+        @Override
+        public void fail(UUID jobId, Throwable error) {
+            failedJobs.add(jobId);
+            allCompleted.countDown();
+        }
+    }
+
+    private static final class FakeLessonPersistence implements LessonPersistencePort {
+
+        @Override
+        public UUID save(GeneratedLesson lesson, String tmdbId, String imdbId, int seasonNumber, int episodeNumber,
+                         String episodeTitle, String genre, String imageUrl, UUID userId) {
+            return UUID.randomUUID();
+        }
+
+        @Override
+        public UUID save(GeneratedLesson lesson, ShowWithSeasons show, String imdbId, int seasonNumber,
+                         int episodeNumber, String episodeTitle, String genre, UUID userId) {
+            return UUID.randomUUID();
+        }
+
+        @Override
+        public Optional<ExistingLesson> findExistingLesson(String tmdbId, int seasonNumber, int episodeNumber) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Only lease renewal is used by the batch; every lease is still held.
+     */
+    private static final class LeaseHoldingJobRepository implements GenerationJobRepository {
+
+        @Override
+        public boolean renewLease(UUID jobId) {
+            return true;
+        }
+
+        @Override
+        public GenerationJob createJob(String imdbId, int seasonNumber, int episodeNumber) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public GenerationJob createCompletedJob(String imdbId, int seasonNumber, int episodeNumber, UUID episodeId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public GenerationClaim claimJob(String imdbId, int seasonNumber, int episodeNumber, UUID userId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public GenerationClaim claimShadowingJob(UUID episodeId, int seasonNumber, int episodeNumber) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<String> findImdbIdByEpisodeId(UUID episodeId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<UUID> findWaitingUserIds(UUID jobId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean expireLease(UUID jobId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public GenerationJob save(GenerationJob job) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<GenerationJob> findById(UUID jobId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void updateProgress(UUID jobId, String step, int progress) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void markCompleted(UUID jobId, UUID episodeId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void markFailed(UUID jobId, String errorMessage) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
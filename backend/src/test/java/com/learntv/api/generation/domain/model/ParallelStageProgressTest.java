@@ -0,0 +1,88 @@
+package com.learntv.api.generation.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelStageProgressTest {
+
+    private static final List<GenerationProgressStep> EXTRACTION_STAGES = List.of(
+            GenerationProgressStep.EXTRACTING_VOCABULARY,
+            GenerationProgressStep.EXTRACTING_GRAMMAR,
+            GenerationProgressStep.EXTRACTING_EXPRESSIONS
+    );
+
+    @Test
+    void start_shouldReportAllStagesRunning() {
+        // When
+        ParallelStageProgress group = ParallelStageProgress.start(EXTRACTION_STAGES);
+
+        // Then
+        assertEquals(EXTRACTION_STAGES, group.running());
+        assertEquals(40, group.progress());
+        assertEquals("Extracting vocabulary, grammar, expressions...", group.description());
+        assertFalse(group.isDone());
+    }
+
+    @Test
+    void complete_shouldAdvanceProgressRegardlessOfCompletionOrder() {
+        // Given
+        ParallelStageProgress group = ParallelStageProgress.start(EXTRACTION_STAGES);
+
+        // When
+        ParallelStageProgress afterFirst = group.complete(GenerationProgressStep.EXTRACTING_EXPRESSIONS);
+        ParallelStageProgress afterSecond = afterFirst.complete(GenerationProgressStep.EXTRACTING_VOCABULARY);
+
+        // Then
+        assertEquals(55, afterFirst.progress());
+        assertEquals("Extracting vocabulary, grammar...", afterFirst.description());
+        assertEquals(70, afterSecond.progress());
+        assertEquals("Extracting grammar...", afterSecond.description());
+    }
+
+    @Test
+    void complete_shouldNotMutateOriginalGroup() {
+        // Given
+        ParallelStageProgress group = ParallelStageProgress.start(EXTRACTION_STAGES);
+
+        // When
+        group.complete(GenerationProgressStep.EXTRACTING_GRAMMAR);
+
+        // Then
+        assertEquals(3, group.running().size());
+    }
+
+    @Test
+    void isDone_shouldReturnTrueWhenEveryStageCompleted() {
+        // Given
+        ParallelStageProgress group = ParallelStageProgress.start(EXTRACTION_STAGES);
+
+        // When
+        ParallelStageProgress done = group
+                .complete(GenerationProgressStep.EXTRACTING_GRAMMAR)
+                .complete(GenerationProgressStep.EXTRACTING_VOCABULARY)
+                .complete(GenerationProgressStep.EXTRACTING_EXPRESSIONS);
+
+        // Then
+        assertTrue(done.isDone());
+        assertEquals(70, done.progress());
+        assertTrue(done.running().isEmpty());
+    }
+
+    @Test
+    void complete_shouldThrowExceptionForStageOutsideGroup() {
+        // Given
+        ParallelStageProgress group = ParallelStageProgress.start(EXTRACTION_STAGES);
+
+        // When/Then
+        assertThrows(IllegalArgumentException.class,
+                () -> group.complete(GenerationProgressStep.SAVING));
+    }
+
+    @Test
+    void start_shouldThrowExceptionForEmptyGroup() {
+        assertThrows(IllegalArgumentException.class, () -> ParallelStageProgress.start(List.of()));
+    }
+}
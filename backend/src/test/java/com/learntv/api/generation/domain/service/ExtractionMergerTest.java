@@ -0,0 +1,74 @@
+package com.learntv.api.generation.domain.service;
+
+import com.learntv.api.generation.domain.model.ExtractedExpression;
+import com.learntv.api.generation.domain.model.ExtractedVocabulary;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExtractionMergerTest {
+
+    private final ExtractionMerger merger = new ExtractionMerger();
+
+    @Test
+    void shouldMergeSameTermWithDifferentCasingAcrossChunks() {
+        List<ExtractedVocabulary> merged = merger.mergeVocabulary(List.of(
+                List.of(vocabulary("Cook", "To prepare food")),
+                List.of(vocabulary("cook", "A chef"), vocabulary("  COOK! ", "Someone who cooks"))),
+                "You cook. I cook.", 10);
+
+        assertEquals(1, merged.size());
+        // The first chunk's version is kept
+        assertEquals("Cook", merged.get(0).term());
+        assertEquals("To prepare food", merged.get(0).definition());
+    }
+
+    @Test
+    void shouldRankByChunksThenOccurrencesThenScriptOrder() {
+        String script = """
+                Respect the chemistry. We cook.
+                Chemistry is all about change. You cook, partner?
+                Yeah, chemistry!""";
+
+        List<List<ExtractedVocabulary>> chunks = List.of(
+                List.of(vocabulary("respect"), vocabulary("cook"), vocabulary("partner")),
+                List.of(vocabulary("chemistry"), vocabulary("Cook")));
+
+        // cook: 2 chunks; chemistry: 3 occurrences; respect and partner: 1 each, in script order
+        assertEquals(List.of("cook", "chemistry", "respect", "partner"),
+                terms(merger.mergeVocabulary(chunks, script, 10)));
+        assertEquals(List.of("cook", "chemistry"), terms(merger.mergeVocabulary(chunks, script, 2)));
+    }
+
+    @Test
+    void shouldIgnoreEmptyChunkResult() {
+        List<ExtractedExpression> merged = merger.mergeExpressions(List.of(
+                List.of(),
+                List.of(expression("Break the ice"), expression("Get the ball rolling")),
+                List.of(),
+                List.of(expression("break  the ice!"))),
+                "Let's break the ice.", 10);
+
+        assertEquals(List.of("Break the ice", "Get the ball rolling"),
+                merged.stream().map(ExtractedExpression::phrase).toList());
+        assertEquals(List.of(), merger.mergeExpressions(List.of(List.of(), List.of()), "Anything.", 10));
+    }
+
+    private static List<String> terms(List<ExtractedVocabulary> vocabulary) {
+        return vocabulary.stream().map(ExtractedVocabulary::term).toList();
+    }
+
+    private static ExtractedVocabulary vocabulary(String term) {
+        return vocabulary(term, null);
+    }
+
+    private static ExtractedVocabulary vocabulary(String term, String definition) {
+        return new ExtractedVocabulary(term, definition, null, null, null, null);
+    }
+
+    private static ExtractedExpression expression(String phrase) {
+        return new ExtractedExpression(phrase, null, null, null, null);
+    }
+}
@@ -0,0 +1,66 @@
+package com.learntv.api.generation.domain.service;
+
+import com.learntv.api.generation.domain.model.ExtractedVocabulary;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScriptChunkerTest {
+
+    @Test
+    void shouldSplitOnlyBetweenSubtitleGroups() {
+        List<String> groups = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            groups.add("Line " + i + " of the episode.\nAnd a second line.");
+        }
+        String script = String.join("\n\n", groups);
+
+        List<String> chunks = new ScriptChunker(200, 10).chunk(script);
+
+        assertTrue(chunks.size() > 1);
+        assertEquals(script, String.join("\n\n", chunks));
+        for (String chunk : chunks) {
+            assertTrue(ScriptChunker.estimateTokens(chunk) <= 200);
+            assertTrue(chunk.startsWith("Line "));
+        }
+    }
+
+    @Test
+    void shouldGrowTheBudgetRatherThanExceedMaxChunks() {
+        String script = String.join("\n\n", Collections.nCopies(500, "Say my name."));
+
+        List<String> chunks = new ScriptChunker(50, 3).chunk(script);
+
+        assertEquals(3, chunks.size());
+        assertEquals(script, String.join("\n\n", chunks));
+    }
+
+    @Test
+    void shouldEstimateTokensLikeBpe() {
+        assertEquals(0, ScriptChunker.estimateTokens(""));
+        assertEquals(4, ScriptChunker.estimateTokens("I know, right"));
+        assertEquals(3, ScriptChunker.estimateTokens("unbelievable"));
+        assertEquals(2, ScriptChunker.estimateTokens("1999"));
+    }
+
+    @Test
+    void mergerShouldDeduplicateAndRankByChunksThenScriptOccurrences() {
+        String script = "Cook the batch. We cook, we cook. Heisenberg is the danger. Batch!";
+        List<List<ExtractedVocabulary>> chunks = List.of(
+                List.of(vocabulary("danger"), vocabulary("batch"), vocabulary("cook")),
+                List.of(vocabulary("Cook!"), vocabulary("cook")),
+                List.of(vocabulary("Batch")));
+
+        List<ExtractedVocabulary> merged = new ExtractionMerger().mergeVocabulary(chunks, script, 2);
+
+        assertEquals(List.of("cook", "batch"), merged.stream().map(ExtractedVocabulary::term).toList());
+    }
+
+    private static ExtractedVocabulary vocabulary(String term) {
+        return new ExtractedVocabulary(term, "definition", null, "colloquial", "example", null);
+    }
+}
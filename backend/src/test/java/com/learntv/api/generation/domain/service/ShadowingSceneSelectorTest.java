@@ -0,0 +1,57 @@
+package com.learntv.api.generation.domain.service;
+
+import com.learntv.api.generation.domain.model.SceneCandidate;
+import com.learntv.api.generation.domain.model.SubtitleCue;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShadowingSceneSelectorTest {
+
+    @Test
+    void termMatcherShouldFindWholeWordsIgnoringCase() {
+        TermMatcher matcher = new TermMatcher(List.of("he", "she", "his", "get by", "run"));
+        List<Integer> found = new ArrayList<>();
+
+        matcher.forEachMatch("Ushers! She'll get by... he runs; RUN, his", found::add);
+
+        assertEquals(List.of(1, 3, 0, 4, 2), found);
+    }
+
+    @Test
+    void shouldPreferWindowsUsingLessonTerms() {
+        List<SubtitleCue> cues = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            String text = i >= 30 && i < 40 && i % 2 == 0 ? "We need the money, now." : "Some other line.";
+            cues.add(new SubtitleCue(i * 3000L, i * 3000L + 2000, i % 2 == 0 ? "WALTER" : "JESSE", text));
+        }
+
+        List<SceneCandidate> candidates = new ShadowingSceneSelector(1).selectCandidates(cues, List.of("money"));
+
+        assertEquals(1, candidates.size());
+        SceneCandidate best = candidates.get(0);
+        assertEquals(1, best.matchedTerms());
+        assertTrue(best.cues().stream().filter(cue -> cue.text().contains("money")).count() >= 4);
+    }
+
+    @Test
+    void shouldNotSpanLongPauses() {
+        List<SubtitleCue> cues = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            // A minute of silence between the two halves
+            long start = i * 3000L + (i >= 10 ? 60_000 : 0);
+            cues.add(new SubtitleCue(start, start + 2000, null, "- Line " + i));
+        }
+
+        List<SceneCandidate> candidates = new ShadowingSceneSelector(6).selectCandidates(cues, List.of());
+
+        assertEquals(2, candidates.size());
+        for (SceneCandidate candidate : candidates) {
+            long firstHalf = candidate.cues().stream().filter(cue -> cue.startMillis() < 60_000).count();
+            assertTrue(firstHalf == 0 || firstHalf == candidate.cues().size());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.learntv.api.generation.domain.service;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Throughput benchmark for subtitle parsing: the previous regex-based parser
+ * vs the streaming {@link SrtParser}.
+ *
+ * Run with {@code ./gradlew benchmark}. By default it parses a generated
+ * episode-sized file (~1,000 cues); to use a real one:
+ *
+ * <pre>
+ * ./gradlew benchmark -Dbenchmark.srt-file=/path/to/episode.srt
+ * </pre>
+ */
+@Tag("benchmark")
+class SrtParserBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 300;
+    private static final int MEASURED_ITERATIONS = 1000;
+
+    private static String content;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        String file = System.getProperty("benchmark.srt-file");
+        content = file != null ? Files.readString(Path.of(file)) : generateEpisode(1000);
+    }
+
+    @Test
+    void streamingParser_shouldMatchRegexParser() {
+        assertEquals(new RegexSrtParser().parsePreservingGroups(content),
+                new SrtParser().parsePreservingGroups(content));
+    }
+
+    @Test
+    void parsePreservingGroups_throughput() {
+        RegexSrtParser regex = new RegexSrtParser();
+        SrtParser streaming = new SrtParser();
+
+        report("regex", measure(regex::parsePreservingGroups));
+        report("streaming", measure(streaming::parsePreservingGroups));
+    }
+
+    /**
+     * @return {nanoseconds, bytes allocated} per parse
+     */
+    private static double[] measure(UnaryOperator<String> parse) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            parse.apply(content);
+        }
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            parse.apply(content);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+        return new double[]{(double) elapsed / MEASURED_ITERATIONS, (double) allocated / MEASURED_ITERATIONS};
+    }
+
+    private static void report(String name, double[] result) {
+        double megabytesPerSecond = content.length() / (result[0] / 1_000_000_000.0) / (1024 * 1024);
+        System.out.printf("parsePreservingGroups %-9s: %.3f ms/parse, %.1f MB/s, %.0f KB allocated/parse%n",
+                name, result[0] / 1_000_000.0, megabytesPerSecond, result[1] / 1024);
+    }
+
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads) {
+            return threads.getThreadAllocatedBytes(Thread.currentThread().threadId());
+        }
+        return 0;
+    }
+
+    private static String generateEpisode(int cues) {
+        String[] lines = {
+                "<i>Where were you last night?</i>",
+                "WALTER: We need to talk about the money.",
+                "- I don't know. [door slams]",
+                "{\\an8}(whispering) Not here, not now.",
+                "♪ Baby, baby, baby ♪",
+                "MR. WHITE: Say my name.",
+                "<font color=\"#ffff00\">You're goddamn right.</font>",
+                "It's 9:30 already? I told you not to be late."
+        };
+        StringBuilder srt = new StringBuilder();
+        for (int i = 0; i < cues; i++) {
+            int seconds = i * 3;
+            srt.append(i + 1).append("\r\n")
+                    .append(String.format("%02d:%02d:%02d,%03d --> %02d:%02d:%02d,%03d\r\n",
+                            seconds / 3600, seconds / 60 % 60, seconds % 60, i % 1000,
+                            (seconds + 2) / 3600, (seconds + 2) / 60 % 60, (seconds + 2) % 60, i % 1000))
+                    .append(lines[i % lines.length]).append("\r\n");
+            if (i % 3 == 0) {
+                srt.append(lines[(i + 3) % lines.length]).append("\r\n");
+            }
+            srt.append("\r\n");
+        }
+        return srt.toString();
+    }
+}
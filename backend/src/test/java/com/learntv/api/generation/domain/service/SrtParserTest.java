@@ -0,0 +1,117 @@
+package com.learntv.api.generation.domain.service;
+
+import com.learntv.api.generation.domain.model.SubtitleCue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Golden-file tests: each subtitle file under {@code src/test/resources/srt} has the
+ * expected {@code .plain.txt} and {@code .groups.txt} output next to it, generated
+ * by the previous regex-based parser.
+ */
+class SrtParserTest {
+
+    private static final String[] CORPUS = {"dialogue.srt", "formatting.srt", "webvtt.vtt", "edge-cases.srt"};
+
+    private SrtParser parser;
+
+    @BeforeEach
+    void setUp() {
+        parser = new SrtParser();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"dialogue.srt", "formatting.srt", "webvtt.vtt", "edge-cases.srt"})
+    void shouldMatchGoldenOutput(String file) throws IOException {
+        String content = resource(file);
+        String base = file.substring(0, file.lastIndexOf('.'));
+
+        assertEquals(resource(base + ".plain.txt"), parser.parseToPlainText(content));
+        assertEquals(resource(base + ".groups.txt"), parser.parsePreservingGroups(content));
+    }
+
+    @Test
+    void shouldParseReaderLikeString() throws IOException {
+        for (String file : CORPUS) {
+            String content = resource(file);
+
+            assertEquals(parser.parsePreservingGroups(content),
+                    parser.parsePreservingGroups(new StringReader(content)), file);
+            assertEquals(parser.parseToPlainText(content),
+                    parser.parseToPlainText(new StringReader(content)), file);
+        }
+    }
+
+    @Test
+    void shouldNotDependOnWhereReadsSplitTheInput() throws IOException {
+        // Long enough to span several chunks, read back a few characters at a time
+        String content = resource("dialogue.srt").repeat(200) + "\r\n" + resource("formatting.srt").repeat(200);
+
+        String expected = parser.parsePreservingGroups(content);
+
+        assertEquals(expected, parser.parsePreservingGroups(new TrickleReader(new StringReader(content))));
+        assertEquals(new RegexSrtParser().parsePreservingGroups(content), expected);
+    }
+
+    @Test
+    void shouldParseTimedCues() throws IOException {
+        List<SubtitleCue> cues = parser.parseCues(resource("dialogue.srt"));
+
+        assertEquals(6, cues.size());
+        assertEquals(new SubtitleCue(1000, 3500, null, "Previously on..."), cues.get(0));
+        assertEquals(new SubtitleCue(4120, 6890, "WALTER", "We need to cook. - Not here. Not now."), cues.get(1));
+        assertEquals(new SubtitleCue(9300, 12010, "MR. WHITE", "Say my name. Heisenberg."), cues.get(2));
+        assertEquals("00:00:23", cues.get(5).startTime());
+    }
+
+    @Test
+    void shouldKeepOnlyTimedEntriesAsCues() throws IOException {
+        List<SubtitleCue> cues = parser.parseCues(resource("webvtt.vtt"));
+
+        assertEquals(List.of(
+                new SubtitleCue(1000, 4000, null, "We are in New York City"),
+                new SubtitleCue(4500, 6000, "ROGER", "Let's go.")), cues);
+    }
+
+    @Test
+    void shouldReturnEmptyForBlankContent() throws IOException {
+        assertEquals("", parser.parsePreservingGroups((String) null));
+        assertEquals("", parser.parsePreservingGroups(" \r\n\t\n "));
+        assertEquals("", parser.parseToPlainText(new StringReader("\n\u2028\n")));
+        assertEquals(List.of(), parser.parseCues(" \r\n"));
+    }
+
+    private static String resource(String name) throws IOException {
+        try (InputStream in = SrtParserTest.class.getResourceAsStream("/srt/" + name)) {
+            assertNotNull(in, "missing test resource " + name);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Returns at most seven characters per read.
+     */
+    private static class TrickleReader extends FilterReader {
+
+        TrickleReader(Reader in) {
+            super(in);
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            return super.read(buffer, offset, Math.min(length, 7));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.learntv.api.learning.adapter.out.persistence;
+
+import com.learntv.api.learning.domain.model.Episode;
+import com.learntv.api.learning.domain.model.EpisodeId;
+import com.learntv.api.learning.domain.model.Lesson;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingLessonQueryAdapterTest {
+
+    private static final String SHOW = "breaking-bad";
+
+    private final CountingLessonQueryAdapter database = new CountingLessonQueryAdapter();
+
+    @Test
+    void loadFullLesson_shouldServeRepeatedReadFromCache() {
+        CachingLessonQueryAdapter cache = new CachingLessonQueryAdapter(database, 10);
+        Lesson pilot = database.store("s1e1");
+
+        assertSame(pilot, cache.loadFullLesson(SHOW, "s1e1").orElseThrow());
+        assertSame(pilot, cache.loadFullLesson(SHOW, "s1e1").orElseThrow());
+
+        assertEquals(1, database.loads("s1e1"));
+    }
+
+    @Test
+    void loadFullLesson_shouldNotCacheMissingLesson() {
+        CachingLessonQueryAdapter cache = new CachingLessonQueryAdapter(database, 10);
+
+        assertTrue(cache.loadFullLesson(SHOW, "s1e1").isEmpty());
+        // Generated meanwhile: visible on the next read
+        Lesson pilot = database.store("s1e1");
+        assertSame(pilot, cache.loadFullLesson(SHOW, "s1e1").orElseThrow());
+
+        assertEquals(2, database.loads("s1e1"));
+    }
+
+    @Test
+    void loadFullLesson_shouldDropLeastRecentlyUsedLessonBeyondMaxSize() {
+        CachingLessonQueryAdapter cache = new CachingLessonQueryAdapter(database, 2);
+        database.store("s1e1");
+        database.store("s1e2");
+        database.store("s1e3");
+
+        cache.loadFullLesson(SHOW, "s1e1");
+        cache.loadFullLesson(SHOW, "s1e2");
+        cache.loadFullLesson(SHOW, "s1e1");
+        // Third lesson: s1e2 was used least recently and goes
+        cache.loadFullLesson(SHOW, "s1e3");
+        cache.loadFullLesson(SHOW, "s1e1");
+        cache.loadFullLesson(SHOW, "s1e2");
+
+        assertEquals(1, database.loads("s1e1"));
+        assertEquals(2, database.loads("s1e2"));
+        assertEquals(1, database.loads("s1e3"));
+    }
+
+    @Test
+    void evict_shouldReloadRegeneratedLesson() {
+        CachingLessonQueryAdapter cache = new CachingLessonQueryAdapter(database, 10);
+        database.store("s1e1");
+        cache.loadFullLesson(SHOW, "s1e1");
+
+        Lesson regenerated = database.store("s1e1");
+        cache.evict(SHOW, "s1e1");
+
+        assertSame(regenerated, cache.loadFullLesson(SHOW, "s1e1").orElseThrow());
+        assertSame(regenerated, cache.loadFullLesson(SHOW, "s1e1").orElseThrow());
+        assertEquals(2, database.loads("s1e1"));
+    }
+
+    @Test
+    void loadFullLesson_shouldNotCacheLessonReadWhileItWasEvicted() {
+        CachingLessonQueryAdapter cache = new CachingLessonQueryAdapter(database, 10);
+        database.store("s1e1");
+        // The regeneration commits while the read is in flight, after it read the old lesson
+        database.duringNextLoad = () -> {
+            database.store("s1e1");
+            cache.evict(SHOW, "s1e1");
+        };
+
+        cache.loadFullLesson(SHOW, "s1e1");
+        Lesson regenerated = cache.loadFullLesson(SHOW, "s1e1").orElseThrow();
+
+        assertSame(regenerated, database.lessons.get("s1e1"));
+        assertEquals(2, database.loads("s1e1"));
+    }
+
+    private static Lesson lesson(String episodeSlug) {
+        Episode episode = Episode.builder()
+                .id(EpisodeId.generate())
+                .showId(UUID.randomUUID())
+                .showSlug(SHOW)
+                .title("Pilot")
+                .slug(episodeSlug)
+                .build();
+        return new Lesson(episode, List.of(), List.of(), List.of(), List.of());
+    }
+
+    /**
+     * Lessons by episode slug, counting the loads per episode.
+     */
+    private static final class CountingLessonQueryAdapter extends LessonQueryAdapter {
+
+        private final Map<String, Lesson> lessons = new HashMap<>();
+        private final Map<String, Integer> loads = new HashMap<>();
+        private Runnable duringNextLoad;
+
+        CountingLessonQueryAdapter() {
+            super(null, true);
+        }
+
+        Lesson store(String episodeSlug) {
+            Lesson lesson = lesson(episodeSlug);
+            lessons.put(episodeSlug, lesson);
+            return lesson;
+        }
+
+        int loads(String episodeSlug) {
+            return loads.getOrDefault(episodeSlug, 0);
+        }
+
+        @Override
+        public Optional<Lesson> loadFullLesson(String showSlug, String episodeSlug) {
+            loads.merge(episodeSlug, 1, Integer::sum);
+            Optional<Lesson> lesson = Optional.ofNullable(lessons.get(episodeSlug));
+            if (duringNextLoad != null) {
+                Runnable action = duringNextLoad;
+                duringNextLoad = null;
+                action.run();
+            }
+            return lesson;
+        }
+    }
+}
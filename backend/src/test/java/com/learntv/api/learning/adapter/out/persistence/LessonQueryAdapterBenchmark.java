@@ -0,0 +1,161 @@
+package com.learntv.api.learning.adapter.out.persistence;
+
+import com.learntv.api.learning.domain.model.Lesson;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Latency benchmark for the lesson load behind
+ * GET /api/v1/shows/{showSlug}/episodes/{episodeSlug}: five queries vs one round-trip.
+ *
+ * Run with {@code ./gradlew benchmark}. By default it seeds an in-memory H2 database,
+ * where a round-trip costs almost nothing; to see the real difference point it at the
+ * dev PostgreSQL with an existing lesson:
+ *
+ * <pre>
+ * ./gradlew benchmark -Dbenchmark.jdbc-url=jdbc:postgresql://localhost:5433/learntv \
+ *     -Dbenchmark.jdbc-user=learntv -Dbenchmark.jdbc-password=learntv_dev \
+ *     -Dbenchmark.show-slug=the-pitt -Dbenchmark.episode-slug=the-pitt-s1e1
+ * </pre>
+ */
+@Tag("benchmark")
+class LessonQueryAdapterBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 2000;
+
+    private static JdbcTemplate jdbcTemplate;
+    private static String showSlug;
+    private static String episodeSlug;
+
+    @BeforeAll
+    static void setUp() {
+        String jdbcUrl = System.getProperty("benchmark.jdbc-url");
+        if (jdbcUrl == null) {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                    "jdbc:h2:mem:lesson-bench;DB_CLOSE_DELAY=-1;MODE=PostgreSQL", "sa", "");
+            jdbcTemplate = new JdbcTemplate(dataSource);
+            showSlug = "bench-show";
+            episodeSlug = "bench-show-s1e1";
+            seedH2(jdbcTemplate);
+        } else {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(jdbcUrl,
+                    System.getProperty("benchmark.jdbc-user"), System.getProperty("benchmark.jdbc-password"));
+            jdbcTemplate = new JdbcTemplate(dataSource);
+            showSlug = System.getProperty("benchmark.show-slug");
+            episodeSlug = System.getProperty("benchmark.episode-slug");
+        }
+    }
+
+    @Test
+    void singleRoundTrip_shouldLoadSameLessonAsSeparateQueries() {
+        Lesson separate = new LessonQueryAdapter(jdbcTemplate, false).loadFullLesson(showSlug, episodeSlug).orElseThrow();
+        Lesson single = new LessonQueryAdapter(jdbcTemplate, true).loadFullLesson(showSlug, episodeSlug).orElseThrow();
+
+        assertEquals(separate.getEpisode().getId(), single.getEpisode().getId());
+        assertEquals(ids(separate.getVocabulary().stream().map(v -> v.getId())), ids(single.getVocabulary().stream().map(v -> v.getId())));
+        assertEquals(ids(separate.getGrammarPoints().stream().map(g -> g.getId())), ids(single.getGrammarPoints().stream().map(g -> g.getId())));
+        assertEquals(ids(separate.getExpressions().stream().map(e -> e.getId())), ids(single.getExpressions().stream().map(e -> e.getId())));
+        assertEquals(ids(separate.getExercises().stream().map(e -> e.getId())), ids(single.getExercises().stream().map(e -> e.getId())));
+        assertEquals(separate.getTotalPoints(), single.getTotalPoints());
+    }
+
+    @Test
+    void loadFullLesson_latency() {
+        long[] separate = measure(new LessonQueryAdapter(jdbcTemplate, false));
+        long[] single = measure(new LessonQueryAdapter(jdbcTemplate, true));
+
+        System.out.printf("loadFullLesson separate queries: p50=%.3f ms p99=%.3f ms%n",
+                percentile(separate, 50), percentile(separate, 99));
+        System.out.printf("loadFullLesson single round-trip: p50=%.3f ms p99=%.3f ms%n",
+                percentile(single, 50), percentile(single, 99));
+    }
+
+    private static long[] measure(LessonQueryAdapter adapter) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            adapter.loadFullLesson(showSlug, episodeSlug);
+        }
+        long[] samples = new long[MEASURED_ITERATIONS];
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            adapter.loadFullLesson(showSlug, episodeSlug);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private static double percentile(long[] sortedNanos, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static java.util.List<UUID> ids(java.util.stream.Stream<UUID> ids) {
+        return ids.toList();
+    }
+
+    private static void seedH2(JdbcTemplate jdbc) {
+        jdbc.execute("""
+                CREATE TABLE IF NOT EXISTS episodes (
+                    id UUID PRIMARY KEY, show_id UUID NOT NULL, show_slug VARCHAR(255) NOT NULL,
+                    season_number INTEGER NOT NULL, episode_number INTEGER NOT NULL, title VARCHAR(255) NOT NULL,
+                    slug VARCHAR(100) NOT NULL, synopsis VARCHAR(2000), duration_minutes INTEGER DEFAULT 0)
+                """);
+        jdbc.execute("""
+                CREATE TABLE IF NOT EXISTS vocabulary (
+                    id UUID PRIMARY KEY, episode_id UUID NOT NULL, term VARCHAR(255) NOT NULL,
+                    definition VARCHAR(1000) NOT NULL, phonetic VARCHAR(100), category VARCHAR(50) NOT NULL,
+                    example_sentence VARCHAR(1000), context_timestamp VARCHAR(20), audio_url VARCHAR(500))
+                """);
+        jdbc.execute("""
+                CREATE TABLE IF NOT EXISTS grammar_points (
+                    id UUID PRIMARY KEY, episode_id UUID NOT NULL, title VARCHAR(255) NOT NULL,
+                    explanation VARCHAR(2000) NOT NULL, structure VARCHAR(500), example VARCHAR(1000),
+                    context_quote VARCHAR(1000))
+                """);
+        jdbc.execute("""
+                CREATE TABLE IF NOT EXISTS expressions (
+                    id UUID PRIMARY KEY, episode_id UUID NOT NULL, phrase VARCHAR(255) NOT NULL,
+                    meaning VARCHAR(1000) NOT NULL, context_quote VARCHAR(1000), usage_note VARCHAR(1000),
+                    audio_url VARCHAR(500))
+                """);
+        jdbc.execute("""
+                CREATE TABLE IF NOT EXISTS exercises (
+                    id UUID PRIMARY KEY, episode_id UUID NOT NULL, type VARCHAR(50) NOT NULL,
+                    question VARCHAR(1000) NOT NULL, correct_answer VARCHAR(500), options VARCHAR(2000),
+                    matching_pairs VARCHAR(2000), points INTEGER DEFAULT 10, audio_url VARCHAR(500))
+                """);
+        jdbc.execute("CREATE INDEX IF NOT EXISTS idx_episodes_slug ON episodes(show_slug, slug)");
+        for (String table : new String[]{"vocabulary", "grammar_points", "expressions", "exercises"}) {
+            jdbc.execute("CREATE INDEX IF NOT EXISTS idx_" + table + "_episode ON " + table + "(episode_id)");
+        }
+
+        UUID episodeId = UUID.randomUUID();
+        jdbc.update("INSERT INTO episodes VALUES (?, ?, ?, 1, 1, 'Pilot', ?, 'Synopsis', 45)",
+                episodeId, UUID.randomUUID(), showSlug, episodeSlug);
+        for (int i = 0; i < 20; i++) {
+            jdbc.update("INSERT INTO vocabulary VALUES (?, ?, ?, 'definition', '/fəˈnɛtɪk/', 'COLLOQUIAL', 'Example.', NULL, NULL)",
+                    UUID.randomUUID(), episodeId, "term-" + i);
+        }
+        for (int i = 0; i < 5; i++) {
+            jdbc.update("INSERT INTO grammar_points VALUES (?, ?, ?, 'explanation', 'structure', 'example', NULL)",
+                    UUID.randomUUID(), episodeId, "grammar-" + i);
+        }
+        for (int i = 0; i < 8; i++) {
+            jdbc.update("INSERT INTO expressions VALUES (?, ?, ?, 'meaning', 'context', 'usage', NULL)",
+                    UUID.randomUUID(), episodeId, "expression-" + i);
+        }
+        for (int i = 0; i < 14; i++) {
+            jdbc.update("INSERT INTO exercises VALUES (?, ?, 'MULTIPLE_CHOICE', ?, 'a', '[\"a\",\"b\",\"c\",\"d\"]', NULL, 2, NULL)",
+                    UUID.randomUUID(), episodeId, "question-" + i);
+        }
+    }
+}
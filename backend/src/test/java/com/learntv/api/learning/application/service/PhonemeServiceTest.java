@@ -0,0 +1,110 @@
+package com.learntv.api.learning.application.service;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Looks words up in the phoneme-index.bin generated from cmudict.txt by the
+ * {@code generatePhonemeIndex} task, as the application does.
+ */
+class PhonemeServiceTest {
+
+    private static final Path DICTIONARY = Path.of("src/main/resources/cmudict.txt");
+
+    private static PhonemeService phonemeService;
+
+    @BeforeAll
+    static void setUp() {
+        phonemeService = new PhonemeService();
+        phonemeService.loadDictionary();
+    }
+
+    @Test
+    void lookup_shouldConvertWordToIpa() {
+        assertEquals(List.of("d", "ɑː", "k", "t", "ɜː"), phonemeService.lookup("doctor"));
+        // Repeated phonemes are listed once
+        assertEquals(List.of("k", "ʊ"), phonemeService.lookup("cook"));
+        // AH0 keeps its stress and becomes a schwa
+        assertEquals(List.of("ə", "k", "l", "ɑː"), phonemeService.lookup("o'clock"));
+    }
+
+    @Test
+    void lookup_shouldIgnoreCaseAndPunctuation() {
+        assertEquals(phonemeService.lookup("cook"), phonemeService.lookup("COOK"));
+        assertEquals(List.of("d", "əʊ", "n", "t"), phonemeService.lookup("Don't!"));
+        assertEquals(List.of("t", "iː", "v"), phonemeService.lookup("T.V."));
+    }
+
+    @Test
+    void lookup_shouldCombinePhonemesOfPhraseInOrder() {
+        // say: S EY, my: M AY, name: N EY M
+        assertEquals(List.of("s", "eɪ", "m", "aɪ", "n"), phonemeService.lookup("Say  my\tname"));
+    }
+
+    @Test
+    void lookup_shouldSkipWordsNotInDictionary() {
+        assertEquals(List.of("k", "ʊ"), phonemeService.lookup("cook qzxvwj"));
+        assertEquals(List.of(), phonemeService.lookup("qzxvwj"));
+        assertEquals(List.of(), phonemeService.lookup("   "));
+        assertEquals(List.of(), phonemeService.lookup(null));
+    }
+
+    @Test
+    void index_shouldHoldEveryDictionaryWordWithItsPhonemes() throws IOException {
+        PhonemeIndex index;
+        try (InputStream input = new BufferedInputStream(new ClassPathResource("phoneme-index.bin").getInputStream())) {
+            index = PhonemeIndex.read(input);
+        }
+        List<String> alphabet = Arrays.asList(index.alphabet());
+
+        int words = 0;
+        for (String line : Files.readAllLines(DICTIONARY, StandardCharsets.UTF_8)) {
+            int space = line.indexOf(' ');
+            if (line.startsWith(";;;") || space < 0) {
+                continue;
+            }
+            String word = line.substring(0, space);
+            // Alternate pronunciations ("read(2)") and words with other characters aren't indexed
+            if (!word.matches("[a-z']+")) {
+                continue;
+            }
+            words++;
+
+            int found = index.find(word, 0, word.length());
+            assertTrue(found >= 0, word + " is missing");
+            List<String> stored = new ArrayList<>();
+            for (int p = 0; p < index.phonemeCount(found); p++) {
+                stored.add(alphabet.get(index.phonemeAt(found, p)));
+            }
+            assertEquals(expectedSymbols(line.substring(space)), stored, word);
+        }
+        assertEquals(words, index.wordCount());
+    }
+
+    /**
+     * The ARPAbet symbols of a dictionary line, stored without stress (except
+     * AH0) and each once, in order.
+     */
+    private static List<String> expectedSymbols(String pronunciation) {
+        int comment = pronunciation.indexOf('#');
+        String symbols = comment >= 0 ? pronunciation.substring(0, comment) : pronunciation;
+        return Arrays.stream(symbols.trim().split("\\s+"))
+                .filter(symbol -> symbol.matches("[A-Z]+[012]?"))
+                .map(symbol -> symbol.equals("AH0") ? symbol : symbol.replaceAll("[012]$", ""))
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,266 @@
+package com.learntv.api.progress.application.service;
+
+import com.learntv.api.progress.application.port.UserProgressRepository;
+import com.learntv.api.progress.domain.model.ProgressDelta;
+import com.learntv.api.progress.domain.model.UserProgress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.learntv.api.progress.application.service.WriteBehindProgressBuffer.MAX_FLUSH_ATTEMPTS;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteBehindProgressBufferTest {
+
+    private final InMemoryProgressRepository progressRepository = new InMemoryProgressRepository();
+    private WriteBehindProgressBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        // Long interval: the tests flush explicitly
+        buffer = new WriteBehindProgressBuffer(progressRepository,
+                TransactionOperations.withoutTransaction(), Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        buffer.shutdown();
+    }
+
+    @Test
+    void addPoints_shouldNotLosePointsUnderConcurrentAnswers() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID episodeId = UUID.randomUUID();
+        int threads = 8;
+        int answersPerThread = 250;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < answersPerThread; i++) {
+                    buffer.addPoints(userId, episodeId, "exercises", 10);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(threads * answersPerThread * 10, buffer.find(userId, episodeId).orElseThrow().getTotalPoints());
+        assertEquals(0, progressRepository.addAllCalls);
+
+        buffer.flush();
+
+        assertEquals(1, progressRepository.addAllCalls);
+        assertEquals(threads * answersPerThread * 10, progressRepository.stored(userId, episodeId).getExercisesScore());
+    }
+
+    @Test
+    void flush_shouldWriteOnlyPointsAddedSinceLastWrite() {
+        UUID userId = UUID.randomUUID();
+        UUID episodeId = UUID.randomUUID();
+        progressRepository.rows.put(List.of(userId, episodeId), UserProgress.builder()
+                .userId(userId)
+                .episodeId(episodeId)
+                .vocabularyScore(30)
+                .totalPoints(30)
+                .build());
+
+        buffer.addPoints(userId, episodeId, "exercises", 10);
+        buffer.flush();
+        buffer.addPoints(userId, episodeId, "exercises", 5);
+        buffer.flush();
+        // Nothing new: no write, and the entry is dropped
+        buffer.flush();
+
+        assertEquals(2, progressRepository.addAllCalls);
+        UserProgress stored = progressRepository.stored(userId, episodeId);
+        assertEquals(30, stored.getVocabularyScore());
+        assertEquals(15, stored.getExercisesScore());
+        assertEquals(45, stored.getTotalPoints());
+        assertEquals(45, buffer.findByUserId(userId).get(0).getTotalPoints());
+    }
+
+    @Test
+    void complete_shouldWriteImmediately() {
+        UUID userId = UUID.randomUUID();
+        UUID episodeId = UUID.randomUUID();
+
+        buffer.addPoints(userId, episodeId, "exercises", 10);
+        UserProgress completed = buffer.complete(userId, episodeId);
+
+        assertTrue(completed.isCompleted());
+        assertEquals(1, progressRepository.addAllCalls);
+        UserProgress stored = progressRepository.stored(userId, episodeId);
+        assertTrue(stored.isCompleted());
+        assertEquals(10, stored.getTotalPoints());
+    }
+
+    @Test
+    void complete_shouldLeaveEpisodeNotCompletedWhenWriteFails() {
+        UUID userId = UUID.randomUUID();
+        UUID episodeId = UUID.randomUUID();
+        buffer.addPoints(userId, episodeId, "exercises", 10);
+
+        progressRepository.outage = new QueryTimeoutException("statement timeout");
+        assertThrows(QueryTimeoutException.class, () -> buffer.complete(userId, episodeId));
+
+        // Not completed, so the retried request completes it and publishes the completion
+        assertFalse(buffer.find(userId, episodeId).orElseThrow().isCompleted());
+        assertEquals(10, buffer.find(userId, episodeId).orElseThrow().getTotalPoints());
+
+        progressRepository.outage = null;
+        assertTrue(buffer.complete(userId, episodeId).isCompleted());
+        UserProgress stored = progressRepository.stored(userId, episodeId);
+        assertTrue(stored.isCompleted());
+        assertEquals(10, stored.getTotalPoints());
+    }
+
+    @Test
+    void flush_shouldRetryFailedBatchOnNextFlush() {
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        UUID episodeId = UUID.randomUUID();
+        buffer.addPoints(alice, episodeId, "exercises", 10);
+        buffer.addPoints(bob, episodeId, "vocabulary", 20);
+
+        progressRepository.outage = new DataAccessResourceFailureException("Connection refused");
+        buffer.flush();
+
+        // No entry-by-entry retry against a database that is down
+        assertEquals(1, progressRepository.addAllCalls);
+        assertTrue(progressRepository.rows.isEmpty());
+
+        progressRepository.outage = null;
+        buffer.flush();
+
+        assertEquals(2, progressRepository.addAllCalls);
+        assertEquals(10, progressRepository.stored(alice, episodeId).getTotalPoints());
+        assertEquals(20, progressRepository.stored(bob, episodeId).getTotalPoints());
+    }
+
+    @Test
+    void flush_shouldKeepPointsWhileDatabaseKeepsFailing() {
+        UUID userId = UUID.randomUUID();
+        UUID episodeId = UUID.randomUUID();
+        buffer.addPoints(userId, episodeId, "exercises", 10);
+
+        progressRepository.outage = new QueryTimeoutException("Statement timed out");
+        for (int i = 0; i < MAX_FLUSH_ATTEMPTS * 2; i++) {
+            buffer.flush();
+            buffer.addPoints(userId, episodeId, "exercises", 1);
+        }
+        assertTrue(progressRepository.rows.isEmpty());
+        assertEquals(10 + MAX_FLUSH_ATTEMPTS * 2, buffer.find(userId, episodeId).orElseThrow().getTotalPoints());
+
+        progressRepository.outage = null;
+        buffer.flush();
+
+        assertEquals(10 + MAX_FLUSH_ATTEMPTS * 2, progressRepository.stored(userId, episodeId).getTotalPoints());
+    }
+
+    @Test
+    void flush_shouldDropOnlyEntryWhoseWriteIsRejected() {
+        UUID userId = UUID.randomUUID();
+        UUID episodeId = UUID.randomUUID();
+        UUID deletedEpisodeId = UUID.randomUUID();
+        progressRepository.deletedEpisodes.add(deletedEpisodeId);
+        buffer.addPoints(userId, episodeId, "exercises", 10);
+        buffer.addPoints(userId, deletedEpisodeId, "exercises", 10);
+
+        buffer.flush();
+        assertEquals(10, progressRepository.stored(userId, episodeId).getTotalPoints());
+
+        for (int i = 1; i < MAX_FLUSH_ATTEMPTS; i++) {
+            assertTrue(buffer.find(userId, deletedEpisodeId).isPresent());
+            buffer.flush();
+        }
+        assertTrue(buffer.find(userId, deletedEpisodeId).isEmpty());
+        int calls = progressRepository.addAllCalls;
+        buffer.flush();
+        assertEquals(calls, progressRepository.addAllCalls);
+    }
+
+    /**
+     * Applies deltas the way the upsert does: added to the stored row.
+     */
+    private static final class InMemoryProgressRepository implements UserProgressRepository {
+
+        private final Map<List<UUID>, UserProgress> rows = new ConcurrentHashMap<>();
+        // Thrown by every write while set
+        private RuntimeException outage;
+        // Episodes whose progress rows violate a foreign key, as if deleted meanwhile
+        private final Set<UUID> deletedEpisodes = new HashSet<>();
+        private int addAllCalls;
+
+        @Override
+        public Optional<UserProgress> findByUserIdAndEpisodeId(UUID userId, UUID episodeId) {
+            return Optional.ofNullable(rows.get(List.of(userId, episodeId)));
+        }
+
+        @Override
+        public List<UserProgress> findByUserId(UUID userId) {
+            return rows.values().stream().filter(progress -> progress.getUserId().equals(userId)).toList();
+        }
+
+        @Override
+        public void addAll(Collection<ProgressDelta> deltas) {
+            addAllCalls++;
+            if (outage != null) {
+                throw outage;
+            }
+            if (deltas.stream().anyMatch(delta -> deletedEpisodes.contains(delta.episodeId()))) {
+                throw new DataIntegrityViolationException("violates foreign key constraint");
+            }
+            for (ProgressDelta delta : deltas) {
+                UserProgress stored = findByUserIdAndEpisodeId(delta.userId(), delta.episodeId())
+                        .orElseGet(() -> UserProgress.builder()
+                                .id(delta.progressId())
+                                .userId(delta.userId())
+                                .episodeId(delta.episodeId())
+                                .build());
+                rows.put(List.of(stored.getUserId(), stored.getEpisodeId()), UserProgress.builder()
+                        .id(stored.getId())
+                        .userId(stored.getUserId())
+                        .episodeId(stored.getEpisodeId())
+                        .vocabularyScore(stored.getVocabularyScore() + delta.vocabularyScore())
+                        .grammarScore(stored.getGrammarScore() + delta.grammarScore())
+                        .expressionsScore(stored.getExpressionsScore() + delta.expressionsScore())
+                        .exercisesScore(stored.getExercisesScore() + delta.exercisesScore())
+                        .totalPoints(stored.getTotalPoints() + delta.totalPoints())
+                        .completed(stored.isCompleted() || delta.completed())
+                        .lastAccessed(delta.lastAccessed())
+                        .build());
+            }
+        }
+
+        private UserProgress stored(UUID userId, UUID episodeId) {
+            return rows.get(List.of(userId, episodeId));
+        }
+    }
+}
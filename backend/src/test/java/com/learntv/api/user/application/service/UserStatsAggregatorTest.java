@@ -0,0 +1,217 @@
+package com.learntv.api.user.application.service;
+
+import com.learntv.api.progress.domain.event.ProgressEvent;
+import com.learntv.api.user.application.port.AppliedProgressEventRepository;
+import com.learntv.api.user.application.port.UserStatsRepository;
+import com.learntv.api.user.domain.model.UserStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserStatsAggregatorTest {
+
+    private final InMemoryUserStatsRepository statsRepository = new InMemoryUserStatsRepository();
+    private final InMemoryAppliedEventRepository appliedEventRepository = new InMemoryAppliedEventRepository();
+    private UserStatsAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        // Long interval: the tests flush explicitly
+        aggregator = new UserStatsAggregator(statsRepository, appliedEventRepository,
+                TransactionOperations.withoutTransaction(), Duration.ofHours(1), 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        aggregator.shutdown();
+    }
+
+    @Test
+    void flush_shouldCoalesceEventsPerUserIntoOneBatchWrite() {
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        UUID episodeId = UUID.randomUUID();
+
+        aggregator.publish(ProgressEvent.exerciseCompleted(alice, UUID.randomUUID()));
+        aggregator.publish(ProgressEvent.exerciseCompleted(alice, UUID.randomUUID()));
+        aggregator.publish(ProgressEvent.episodeCompleted(alice, episodeId));
+        aggregator.publish(ProgressEvent.wordsLearned(alice, episodeId, 12));
+        aggregator.publish(ProgressEvent.exerciseCompleted(bob, UUID.randomUUID()));
+        assertTrue(statsRepository.rows.isEmpty());
+
+        aggregator.flush();
+
+        assertEquals(1, statsRepository.updateAllCalls);
+        UserStats aliceStats = statsRepository.rows.get(alice);
+        assertEquals(2, aliceStats.getTotalExercisesCompleted());
+        assertEquals(1, aliceStats.getTotalEpisodesCompleted());
+        assertEquals(12, aliceStats.getTotalWordsLearned());
+        assertEquals(1, aliceStats.getCurrentStreakDays());
+        assertEquals(1, statsRepository.rows.get(bob).getTotalExercisesCompleted());
+    }
+
+    @Test
+    void flush_shouldApplyReplayedAndDuplicateEventsOnce() {
+        UUID userId = UUID.randomUUID();
+        UUID episodeId = UUID.randomUUID();
+
+        // Lesson completion and assignment completion report the same episode
+        aggregator.publish(ProgressEvent.episodeCompleted(userId, episodeId));
+        aggregator.publish(ProgressEvent.episodeCompleted(userId, episodeId));
+        aggregator.flush();
+        aggregator.publish(ProgressEvent.episodeCompleted(userId, episodeId));
+        aggregator.flush();
+
+        assertEquals(1, statsRepository.rows.get(userId).getTotalEpisodesCompleted());
+    }
+
+    @Test
+    void flush_shouldComputeStreaksFromWhenEventsHappened() {
+        UUID userId = UUID.randomUUID();
+        Instant today = LocalDate.of(2026, 3, 10).atStartOfDay(ZoneId.systemDefault()).plusHours(12).toInstant();
+
+        // Published out of order; applied in the order they happened
+        aggregator.publish(exercise(userId, today));
+        aggregator.publish(exercise(userId, today.minus(Duration.ofDays(2))));
+        aggregator.publish(exercise(userId, today.minus(Duration.ofDays(1))));
+        aggregator.publish(exercise(userId, today.minus(Duration.ofDays(5))));
+        aggregator.flush();
+
+        UserStats stats = statsRepository.rows.get(userId);
+        assertEquals(3, stats.getCurrentStreakDays());
+        assertEquals(3, stats.getLongestStreakDays());
+        assertEquals(LocalDate.of(2026, 3, 10), stats.getLastActivityDate());
+
+        aggregator.publish(exercise(userId, today.plus(Duration.ofDays(3))));
+        aggregator.flush();
+
+        assertEquals(1, statsRepository.rows.get(userId).getCurrentStreakDays());
+        assertEquals(3, statsRepository.rows.get(userId).getLongestStreakDays());
+    }
+
+    @Test
+    void flush_shouldKeepEventsOfFailedFlushForTheNextFlush() {
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        aggregator.publish(ProgressEvent.exerciseCompleted(alice, UUID.randomUUID()));
+        aggregator.publish(ProgressEvent.exerciseCompleted(bob, UUID.randomUUID()));
+
+        appliedEventRepository.failures.add(new DataAccessResourceFailureException("Connection refused"));
+        aggregator.flush();
+        assertTrue(statsRepository.rows.isEmpty());
+
+        aggregator.publish(ProgressEvent.exerciseCompleted(alice, UUID.randomUUID()));
+        aggregator.flush();
+
+        assertEquals(2, statsRepository.rows.get(alice).getTotalExercisesCompleted());
+        assertEquals(1, statsRepository.rows.get(bob).getTotalExercisesCompleted());
+    }
+
+    @Test
+    void flush_shouldDropOnlyEventsOfUserWhoseDataFails() {
+        UUID alice = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        appliedEventRepository.deletedUsers.add(deleted);
+        aggregator.publish(ProgressEvent.exerciseCompleted(alice, UUID.randomUUID()));
+        aggregator.publish(ProgressEvent.exerciseCompleted(deleted, UUID.randomUUID()));
+
+        aggregator.flush();
+        assertEquals(1, statsRepository.rows.get(alice).getTotalExercisesCompleted());
+        assertFalse(statsRepository.rows.containsKey(deleted));
+
+        // Dropped, not retried
+        int calls = appliedEventRepository.markAppliedCalls;
+        aggregator.flush();
+        assertEquals(calls, appliedEventRepository.markAppliedCalls);
+    }
+
+    @Test
+    void publish_shouldNotFailAfterShutdown() {
+        UserStatsAggregator flushingOften = new UserStatsAggregator(statsRepository, appliedEventRepository,
+                TransactionOperations.withoutTransaction(), Duration.ofHours(1), 1);
+        flushingOften.shutdown();
+
+        flushingOften.publish(ProgressEvent.exerciseCompleted(UUID.randomUUID(), UUID.randomUUID()));
+    }
+
+    private static ProgressEvent exercise(UUID userId, Instant occurredAt) {
+        return new ProgressEvent(UUID.randomUUID(), userId, ProgressEvent.Type.EXERCISE_COMPLETED, 1, occurredAt);
+    }
+
+    private static final class InMemoryUserStatsRepository implements UserStatsRepository {
+
+        private final Map<UUID, UserStats> rows = new HashMap<>();
+        private int updateAllCalls;
+
+        @Override
+        public Optional<UserStats> findByUserId(UUID userId) {
+            return Optional.ofNullable(rows.get(userId));
+        }
+
+        @Override
+        public Map<UUID, UserStats> lockAllByUserIds(Collection<UUID> userIds) {
+            // Missing rows only become visible once updated, as if the flush rolled back otherwise
+            return userIds.stream()
+                    .collect(Collectors.toMap(id -> id, id -> rows.getOrDefault(id, UserStats.createEmpty(id))));
+        }
+
+        @Override
+        public UserStats save(UserStats stats) {
+            rows.put(stats.getUserId(), stats);
+            return stats;
+        }
+
+        @Override
+        public void updateAll(Collection<UserStats> stats) {
+            updateAllCalls++;
+            stats.forEach(this::save);
+        }
+    }
+
+    private static final class InMemoryAppliedEventRepository implements AppliedProgressEventRepository {
+
+        private final Set<UUID> applied = new HashSet<>();
+        private final Queue<RuntimeException> failures = new ArrayDeque<>();
+        // Users whose events violate a foreign key, as if deleted meanwhile
+        private final Set<UUID> deletedUsers = new HashSet<>();
+        private int markAppliedCalls;
+
+        @Override
+        public Set<UUID> markApplied(Collection<ProgressEvent> events) {
+            markAppliedCalls++;
+            if (!failures.isEmpty()) {
+                throw failures.remove();
+            }
+            if (events.stream().anyMatch(event -> deletedUsers.contains(event.userId()))) {
+                throw new DataIntegrityViolationException("violates foreign key constraint");
+            }
+            Set<UUID> inserted = new HashSet<>();
+            for (ProgressEvent event : events) {
+                if (applied.add(event.eventId())) {
+                    inserted.add(event.eventId());
+                }
+            }
+            return inserted;
+        }
+    }
+}
@@ -49,6 +49,40 @@ export async function apiGet<T>(endpoint: string): Promise<T> {
   return handleResponse<T>(response);
 }
 
+/**
+ * GET an endpoint that may answer 202 Accepted with a different body (e.g. a
+ * background job) instead of the resource; the caller decides by status.
+ */
+export async function apiGetWithStatus<T>(endpoint: string): Promise<{ status: number; body: T }> {
+  const headers = await getAuthHeaders();
+  const response = await fetch(`${API_BASE_URL}${endpoint}`, {
+    method: 'GET',
+    headers,
+  });
+  const body = await handleResponse<T>(response);
+  return { status: response.status, body };
+}
+
+export interface Page<T> {
+  items: T[];
+  nextCursor: string | null;
+}
+
+/**
+ * GET one page of a cursor-paginated list endpoint. The cursor for the next
+ * page comes from the X-Next-Cursor response header; null on the last page.
+ */
+export async function apiGetPage<T>(endpoint: string, cursor: string | null = null): Promise<Page<T>> {
+  const headers = await getAuthHeaders();
+  const separator = endpoint.includes('?') ? '&' : '?';
+  const url = cursor
+    ? `${API_BASE_URL}${endpoint}${separator}cursor=${encodeURIComponent(cursor)}`
+    : `${API_BASE_URL}${endpoint}`;
+  const response = await fetch(url, { method: 'GET', headers });
+  const items = await handleResponse<T[]>(response);
+  return { items, nextCursor: response.headers.get('X-Next-Cursor') };
+}
+
 export async function apiPost<T, R>(endpoint: string, body: T): Promise<R> {
   const headers = await getAuthHeaders();
   const response = await fetch(`${API_BASE_URL}${endpoint}`, {
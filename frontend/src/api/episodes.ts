@@ -1,5 +1,7 @@
-import { apiGet, apiPost } from './client';
+import { apiGet, apiGetWithStatus, apiPost } from './client';
+import { waitForGenerationJob } from './generation';
 import type { Lesson, AnswerResult, CheckAnswerRequest, ShadowingScene } from '../types/lesson';
+import type { GenerationJob } from '../types/generation';
 
 export async function getLesson(
   showSlug: string,
@@ -21,9 +23,21 @@ export async function checkAnswer(
   );
 }
 
+/**
+ * Scenes are generated in the background. Until they exist the endpoint answers
+ * 202 with the generation job; wait for it and ask again.
+ */
 export async function getShadowingScenes(
   showSlug: string,
   episodeSlug: string
 ): Promise<ShadowingScene[]> {
-  return apiGet<ShadowingScene[]>(`/shows/${showSlug}/episodes/${episodeSlug}/shadowing`);
+  const endpoint = `/shows/${showSlug}/episodes/${episodeSlug}/shadowing`;
+  for (let attempt = 0; attempt < 2; attempt++) {
+    const response = await apiGetWithStatus<ShadowingScene[] | GenerationJob>(endpoint);
+    if (response.status !== 202) {
+      return response.body as ShadowingScene[];
+    }
+    await waitForGenerationJob((response.body as GenerationJob).jobId);
+  }
+  throw new Error('Shadowing scenes are not ready yet');
 }
@@ -1,4 +1,4 @@
-import { apiGet, apiPost } from './client';
+import { API_BASE_URL, apiGet, apiPost } from './client';
 import type {
   TMDBShow,
   GenerationJob,
@@ -39,3 +39,47 @@ export async function startGeneration(request: GenerationRequest): Promise<Gener
 export async function getGenerationStatus(jobId: string): Promise<GenerationJob> {
   return apiGet<GenerationJob>(`/generation/jobs/${jobId}`);
 }
+
+/**
+ * Stream job status over server-sent events. Calls onUpdate with the current
+ * status and every change until the job completes or fails; onError if the
+ * stream drops before that. Returns a function that closes the stream.
+ */
+export function subscribeToGenerationStatus(
+  jobId: string,
+  onUpdate: (job: GenerationJob) => void,
+  onError: () => void
+): () => void {
+  const source = new EventSource(`${API_BASE_URL}/generation/jobs/${jobId}/events`);
+  source.addEventListener('progress', (event) => {
+    const job = JSON.parse((event as MessageEvent<string>).data) as GenerationJob;
+    onUpdate(job);
+    if (job.status === 'COMPLETED' || job.status === 'FAILED') {
+      source.close();
+    }
+  });
+  source.onerror = () => {
+    source.close();
+    onError();
+  };
+  return () => source.close();
+}
+
+/**
+ * Resolve once the job completes; reject if it fails or its stream drops.
+ */
+export function waitForGenerationJob(jobId: string): Promise<GenerationJob> {
+  return new Promise((resolve, reject) => {
+    subscribeToGenerationStatus(
+      jobId,
+      (job) => {
+        if (job.status === 'COMPLETED') {
+          resolve(job);
+        } else if (job.status === 'FAILED') {
+          reject(new Error(job.error || 'Generation failed'));
+        }
+      },
+      () => reject(new Error('Lost connection to the generation job'))
+    );
+  });
+}
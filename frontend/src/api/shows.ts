@@ -1,8 +1,8 @@
-import { apiGet } from './client';
+import { apiGet, apiGetPage, type Page } from './client';
 import type { Show, ShowWithEpisodes, SeasonEpisodeInfo } from '../types/show';
 
-export async function getShows(): Promise<Show[]> {
-  return apiGet<Show[]>('/shows');
+export async function getShows(cursor: string | null = null): Promise<Page<Show>> {
+  return apiGetPage<Show>('/shows', cursor);
 }
 
 export async function getShowBySlug(slug: string): Promise<ShowWithEpisodes> {
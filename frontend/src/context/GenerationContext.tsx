@@ -1,7 +1,7 @@
 import { createContext, useContext, useState, useCallback, useEffect, useRef } from 'react';
 import type { ReactNode } from 'react';
 import { useQueryClient } from '@tanstack/react-query';
-import type { GenerationStatus } from '../types/generation';
+import type { GenerationJob, GenerationStatus } from '../types/generation';
 import { getGenerationStatus } from '../api/generation';
 
 export interface ActiveJob {
@@ -39,12 +39,22 @@ interface GenerationProviderProps {
 }
 
 const POLLING_INTERVAL = 2000; // 2 seconds
+const COMPLETION_ANIMATION_MS = 1200;
+const COMPLETION_TICK_MS = 50;
 
 export function GenerationProvider({ children }: GenerationProviderProps) {
   const [state, setState] = useState<GenerationState>({ activeJob: null });
   const pollingRef = useRef<ReturnType<typeof setInterval> | null>(null);
+  const finishingRef = useRef<ReturnType<typeof setInterval> | null>(null);
   const queryClient = useQueryClient();
 
+  const stopFinishing = useCallback(() => {
+    if (finishingRef.current) {
+      clearInterval(finishingRef.current);
+      finishingRef.current = null;
+    }
+  }, []);
+
   const startGeneration = useCallback((job: Omit<ActiveJob, 'progress' | 'currentStep' | 'status' | 'episodeId'> & { jobId: string }) => {
     setState({
       activeJob: {
@@ -67,8 +77,36 @@ export function GenerationProvider({ children }: GenerationProviderProps) {
   }, []);
 
   const clearGeneration = useCallback(() => {
+    stopFinishing();
     setState({ activeJob: null });
-  }, []);
+  }, [stopFinishing]);
+
+  // Lessons that already exist come back completed straight away; ease the
+  // progress bar up to 100% so the header doesn't jump from "Starting..." to "Ready!"
+  const finishJob = useCallback((jobStatus: GenerationJob, fromProgress: number) => {
+    if (finishingRef.current) return;
+
+    const ticks = COMPLETION_ANIMATION_MS / COMPLETION_TICK_MS;
+    const increment = Math.max(1, Math.ceil((100 - fromProgress) / ticks));
+    let progress = fromProgress;
+
+    finishingRef.current = setInterval(() => {
+      progress = Math.min(100, progress + increment);
+      if (progress < 100) {
+        updateJob({ progress, status: 'PROCESSING', currentStep: 'Preparing lesson...' });
+        return;
+      }
+      stopFinishing();
+      updateJob({
+        progress: 100,
+        currentStep: jobStatus.currentStep,
+        status: 'COMPLETED',
+        episodeId: jobStatus.episodeId,
+      });
+      queryClient.invalidateQueries({ queryKey: ['shows'] });
+      queryClient.invalidateQueries({ queryKey: ['lessons'] });
+    }, COMPLETION_TICK_MS);
+  }, [queryClient, stopFinishing, updateJob]);
 
   // Polling effect
   useEffect(() => {
@@ -86,6 +124,11 @@ export function GenerationProvider({ children }: GenerationProviderProps) {
     const pollStatus = async () => {
       try {
         const jobStatus = await getGenerationStatus(activeJob.jobId);
+        if (jobStatus.status === 'COMPLETED') {
+          // Query invalidation happens once the completion animation ends
+          finishJob(jobStatus, activeJob.progress);
+          return;
+        }
         updateJob({
           progress: jobStatus.progress,
           currentStep: jobStatus.currentStep,
@@ -93,12 +136,6 @@ export function GenerationProvider({ children }: GenerationProviderProps) {
           episodeId: jobStatus.episodeId,
           error: jobStatus.error,
         });
-
-        // Invalidate queries when generation completes so new data is fetched
-        if (jobStatus.status === 'COMPLETED') {
-          queryClient.invalidateQueries({ queryKey: ['shows'] });
-          queryClient.invalidateQueries({ queryKey: ['lessons'] });
-        }
       } catch (error) {
         console.error('Failed to poll job status:', error);
         // Don't stop polling on network errors, let it retry
@@ -117,7 +154,7 @@ export function GenerationProvider({ children }: GenerationProviderProps) {
         pollingRef.current = null;
       }
     };
-  }, [state.activeJob?.jobId, state.activeJob?.status, updateJob]);
+  }, [state.activeJob?.jobId, state.activeJob?.status, updateJob, finishJob]);
 
   const hasActiveJob = state.activeJob !== null;
   const isCompleted = state.activeJob?.status === 'COMPLETED';
@@ -1,5 +1,5 @@
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
-import { apiGet, apiPost, apiPut, apiDelete } from '../api/client';
+import { useInfiniteQuery, useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
+import { apiGet, apiGetPage, apiPost, apiPut, apiDelete } from '../api/client';
 import type {
   AssignmentResponse,
   AssignmentWithStatsResponse,
@@ -19,10 +19,22 @@ export function useClassroomAssignments(classroomId: string | undefined) {
   });
 }
 
-export function useMyAssignments() {
-  return useQuery<StudentAssignmentResponse[], Error>({
-    queryKey: ['assignments', 'my'],
-    queryFn: () => apiGet<StudentAssignmentResponse[]>('/me/assignments'),
+/**
+ * The student's assignment feed, soonest due first, one page at a time:
+ * `data` holds what is loaded so far and `fetchNextPage` loads more.
+ * With a `classroomId`, only that classroom's assignments are fetched.
+ */
+export function useMyAssignments(classroomId?: string) {
+  return useInfiniteQuery({
+    queryKey: ['assignments', 'my', classroomId ?? 'all'],
+    queryFn: ({ pageParam }) =>
+      apiGetPage<StudentAssignmentResponse>(
+        classroomId ? `/me/assignments?classroomId=${encodeURIComponent(classroomId)}` : '/me/assignments',
+        pageParam,
+      ),
+    initialPageParam: null as string | null,
+    getNextPageParam: (lastPage) => lastPage.nextCursor,
+    select: (data): StudentAssignmentResponse[] => data.pages.flatMap((page) => page.items),
     staleTime: 1000 * 30,
   });
 }
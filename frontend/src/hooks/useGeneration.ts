@@ -1,3 +1,4 @@
+import { useEffect, useState } from 'react';
 import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
 import {
   searchShows,
@@ -5,6 +6,7 @@ import {
   getSeasonEpisodes,
   startGeneration,
   getGenerationStatus,
+  subscribeToGenerationStatus,
 } from '../api/generation';
 import type {
   TMDBShow,
@@ -54,11 +56,26 @@ export function useStartGeneration() {
 }
 
 export function useGenerationStatus(jobId: string | null) {
+  const queryClient = useQueryClient();
+  const [streaming, setStreaming] = useState(typeof EventSource !== 'undefined');
+
+  // Progress is pushed over SSE; polling is only the fallback if the stream drops
+  useEffect(() => {
+    if (!jobId || typeof EventSource === 'undefined') return;
+    setStreaming(true);
+    return subscribeToGenerationStatus(
+      jobId,
+      (job) => queryClient.setQueryData(['generation', 'jobs', jobId], job),
+      () => setStreaming(false)
+    );
+  }, [jobId, queryClient]);
+
   return useQuery<GenerationJob, Error>({
     queryKey: ['generation', 'jobs', jobId],
     queryFn: () => getGenerationStatus(jobId!),
     enabled: !!jobId,
     refetchInterval: (query) => {
+      if (streaming) return false;
       const data = query.state.data;
       // Poll every 2 seconds if job is pending or processing
       if (data?.status === 'PENDING' || data?.status === 'PROCESSING') {
@@ -1,13 +1,20 @@
-import { useQuery } from '@tanstack/react-query';
+import { useInfiniteQuery, useQuery } from '@tanstack/react-query';
 import { getShows, getShowBySlug, getSeasonEpisodes } from '../api/shows';
 import { useAuth } from '../context/AuthContext';
 import type { Show, ShowWithEpisodes, SeasonEpisodeInfo } from '../types/show';
 
+/**
+ * The catalog, one page at a time: `data` holds the shows loaded so far and
+ * `fetchNextPage` loads the next page (while `hasNextPage`).
+ */
 export function useShows() {
   const { user } = useAuth();
-  return useQuery<Show[], Error>({
+  return useInfiniteQuery({
     queryKey: ['shows', user?.id ?? 'anonymous'],
-    queryFn: getShows,
+    queryFn: ({ pageParam }) => getShows(pageParam),
+    initialPageParam: null as string | null,
+    getNextPageParam: (lastPage) => lastPage.nextCursor,
+    select: (data): Show[] => data.pages.flatMap((page) => page.items),
   });
 }
 
@@ -172,10 +172,12 @@ function EditModal({ classroomId, initialName, initialDescription, onClose }: Ed
 interface CreateAssignmentModalProps {
   classroomId: string;
   shows: Show[];
+  hasMoreShows: boolean;
+  onLoadMoreShows: () => void;
   onClose: () => void;
 }
 
-function CreateAssignmentModal({ classroomId, shows, onClose }: CreateAssignmentModalProps) {
+function CreateAssignmentModal({ classroomId, shows, hasMoreShows, onLoadMoreShows, onClose }: CreateAssignmentModalProps) {
   const [selectedShowSlug, setSelectedShowSlug] = useState('');
   const [selectedEpisodeId, setSelectedEpisodeId] = useState('');
   const [title, setTitle] = useState('');
@@ -241,6 +243,15 @@ function CreateAssignmentModal({ classroomId, shows, onClose }: CreateAssignment
                 </option>
               ))}
             </select>
+            {hasMoreShows && (
+              <button
+                type="button"
+                onClick={onLoadMoreShows}
+                className="mt-2 text-sm text-content-secondary transition-colors hover:text-brand"
+              >
+                Load more shows
+              </button>
+            )}
           </div>
 
           {selectedShowSlug && (
@@ -587,8 +598,14 @@ export function ClassroomDetailPage() {
   const leaveMutation = useLeaveClassroom();
   const { data: assignments, isLoading: assignmentsLoading } = useClassroomAssignments(classroomId);
   const deleteAssignmentMutation = useDeleteAssignment(classroomId);
-  const { data: shows } = useShows();
-  const { data: myAssignments, isLoading: myAssignmentsLoading } = useMyAssignments();
+  const { data: shows, hasNextPage: hasMoreShows, fetchNextPage: fetchMoreShows } = useShows();
+  const {
+    data: myAssignments,
+    isLoading: myAssignmentsLoading,
+    hasNextPage: hasMoreAssignments,
+    fetchNextPage: fetchMoreAssignments,
+    isFetchingNextPage: fetchingMoreAssignments,
+  } = useMyAssignments(classroomId);
   const startAssignmentMutation = useStartAssignment();
   const completeAssignmentMutation = useCompleteAssignment();
 
@@ -793,7 +810,7 @@ export function ClassroomDetailPage() {
 
       {/* Student Assignments Section */}
       {!isTeacher && (() => {
-        const classroomAssignments = myAssignments?.filter((a) => a.classroomId === classroomId) || [];
+        const classroomAssignments = myAssignments || [];
         return (
           <div className="mb-8 rounded-xl border border-edge-default bg-bg-card p-6">
             <div className="mb-4 flex items-center gap-2">
@@ -829,6 +846,15 @@ export function ClassroomDetailPage() {
                 ))}
               </div>
             )}
+            {hasMoreAssignments && (
+              <button
+                onClick={() => fetchMoreAssignments()}
+                disabled={fetchingMoreAssignments}
+                className="mt-4 text-sm text-content-secondary transition-colors hover:text-brand disabled:opacity-50"
+              >
+                {fetchingMoreAssignments ? 'Loading...' : 'Load more assignments'}
+              </button>
+            )}
           </div>
         );
       })()}
@@ -917,6 +943,8 @@ export function ClassroomDetailPage() {
         <CreateAssignmentModal
           classroomId={classroomId}
           shows={shows}
+          hasMoreShows={hasMoreShows}
+          onLoadMoreShows={() => fetchMoreShows()}
           onClose={() => setShowAssignmentModal(false)}
         />
       )}
@@ -6,7 +6,7 @@ import { EmptyState } from '../components/shared/EmptyState';
 import { ProgressBar } from '../components/layout/ProgressBar';
 
 export function HomePage() {
-  const { data: shows, isLoading, error, refetch } = useShows();
+  const { data: shows, isLoading, error, refetch, hasNextPage, fetchNextPage, isFetchingNextPage } = useShows();
   const { data: progress } = useProgressSnapshot();
 
   // Get in-progress lessons (not completed, with episode metadata)
@@ -137,6 +137,18 @@ export function HomePage() {
           ))}
         </div>
       )}
+
+      {hasNextPage && (
+        <div className="mt-8 flex justify-center">
+          <button
+            onClick={() => fetchNextPage()}
+            disabled={isFetchingNextPage}
+            className="rounded-lg border border-edge-default bg-bg-card px-4 py-2 text-sm font-medium text-content-primary transition-colors hover:bg-bg-card-hover disabled:opacity-50"
+          >
+            {isFetchingNextPage ? 'Loading...' : 'Load more shows'}
+          </button>
+        </div>
+      )}
     </div>
   );
 }